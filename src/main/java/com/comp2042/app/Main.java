@@ -6,14 +6,46 @@ import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.stage.Stage;
 
+import java.io.IOException;
+import java.net.InetSocketAddress;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
 
 import com.comp2042.ui.GuiController;
 import com.comp2042.ui.MainMenuPanel;
 import com.comp2042.ui.ControlsPanel;
 import com.comp2042.game.board.Board;
+import com.comp2042.game.board.BoardGeometry;
 import com.comp2042.game.board.SimpleBoard;
+import com.comp2042.game.ai.HeuristicWeights;
+import com.comp2042.game.ai.LookaheadSearch;
+import com.comp2042.game.bricks.BrickGeneratorFactory;
 import com.comp2042.game.controller.GameController;
+import com.comp2042.game.data.SavedGame;
+import com.comp2042.game.level.LevelCurve;
+import com.comp2042.game.metrics.GameMetrics;
+import com.comp2042.game.metrics.MetricsEndpoint;
+import com.comp2042.game.operations.SrsRotationSystem;
+import com.comp2042.game.save.GameSaveManager;
+import com.comp2042.game.score.HighScoreManager;
+import com.comp2042.game.spectate.ChannelFrameSink;
+import com.comp2042.game.spectate.DeltaFrameDecoder;
+import com.comp2042.game.spectate.DeltaFrameEncoder;
+import com.comp2042.game.spectate.FrameReader;
+import com.comp2042.game.spectate.SpectatorServer;
+import com.comp2042.game.spectate.SpectatorStream;
+import com.comp2042.ui.SpectatorFeed;
+import javafx.animation.AnimationTimer;
+import com.comp2042.game.versus.DefaultAttackTable;
+import com.comp2042.game.versus.VersusMatch;
+import com.comp2042.ui.VersusPane;
+import javafx.application.Platform;
 
 /**
  * Main entry point for the Tetris JavaFX application.
@@ -37,6 +69,12 @@ public class Main extends Application {
     private Scene gameScene;
     private GuiController guiController;
     private GameController gameController;
+    private BoardGeometry geometry = BoardGeometry.STANDARD;
+    private final GameSaveManager saveManager = new GameSaveManager();
+    private SavedGame pendingSave;
+    private SpectatorStream spectatorStream;
+    private AnimationTimer spectatorCapture;
+    private MetricsEndpoint metricsEndpoint;
 
     /**
      * Initializes and starts the Tetris game application.
@@ -48,6 +86,13 @@ public class Main extends Application {
     @Override
     public void start(Stage primaryStage) throws Exception {
         primaryStage.setTitle("TetrisJFX");
+        Map<String, String> named = getParameters().getNamed();
+        startMetrics(named);
+        if (named.containsKey("spectate") || named.containsKey("replay")) {
+            startSpectating(primaryStage, named.get("spectate"), named.get("replay"));
+            return;
+        }
+        geometry = readGeometry(named);
 
         // Create menu scene
         createMenuScene(primaryStage);
@@ -58,11 +103,63 @@ public class Main extends Application {
         // Create game scene (but don't initialize game yet)
         createGameScene();
 
+        // Save the in-progress game when the window closes
+        primaryStage.setOnCloseRequest(e -> persistGameOnExit());
+
         // Show menu first
         primaryStage.setScene(menuScene);
         primaryStage.show();
     }
 
+    /**
+     * Publishes the game metrics over JMX, and as plain text on a loopback port when
+     * started with {@code --metrics-port=PORT}.
+     *
+     * @param named the named command-line arguments
+     */
+    private void startMetrics(Map<String, String> named) {
+        GameMetrics.registerMBean();
+        if (named.containsKey("metrics-port")) {
+            try {
+                metricsEndpoint = new MetricsEndpoint(intArgument(named, "metrics-port", 0));
+                System.out.println("Metrics at http://localhost:" + metricsEndpoint.getPort() + MetricsEndpoint.PATH);
+            } catch (IOException e) {
+                System.err.println("Could not start metrics endpoint: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Flushes any pending save before the application exits.
+     */
+    @Override
+    public void stop() {
+        saveManager.shutdown();
+        if (metricsEndpoint != null) {
+            metricsEndpoint.close();
+        }
+        if (spectatorStream != null) {
+            spectatorCapture.stop();
+            spectatorStream.close();
+        }
+    }
+
+    /**
+     * Saves the current game if it is still in progress, otherwise discards any old save.
+     * The snapshot is captured on the FX thread; encoding and writing happen on the save writer thread.
+     */
+    private void persistGameOnExit() {
+        if (gameController == null) {
+            return;
+        }
+        SavedGame savedGame = guiController.isGameOver() ? null : gameController.createSavedGame();
+        if (savedGame != null) {
+            saveManager.saveAsync(savedGame);
+        } else {
+            saveManager.deleteAsync();
+        }
+    }
+
     /**
      * Creates the main menu scene with Start Game and Controls options.
      */
@@ -74,9 +171,34 @@ public class Main extends Application {
             if (gameController == null) {
                 initializeGame();
             }
+            pendingSave = null;
+            menuPanel.setResumeAvailable(false);
             primaryStage.setScene(gameScene);
+            primaryStage.sizeToScene();
         });
 
+        menuPanel.getResumeGameButton().setOnAction(e -> {
+            if (gameController == null) {
+                initializeGame();
+            }
+            if (pendingSave != null) {
+                gameController.restoreSavedGame(pendingSave);
+                pendingSave = null;
+            }
+            menuPanel.setResumeAvailable(false);
+            primaryStage.setScene(gameScene);
+            primaryStage.sizeToScene();
+        });
+
+        // Decode any saved game in the background so the menu appears immediately
+        saveManager.loadAsync().thenAccept((Optional<SavedGame> saved) -> Platform.runLater(() -> {
+            pendingSave = saved.orElse(null);
+            menuPanel.setResumeAvailable(pendingSave != null && gameController == null);
+        }));
+
+        menuPanel.getVersusButton().setOnAction(e -> startVersus(primaryStage, true));
+        menuPanel.getBotMatchButton().setOnAction(e -> startVersus(primaryStage, false));
+
         menuPanel.getControlsButton().setOnAction(e -> {
             primaryStage.setScene(controlsScene);
         });
@@ -85,6 +207,44 @@ public class Main extends Application {
         menuScene.getStylesheets().add(getClass().getClassLoader().getResource("window_style.css").toExternalForm());
     }
 
+    /**
+     * Opens a versus match in its own scene; the menu button returns to the main menu.
+     * Both boards are dealt the same brick sequence.
+     *
+     * @param primaryStage the application window
+     * @param humanPlays true for player versus bot, false for bot versus bot
+     */
+    private void startVersus(Stage primaryStage, boolean humanPlays) {
+        long seed = System.nanoTime();
+        VersusMatch match = new VersusMatch(new DefaultAttackTable(), seed);
+        if (humanPlays) {
+            match.addHuman("Player", versusBoard(seed));
+        } else {
+            match.addBot("Bot A", versusBoard(seed), new LookaheadSearch(HeuristicWeights.DEFAULT),
+                    VersusMatch.DEFAULT_BOT_STEP_MS);
+        }
+        match.addBot(humanPlays ? "Bot" : "Bot B", versusBoard(seed), new LookaheadSearch(HeuristicWeights.DEFAULT),
+                VersusMatch.DEFAULT_BOT_STEP_MS);
+
+        VersusPane versusPane = new VersusPane(match, geometry);
+        Scene versusScene = new Scene(versusPane);
+        versusScene.getStylesheets().add(getClass().getClassLoader().getResource("window_style.css").toExternalForm());
+        versusPane.getBackButton().setOnAction(e -> {
+            versusPane.stop();
+            primaryStage.setScene(menuScene);
+            primaryStage.sizeToScene();
+        });
+        primaryStage.setScene(versusScene);
+        primaryStage.sizeToScene();
+        versusPane.start();
+    }
+
+    private SimpleBoard versusBoard(long seed) {
+        return new SimpleBoard(geometry,
+                BrickGeneratorFactory.create(BrickGeneratorFactory.GeneratorType.RANDOM, seed),
+                new SrsRotationSystem());
+    }
+
     /**
      * Creates the controls scene displaying game controls.
      */
@@ -108,22 +268,133 @@ public class Main extends Application {
         Parent root = fxmlLoader.load();
         guiController = fxmlLoader.getController();
 
-        gameScene = new Scene(root, 432, 612);
+        guiController.setBoardGeometry(geometry);
+        gameScene = new Scene(root, guiController.getSceneWidth(), guiController.getSceneHeight());
         gameScene.getStylesheets().add(getClass().getClassLoader().getResource("window_style.css").toExternalForm());
     }
 
     /**
      * Initializes the game components when the user chooses to start playing.
+     * {@code --levels=NAME} plays a bundled level curve such as "master", or a
+     * curve file, instead of the standard one.
      */
     private void initializeGame() {
-        Board board = new SimpleBoard(25, 10);
-        gameController = new GameController(guiController, board);
+        SimpleBoard board = new SimpleBoard(geometry);
+        String levels = getParameters().getNamed().get("levels");
+        if (levels != null) {
+            board.getLevelManager().setLevelStrategy(LevelCurve.named(levels));
+        }
+        HighScoreManager highScores = new HighScoreManager(board.getScore(), board.getLinesTracker(),
+                board.getLevelManager(), Platform::runLater);
+        gameController = new GameController(guiController, board, highScores);
+        startBroadcast(board, getParameters().getNamed());
+    }
+
+    /**
+     * Streams the game to spectators when asked to on the command line:
+     * {@code --broadcast=PORT} serves viewers over TCP and {@code --record=FILE}
+     * records the stream for replay. The game is captured once per rendered frame.
+     *
+     * @param board the board being played
+     * @param named the named command-line arguments
+     */
+    private void startBroadcast(SimpleBoard board, Map<String, String> named) {
+        if (!named.containsKey("broadcast") && !named.containsKey("record")) {
+            return;
+        }
+        spectatorStream = new SpectatorStream(geometry, new DeltaFrameEncoder());
+        try {
+            if (named.containsKey("broadcast")) {
+                spectatorStream.addSink(new SpectatorServer(new InetSocketAddress(
+                        intArgument(named, "broadcast", SpectatorServer.DEFAULT_PORT))));
+            }
+            if (named.containsKey("record")) {
+                spectatorStream.addSink(ChannelFrameSink.toFile(Path.of(named.get("record"))));
+            }
+        } catch (IOException e) {
+            System.err.println("Could not start spectator stream: " + e.getMessage());
+        }
+        spectatorCapture = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                spectatorStream.capture(board, guiController.isGameOver(), System.currentTimeMillis());
+            }
+        };
+        spectatorCapture.start();
+    }
+
+    /**
+     * Opens a spectator view instead of the menu: {@code --spectate=HOST:PORT} watches a
+     * broadcast live and {@code --replay=FILE} plays a recording. The board is sized from
+     * the stream's first keyframe.
+     *
+     * @param primaryStage the application window
+     * @param spectate the broadcaster's address, or null
+     * @param replay the recording, or null
+     * @throws Exception if the stream cannot be opened or has no keyframe
+     */
+    private void startSpectating(Stage primaryStage, String spectate, String replay) throws Exception {
+        ReadableByteChannel channel;
+        if (spectate != null) {
+            int colon = spectate.lastIndexOf(':');
+            channel = colon < 0
+                    ? SocketChannel.open(new InetSocketAddress("localhost", Integer.parseInt(spectate.trim())))
+                    : SocketChannel.open(new InetSocketAddress(spectate.substring(0, colon),
+                            Integer.parseInt(spectate.substring(colon + 1).trim())));
+        } else {
+            channel = FileChannel.open(Path.of(replay));
+        }
+        FrameReader reader = new FrameReader(channel);
+        DeltaFrameDecoder decoder = new DeltaFrameDecoder();
+        ByteBuffer frame;
+        while (!decoder.hasKeyframe() && (frame = reader.next()) != null) {
+            decoder.apply(frame);
+        }
+        if (!decoder.hasKeyframe()) {
+            throw new IOException("Spectator stream ended before its first keyframe");
+        }
+        int[][] matrix = decoder.getBoardMatrix();
+        int bufferRows = decoder.getBufferRows();
+        geometry = new BoardGeometry(matrix[0].length, matrix.length - bufferRows, bufferRows, 0, 0);
+        createGameScene();
+        new SpectatorFeed(guiController, decoder, reader, replay != null).start();
+        primaryStage.setTitle("TetrisJFX - Spectating");
+        primaryStage.setScene(gameScene);
+        primaryStage.show();
+    }
+
+    /**
+     * Reads the board geometry from named arguments, e.g. {@code --columns=16}.
+     * Recognised names are columns, rows (visible rows), buffer-rows, spawn-x and
+     * spawn-y; missing sizes default to the standard board and a missing spawn point
+     * is centred at the top.
+     *
+     * @param named the named command-line arguments
+     * @return the geometry
+     * @throws IllegalArgumentException if a value is not a number or the board is invalid
+     */
+    static BoardGeometry readGeometry(Map<String, String> named) {
+        BoardGeometry standard = BoardGeometry.STANDARD;
+        int columns = intArgument(named, "columns", standard.getColumns());
+        int rows = intArgument(named, "rows", standard.getVisibleRows());
+        int bufferRows = intArgument(named, "buffer-rows", standard.getBufferRows());
+        BoardGeometry centered = BoardGeometry.centered(columns, rows, bufferRows);
+        return new BoardGeometry(columns, rows, bufferRows,
+                intArgument(named, "spawn-x", centered.getSpawnX()),
+                intArgument(named, "spawn-y", centered.getSpawnY()));
+    }
+
+    private static int intArgument(Map<String, String> named, String name, int defaultValue) {
+        String value = named.get(name);
+        return value != null ? Integer.parseInt(value.trim()) : defaultValue;
     }
 
     /**
      * Application entry point.
      * 
-     * @param args command line arguments (not used)
+     * @param args command line arguments; see {@link #readGeometry} for the board options,
+     *             {@link #initializeGame} for the level curve, {@link #startBroadcast}
+     *             and {@link #startSpectating} for spectating, {@link #startMetrics} for metrics
      */
     public static void main(String[] args) {
         launch(args);
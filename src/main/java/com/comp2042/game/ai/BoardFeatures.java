@@ -0,0 +1,411 @@
+package com.comp2042.game.ai;
+
+import java.util.Arrays;
+
+/**
+ * Board evaluation features maintained incrementally as bricks lock.
+ * The board is kept as one bitmask per row; locking a brick only rescans the rows it
+ * touched and the columns next to it, so evaluating a candidate placement costs a copy
+ * of a few small arrays plus a handful of column scans instead of a pass over the
+ * whole {@code int[][]}. A full rebuild only happens when rows are cleared.
+ *
+ * <p>Features (all non-negative):
+ * <ul>
+ *   <li>aggregate height - sum of column heights</li>
+ *   <li>holes - empty cells below the top of their column</li>
+ *   <li>bumpiness - sum of height differences between neighbouring columns</li>
+ *   <li>row transitions - filled/empty changes along each row, walls counting as filled</li>
+ *   <li>column transitions - filled/empty changes down each column, the floor counting as filled</li>
+ *   <li>wells - for each well (empty cell above the stack with both sides filled),
+ *       1 + 2 + ... + depth</li>
+ *   <li>lines cleared - rows cleared by the last {@link #place(int[][], int, int)}</li>
+ * </ul>
+ *
+ * <p>A 64-bit Zobrist hash of the filled cells is kept alongside, for transposition
+ * lookups: locking a brick XORs in its cells, and clearing rows recomputes the hash
+ * with the rest of the rebuild since every cell above the cleared rows moves.
+ */
+public final class BoardFeatures {
+
+    /** Widest board supported by the row bitmasks. */
+    public static final int MAX_COLUMNS = 64;
+
+    private final int rows;
+    private final int cols;
+    private final long fullRow;
+    private final long[] rowMasks;
+    private final int[] rowTransitions;
+    private final int[] heights;
+    private final int[] holes;
+    private final int[] columnTransitions;
+    private final int[] wells;
+
+    private int totalRowTransitions;
+    private int totalHoles;
+    private int totalColumnTransitions;
+    private int totalWells;
+    private int linesCleared;
+    private long hash;
+
+    /**
+     * Creates features for an empty board.
+     *
+     * @param rows the number of rows
+     * @param cols the number of columns (at most {@link #MAX_COLUMNS})
+     */
+    public BoardFeatures(int rows, int cols) {
+        if (cols < 1 || cols > MAX_COLUMNS || rows < 1) {
+            throw new IllegalArgumentException("Unsupported board size " + rows + "x" + cols);
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.fullRow = cols == 64 ? -1L : (1L << cols) - 1;
+        rowMasks = new long[rows];
+        rowTransitions = new int[rows];
+        heights = new int[cols];
+        holes = new int[cols];
+        columnTransitions = new int[cols];
+        wells = new int[cols];
+        rebuild();
+    }
+
+    /**
+     * Replaces the tracked board with the given matrix and recomputes every feature.
+     * Used to start tracking a game, or to resynchronise after changes not made
+     * through {@link #place(int[][], int, int)}.
+     *
+     * @param board the board matrix, indexed [row][column]
+     */
+    public void load(int[][] board) {
+        for (int r = 0; r < rows; r++) {
+            long mask = 0;
+            for (int c = 0; c < cols; c++) {
+                if (board[r][c] != 0) {
+                    mask |= 1L << c;
+                }
+            }
+            rowMasks[r] = mask;
+        }
+        linesCleared = 0;
+        rebuild();
+    }
+
+    /**
+     * Copies another instance's state into this one without allocating.
+     *
+     * @param other features of a board with the same dimensions
+     */
+    public void copyFrom(BoardFeatures other) {
+        System.arraycopy(other.rowMasks, 0, rowMasks, 0, rows);
+        System.arraycopy(other.rowTransitions, 0, rowTransitions, 0, rows);
+        System.arraycopy(other.heights, 0, heights, 0, cols);
+        System.arraycopy(other.holes, 0, holes, 0, cols);
+        System.arraycopy(other.columnTransitions, 0, columnTransitions, 0, cols);
+        System.arraycopy(other.wells, 0, wells, 0, cols);
+        totalRowTransitions = other.totalRowTransitions;
+        totalHoles = other.totalHoles;
+        totalColumnTransitions = other.totalColumnTransitions;
+        totalWells = other.totalWells;
+        linesCleared = other.linesCleared;
+        hash = other.hash;
+    }
+
+    /**
+     * Locks a brick into the tracked board, clears full rows and updates the features.
+     *
+     * @param shape the brick's shape matrix for its rotation, indexed [row][column]
+     * @param x the brick's column offset
+     * @param y the brick's row offset
+     * @return the number of rows cleared
+     */
+    public int place(int[][] shape, int x, int y) {
+        int minRow = Integer.MAX_VALUE;
+        int maxRow = Integer.MIN_VALUE;
+        int minCol = Integer.MAX_VALUE;
+        int maxCol = Integer.MIN_VALUE;
+        for (int r = 0; r < shape.length; r++) {
+            for (int c = 0; c < shape[r].length; c++) {
+                if (shape[r][c] != 0) {
+                    int row = y + r;
+                    int col = x + c;
+                    rowMasks[row] |= 1L << col;
+                    hash ^= cellKey(row, col);
+                    minRow = Math.min(minRow, row);
+                    maxRow = Math.max(maxRow, row);
+                    minCol = Math.min(minCol, col);
+                    maxCol = Math.max(maxCol, col);
+                }
+            }
+        }
+        if (minRow > maxRow) {
+            linesCleared = 0;
+            return 0;
+        }
+
+        int cleared = 0;
+        for (int r = minRow; r <= maxRow; r++) {
+            if (rowMasks[r] == fullRow) {
+                cleared++;
+            }
+        }
+        linesCleared = cleared;
+        if (cleared > 0) {
+            removeFullRows();
+            rebuild();
+            return cleared;
+        }
+
+        for (int r = minRow; r <= maxRow; r++) {
+            totalRowTransitions -= rowTransitions[r];
+            rowTransitions[r] = rowTransitions(rowMasks[r]);
+            totalRowTransitions += rowTransitions[r];
+        }
+        // Wells depend on neighbouring columns, so rescan one column either side
+        int from = Math.max(0, minCol - 1);
+        int to = Math.min(cols - 1, maxCol + 1);
+        for (int c = from; c <= to; c++) {
+            totalHoles -= holes[c];
+            totalColumnTransitions -= columnTransitions[c];
+            totalWells -= wells[c];
+            scanColumn(c);
+            totalHoles += holes[c];
+            totalColumnTransitions += columnTransitions[c];
+            totalWells += wells[c];
+        }
+        return 0;
+    }
+
+    /**
+     * Gets the sum of column heights.
+     *
+     * @return aggregate height
+     */
+    public int getAggregateHeight() {
+        int sum = 0;
+        for (int c = 0; c < cols; c++) {
+            sum += heights[c];
+        }
+        return sum;
+    }
+
+    /**
+     * Gets the number of covered empty cells.
+     *
+     * @return hole count
+     */
+    public int getHoles() {
+        return totalHoles;
+    }
+
+    /**
+     * Gets the sum of height differences between neighbouring columns.
+     *
+     * @return bumpiness
+     */
+    public int getBumpiness() {
+        int sum = 0;
+        for (int c = 1; c < cols; c++) {
+            sum += Math.abs(heights[c] - heights[c - 1]);
+        }
+        return sum;
+    }
+
+    /**
+     * Gets the total horizontal filled/empty transitions.
+     *
+     * @return row transitions
+     */
+    public int getRowTransitions() {
+        return totalRowTransitions;
+    }
+
+    /**
+     * Gets the total vertical filled/empty transitions.
+     *
+     * @return column transitions
+     */
+    public int getColumnTransitions() {
+        return totalColumnTransitions;
+    }
+
+    /**
+     * Gets the cumulative well depth.
+     *
+     * @return well sum
+     */
+    public int getWells() {
+        return totalWells;
+    }
+
+    /**
+     * Gets the number of rows cleared by the last placement.
+     *
+     * @return lines cleared
+     */
+    public int getLinesCleared() {
+        return linesCleared;
+    }
+
+    /**
+     * Gets the Zobrist hash of the filled cells. Equal boards always have equal
+     * hashes, however they were reached.
+     *
+     * @return the board hash
+     */
+    public long getHash() {
+        return hash;
+    }
+
+    /**
+     * Gets a column's height.
+     *
+     * @param column the column index
+     * @return the number of rows from the floor to the column's highest filled cell
+     */
+    public int getHeight(int column) {
+        return heights[column];
+    }
+
+    /**
+     * Gets the tracked row bitmask (bit c set = column c filled).
+     *
+     * @param row the row index, 0 at the top
+     * @return the row mask
+     */
+    public long getRowMask(int row) {
+        return rowMasks[row];
+    }
+
+    /**
+     * Exposes the row masks without copying, for the placement enumerator.
+     *
+     * @return the live row mask array (must not be modified)
+     */
+    long[] rowMasks() {
+        return rowMasks;
+    }
+
+    /**
+     * Gets the number of rows.
+     *
+     * @return row count
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Gets the number of columns.
+     *
+     * @return column count
+     */
+    public int getColumns() {
+        return cols;
+    }
+
+    /**
+     * Compacts the row masks, dropping full rows and adding empty rows at the top.
+     */
+    private void removeFullRows() {
+        int write = rows - 1;
+        for (int read = rows - 1; read >= 0; read--) {
+            if (rowMasks[read] != fullRow) {
+                rowMasks[write--] = rowMasks[read];
+            }
+        }
+        Arrays.fill(rowMasks, 0, write + 1, 0L);
+    }
+
+    /**
+     * Recomputes every per-row and per-column feature from the row masks.
+     */
+    private void rebuild() {
+        totalRowTransitions = 0;
+        hash = 0;
+        for (int r = 0; r < rows; r++) {
+            rowTransitions[r] = rowTransitions(rowMasks[r]);
+            totalRowTransitions += rowTransitions[r];
+            for (long bits = rowMasks[r]; bits != 0; bits &= bits - 1) {
+                hash ^= cellKey(r, Long.numberOfTrailingZeros(bits));
+            }
+        }
+        totalHoles = 0;
+        totalColumnTransitions = 0;
+        totalWells = 0;
+        for (int c = 0; c < cols; c++) {
+            scanColumn(c);
+            totalHoles += holes[c];
+            totalColumnTransitions += columnTransitions[c];
+            totalWells += wells[c];
+        }
+    }
+
+    /**
+     * Recomputes one column's height, holes, transitions and well sum.
+     */
+    private void scanColumn(int c) {
+        long bit = 1L << c;
+        long leftBit = c > 0 ? 1L << (c - 1) : 0;
+        long rightBit = c < cols - 1 ? 1L << (c + 1) : 0;
+        int height = 0;
+        int holeCount = 0;
+        int transitions = 0;
+        int wellSum = 0;
+        int wellDepth = 0;
+        boolean previousFilled = false;
+        for (int r = 0; r < rows; r++) {
+            long mask = rowMasks[r];
+            boolean filled = (mask & bit) != 0;
+            if (filled != previousFilled) {
+                transitions++;
+            }
+            previousFilled = filled;
+            if (filled) {
+                if (height == 0) {
+                    height = rows - r;
+                }
+                wellDepth = 0;
+            } else if (height != 0) {
+                holeCount++;
+            } else {
+                boolean leftFilled = leftBit == 0 || (mask & leftBit) != 0;
+                boolean rightFilled = rightBit == 0 || (mask & rightBit) != 0;
+                if (leftFilled && rightFilled) {
+                    wellDepth++;
+                    wellSum += wellDepth;
+                } else {
+                    wellDepth = 0;
+                }
+            }
+        }
+        if (!previousFilled) {
+            transitions++; // Empty bottom cell next to the floor
+        }
+        heights[c] = height;
+        holes[c] = holeCount;
+        columnTransitions[c] = transitions;
+        wells[c] = wellSum;
+    }
+
+    /**
+     * Gets the Zobrist key of one cell. Keys are derived with the SplitMix64 finaliser
+     * rather than read from a table, so boards of any height share them.
+     */
+    private static long cellKey(int row, int col) {
+        long z = ((long) row << 6 | col) * 0x9E3779B97F4A7C15L + 0x632BE59BD9B4E019L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Counts filled/empty changes along a row, treating both walls as filled.
+     */
+    private int rowTransitions(long mask) {
+        int count = Long.bitCount((mask ^ ((mask << 1) | 1L)) & fullRow);
+        if ((mask >>> (cols - 1) & 1L) == 0) {
+            count++;
+        }
+        return count;
+    }
+}
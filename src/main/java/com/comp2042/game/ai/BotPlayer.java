@@ -0,0 +1,294 @@
+package com.comp2042.game.ai;
+
+import com.comp2042.game.board.SimpleBoard;
+import com.comp2042.game.bricks.RandomBrickGenerator;
+import com.comp2042.game.data.BoardStateSnapshot;
+import com.comp2042.game.data.DownData;
+import com.comp2042.game.events.EventSource;
+import com.comp2042.game.events.EventType;
+import com.comp2042.game.events.InputEventListener;
+import com.comp2042.game.events.MoveEvent;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Plays a game by sending the same {@link InputEventListener} events a human player's
+ * key presses produce, choosing placements with a {@link MovePlanner} such as the
+ * single-piece {@link HeuristicBot} or the look-ahead {@link LookaheadSearch}.
+ * Headless runs call {@link #playPiece()}, which plans on the calling thread. Games
+ * driven by a clock (the GUI autoplay/demo mode, versus bots) call {@link #pollMove()}
+ * once per input instead: it plans on the bot's executor from a copy of the position
+ * and only hands out moves once the plan is ready, so the clock's thread never waits
+ * for a search.
+ *
+ * <p>Board features are updated incrementally from the bot's own placements, on
+ * both paths; {@link #pollMove()} hands each plan a copy of them rather than
+ * recomputing them from the board. Call {@link #resync()} after anything else changes
+ * the board (new game, undo, hold, restoring a save, garbage). {@link #pollMove()}
+ * also notices by itself when the brick locked without it, was swapped or did not
+ * move as planned, and plans again.
+ */
+public final class BotPlayer {
+
+    private final InputEventListener listener;
+    private final SimpleBoard board;
+    private final MovePlanner planner;
+    private final Executor planExecutor;
+    private BoardFeatures features;
+    private boolean synced;
+
+    private PlacementDecision plan;
+    private int planStep;
+
+    // Background planning for pollMove(). planFeatures and planBoard belong to the plan
+    // in flight; they are refilled on the calling thread only while none is
+    private CompletableFuture<PlacementDecision> pendingPlan;
+    private long pendingSerial;
+    private long pendingGeneration;
+    private long generation;
+    private long planSerial;
+    private PlacementEnumerator.Move lastMove;
+    private int lastX;
+    private int lastRotation;
+    private BoardFeatures planFeatures;
+    private SimpleBoard planBoard;
+
+    /**
+     * Creates a bot player that plans on the calling thread.
+     *
+     * @param listener the game's input listener (normally the GameController)
+     * @param board the board the listener plays on, read to plan placements
+     * @param planner the placement chooser
+     */
+    public BotPlayer(InputEventListener listener, SimpleBoard board, MovePlanner planner) {
+        this(listener, board, planner, Runnable::run);
+    }
+
+    /**
+     * Creates a bot player whose {@link #pollMove()} plans on the given executor.
+     * At most one plan is in flight at a time, so the planner is never used concurrently.
+     *
+     * @param listener the game's input listener (normally the GameController)
+     * @param board the board the listener plays on, read to plan placements
+     * @param planner the placement chooser
+     * @param planExecutor runs plans for {@link #pollMove()}
+     */
+    public BotPlayer(InputEventListener listener, SimpleBoard board, MovePlanner planner, Executor planExecutor) {
+        this.listener = listener;
+        this.board = board;
+        this.planner = planner;
+        this.planExecutor = planExecutor;
+    }
+
+    /**
+     * Discards the current plan and reloads the board features on the next move.
+     * A plan still being computed is dropped when it arrives.
+     */
+    public void resync() {
+        synced = false;
+        plan = null;
+        generation++;
+    }
+
+    /**
+     * Gets the next input for the active brick, planning a placement when needed.
+     * Returning {@link PlacementEnumerator.Move#HARD_DROP} completes the plan; the caller
+     * is expected to perform every returned move.
+     *
+     * @return the next move, or null if the active brick has no legal placement
+     */
+    public PlacementEnumerator.Move nextMove() {
+        if (plan == null && !planPiece()) {
+            return null;
+        }
+        PlacementEnumerator.Move move = plan.getPath().get(planStep++);
+        if (move == PlacementEnumerator.Move.HARD_DROP) {
+            features.place(plan.getBrick().getShapeMatrix().get(plan.getRotation()), plan.getX(), plan.getY());
+            plan = null;
+        }
+        return move;
+    }
+
+    /**
+     * Gets the next input for the active brick without planning on the calling thread.
+     * The first call for a brick starts planning on the bot's executor and returns null;
+     * later calls return null until the plan is ready and then its moves one by one.
+     * The plan is dropped and made again when the brick locked or changed (other than by
+     * the plan's own hold) or when its last move was refused. A brick with nowhere to go
+     * is hard dropped where it is. The caller is expected to perform every returned move.
+     *
+     * @return the next move, or null while the placement is still being planned
+     */
+    public PlacementEnumerator.Move pollMove() {
+        long serial = board.getBrickSerial();
+        if (plan != null) {
+            if (lastMove == PlacementEnumerator.Move.HOLD) {
+                planSerial = serial; // The plan's own hold brought in another brick
+            } else if (planSerial != serial) {
+                plan = null;
+                synced = false; // Locked or swapped by something other than the plan
+            } else if (lastMoveRefused()) {
+                plan = null;
+            }
+        }
+        lastMove = null;
+        if (plan == null) {
+            if (pendingPlan != null && !pendingPlan.isDone()) {
+                return null;
+            }
+            if (pendingPlan == null || pendingSerial != serial || pendingGeneration != generation) {
+                if (pendingPlan != null && pendingSerial != serial) {
+                    synced = false; // The brick locked while it was being planned
+                }
+                pendingSerial = serial;
+                pendingGeneration = generation;
+                pendingPlan = planAsync();
+                if (!pendingPlan.isDone()) {
+                    return null;
+                }
+            }
+            PlacementDecision decision = pendingPlan.join();
+            pendingPlan = null;
+            if (decision == null || decision.getPath().isEmpty()) {
+                synced = false; // Locks somewhere the features do not know about
+                return PlacementEnumerator.Move.HARD_DROP;
+            }
+            plan = decision;
+            planStep = 0;
+            planSerial = serial;
+        }
+        lastMove = plan.getPath().get(planStep++);
+        lastX = board.getCurrentX();
+        lastRotation = board.getCurrentRotation();
+        if (lastMove == PlacementEnumerator.Move.HARD_DROP) {
+            features.place(plan.getBrick().getShapeMatrix().get(plan.getRotation()), plan.getX(), plan.getY());
+            plan = null;
+        }
+        return lastMove;
+    }
+
+    /**
+     * Checks whether the last move handed out left the brick where it was.
+     */
+    private boolean lastMoveRefused() {
+        if (lastMove == null) {
+            return false;
+        }
+        return switch (lastMove) {
+            case LEFT, RIGHT -> board.getCurrentX() == lastX;
+            case ROTATE -> board.getCurrentRotation() == lastRotation;
+            default -> false;
+        };
+    }
+
+    /**
+     * Starts planning for a copy of the current position on the bot's executor. The
+     * copy is taken here, on the calling thread, while no other plan is in flight.
+     */
+    private CompletableFuture<PlacementDecision> planAsync() {
+        syncFeatures();
+        if (planFeatures == null || planFeatures.getRows() != features.getRows()
+                || planFeatures.getColumns() != features.getColumns()) {
+            planFeatures = new BoardFeatures(features.getRows(), features.getColumns());
+        }
+        planFeatures.copyFrom(features);
+        SimpleBoard position = detachedCopy();
+        BoardFeatures positionFeatures = planFeatures;
+        return CompletableFuture.supplyAsync(() -> planner.plan(positionFeatures, position), planExecutor);
+    }
+
+    /**
+     * Copies everything a planner reads (matrix, active, held and preview bricks) into
+     * the bot's planning board, so planning can run while the game goes on.
+     */
+    private SimpleBoard detachedCopy() {
+        if (planBoard == null || !planBoard.getGeometry().equals(board.getGeometry())) {
+            planBoard = new SimpleBoard(board.getGeometry(), new RandomBrickGenerator(0), board.getRotationSystem());
+        }
+        planBoard.restoreSnapshot(new BoardStateSnapshot(board.getBoardMatrix(), board.getCurrentOffset(),
+                board.getCurrentBrick(), board.getCurrentRotation(), board.getHeldBrick(),
+                new ArrayDeque<>(board.getPreviewBricks()), 0, 0, 1));
+        return planBoard;
+    }
+
+    /**
+     * Rebuilds the board features from the board when they are missing or stale.
+     */
+    private void syncFeatures() {
+        int[][] matrix = board.getBoardMatrix();
+        if (synced && features.getRows() == matrix.length && features.getColumns() == matrix[0].length) {
+            return;
+        }
+        if (features == null || features.getRows() != matrix.length || features.getColumns() != matrix[0].length) {
+            features = new BoardFeatures(matrix.length, matrix[0].length);
+        }
+        features.load(matrix);
+        synced = true;
+    }
+
+    /**
+     * Plans and plays the whole placement of the active brick.
+     *
+     * @return true if a brick was placed, false if it had nowhere to go
+     */
+    public boolean playPiece() {
+        PlacementEnumerator.Move move;
+        do {
+            move = nextMove();
+            if (move == null) {
+                return false;
+            }
+            DownData downData = perform(move);
+            if (downData != null && downData.getClearRow() != null
+                    && downData.getClearRow().getLinesRemoved() != features.getLinesCleared()) {
+                resync(); // The game disagreed with the tracked board
+            }
+        } while (move != PlacementEnumerator.Move.HARD_DROP);
+        return true;
+    }
+
+    /**
+     * Sends one move to the listener as a player input.
+     *
+     * @param move the move to send
+     * @return the listener's result for drops, or null for other moves
+     */
+    public DownData perform(PlacementEnumerator.Move move) {
+        switch (move) {
+            case LEFT -> listener.onLeftEvent(new MoveEvent(EventType.LEFT, EventSource.USER));
+            case RIGHT -> listener.onRightEvent(new MoveEvent(EventType.RIGHT, EventSource.USER));
+            case ROTATE -> listener.onRotateEvent(new MoveEvent(EventType.ROTATE, EventSource.USER));
+            case HOLD -> listener.onHoldEvent(new MoveEvent(EventType.HOLD, EventSource.USER));
+            case SOFT_DROP -> {
+                return listener.onDownEvent(new MoveEvent(EventType.DOWN, EventSource.USER));
+            }
+            case HARD_DROP -> {
+                return listener.onHardDropEvent(new MoveEvent(EventType.HARD_DROP, EventSource.USER));
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Chooses a placement for the active brick.
+     *
+     * @return true if a placement was found
+     */
+    private boolean planPiece() {
+        syncFeatures();
+        PlacementDecision decision = planner.plan(features, board);
+        if (decision == null) {
+            return false;
+        }
+        List<PlacementEnumerator.Move> path = decision.getPath();
+        if (path.isEmpty()) {
+            return false;
+        }
+        plan = decision;
+        planStep = 0;
+        return true;
+    }
+}
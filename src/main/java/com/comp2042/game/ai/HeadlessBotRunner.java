@@ -0,0 +1,138 @@
+package com.comp2042.game.ai;
+
+import com.comp2042.game.board.BoardGeometry;
+import com.comp2042.game.board.SimpleBoard;
+import com.comp2042.game.bricks.BrickGeneratorFactory;
+import com.comp2042.game.controller.GameController;
+import com.comp2042.game.controller.HeadlessGameView;
+
+/**
+ * Runs bot games without JavaFX, through the real {@link GameController} and move
+ * commands, for benchmarking and weight tuning. Games are reproducible: the same
+ * seed always deals the same bricks.
+ */
+public final class HeadlessBotRunner {
+
+    /** Board rows used by the application. */
+    public static final int ROWS = BoardGeometry.STANDARD.getRows();
+
+    /** Board columns used by the application. */
+    public static final int COLUMNS = BoardGeometry.STANDARD.getColumns();
+
+    private HeadlessBotRunner() { }
+
+    /**
+     * Outcome of one headless game.
+     */
+    public static final class Result {
+        private final int pieces;
+        private final int lines;
+        private final int score;
+        private final boolean toppedOut;
+
+        Result(int pieces, int lines, int score, boolean toppedOut) {
+            this.pieces = pieces;
+            this.lines = lines;
+            this.score = score;
+            this.toppedOut = toppedOut;
+        }
+
+        /**
+         * Gets the number of bricks placed.
+         *
+         * @return pieces placed
+         */
+        public int getPieces() {
+            return pieces;
+        }
+
+        /**
+         * Gets the number of lines cleared.
+         *
+         * @return lines cleared
+         */
+        public int getLines() {
+            return lines;
+        }
+
+        /**
+         * Gets the final score.
+         *
+         * @return the score
+         */
+        public int getScore() {
+            return score;
+        }
+
+        /**
+         * Checks whether the game ended by topping out rather than reaching the piece limit.
+         *
+         * @return true if the game was lost
+         */
+        public boolean isToppedOut() {
+            return toppedOut;
+        }
+    }
+
+    /**
+     * Plays one game until the bot tops out or places {@code maxPieces} bricks.
+     *
+     * @param weights the evaluation weights
+     * @param seed the brick sequence seed
+     * @param maxPieces the maximum number of bricks to place
+     * @return the game's outcome
+     */
+    public static Result run(HeuristicWeights weights, long seed, int maxPieces) {
+        return run(new HeuristicBot(weights), seed, maxPieces);
+    }
+
+    /**
+     * Plays one game with the given planner until it tops out or places {@code maxPieces} bricks.
+     * The game has no high score manager, so it never reads or writes the saved scores.
+     *
+     * @param planner the placement chooser
+     * @param seed the brick sequence seed
+     * @param maxPieces the maximum number of bricks to place
+     * @return the game's outcome
+     */
+    public static Result run(MovePlanner planner, long seed, int maxPieces) {
+        SimpleBoard board = new SimpleBoard(ROWS, COLUMNS,
+                BrickGeneratorFactory.create(BrickGeneratorFactory.GeneratorType.RANDOM, seed));
+        HeadlessGameView view = new HeadlessGameView();
+        GameController controller = new GameController(view, board);
+        BotPlayer player = new BotPlayer(controller, board, planner);
+
+        int pieces = 0;
+        while (pieces < maxPieces && !view.isGameOver() && player.playPiece()) {
+            pieces++;
+        }
+        boolean toppedOut = view.isGameOver() || pieces < maxPieces;
+        return new Result(pieces, board.getLinesTracker().getTotalLines(), board.getScore().get(), toppedOut);
+    }
+
+    /**
+     * Benchmarks the default bot from the command line.
+     * Arguments: number of games (default 5), piece limit per game (default 2000),
+     * and {@code lookahead} to use {@link LookaheadSearch} instead of the single-piece bot.
+     *
+     * @param args optional game count, piece limit and planner
+     */
+    public static void main(String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+        int maxPieces = args.length > 1 ? Integer.parseInt(args[1]) : 2000;
+        boolean lookahead = args.length > 2 && args[2].equals("lookahead");
+        long totalPieces = 0;
+        long start = System.nanoTime();
+        for (int game = 0; game < games; game++) {
+            MovePlanner planner = lookahead
+                    ? new LookaheadSearch(HeuristicWeights.DEFAULT)
+                    : new HeuristicBot(HeuristicWeights.DEFAULT);
+            Result result = run(planner, game, maxPieces);
+            totalPieces += result.getPieces();
+            System.out.printf("game %d: pieces=%d lines=%d score=%d%s%n", game, result.getPieces(),
+                    result.getLines(), result.getScore(), result.isToppedOut() ? " (topped out)" : "");
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("%d pieces in %.2f s (%.0f pieces/s)%n", totalPieces, seconds, totalPieces / seconds);
+    }
+}
@@ -0,0 +1,82 @@
+package com.comp2042.game.ai;
+
+import com.comp2042.game.board.SimpleBoard;
+import com.comp2042.game.bricks.Brick;
+
+import java.awt.Point;
+import java.util.List;
+
+/**
+ * Single-piece heuristic AI: enumerates every reachable placement of the active brick
+ * and picks the one whose resulting board scores best under a {@link HeuristicWeights}
+ * linear evaluation. Candidate boards are derived from the current {@link BoardFeatures}
+ * incrementally, so no candidate rescans the full board.
+ *
+ * <p>Instances reuse their buffers and are not thread-safe.
+ */
+public final class HeuristicBot implements MovePlanner {
+
+    private final HeuristicWeights weights;
+    private final PlacementEnumerator enumerator = new PlacementEnumerator();
+    private BoardFeatures scratch;
+
+    /**
+     * Creates a bot using the given weights.
+     *
+     * @param weights the evaluation weights
+     */
+    public HeuristicBot(HeuristicWeights weights) {
+        this.weights = weights;
+    }
+
+    /**
+     * Gets the evaluation weights.
+     *
+     * @return the weights
+     */
+    public HeuristicWeights getWeights() {
+        return weights;
+    }
+
+    @Override
+    public PlacementDecision plan(BoardFeatures features, SimpleBoard board) {
+        Point offset = board.getCurrentOffset();
+        return choose(features, board.getBoardMatrix(), board.getCurrentBrick(),
+                board.getCurrentRotation(), offset.x, offset.y);
+    }
+
+    /**
+     * Chooses the best placement for the active brick.
+     *
+     * @param current features of the board before the brick locks
+     * @param board the board matrix, used for reachability
+     * @param brick the active brick
+     * @param rotation the brick's current rotation index
+     * @param x the brick's current column offset
+     * @param y the brick's current row offset
+     * @return the best placement, or null if the brick has nowhere to go
+     */
+    public PlacementDecision choose(BoardFeatures current, int[][] board, Brick brick, int rotation, int x, int y) {
+        int count = enumerator.enumerate(board, brick, rotation, x, y);
+        if (count == 0) {
+            return null;
+        }
+        if (scratch == null || scratch.getRows() != current.getRows() || scratch.getColumns() != current.getColumns()) {
+            scratch = new BoardFeatures(current.getRows(), current.getColumns());
+        }
+        List<int[][]> shapes = brick.getShapeMatrix();
+        int best = -1;
+        double bestScore = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < count; i++) {
+            scratch.copyFrom(current);
+            scratch.place(shapes.get(enumerator.getRotation(i)), enumerator.getX(i), enumerator.getY(i));
+            double score = weights.evaluate(scratch);
+            if (score > bestScore) {
+                bestScore = score;
+                best = i;
+            }
+        }
+        return new PlacementDecision(brick, enumerator.getX(best), enumerator.getY(best), enumerator.getRotation(best),
+                bestScore, enumerator.getPath(best));
+    }
+}
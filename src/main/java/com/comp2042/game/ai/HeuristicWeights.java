@@ -0,0 +1,117 @@
+package com.comp2042.game.ai;
+
+import java.util.Arrays;
+
+/**
+ * Immutable weights of the bot's linear board evaluation, one per {@link BoardFeatures} feature.
+ * Penalised features carry negative weights. Weights convert to and from a plain
+ * array in {@link #FEATURE_NAMES} order so tuners can treat them as a vector.
+ */
+public final class HeuristicWeights {
+
+    /** Feature names in array order. */
+    public static final String[] FEATURE_NAMES = {
+        "aggregateHeight", "holes", "bumpiness", "rowTransitions", "columnTransitions", "wells", "linesCleared"
+    };
+
+    /** Number of weighted features. */
+    public static final int FEATURE_COUNT = FEATURE_NAMES.length;
+
+    /** Hand-tuned defaults that play well on a standard 10-column board. */
+    public static final HeuristicWeights DEFAULT =
+            new HeuristicWeights(-0.51, -7.9, -0.18, -3.2, -9.3, -3.4, 3.4);
+
+    private final double[] weights;
+
+    /**
+     * Creates a weight set.
+     *
+     * @param aggregateHeight weight of the sum of column heights
+     * @param holes weight of covered empty cells
+     * @param bumpiness weight of neighbouring height differences
+     * @param rowTransitions weight of horizontal filled/empty changes
+     * @param columnTransitions weight of vertical filled/empty changes
+     * @param wells weight of the cumulative well depth
+     * @param linesCleared weight of rows cleared by the placement
+     */
+    public HeuristicWeights(double aggregateHeight, double holes, double bumpiness, double rowTransitions,
+                            double columnTransitions, double wells, double linesCleared) {
+        this.weights = new double[]{aggregateHeight, holes, bumpiness, rowTransitions,
+            columnTransitions, wells, linesCleared};
+    }
+
+    private HeuristicWeights(double[] weights) {
+        this.weights = weights;
+    }
+
+    /**
+     * Gets the weight of rows cleared, used by searches that add up line rewards
+     * over several placements.
+     *
+     * @return the lines cleared weight
+     */
+    double getLinesClearedWeight() {
+        return weights[FEATURE_COUNT - 1];
+    }
+
+    /**
+     * Creates a weight set from an array in {@link #FEATURE_NAMES} order.
+     *
+     * @param weights the weights
+     * @return the weight set
+     * @throws IllegalArgumentException if the array has the wrong length
+     */
+    public static HeuristicWeights fromArray(double[] weights) {
+        if (weights.length != FEATURE_COUNT) {
+            throw new IllegalArgumentException("Expected " + FEATURE_COUNT + " weights, got " + weights.length);
+        }
+        return new HeuristicWeights(weights.clone());
+    }
+
+    /**
+     * Returns the weights as an array in {@link #FEATURE_NAMES} order.
+     *
+     * @return a copy of the weights
+     */
+    public double[] toArray() {
+        return weights.clone();
+    }
+
+    /**
+     * Scores a board; higher is better.
+     *
+     * @param features the board features after a placement
+     * @return the weighted sum of the features
+     */
+    public double evaluate(BoardFeatures features) {
+        return weights[0] * features.getAggregateHeight()
+                + weights[1] * features.getHoles()
+                + weights[2] * features.getBumpiness()
+                + weights[3] * features.getRowTransitions()
+                + weights[4] * features.getColumnTransitions()
+                + weights[5] * features.getWells()
+                + weights[6] * features.getLinesCleared();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("HeuristicWeights{");
+        for (int i = 0; i < FEATURE_COUNT; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(FEATURE_NAMES[i]).append('=').append(weights[i]);
+        }
+        return builder.append('}').toString();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof HeuristicWeights other && Arrays.equals(weights, other.weights);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(weights);
+    }
+}
@@ -0,0 +1,105 @@
+package com.comp2042.game.ai;
+
+import com.comp2042.game.bricks.Brick;
+import com.comp2042.game.operations.MatrixOperations;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Computes "best move" hints on a background worker thread.
+ *
+ * <p>Each {@link #request} snapshots the position on the caller's thread (one small
+ * matrix copy) and supersedes the previous request. Cancellation is by generation
+ * only: a queued computation is skipped, while one already running finishes its
+ * search (the bot does not poll for interruption) and its result is dropped. Results
+ * are handed to the callback executor, normally {@code Platform::runLater}, and are
+ * checked once more there so a hint never shows up for a brick that has already moved.
+ *
+ * <p>The bot and its buffers are only touched by the worker thread.
+ */
+public final class HintService {
+
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "hint-worker");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Executor callbackExecutor;
+    private final HeuristicBot bot;
+    private final AtomicLong generation = new AtomicLong();
+    private Future<?> pending;
+    private BoardFeatures features;
+
+    /**
+     * Creates a hint service.
+     *
+     * @param weights the evaluation weights
+     * @param callbackExecutor the executor results are delivered on
+     */
+    public HintService(HeuristicWeights weights, Executor callbackExecutor) {
+        this.bot = new HeuristicBot(weights);
+        this.callbackExecutor = callbackExecutor;
+    }
+
+    /**
+     * Starts computing a hint for a position, cancelling any earlier request.
+     *
+     * @param board the board matrix; copied before this method returns
+     * @param brick the active brick
+     * @param rotation the brick's rotation index
+     * @param x the brick's column offset
+     * @param y the brick's row offset
+     * @param onHint receives the hint, or null if the brick has nowhere to go
+     */
+    public synchronized void request(int[][] board, Brick brick, int rotation, int x, int y,
+                                     Consumer<PlacementDecision> onHint) {
+        long id = generation.incrementAndGet();
+        if (pending != null) {
+            pending.cancel(false);
+        }
+        int[][] snapshot = MatrixOperations.copy(board);
+        pending = worker.submit(() -> {
+            if (generation.get() != id) {
+                return;
+            }
+            if (features == null || features.getRows() != snapshot.length
+                    || features.getColumns() != snapshot[0].length) {
+                features = new BoardFeatures(snapshot.length, snapshot[0].length);
+            }
+            features.load(snapshot);
+            PlacementDecision hint = bot.choose(features, snapshot, brick, rotation, x, y);
+            if (generation.get() != id) {
+                return;
+            }
+            callbackExecutor.execute(() -> {
+                if (generation.get() == id) {
+                    onHint.accept(hint);
+                }
+            });
+        });
+    }
+
+    /**
+     * Cancels the current request; no callback will follow for it.
+     */
+    public synchronized void cancel() {
+        generation.incrementAndGet();
+        if (pending != null) {
+            pending.cancel(false);
+            pending = null;
+        }
+    }
+
+    /**
+     * Cancels any request and stops the worker thread.
+     */
+    public void shutdown() {
+        cancel();
+        worker.shutdownNow();
+    }
+}
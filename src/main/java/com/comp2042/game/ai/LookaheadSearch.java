@@ -0,0 +1,429 @@
+package com.comp2042.game.ai;
+
+import com.comp2042.game.board.BoardGeometry;
+import com.comp2042.game.board.SimpleBoard;
+import com.comp2042.game.bricks.Brick;
+import com.comp2042.game.bricks.BrickType;
+
+import java.awt.Point;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Multi-piece beam search over the active brick, the hold slot and the preview queue.
+ *
+ * <p>Every reachable placement of the active brick (and, through a hold, of the held or
+ * next brick) is a root candidate. The best root candidates are searched deeper with
+ * iterative deepening: each iteration places one more known brick, keeping only the
+ * {@code beamWidth} best placements at every node, and scores a line of play as the
+ * {@link HeuristicWeights} evaluation of its last board plus the line rewards collected
+ * on the way. Root subtrees run in parallel as tasks on a {@link ForkJoinPool}.
+ *
+ * <p>Subtree values are cached in a {@link TranspositionTable} keyed by the board's
+ * Zobrist hash and the bricks still to place, so boards reached through different
+ * placement orders (for example with and without the hold) are only searched once.
+ *
+ * <p>Each search has a time budget. Depth one is always finished; deeper iterations
+ * stop as soon as the budget runs out and the answer of the deepest completed
+ * iteration is returned, so more cores buy more depth rather than more latency.
+ * Nodes only hold {@link BoardFeatures}, so moving between nodes costs a few small
+ * array copies and every worker thread reuses its own scratch buffers.
+ *
+ * <p>The hold is only considered for the first brick. When it is used, the brick
+ * that goes into the hold slot is assumed to be played last, after the previews.
+ *
+ * <p>Searches on one instance must not overlap; use one instance per game.
+ */
+public final class LookaheadSearch implements MovePlanner {
+
+    /** Default time budget per brick: 5 ms. */
+    public static final long DEFAULT_BUDGET_NANOS = 5_000_000L;
+
+    /** Default number of placements kept at each node. */
+    public static final int DEFAULT_BEAM_WIDTH = 6;
+
+    private static final double TOP_OUT = -1e9;
+
+    private final HeuristicWeights weights;
+    private final double linesWeight;
+    private final ForkJoinPool pool;
+    private final int beamWidth;
+    private final long budgetNanos;
+    private final TranspositionTable table;
+    private final PlacementEnumerator rootEnumerator = new PlacementEnumerator();
+    private final ThreadLocal<Worker> workers = ThreadLocal.withInitial(Worker::new);
+
+    // Where later bricks spawn; taken from the board in plan(), standard board otherwise
+    private int spawnX = BoardGeometry.STANDARD.getSpawnX();
+    private int spawnY = BoardGeometry.STANDARD.getSpawnY();
+    private volatile long deadline;
+    private int completedDepth;
+
+    /** One root placement and the bricks that follow it. */
+    private static final class Candidate {
+        final boolean hold;
+        final Brick brick;
+        final int x;
+        final int y;
+        final int rotation;
+        final BoardFeatures features;
+        final Brick[] rest;
+        final int[] restCodes;
+        final double staticScore;
+        double score;
+
+        Candidate(boolean hold, Brick brick, int x, int y, int rotation, BoardFeatures features,
+                  Brick[] rest, int[] restCodes, double staticScore) {
+            this.hold = hold;
+            this.brick = brick;
+            this.x = x;
+            this.y = y;
+            this.rotation = rotation;
+            this.features = features;
+            this.rest = rest;
+            this.restCodes = restCodes;
+            this.staticScore = staticScore;
+            this.score = staticScore;
+        }
+    }
+
+    /** Per-thread scratch state, grown on demand and reused across searches. */
+    private static final class Worker {
+        final PlacementEnumerator enumerator = new PlacementEnumerator();
+        final TranspositionTable.Entry entry = new TranspositionTable.Entry();
+        BoardFeatures[] plyStates = new BoardFeatures[0];
+        int[][] beamX = new int[0][];
+        int[][] beamY = new int[0][];
+        int[][] beamRotation = new int[0][];
+        double[][] beamScore = new double[0][];
+
+        void ensure(int plies, int width, int rows, int cols) {
+            if (plyStates.length < plies || beamX[0].length < width
+                    || plyStates[0].getRows() != rows || plyStates[0].getColumns() != cols) {
+                plyStates = new BoardFeatures[plies];
+                beamX = new int[plies][width];
+                beamY = new int[plies][width];
+                beamRotation = new int[plies][width];
+                beamScore = new double[plies][width];
+                for (int p = 0; p < plies; p++) {
+                    plyStates[p] = new BoardFeatures(rows, cols);
+                }
+            }
+        }
+    }
+
+    /** Searches one root candidate's subtree to a fixed depth. */
+    @SuppressWarnings("serial") // Tasks are never serialized
+    private final class SubtreeTask extends RecursiveAction {
+        private final Candidate candidate;
+        private final int depth;
+        boolean aborted;
+        double score;
+
+        SubtreeTask(Candidate candidate, int depth) {
+            this.candidate = candidate;
+            this.depth = depth;
+        }
+
+        @Override
+        protected void compute() {
+            Worker worker = workers.get();
+            BoardFeatures root = candidate.features;
+            worker.ensure(depth, beamWidth, root.getRows(), root.getColumns());
+            double value = searchNode(worker, root, candidate, 0, depth - 1);
+            if (Double.isNaN(value)) {
+                aborted = true;
+            } else {
+                score = linesWeight * root.getLinesCleared() + value;
+            }
+        }
+    }
+
+    /**
+     * Creates a search on the common pool with the default beam width and 5 ms budget.
+     *
+     * @param weights the evaluation weights
+     */
+    public LookaheadSearch(HeuristicWeights weights) {
+        this(weights, ForkJoinPool.commonPool(), DEFAULT_BEAM_WIDTH, DEFAULT_BUDGET_NANOS);
+    }
+
+    /**
+     * Creates a search with its own default-sized transposition table.
+     *
+     * @param weights the evaluation weights
+     * @param pool the pool running root subtrees
+     * @param beamWidth the number of placements kept at each node (at least 1)
+     * @param budgetNanos the time budget per brick in nanoseconds
+     */
+    public LookaheadSearch(HeuristicWeights weights, ForkJoinPool pool, int beamWidth, long budgetNanos) {
+        this(weights, pool, beamWidth, budgetNanos, new TranspositionTable());
+    }
+
+    /**
+     * Creates a search.
+     *
+     * @param weights the evaluation weights
+     * @param pool the pool running root subtrees
+     * @param beamWidth the number of placements kept at each node (at least 1)
+     * @param budgetNanos the time budget per brick in nanoseconds
+     * @param table the transposition table, or null to search without one
+     */
+    public LookaheadSearch(HeuristicWeights weights, ForkJoinPool pool, int beamWidth, long budgetNanos,
+                           TranspositionTable table) {
+        if (beamWidth < 1) {
+            throw new IllegalArgumentException("Beam width must be positive: " + beamWidth);
+        }
+        this.weights = weights;
+        this.linesWeight = weights.getLinesClearedWeight();
+        this.pool = pool;
+        this.beamWidth = beamWidth;
+        this.budgetNanos = budgetNanos;
+        this.table = table;
+    }
+
+    @Override
+    public PlacementDecision plan(BoardFeatures features, SimpleBoard board) {
+        Point offset = board.getCurrentOffset();
+        spawnX = board.getGeometry().getSpawnX();
+        spawnY = board.getGeometry().getSpawnY();
+        return search(features, board.getBoardMatrix(), board.getCurrentBrick(), board.getCurrentRotation(),
+                offset.x, offset.y, board.getHeldBrick(), board.getPreviewBricks());
+    }
+
+    /**
+     * Chooses a placement for the active brick, looking ahead over the known bricks.
+     *
+     * @param current features of the board before the brick locks
+     * @param board the board matrix, used for the active brick's reachability
+     * @param active the active brick
+     * @param rotation the active brick's rotation index
+     * @param x the active brick's column offset
+     * @param y the active brick's row offset
+     * @param held the held brick, or null if the hold slot is empty
+     * @param previews the upcoming bricks in spawn order
+     * @return the best placement found within the budget, or null if no brick can be placed
+     */
+    public synchronized PlacementDecision search(BoardFeatures current, int[][] board, Brick active,
+                                                 int rotation, int x, int y, Brick held, List<Brick> previews) {
+        deadline = System.nanoTime() + budgetNanos;
+        completedDepth = 0;
+        if (table != null) {
+            table.newSearch();
+        }
+
+        List<Candidate> candidates = new ArrayList<>();
+        Brick[] playRest = previews.toArray(new Brick[0]);
+        rootEnumerator.enumerate(board, active, rotation, x, y);
+        addCandidates(candidates, current, false, active, playRest);
+
+        Brick swapIn = held != null ? held : previews.isEmpty() ? null : previews.get(0);
+        if (swapIn != null && swapIn.getClass() != active.getClass()) {
+            Brick[] holdRest;
+            if (held != null) {
+                holdRest = playRest;
+            } else {
+                // The active brick waits in the hold slot; assume it is played after the previews
+                holdRest = Arrays.copyOf(playRest, playRest.length);
+                System.arraycopy(playRest, 1, holdRest, 0, playRest.length - 1);
+                holdRest[holdRest.length - 1] = active;
+            }
+            rootEnumerator.enumerate(current, swapIn, 0, spawnX, spawnY);
+            addCandidates(candidates, current, true, swapIn, holdRest);
+        }
+        if (candidates.isEmpty()) {
+            return null;
+        }
+
+        candidates.sort(Comparator.comparingDouble((Candidate c) -> c.staticScore).reversed());
+        Candidate best = candidates.get(0);
+        completedDepth = 1;
+
+        List<Candidate> beam = candidates.subList(0, Math.min(candidates.size(), beamWidth * 2));
+        int maxDepth = 1 + playRest.length;
+        for (int depth = 2; depth <= maxDepth && System.nanoTime() < deadline; depth++) {
+            Candidate iterationBest = searchRoots(beam, depth);
+            if (iterationBest == null) {
+                break; // Budget ran out; keep the deepest completed answer
+            }
+            best = iterationBest;
+            completedDepth = depth;
+        }
+        return toDecision(current, board, active, rotation, x, y, best);
+    }
+
+    /**
+     * Gets the deepest fully searched iteration of the last search.
+     *
+     * @return the number of bricks looked at, 1 meaning only the active brick
+     */
+    public synchronized int getCompletedDepth() {
+        return completedDepth;
+    }
+
+    /**
+     * Adds a candidate for every placement in the root enumerator.
+     */
+    private void addCandidates(List<Candidate> candidates, BoardFeatures current, boolean hold,
+                               Brick brick, Brick[] rest) {
+        List<int[][]> shapes = brick.getShapeMatrix();
+        int[] restCodes = new int[rest.length];
+        for (int k = 0; k < rest.length; k++) {
+            restCodes[k] = BrickType.of(rest[k]).getCode();
+        }
+        for (int i = 0; i < rootEnumerator.size(); i++) {
+            BoardFeatures features = new BoardFeatures(current.getRows(), current.getColumns());
+            features.copyFrom(current);
+            int px = rootEnumerator.getX(i);
+            int py = rootEnumerator.getY(i);
+            int pr = rootEnumerator.getRotation(i);
+            features.place(shapes.get(pr), px, py);
+            candidates.add(new Candidate(hold, brick, px, py, pr, features, rest, restCodes,
+                    weights.evaluate(features)));
+        }
+    }
+
+    /**
+     * Searches every root candidate's subtree in parallel.
+     *
+     * @return the best candidate, or null if the budget ran out first
+     */
+    private Candidate searchRoots(List<Candidate> beam, int depth) {
+        SubtreeTask[] tasks = new SubtreeTask[beam.size()];
+        for (int i = 0; i < tasks.length; i++) {
+            tasks[i] = new SubtreeTask(beam.get(i), depth);
+        }
+        @SuppressWarnings("serial") // Tasks are never serialized
+        RecursiveAction all = new RecursiveAction() {
+            @Override
+            protected void compute() {
+                invokeAll(tasks);
+            }
+        };
+        pool.invoke(all);
+        Candidate best = null;
+        for (SubtreeTask task : tasks) {
+            if (task.aborted) {
+                return null;
+            }
+            task.candidate.score = task.score;
+            if (best == null || task.score > best.score) {
+                best = task.candidate;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Scores a node: the best line of play over the next {@code remaining} bricks.
+     * Values leave out line rewards collected before the node, so they depend only on
+     * the board and the bricks to come and can be shared through the table.
+     *
+     * @param state the board after the previous placement
+     * @param candidate the root candidate, giving the bricks still to come
+     * @param ply the index of the brick to place next
+     * @param remaining the number of bricks still to place (at least 1)
+     * @return the node's value, or NaN if the budget ran out
+     */
+    private double searchNode(Worker worker, BoardFeatures state, Candidate candidate, int ply, int remaining) {
+        if (System.nanoTime() > deadline) {
+            return Double.NaN;
+        }
+        long key = 0;
+        if (table != null) {
+            int[] codes = candidate.restCodes;
+            key = TranspositionTable.key(state.getHash(), codes[ply], TranspositionTable.NO_PIECE);
+            for (int k = 1; k < remaining; k++) {
+                key = TranspositionTable.followedBy(key, codes[ply + k]);
+            }
+            if (table.probe(key, worker.entry) && worker.entry.getDepth() == remaining) {
+                return worker.entry.getValue();
+            }
+        }
+
+        Brick brick = candidate.rest[ply];
+        PlacementEnumerator enumerator = worker.enumerator;
+        int count = enumerator.enumerate(state, brick, 0, spawnX, spawnY);
+        if (count == 0) {
+            return TOP_OUT;
+        }
+
+        List<int[][]> shapes = brick.getShapeMatrix();
+        BoardFeatures child = worker.plyStates[ply];
+        int[] beamX = worker.beamX[ply];
+        int[] beamY = worker.beamY[ply];
+        int[] beamRotation = worker.beamRotation[ply];
+        double[] beamScore = worker.beamScore[ply];
+        int kept = 0;
+        for (int i = 0; i < count; i++) {
+            child.copyFrom(state);
+            child.place(shapes.get(enumerator.getRotation(i)), enumerator.getX(i), enumerator.getY(i));
+            double score = weights.evaluate(child);
+            // Insertion into the sorted beam, dropping the worst entry when full
+            int at = kept < beamScore.length ? kept++ : beamScore.length;
+            while (at > 0 && beamScore[at - 1] < score) {
+                if (at < beamScore.length) {
+                    beamScore[at] = beamScore[at - 1];
+                    beamX[at] = beamX[at - 1];
+                    beamY[at] = beamY[at - 1];
+                    beamRotation[at] = beamRotation[at - 1];
+                }
+                at--;
+            }
+            if (at < beamScore.length) {
+                beamScore[at] = score;
+                beamX[at] = enumerator.getX(i);
+                beamY[at] = enumerator.getY(i);
+                beamRotation[at] = enumerator.getRotation(i);
+            }
+        }
+
+        double best = beamScore[0];
+        int bestIndex = 0;
+        if (remaining > 1) {
+            best = TOP_OUT;
+            for (int k = 0; k < kept; k++) {
+                child.copyFrom(state);
+                child.place(shapes.get(beamRotation[k]), beamX[k], beamY[k]);
+                double value = searchNode(worker, child, candidate, ply + 1, remaining - 1);
+                if (Double.isNaN(value)) {
+                    return value;
+                }
+                value += linesWeight * child.getLinesCleared();
+                if (value > best) {
+                    best = value;
+                    bestIndex = k;
+                }
+            }
+        }
+        if (table != null) {
+            table.store(key, remaining, best, beamX[bestIndex], beamY[bestIndex], beamRotation[bestIndex]);
+        }
+        return best;
+    }
+
+    /**
+     * Recovers the input path of the chosen root candidate.
+     */
+    private PlacementDecision toDecision(BoardFeatures current, int[][] board, Brick active, int rotation,
+                                         int x, int y, Candidate chosen) {
+        int count = chosen.hold
+                ? rootEnumerator.enumerate(current, chosen.brick, 0, spawnX, spawnY)
+                : rootEnumerator.enumerate(board, active, rotation, x, y);
+        for (int i = 0; i < count; i++) {
+            if (rootEnumerator.getX(i) == chosen.x && rootEnumerator.getY(i) == chosen.y
+                    && rootEnumerator.getRotation(i) == chosen.rotation) {
+                List<PlacementEnumerator.Move> path = rootEnumerator.getPath(i);
+                if (chosen.hold) {
+                    path.add(0, PlacementEnumerator.Move.HOLD);
+                }
+                return new PlacementDecision(chosen.brick, chosen.x, chosen.y, chosen.rotation, chosen.score, path);
+            }
+        }
+        throw new IllegalStateException("Chosen placement is no longer reachable");
+    }
+}
@@ -0,0 +1,20 @@
+package com.comp2042.game.ai;
+
+import com.comp2042.game.board.SimpleBoard;
+
+/**
+ * Strategy for choosing where the active brick goes.
+ * {@link BotPlayer} keeps the board features in sync and asks its planner for one
+ * {@link PlacementDecision} per brick.
+ */
+public interface MovePlanner {
+
+    /**
+     * Chooses a placement for the board's active brick.
+     *
+     * @param features features of the board before the brick locks
+     * @param board the board, read for the active, held and preview bricks
+     * @return the chosen placement, or null if the brick has nowhere to go
+     */
+    PlacementDecision plan(BoardFeatures features, SimpleBoard board);
+}
@@ -0,0 +1,104 @@
+package com.comp2042.game.ai;
+
+import com.comp2042.game.bricks.Brick;
+
+import java.util.List;
+
+/**
+ * The placement a {@link MovePlanner} chose for the active brick: where the brick
+ * locks, how it scored, and the inputs that get it there.
+ *
+ * <p>When the plan starts with {@link PlacementEnumerator.Move#HOLD}, {@link #getBrick()}
+ * is the brick that comes into play after the hold, not the one active when planning.
+ */
+public final class PlacementDecision {
+
+    private final Brick brick;
+    private final int x;
+    private final int y;
+    private final int rotation;
+    private final double score;
+    private final List<PlacementEnumerator.Move> path;
+
+    /**
+     * Creates a decision.
+     *
+     * @param brick the brick that locks
+     * @param x the column offset the brick locks at
+     * @param y the row offset the brick locks at
+     * @param rotation the rotation index the brick locks in
+     * @param score the planner's evaluation of the placement
+     * @param path the inputs reaching the placement, ending in a hard drop
+     */
+    PlacementDecision(Brick brick, int x, int y, int rotation, double score, List<PlacementEnumerator.Move> path) {
+        this.brick = brick;
+        this.x = x;
+        this.y = y;
+        this.rotation = rotation;
+        this.score = score;
+        this.path = path;
+    }
+
+    /**
+     * Gets the brick that locks at this placement.
+     *
+     * @return the placed brick
+     */
+    public Brick getBrick() {
+        return brick;
+    }
+
+    /**
+     * Gets the column offset the brick locks at.
+     *
+     * @return the x offset
+     */
+    public int getX() {
+        return x;
+    }
+
+    /**
+     * Gets the row offset the brick locks at.
+     *
+     * @return the y offset
+     */
+    public int getY() {
+        return y;
+    }
+
+    /**
+     * Gets the rotation index the brick locks in.
+     *
+     * @return the rotation index
+     */
+    public int getRotation() {
+        return rotation;
+    }
+
+    /**
+     * Gets the planner's evaluation of this placement.
+     *
+     * @return the heuristic score
+     */
+    public double getScore() {
+        return score;
+    }
+
+    /**
+     * Gets the inputs reaching this placement, ending in a hard drop.
+     *
+     * @return the moves in order
+     */
+    public List<PlacementEnumerator.Move> getPath() {
+        return path;
+    }
+
+    /**
+     * Checks whether the plan swaps in the held brick first.
+     *
+     * @return true if the path starts with a hold
+     */
+    public boolean usesHold() {
+        return !path.isEmpty() && path.get(0) == PlacementEnumerator.Move.HOLD;
+    }
+}
@@ -0,0 +1,502 @@
+package com.comp2042.game.ai;
+
+import com.comp2042.game.bricks.Brick;
+import com.comp2042.game.operations.BrickRotator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Enumerates every reachable final placement of the active brick on a board.
+ * Reachability is a breadth-first search over (x, y, rotation) states using the same
+ * moves a player has (left, right, one row down, and rotating to the next shape in the
+ * brick's rotation list) and the same collision rules as
+ * {@link com.comp2042.game.operations.MatrixOperations#intersect(int[][], int[][], int, int)},
+ * so tucks under overhangs and spins into slots are found, not just hard drops.
+ *
+ * <p>Built for bots and hints that enumerate many times per second: the board is read
+ * as one bitmask per row, all working buffers (visited bitset, queue, parent links) are
+ * reused between calls, brick shapes are decoded once per brick class, and boards
+ * without holes or overhangs take a
+ * shortcut that only searches the spawn row and drops each state straight to the
+ * landing row computed from column heights.
+ *
+ * <p>Instances are not thread-safe; use one enumerator per thread.
+ */
+public final class PlacementEnumerator {
+
+    /** Moves making up a placement's input path. */
+    public enum Move {
+        /** Shift one column left. */
+        LEFT,
+        /** Shift one column right. */
+        RIGHT,
+        /** Rotate to the next shape in the brick's rotation list. */
+        ROTATE,
+        /** Move one row down. */
+        SOFT_DROP,
+        /** Drop to the landing row and lock. */
+        HARD_DROP,
+        /** Swap the active brick with the held one; only ever the first move of a plan. */
+        HOLD
+    }
+
+    // Bricks are 4x4 matrices, so a brick's origin can sit up to 3 cells outside the board
+    private static final int MARGIN = 3;
+    private static final byte NO_MOVE = -1;
+    private static final byte DROP = 4; // Straight fall used by the shortcut, ends in HARD_DROP
+
+    private static final Move[] MOVES = Move.values();
+
+    private final Map<Class<?>, Shapes> shapeCache = new HashMap<>();
+
+    private long[] visited = new long[0];
+    private int[] parent = new int[0];
+    private byte[] action = new byte[0];
+    private int[] queue = new int[0];
+    private int[] columnTops = new int[0];
+
+    private int[] placementState = new int[64];
+    private int[] placementX = new int[64];
+    private int[] placementY = new int[64];
+    private int[] placementRotation = new int[64];
+    private int count;
+
+    private long[] boardMasks = new long[0];
+    private long[] masks;
+    private int rows;
+    private int cols;
+    private int strideX;
+    private int strideY;
+    private boolean shortcutEnabled = true;
+
+    /** Decoded cell offsets of each rotation of one brick. */
+    private static final class Shapes {
+        final int rotations;
+        final int[][] cellX;
+        final int[][] cellY;
+
+        Shapes(List<int[][]> matrices) {
+            rotations = matrices.size();
+            cellX = new int[rotations][];
+            cellY = new int[rotations][];
+            for (int r = 0; r < rotations; r++) {
+                int[][] shape = matrices.get(r);
+                int cells = 0;
+                for (int[] row : shape) {
+                    for (int cell : row) {
+                        if (cell != 0) {
+                            cells++;
+                        }
+                    }
+                }
+                cellX[r] = new int[cells];
+                cellY[r] = new int[cells];
+                int k = 0;
+                for (int row = 0; row < shape.length; row++) {
+                    for (int col = 0; col < shape[row].length; col++) {
+                        if (shape[row][col] != 0) {
+                            cellX[r][k] = col;
+                            cellY[r][k] = row;
+                            k++;
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /** Creates an enumerator with empty buffers; they grow on first use. */
+    public PlacementEnumerator() { }
+
+    /**
+     * Enumerates placements of the rotator's current brick from the given position.
+     *
+     * @param board the board matrix, indexed [row][column]
+     * @param rotator the rotator holding the active brick and its rotation
+     * @param x the brick's current column offset
+     * @param y the brick's current row offset
+     * @return the number of placements found
+     */
+    public int enumerate(int[][] board, BrickRotator rotator, int x, int y) {
+        return enumerate(board, rotator.getBrick(), rotator.getCurrentShapeIndex(), x, y);
+    }
+
+    /**
+     * Enumerates placements of a brick from the given position and rotation.
+     * Results are read with {@link #getX(int)}, {@link #getY(int)},
+     * {@link #getRotation(int)} and {@link #getPath(int)} until the next call.
+     *
+     * @param board the board matrix, indexed [row][column], at most {@link BoardFeatures#MAX_COLUMNS} wide
+     * @param brick the active brick
+     * @param rotation the brick's current rotation index
+     * @param x the brick's current column offset
+     * @param y the brick's current row offset
+     * @return the number of placements found (0 if the start position collides)
+     */
+    public int enumerate(int[][] board, Brick brick, int rotation, int x, int y) {
+        int rows = board.length;
+        if (rows == 0) {
+            count = 0;
+            return 0;
+        }
+        int cols = board[0].length;
+        if (cols > BoardFeatures.MAX_COLUMNS) {
+            throw new IllegalArgumentException("Boards wider than " + BoardFeatures.MAX_COLUMNS + " columns are not supported");
+        }
+        if (boardMasks.length < rows) {
+            boardMasks = new long[rows];
+        }
+        for (int r = 0; r < rows; r++) {
+            long mask = 0;
+            int[] cells = board[r];
+            for (int c = 0; c < cols; c++) {
+                if (cells[c] != 0) {
+                    mask |= 1L << c;
+                }
+            }
+            boardMasks[r] = mask;
+        }
+        return enumerate(boardMasks, rows, cols, brick, rotation, x, y);
+    }
+
+    /**
+     * Enumerates placements of a brick on a board tracked by {@link BoardFeatures},
+     * without building a matrix. Used by search nodes that only keep features.
+     *
+     * @param board the board features
+     * @param brick the active brick
+     * @param rotation the brick's current rotation index
+     * @param x the brick's current column offset
+     * @param y the brick's current row offset
+     * @return the number of placements found (0 if the start position collides)
+     */
+    public int enumerate(BoardFeatures board, Brick brick, int rotation, int x, int y) {
+        return enumerate(board.rowMasks(), board.getRows(), board.getColumns(), brick, rotation, x, y);
+    }
+
+    private int enumerate(long[] masks, int rows, int cols, Brick brick, int rotation, int x, int y) {
+        count = 0;
+        this.masks = masks;
+        this.rows = rows;
+        this.cols = cols;
+        Shapes shapes = shapeCache.computeIfAbsent(brick.getClass(), c -> new Shapes(brick.getShapeMatrix()));
+        rotation = Math.floorMod(rotation, shapes.rotations);
+        if (!fits(shapes, rotation, x, y)) {
+            return 0;
+        }
+        prepareBuffers(shapes.rotations);
+
+        if (shortcutEnabled && computeColumnTops()) {
+            searchOpenBoard(shapes, rotation, x, y);
+        } else {
+            searchFull(shapes, rotation, x, y);
+        }
+        return count;
+    }
+
+    /**
+     * Gets the number of placements found by the last enumeration.
+     *
+     * @return placement count
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Gets a placement's column offset.
+     *
+     * @param index the placement index
+     * @return the brick's x offset when it locks
+     */
+    public int getX(int index) {
+        checkIndex(index);
+        return placementX[index];
+    }
+
+    /**
+     * Gets a placement's landing row offset.
+     *
+     * @param index the placement index
+     * @return the brick's y offset when it locks
+     */
+    public int getY(int index) {
+        checkIndex(index);
+        return placementY[index];
+    }
+
+    /**
+     * Gets a placement's rotation index.
+     *
+     * @param index the placement index
+     * @return the rotation index in the brick's rotation list
+     */
+    public int getRotation(int index) {
+        checkIndex(index);
+        return placementRotation[index];
+    }
+
+    /**
+     * Checks whether a placement needs a move after soft dropping (a tuck or spin),
+     * so it cannot be reached by positioning at the top and hard dropping.
+     *
+     * @param index the placement index
+     * @return true if the path moves sideways or rotates after moving down
+     */
+    public boolean isTuck(int index) {
+        checkIndex(index);
+        int state = skipTrailingDrops(placementState[index]);
+        for (; action[state] != NO_MOVE; state = parent[state]) {
+            if (action[state] == Move.SOFT_DROP.ordinal()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether the last move before locking is a rotation, as required for spins.
+     *
+     * @param index the placement index
+     * @return true if the brick rotated into its final position
+     */
+    public boolean isLastMoveRotation(int index) {
+        checkIndex(index);
+        return action[placementState[index]] == Move.ROTATE.ordinal();
+    }
+
+    /**
+     * Builds the input sequence reaching a placement from the start position.
+     * The path is one of the shortest and always ends with {@link Move#HARD_DROP}.
+     *
+     * @param index the placement index
+     * @return the moves to apply in order
+     */
+    public List<Move> getPath(int index) {
+        checkIndex(index);
+        List<Move> path = new ArrayList<>();
+        path.add(Move.HARD_DROP);
+        for (int state = skipTrailingDrops(placementState[index]); action[state] != NO_MOVE; state = parent[state]) {
+            path.add(MOVES[action[state]]);
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    /**
+     * Enables or disables the open-board shortcut, for comparing it against the full search.
+     *
+     * @param enabled whether boards without holes may use the shortcut
+     */
+    void setShortcutEnabled(boolean enabled) {
+        this.shortcutEnabled = enabled;
+    }
+
+    /**
+     * Full breadth-first search over every reachable state.
+     * A state is a placement when moving it down one row collides.
+     */
+    private void searchFull(Shapes shapes, int rotation, int x, int y) {
+        int head = 0;
+        int tail = 0;
+        int start = stateIndex(rotation, x, y);
+        visit(start, -1, NO_MOVE);
+        queue[tail++] = start;
+        while (head < tail) {
+            int state = queue[head++];
+            int r = state / (strideX * strideY);
+            int sy = (state / strideX) % strideY - MARGIN;
+            int sx = state % strideX - MARGIN;
+
+            if (fits(shapes, r, sx, sy + 1)) {
+                tail = enqueue(stateIndex(r, sx, sy + 1), state, Move.SOFT_DROP, tail);
+            } else {
+                addPlacement(state, sx, sy, r);
+            }
+            if (fits(shapes, r, sx - 1, sy)) {
+                tail = enqueue(stateIndex(r, sx - 1, sy), state, Move.LEFT, tail);
+            }
+            if (fits(shapes, r, sx + 1, sy)) {
+                tail = enqueue(stateIndex(r, sx + 1, sy), state, Move.RIGHT, tail);
+            }
+            int next = (r + 1) % shapes.rotations;
+            if (next != r && fits(shapes, next, sx, sy)) {
+                tail = enqueue(stateIndex(next, sx, sy), state, Move.ROTATE, tail);
+            }
+        }
+    }
+
+    /**
+     * Shortcut for boards with no holes or overhangs. Every free cell then has only free
+     * cells above it, so any reachable state can be reached by moving along the start row
+     * and dropping straight down; the landing row comes from the column heights.
+     */
+    private void searchOpenBoard(Shapes shapes, int rotation, int x, int y) {
+        int head = 0;
+        int tail = 0;
+        int start = stateIndex(rotation, x, y);
+        visit(start, -1, NO_MOVE);
+        queue[tail++] = start;
+        while (head < tail) {
+            int state = queue[head++];
+            int r = state / (strideX * strideY);
+            int sx = state % strideX - MARGIN;
+
+            if (fits(shapes, r, sx - 1, y)) {
+                tail = enqueue(stateIndex(r, sx - 1, y), state, Move.LEFT, tail);
+            }
+            if (fits(shapes, r, sx + 1, y)) {
+                tail = enqueue(stateIndex(r, sx + 1, y), state, Move.RIGHT, tail);
+            }
+            int next = (r + 1) % shapes.rotations;
+            if (next != r && fits(shapes, next, sx, y)) {
+                tail = enqueue(stateIndex(next, sx, y), state, Move.ROTATE, tail);
+            }
+        }
+        // Every state in the start row is known; drop each to its landing row
+        for (int i = 0; i < tail; i++) {
+            int state = queue[i];
+            int r = state / (strideX * strideY);
+            int sx = state % strideX - MARGIN;
+            int landing = landingRow(shapes, r, sx);
+            if (landing == y) {
+                addPlacement(state, sx, y, r);
+            } else {
+                int landed = stateIndex(r, sx, landing);
+                visit(landed, state, DROP);
+                addPlacement(landed, sx, landing, r);
+            }
+        }
+    }
+
+    /**
+     * Computes each column's highest filled row.
+     *
+     * @return true if no column has an empty cell below a filled one
+     */
+    private boolean computeColumnTops() {
+        for (int c = 0; c < cols; c++) {
+            columnTops[c] = rows;
+        }
+        long seen = 0;
+        boolean open = true;
+        for (int row = 0; row < rows; row++) {
+            long mask = masks[row];
+            if ((seen & ~mask) != 0) {
+                open = false; // A column filled higher up is empty here
+            }
+            for (long fresh = mask & ~seen; fresh != 0; fresh &= fresh - 1) {
+                columnTops[Long.numberOfTrailingZeros(fresh)] = row;
+            }
+            seen |= mask;
+        }
+        return open;
+    }
+
+    /**
+     * Gets the row where a brick dropped from above the stack comes to rest.
+     */
+    private int landingRow(Shapes shapes, int rotation, int x) {
+        int[] cellX = shapes.cellX[rotation];
+        int[] cellY = shapes.cellY[rotation];
+        int landing = Integer.MAX_VALUE;
+        for (int k = 0; k < cellX.length; k++) {
+            landing = Math.min(landing, columnTops[x + cellX[k]] - 1 - cellY[k]);
+        }
+        return landing;
+    }
+
+    /**
+     * Same rule as {@code MatrixOperations.intersect}: a brick fits if every filled cell
+     * is inside the board and on an empty cell.
+     */
+    private boolean fits(Shapes shapes, int rotation, int x, int y) {
+        int[] cellX = shapes.cellX[rotation];
+        int[] cellY = shapes.cellY[rotation];
+        for (int k = 0; k < cellX.length; k++) {
+            int cx = x + cellX[k];
+            int cy = y + cellY[k];
+            if (cy < 0 || cy >= rows || cx < 0 || cx >= cols || (masks[cy] & (1L << cx)) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int enqueue(int state, int from, Move move, int tail) {
+        if ((visited[state >>> 6] & (1L << state)) != 0) {
+            return tail;
+        }
+        visit(state, from, (byte) move.ordinal());
+        queue[tail] = state;
+        return tail + 1;
+    }
+
+    private void visit(int state, int from, byte move) {
+        visited[state >>> 6] |= 1L << state;
+        parent[state] = from;
+        action[state] = move;
+    }
+
+    private void addPlacement(int state, int x, int y, int rotation) {
+        if (count == placementState.length) {
+            int capacity = count * 2;
+            placementState = Arrays.copyOf(placementState, capacity);
+            placementX = Arrays.copyOf(placementX, capacity);
+            placementY = Arrays.copyOf(placementY, capacity);
+            placementRotation = Arrays.copyOf(placementRotation, capacity);
+        }
+        placementState[count] = state;
+        placementX[count] = x;
+        placementY[count] = y;
+        placementRotation[count] = rotation;
+        count++;
+    }
+
+    /**
+     * Walks back over the soft drops (or straight fall) that end a path,
+     * since the final hard drop covers them.
+     */
+    private int skipTrailingDrops(int state) {
+        while (action[state] == Move.SOFT_DROP.ordinal() || action[state] == DROP) {
+            state = parent[state];
+        }
+        return state;
+    }
+
+    private int stateIndex(int rotation, int x, int y) {
+        return (rotation * strideY + y + MARGIN) * strideX + x + MARGIN;
+    }
+
+    /**
+     * Sizes the reusable buffers for the board and clears the visited bitset.
+     */
+    private void prepareBuffers(int rotations) {
+        strideX = cols + MARGIN;
+        strideY = rows + MARGIN;
+        int states = rotations * strideX * strideY;
+        int words = (states + 63) >>> 6;
+        if (parent.length < states) {
+            visited = new long[words];
+            parent = new int[states];
+            action = new byte[states];
+            queue = new int[states];
+        } else {
+            Arrays.fill(visited, 0, words, 0L);
+        }
+        if (columnTops.length < cols) {
+            columnTops = new int[cols];
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Placement " + index + " of " + count);
+        }
+    }
+}
@@ -0,0 +1,289 @@
+package com.comp2042.game.ai;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache of search results keyed by (board hash, piece, hold), shared by search
+ * worker threads. Different move orders often reach the same board; a hit returns the
+ * stored evaluation and best placement instead of searching the subtree again.
+ *
+ * <p>Entries live in parallel primitive arrays grouped into two-slot buckets. The first
+ * slot of a bucket prefers deep results, the second always takes the newest result, and
+ * entries from earlier searches (see {@link #newSearch()}) are replaced first. Buckets
+ * are guarded by a fixed set of striped locks, and probes copy into a caller-owned
+ * {@link Entry}, so neither probing nor storing allocates.
+ */
+public final class TranspositionTable {
+
+    /** Piece or hold code meaning "none" (BrickType codes are 1-7). */
+    public static final int NO_PIECE = 0;
+
+    /** Default number of entries. */
+    public static final int DEFAULT_CAPACITY = 1 << 16;
+
+    private static final int MAX_CODE = 16;
+    private static final long[] PIECE_KEYS = new long[MAX_CODE];
+    private static final long[] HOLD_KEYS = new long[MAX_CODE];
+
+    static {
+        long seed = 0x5DEECE66DL;
+        for (int i = 0; i < MAX_CODE; i++) {
+            PIECE_KEYS[i] = mix(seed += 0x9E3779B97F4A7C15L);
+            HOLD_KEYS[i] = mix(seed += 0x9E3779B97F4A7C15L);
+        }
+    }
+
+    private final long[] keys;
+    private final long[] values;
+    private final int[] moves;
+    private final byte[] depths;
+    private final int[] ages; // 0 marks an empty slot
+    private final Object[] locks;
+    private final int bucketMask;
+    private final int stripeMask;
+    private final LongAdder probes = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+
+    private volatile int generation = 1;
+
+    /**
+     * Mutable probe result, reused by its owner across probes.
+     */
+    public static final class Entry {
+        private double value;
+        private int move;
+        private int depth;
+
+        /**
+         * Gets the stored evaluation.
+         *
+         * @return the evaluation
+         */
+        public double getValue() {
+            return value;
+        }
+
+        /**
+         * Gets the search depth the evaluation was computed to.
+         *
+         * @return the depth
+         */
+        public int getDepth() {
+            return depth;
+        }
+
+        /**
+         * Gets the best placement's column offset.
+         *
+         * @return the x offset
+         */
+        public int getX() {
+            return (byte) move;
+        }
+
+        /**
+         * Gets the best placement's row offset.
+         *
+         * @return the y offset
+         */
+        public int getY() {
+            return (short) (move >>> 8);
+        }
+
+        /**
+         * Gets the best placement's rotation index.
+         *
+         * @return the rotation index
+         */
+        public int getRotation() {
+            return move >>> 24;
+        }
+    }
+
+    /**
+     * Creates a table with {@link #DEFAULT_CAPACITY} entries and one lock stripe per
+     * 64 buckets.
+     */
+    public TranspositionTable() {
+        this(DEFAULT_CAPACITY, 512);
+    }
+
+    /**
+     * Creates a table.
+     *
+     * @param capacity the number of entries, rounded up to a power of two (at least 2)
+     * @param stripes the number of lock stripes, rounded up to a power of two
+     */
+    public TranspositionTable(int capacity, int stripes) {
+        if (capacity < 2 || stripes < 1) {
+            throw new IllegalArgumentException("Invalid table size " + capacity + " / " + stripes);
+        }
+        int size = powerOfTwoAtLeast(capacity);
+        keys = new long[size];
+        values = new long[size];
+        moves = new int[size];
+        depths = new byte[size];
+        ages = new int[size];
+        bucketMask = size / 2 - 1;
+        int stripeCount = Math.min(powerOfTwoAtLeast(stripes), size / 2);
+        locks = new Object[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            locks[i] = new Object();
+        }
+        stripeMask = stripeCount - 1;
+    }
+
+    /**
+     * Builds the key for a board with a piece to place and a held piece.
+     *
+     * @param boardHash the board's Zobrist hash
+     * @param piece the piece's BrickType code, or {@link #NO_PIECE}
+     * @param hold the held piece's BrickType code, or {@link #NO_PIECE}
+     * @return the table key
+     */
+    public static long key(long boardHash, int piece, int hold) {
+        return boardHash ^ PIECE_KEYS[piece] ^ HOLD_KEYS[hold];
+    }
+
+    /**
+     * Extends a key with a piece that follows, for results that depend on the
+     * preview queue. Order matters: the same pieces in another order give another key.
+     *
+     * @param key the key so far
+     * @param piece the following piece's BrickType code
+     * @return the extended key
+     */
+    public static long followedBy(long key, int piece) {
+        return Long.rotateLeft(key, 17) ^ PIECE_KEYS[piece];
+    }
+
+    /**
+     * Starts a new search generation; entries stored before it are replaced first.
+     */
+    public void newSearch() {
+        int next = generation + 1;
+        generation = next == 0 ? 1 : next;
+    }
+
+    /**
+     * Looks up a key.
+     *
+     * @param key the key
+     * @param out receives the entry on a hit
+     * @return true if the key was found
+     */
+    public boolean probe(long key, Entry out) {
+        probes.increment();
+        int bucket = bucketOf(key);
+        int slot = bucket << 1;
+        synchronized (locks[bucket & stripeMask]) {
+            for (int i = slot; i < slot + 2; i++) {
+                if (ages[i] != 0 && keys[i] == key) {
+                    out.value = Double.longBitsToDouble(values[i]);
+                    out.move = moves[i];
+                    out.depth = depths[i];
+                    hits.increment();
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Stores a result, replacing an entry for the same key or choosing a victim by
+     * age and depth.
+     *
+     * @param key the key
+     * @param depth the depth searched (0-127)
+     * @param value the evaluation
+     * @param x the best placement's column offset
+     * @param y the best placement's row offset
+     * @param rotation the best placement's rotation index
+     */
+    public void store(long key, int depth, double value, int x, int y, int rotation) {
+        int move = (x & 0xFF) | (y & 0xFFFF) << 8 | rotation << 24;
+        int current = generation;
+        int bucket = bucketOf(key);
+        int first = bucket << 1;
+        int second = first + 1;
+        synchronized (locks[bucket & stripeMask]) {
+            int target;
+            if (ages[first] != 0 && keys[first] == key) {
+                target = first;
+            } else if (ages[second] != 0 && keys[second] == key) {
+                target = second;
+            } else if (ages[first] != current) {
+                target = first; // Left over from an earlier search
+            } else if (depth >= depths[first]) {
+                // Demote the depth-preferred entry to the always-replace slot
+                copySlot(first, second);
+                target = first;
+            } else {
+                target = second;
+            }
+            keys[target] = key;
+            values[target] = Double.doubleToRawLongBits(value);
+            moves[target] = move;
+            depths[target] = (byte) depth;
+            ages[target] = current;
+        }
+    }
+
+    /**
+     * Removes every entry.
+     */
+    public void clear() {
+        for (int stripe = 0; stripe < locks.length; stripe++) {
+            synchronized (locks[stripe]) {
+                for (int bucket = stripe; bucket <= bucketMask; bucket += locks.length) {
+                    ages[bucket << 1] = 0;
+                    ages[(bucket << 1) + 1] = 0;
+                }
+            }
+        }
+        probes.reset();
+        hits.reset();
+    }
+
+    /**
+     * Gets the number of entries the table can hold.
+     *
+     * @return the capacity
+     */
+    public int capacity() {
+        return keys.length;
+    }
+
+    /**
+     * Gets the share of probes that hit since creation or the last {@link #clear()}.
+     *
+     * @return the hit ratio, 0 if nothing was probed
+     */
+    public double getHitRatio() {
+        long total = probes.sum();
+        return total == 0 ? 0.0 : (double) hits.sum() / total;
+    }
+
+    private void copySlot(int from, int to) {
+        keys[to] = keys[from];
+        values[to] = values[from];
+        moves[to] = moves[from];
+        depths[to] = depths[from];
+        ages[to] = ages[from];
+    }
+
+    private int bucketOf(long key) {
+        return (int) (key ^ (key >>> 32)) & bucketMask;
+    }
+
+    private static int powerOfTwoAtLeast(int n) {
+        return n <= 1 ? 1 : Integer.highestOneBit(n - 1) << 1;
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
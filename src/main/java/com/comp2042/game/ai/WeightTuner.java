@@ -0,0 +1,453 @@
+package com.comp2042.game.ai;
+
+import com.comp2042.game.save.AtomicFileWriter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * Genetic algorithm that tunes {@link HeuristicWeights} by playing seeded headless games.
+ *
+ * <p>Each generation every candidate plays the same games: the seeds are derived from
+ * the tuner seed and the generation number only (common random numbers), so fitness
+ * differences come from the weights rather than from luckier brick sequences. Every
+ * (candidate, game) pair is an independent task on a {@link ForkJoinPool}, which keeps
+ * all cores busy. Fitness is the mean number of lines cleared within the piece limit.
+ *
+ * <p>Evolution keeps the best tenth of the population, then fills it with children of
+ * tournament-selected parents: a fitness-weighted average of the parents, an
+ * occasional Gaussian mutation of one weight, normalised to unit length (the bot's
+ * choices only depend on the weights' direction).
+ *
+ * <p>After every generation the population is checkpointed with {@link AtomicFileWriter};
+ * a tuner created on an existing checkpoint resumes from it. Random draws are seeded
+ * per generation, so a resumed run continues exactly as an uninterrupted one would.
+ */
+public final class WeightTuner {
+
+    private static final int TOURNAMENT_SIZE = 3;
+    private static final double MUTATION_RATE = 0.5;
+    private static final double MUTATION_SIGMA = 0.2;
+
+    private final int populationSize;
+    private final int gamesPerCandidate;
+    private final int maxPieces;
+    private final long seed;
+    private final Path checkpoint;
+    private final ForkJoinPool pool;
+
+    private double[][] population;
+    private int generation;
+    private HeuristicWeights best;
+    private double bestFitness = Double.NEGATIVE_INFINITY;
+
+    /**
+     * Fitness of one evaluated generation.
+     */
+    public static final class GenerationResult {
+        private final int generation;
+        private final HeuristicWeights best;
+        private final double bestFitness;
+        private final double meanFitness;
+
+        GenerationResult(int generation, HeuristicWeights best, double bestFitness, double meanFitness) {
+            this.generation = generation;
+            this.best = best;
+            this.bestFitness = bestFitness;
+            this.meanFitness = meanFitness;
+        }
+
+        /**
+         * Gets the generation number, starting at 0.
+         *
+         * @return the generation
+         */
+        public int getGeneration() {
+            return generation;
+        }
+
+        /**
+         * Gets the generation's fittest weights.
+         *
+         * @return the best weights
+         */
+        public HeuristicWeights getBest() {
+            return best;
+        }
+
+        /**
+         * Gets the fittest candidate's mean lines cleared.
+         *
+         * @return the best fitness
+         */
+        public double getBestFitness() {
+            return bestFitness;
+        }
+
+        /**
+         * Gets the population's mean fitness.
+         *
+         * @return the mean fitness
+         */
+        public double getMeanFitness() {
+            return meanFitness;
+        }
+    }
+
+    /**
+     * Creates a tuner on the common pool, resuming from the checkpoint if it exists.
+     *
+     * @param populationSize the number of candidates (at least 2)
+     * @param gamesPerCandidate the games each candidate plays per generation
+     * @param maxPieces the piece limit per game
+     * @param seed the seed for the population and the game seeds
+     * @param checkpoint the checkpoint file, or null to run without one
+     * @throws IOException if an existing checkpoint cannot be read
+     */
+    public WeightTuner(int populationSize, int gamesPerCandidate, int maxPieces, long seed, Path checkpoint)
+            throws IOException {
+        this(populationSize, gamesPerCandidate, maxPieces, seed, checkpoint, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a tuner, resuming from the checkpoint if it exists.
+     *
+     * @param populationSize the number of candidates (at least 2)
+     * @param gamesPerCandidate the games each candidate plays per generation
+     * @param maxPieces the piece limit per game
+     * @param seed the seed for the population and the game seeds
+     * @param checkpoint the checkpoint file, or null to run without one
+     * @param pool the pool playing the games
+     * @throws IOException if an existing checkpoint cannot be read
+     */
+    public WeightTuner(int populationSize, int gamesPerCandidate, int maxPieces, long seed, Path checkpoint,
+                       ForkJoinPool pool) throws IOException {
+        if (populationSize < 2 || gamesPerCandidate < 1 || maxPieces < 1) {
+            throw new IllegalArgumentException("Invalid tuner settings");
+        }
+        this.populationSize = populationSize;
+        this.gamesPerCandidate = gamesPerCandidate;
+        this.maxPieces = maxPieces;
+        this.seed = seed;
+        this.checkpoint = checkpoint;
+        this.pool = pool;
+        if (checkpoint != null && Files.exists(checkpoint)) {
+            load(checkpoint);
+        } else {
+            population = initialPopulation();
+        }
+    }
+
+    /**
+     * Runs generations until {@code generations} have been completed in total,
+     * counting any completed before a resume.
+     *
+     * @param generations the total number of generations
+     * @return the fittest weights seen
+     * @throws IOException if a checkpoint cannot be written
+     */
+    public HeuristicWeights run(int generations) throws IOException {
+        return run(generations, result -> { });
+    }
+
+    /**
+     * Runs generations until {@code generations} have been completed in total,
+     * counting any completed before a resume, reporting each one as it finishes.
+     *
+     * @param generations the total number of generations
+     * @param onGeneration receives every evaluated generation's fitness
+     * @return the fittest weights seen
+     * @throws IOException if a checkpoint cannot be written
+     */
+    public HeuristicWeights run(int generations, Consumer<GenerationResult> onGeneration) throws IOException {
+        while (generation < generations) {
+            onGeneration.accept(step());
+        }
+        return best;
+    }
+
+    /**
+     * Evaluates the current population, evolves the next one and writes a checkpoint.
+     *
+     * @return the evaluated generation's fitness
+     * @throws IOException if the checkpoint cannot be written
+     */
+    public GenerationResult step() throws IOException {
+        double[] fitness = evaluate(population, gameSeeds(generation));
+        Integer[] order = new Integer[populationSize];
+        for (int i = 0; i < populationSize; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(fitness[b], fitness[a]));
+
+        HeuristicWeights generationBest = HeuristicWeights.fromArray(population[order[0]]);
+        if (fitness[order[0]] > bestFitness) {
+            bestFitness = fitness[order[0]];
+            best = generationBest;
+        }
+        GenerationResult result = new GenerationResult(generation, generationBest,
+                fitness[order[0]], Arrays.stream(fitness).average().orElse(0));
+
+        population = evolve(population, fitness, order, new SplittableRandom(mix(seed, generation)));
+        generation++;
+        if (checkpoint != null) {
+            save(checkpoint);
+        }
+        return result;
+    }
+
+    /**
+     * Gets the number of completed generations.
+     *
+     * @return the generation count
+     */
+    public int getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Gets the fittest weights seen so far.
+     *
+     * @return the best weights, or null before the first generation
+     */
+    public HeuristicWeights getBest() {
+        return best;
+    }
+
+    /**
+     * Gets a copy of the current population.
+     *
+     * @return the candidates' weights
+     */
+    public List<HeuristicWeights> getPopulation() {
+        List<HeuristicWeights> copy = new ArrayList<>(populationSize);
+        for (double[] candidate : population) {
+            copy.add(HeuristicWeights.fromArray(candidate));
+        }
+        return copy;
+    }
+
+    /**
+     * Plays every candidate on every seed in parallel.
+     */
+    private double[] evaluate(double[][] candidates, long[] seeds) {
+        List<Callable<Integer>> games = new ArrayList<>(candidates.length * seeds.length);
+        for (double[] candidate : candidates) {
+            HeuristicWeights weights = HeuristicWeights.fromArray(candidate);
+            for (long gameSeed : seeds) {
+                games.add(() -> HeadlessBotRunner.run(weights, gameSeed, maxPieces).getLines());
+            }
+        }
+        List<Future<Integer>> results = pool.invokeAll(games);
+        double[] fitness = new double[candidates.length];
+        try {
+            for (int i = 0; i < results.size(); i++) {
+                fitness[i / seeds.length] += results.get(i).get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while evaluating candidates", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Headless game failed", e.getCause());
+        }
+        for (int i = 0; i < fitness.length; i++) {
+            fitness[i] /= seeds.length;
+        }
+        return fitness;
+    }
+
+    /**
+     * Builds the next population from the evaluated one.
+     */
+    private double[][] evolve(double[][] current, double[] fitness, Integer[] order, SplittableRandom random) {
+        double[][] next = new double[populationSize][];
+        int elites = Math.max(1, populationSize / 10);
+        for (int i = 0; i < elites; i++) {
+            next[i] = current[order[i]].clone();
+        }
+        for (int i = elites; i < populationSize; i++) {
+            int a = tournament(fitness, random);
+            int b = tournament(fitness, random);
+            // Weight each parent by its fitness; shift so the weights stay positive
+            double low = Math.min(fitness[a], fitness[b]) - 1;
+            double wa = fitness[a] - low;
+            double wb = fitness[b] - low;
+            double[] child = new double[HeuristicWeights.FEATURE_COUNT];
+            for (int k = 0; k < child.length; k++) {
+                child[k] = (current[a][k] * wa + current[b][k] * wb) / (wa + wb);
+            }
+            if (random.nextDouble() < MUTATION_RATE) {
+                child[random.nextInt(child.length)] += random.nextGaussian() * MUTATION_SIGMA;
+            }
+            next[i] = normalise(child);
+        }
+        return next;
+    }
+
+    private int tournament(double[] fitness, SplittableRandom random) {
+        int winner = random.nextInt(fitness.length);
+        for (int round = 1; round < TOURNAMENT_SIZE; round++) {
+            int challenger = random.nextInt(fitness.length);
+            if (fitness[challenger] > fitness[winner]) {
+                winner = challenger;
+            }
+        }
+        return winner;
+    }
+
+    /**
+     * Starts from the default weights plus random directions around them.
+     */
+    private double[][] initialPopulation() {
+        SplittableRandom random = new SplittableRandom(seed);
+        double[][] initial = new double[populationSize][];
+        initial[0] = normalise(HeuristicWeights.DEFAULT.toArray());
+        for (int i = 1; i < populationSize; i++) {
+            double[] candidate = initial[0].clone();
+            for (int k = 0; k < candidate.length; k++) {
+                candidate[k] += random.nextGaussian() * 0.5;
+            }
+            initial[i] = normalise(candidate);
+        }
+        return initial;
+    }
+
+    /**
+     * Derives the generation's shared game seeds.
+     */
+    private long[] gameSeeds(int gen) {
+        long[] seeds = new long[gamesPerCandidate];
+        for (int i = 0; i < seeds.length; i++) {
+            seeds[i] = mix(seed ^ 0x5EED5EEDL, (long) gen * gamesPerCandidate + i);
+        }
+        return seeds;
+    }
+
+    private static double[] normalise(double[] vector) {
+        double norm = 0;
+        for (double v : vector) {
+            norm += v * v;
+        }
+        norm = Math.sqrt(norm);
+        if (norm == 0) {
+            return vector;
+        }
+        for (int k = 0; k < vector.length; k++) {
+            vector[k] /= norm;
+        }
+        return vector;
+    }
+
+    private static long mix(long a, long b) {
+        long z = a + b * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Writes the tuner state as a properties file, replacing the old checkpoint atomically.
+     */
+    private void save(Path file) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty("seed", Long.toString(seed));
+        properties.setProperty("generation", Integer.toString(generation));
+        properties.setProperty("population", Integer.toString(populationSize));
+        for (int i = 0; i < populationSize; i++) {
+            properties.setProperty("candidate." + i, join(population[i]));
+        }
+        if (best != null) {
+            properties.setProperty("best", join(best.toArray()));
+            properties.setProperty("bestFitness", Double.toString(bestFitness));
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        properties.store(out, "Bot weight tuner checkpoint");
+        AtomicFileWriter.write(file, out.toByteArray());
+    }
+
+    /**
+     * Restores the tuner state from a checkpoint written by {@link #save(Path)}.
+     */
+    private void load(Path file) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            properties.load(in);
+        }
+        if (Long.parseLong(properties.getProperty("seed")) != seed
+                || Integer.parseInt(properties.getProperty("population")) != populationSize) {
+            throw new IOException("Checkpoint " + file + " was written with other settings");
+        }
+        generation = Integer.parseInt(properties.getProperty("generation"));
+        population = new double[populationSize][];
+        for (int i = 0; i < populationSize; i++) {
+            population[i] = parse(properties.getProperty("candidate." + i));
+        }
+        String savedBest = properties.getProperty("best");
+        if (savedBest != null) {
+            best = HeuristicWeights.fromArray(parse(savedBest));
+            bestFitness = Double.parseDouble(properties.getProperty("bestFitness"));
+        }
+    }
+
+    private static String join(double[] values) {
+        StringBuilder builder = new StringBuilder();
+        for (int k = 0; k < values.length; k++) {
+            if (k > 0) {
+                builder.append(',');
+            }
+            builder.append(values[k]);
+        }
+        return builder.toString();
+    }
+
+    private static double[] parse(String text) throws IOException {
+        if (text == null) {
+            throw new IOException("Checkpoint is missing a candidate");
+        }
+        String[] parts = text.split(",");
+        if (parts.length != HeuristicWeights.FEATURE_COUNT) {
+            throw new IOException("Checkpoint candidate has " + parts.length + " weights");
+        }
+        double[] values = new double[parts.length];
+        for (int k = 0; k < parts.length; k++) {
+            values[k] = Double.parseDouble(parts[k]);
+        }
+        return values;
+    }
+
+    /**
+     * Runs the tuner from the command line.
+     * Arguments: generations (default 50), population (default 40), games per candidate
+     * (default 8), piece limit (default 1000), checkpoint file (default tuner.properties).
+     *
+     * @param args optional settings
+     * @throws IOException if the checkpoint cannot be read or written
+     */
+    public static void main(String[] args) throws IOException {
+        int generations = args.length > 0 ? Integer.parseInt(args[0]) : 50;
+        int population = args.length > 1 ? Integer.parseInt(args[1]) : 40;
+        int games = args.length > 2 ? Integer.parseInt(args[2]) : 8;
+        int pieces = args.length > 3 ? Integer.parseInt(args[3]) : 1000;
+        Path checkpoint = Paths.get(args.length > 4 ? args[4] : "tuner.properties");
+        WeightTuner tuner = new WeightTuner(population, games, pieces, 1L, checkpoint,
+                new ForkJoinPool(Runtime.getRuntime().availableProcessors()));
+        HeuristicWeights best = tuner.run(generations, result -> System.out.printf(
+                "generation %d: best=%.1f mean=%.1f %s%n", result.getGeneration(),
+                result.getBestFitness(), result.getMeanFitness(), result.getBest()));
+        System.out.println("best: " + best);
+    }
+}
@@ -0,0 +1,149 @@
+package com.comp2042.game.board;
+
+/**
+ * Size of a board and where its bricks spawn.
+ * Immutable value passed to {@link SimpleBoard} and the renderer so neither hard-codes
+ * the standard playfield.
+ *
+ * <p>The board has {@link #getRows()} rows: {@link #getBufferRows()} hidden rows at the
+ * top, where bricks spawn, above {@link #getVisibleRows()} rows that are drawn.
+ * Spawn coordinates are the offset of the brick's shape matrix, counting the buffer rows.
+ */
+public final class BoardGeometry {
+
+    /** Hidden rows above the playfield when none are specified. */
+    public static final int DEFAULT_BUFFER_ROWS = 2;
+
+    /** Widest supported board; the bot and the environment keep a row in one long. */
+    public static final int MAX_COLUMNS = 64;
+
+    /** The application's standard board: 10 columns, 23 visible rows, spawn at column 4. */
+    public static final BoardGeometry STANDARD = new BoardGeometry(10, 23, DEFAULT_BUFFER_ROWS, 4, 0);
+
+    /** Widest brick, in cells; the spawn column must leave room for one. */
+    public static final int MAX_BRICK_SIZE = 4;
+
+    private final int columns;
+    private final int visibleRows;
+    private final int bufferRows;
+    private final int spawnX;
+    private final int spawnY;
+
+    /**
+     * Creates a geometry.
+     *
+     * @param columns the board width, 4 to {@link #MAX_COLUMNS}
+     * @param visibleRows the rows drawn on screen, at least 1
+     * @param bufferRows the hidden rows above them, at least 0
+     * @param spawnX the column offset new bricks spawn at
+     * @param spawnY the row offset new bricks spawn at, counting the buffer rows
+     * @throws IllegalArgumentException if the board is out of range or a brick cannot spawn inside it
+     */
+    public BoardGeometry(int columns, int visibleRows, int bufferRows, int spawnX, int spawnY) {
+        if (columns < MAX_BRICK_SIZE || columns > MAX_COLUMNS) {
+            throw new IllegalArgumentException("Columns must be between " + MAX_BRICK_SIZE + " and " + MAX_COLUMNS);
+        }
+        if (visibleRows < 1 || bufferRows < 0) {
+            throw new IllegalArgumentException("Need at least one visible row and no negative buffer rows");
+        }
+        if (spawnX < 0 || spawnX > columns - MAX_BRICK_SIZE || spawnY < 0 || spawnY >= visibleRows + bufferRows) {
+            throw new IllegalArgumentException("Spawn point (" + spawnX + ", " + spawnY + ") is outside the board");
+        }
+        this.columns = columns;
+        this.visibleRows = visibleRows;
+        this.bufferRows = bufferRows;
+        this.spawnX = spawnX;
+        this.spawnY = spawnY;
+    }
+
+    /**
+     * Creates a geometry that spawns bricks at the top, centred the way the standard
+     * board is (column 4 of 10), or as far right as a 4-wide brick fits on narrow boards.
+     *
+     * @param columns the board width
+     * @param visibleRows the rows drawn on screen
+     * @param bufferRows the hidden rows above them
+     * @return the geometry
+     * @throws IllegalArgumentException if the board is out of range
+     */
+    public static BoardGeometry centered(int columns, int visibleRows, int bufferRows) {
+        return new BoardGeometry(columns, visibleRows, bufferRows,
+                Math.min(columns / 2 - 1, columns - MAX_BRICK_SIZE), 0);
+    }
+
+    /**
+     * Gets the board width.
+     *
+     * @return the number of columns
+     */
+    public int getColumns() {
+        return columns;
+    }
+
+    /**
+     * Gets the number of rows drawn on screen.
+     *
+     * @return the visible rows
+     */
+    public int getVisibleRows() {
+        return visibleRows;
+    }
+
+    /**
+     * Gets the number of hidden rows above the visible ones.
+     *
+     * @return the buffer rows
+     */
+    public int getBufferRows() {
+        return bufferRows;
+    }
+
+    /**
+     * Gets the total board height.
+     *
+     * @return visible plus buffer rows
+     */
+    public int getRows() {
+        return visibleRows + bufferRows;
+    }
+
+    /**
+     * Gets the column offset new bricks spawn at.
+     *
+     * @return the spawn column
+     */
+    public int getSpawnX() {
+        return spawnX;
+    }
+
+    /**
+     * Gets the row offset new bricks spawn at.
+     *
+     * @return the spawn row, counting the buffer rows
+     */
+    public int getSpawnY() {
+        return spawnY;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof BoardGeometry other)) {
+            return false;
+        }
+        return columns == other.columns && visibleRows == other.visibleRows && bufferRows == other.bufferRows
+                && spawnX == other.spawnX && spawnY == other.spawnY;
+    }
+
+    @Override
+    public int hashCode() {
+        return ((((columns * 31) + visibleRows) * 31 + bufferRows) * 31 + spawnX) * 31 + spawnY;
+    }
+
+    @Override
+    public String toString() {
+        return columns + "x" + visibleRows + "+" + bufferRows + " spawn (" + spawnX + ", " + spawnY + ")";
+    }
+}
@@ -0,0 +1,20 @@
+package com.comp2042.game.board;
+
+import com.comp2042.game.data.ClearRow;
+
+/**
+ * Callback for a brick locking into a {@link SimpleBoard}, invoked once the full rows
+ * are cleared and before the next brick spawns. Versus matches use it to send and
+ * receive garbage.
+ */
+@FunctionalInterface
+public interface LockListener {
+
+    /**
+     * Called after a lock's rows are cleared.
+     *
+     * @param board the board the brick locked into
+     * @param clearRow the rows cleared by the lock (possibly none)
+     */
+    void onLock(SimpleBoard board, ClearRow clearRow);
+}
@@ -1,6 +1,7 @@
 package com.comp2042.game.board;
 
 import com.comp2042.game.data.ViewData;
+import com.comp2042.game.operations.RotationDirection;
 
 /**
  * Interface for board movement operations.
@@ -27,10 +28,17 @@ public interface MovableBoard {
     boolean moveBrickRight();
     
     /**
-     * Rotates the current brick left (counter-clockwise).
+     * Rotates the current brick to the next shape in its rotation list.
      * @return true if the rotation was successful, false if blocked
      */
     boolean rotateLeftBrick();
+
+    /**
+     * Rotates the current brick, trying the rotation system's kick offsets in order.
+     * @param direction the rotation direction
+     * @return true if the rotation was successful, false if every offset was blocked
+     */
+    boolean rotateBrick(RotationDirection direction);
     
     /**
      * Gets the current view data including brick position and shape.
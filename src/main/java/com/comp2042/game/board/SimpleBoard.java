@@ -2,22 +2,33 @@ package com.comp2042.game.board;
 
 import com.comp2042.game.bricks.Brick;
 import com.comp2042.game.bricks.BrickGenerator;
+import com.comp2042.game.bricks.BrickType;
 import com.comp2042.game.bricks.BrickGeneratorFactory;
 import com.comp2042.game.bricks.RandomBrickGenerator;
 import com.comp2042.game.operations.BrickRotator;
 import com.comp2042.game.operations.MatrixOperations;
+import com.comp2042.game.operations.RotationDirection;
+import com.comp2042.game.operations.RotationSystem;
+import com.comp2042.game.operations.SrsRotationSystem;
 import com.comp2042.game.data.ViewData;
 import com.comp2042.game.data.ClearRow;
 import com.comp2042.game.data.NextShapeInfo;
 import com.comp2042.game.data.BoardStateSnapshot;
+import com.comp2042.game.score.DefaultScoringEngine;
+import com.comp2042.game.score.LockAction;
+import com.comp2042.game.score.LockEvent;
+import com.comp2042.game.score.LockScore;
 import com.comp2042.game.score.Score;
-import com.comp2042.game.score.HighScoreManager;
+import com.comp2042.game.score.ScoringEngine;
 import com.comp2042.game.level.LinesClearedTracker;
 import com.comp2042.game.level.LevelManager;
 import com.comp2042.game.level.LevelStrategy;
 import com.comp2042.game.level.DefaultLevelStrategy;
+import com.comp2042.game.telemetry.GameEvents;
 
 import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Concrete board implementation.
@@ -26,49 +37,113 @@ import java.awt.*;
  */
 public class SimpleBoard implements Board {
 
+    /** Cell value of garbage rows received in versus play. */
+    public static final int GARBAGE_CELL = 8;
+
+    private final BoardGeometry geometry;
     private final int width;
     private final int height;
     private final BrickGenerator brickGenerator; // Depends on interface, not concrete class
     private final BrickRotator brickRotator;
+    private final RotationSystem rotationSystem;
     private int[][] currentGameMatrix;
     private Point currentOffset;
     private final Score score;
     private final LinesClearedTracker linesTracker;
     private final LevelManager levelManager;
-    private final HighScoreManager highScoreManager;
     private Brick heldBrick; // The brick currently held by the player
+    private LockListener lockListener;
+    private ScoringEngine scoringEngine = DefaultScoringEngine.STANDARD;
+    private LockAction lastAction = LockAction.MOVE;
+    private int combo; // Locks in a row that have cleared rows
+    private boolean backToBack; // Whether the last clear was a difficult one
 
     /**
      * Creates a new SimpleBoard with the specified dimensions.
      * Uses Factory pattern to create brick generator - generator is created
      * through factory rather than directly instantiated, following Dependency Inversion.
      * 
-     * @param width the board width
-     * @param height the board height
+     * @param width the number of rows, including {@link BoardGeometry#DEFAULT_BUFFER_ROWS} hidden ones
+     * @param height the number of columns
      */
     public SimpleBoard(int width, int height) {
-        this.width = width;
-        this.height = height;
+        this(width, height, BrickGeneratorFactory.createDefault());
+    }
+
+    /**
+     * Creates a new SimpleBoard with the specified dimensions and brick generator.
+     * Used with seeded generators for reproducible bot runs.
+     * 
+     * @param width the number of rows, including {@link BoardGeometry#DEFAULT_BUFFER_ROWS} hidden ones
+     * @param height the number of columns
+     * @param brickGenerator the generator supplying bricks
+     */
+    public SimpleBoard(int width, int height, BrickGenerator brickGenerator) {
+        this(width, height, brickGenerator, new SrsRotationSystem());
+    }
+
+    /**
+     * Creates a new SimpleBoard with the specified dimensions, brick generator and
+     * rotation system. Bricks spawn at column 4 of the top row.
+     *
+     * @param width the number of rows, including {@link BoardGeometry#DEFAULT_BUFFER_ROWS} hidden ones
+     * @param height the number of columns
+     * @param brickGenerator the generator supplying bricks
+     * @param rotationSystem decides which kick offsets a rotation may use
+     */
+    public SimpleBoard(int width, int height, BrickGenerator brickGenerator, RotationSystem rotationSystem) {
+        this(legacyGeometry(width, height), brickGenerator, rotationSystem);
+    }
+
+    /**
+     * Creates a new SimpleBoard with the given geometry and the default brick generator.
+     *
+     * @param geometry the board size and spawn point
+     */
+    public SimpleBoard(BoardGeometry geometry) {
+        this(geometry, BrickGeneratorFactory.createDefault(), new SrsRotationSystem());
+    }
+
+    /**
+     * Creates a new SimpleBoard with the given geometry, brick generator and rotation system.
+     *
+     * @param geometry the board size and spawn point
+     * @param brickGenerator the generator supplying bricks
+     * @param rotationSystem decides which kick offsets a rotation may use
+     */
+    public SimpleBoard(BoardGeometry geometry, BrickGenerator brickGenerator, RotationSystem rotationSystem) {
+        this.geometry = geometry;
+        this.width = geometry.getRows();
+        this.height = geometry.getColumns();
         currentGameMatrix = new int[width][height];
-        brickGenerator = BrickGeneratorFactory.createDefault();
+        this.brickGenerator = brickGenerator;
         brickRotator = new BrickRotator();
+        this.rotationSystem = rotationSystem;
         score = new Score();
         linesTracker = new LinesClearedTracker();
         LevelStrategy levelStrategy = new DefaultLevelStrategy();
         levelManager = new LevelManager(linesTracker, levelStrategy);
-        highScoreManager = new HighScoreManager(score);
+    }
+
+    /**
+     * Describes a board given as rows and columns the way the original constructors did.
+     */
+    private static BoardGeometry legacyGeometry(int rows, int columns) {
+        int bufferRows = Math.min(BoardGeometry.DEFAULT_BUFFER_ROWS, rows - 1);
+        int spawnX = Math.min(4, columns - 4);
+        return new BoardGeometry(columns, rows - bufferRows, bufferRows, spawnX, 0);
     }
 
     @Override
     public boolean moveBrickDown() {
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
         Point p = new Point(currentOffset);
         p.translate(0, 1);
-        boolean conflict = MatrixOperations.intersect(currentMatrix, brickRotator.getCurrentShape(), (int) p.getX(), (int) p.getY());
+        boolean conflict = MatrixOperations.intersect(currentGameMatrix, brickRotator.getCurrentShape(), (int) p.getX(), (int) p.getY());
         if (conflict) {
             return false;
         } else {
             currentOffset = p;
+            lastAction = LockAction.MOVE;
             return true;
         }
     }
@@ -76,51 +151,88 @@ public class SimpleBoard implements Board {
 
     @Override
     public boolean moveBrickLeft() {
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
         Point p = new Point(currentOffset);
         p.translate(-1, 0);
-        boolean conflict = MatrixOperations.intersect(currentMatrix, brickRotator.getCurrentShape(), (int) p.getX(), (int) p.getY());
+        boolean conflict = MatrixOperations.intersect(currentGameMatrix, brickRotator.getCurrentShape(), (int) p.getX(), (int) p.getY());
         if (conflict) {
             return false;
         } else {
             currentOffset = p;
+            lastAction = LockAction.MOVE;
             return true;
         }
     }
 
     @Override
     public boolean moveBrickRight() {
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
         Point p = new Point(currentOffset);
         p.translate(1, 0);
-        boolean conflict = MatrixOperations.intersect(currentMatrix, brickRotator.getCurrentShape(), (int) p.getX(), (int) p.getY());
+        boolean conflict = MatrixOperations.intersect(currentGameMatrix, brickRotator.getCurrentShape(), (int) p.getX(), (int) p.getY());
         if (conflict) {
             return false;
         } else {
             currentOffset = p;
+            lastAction = LockAction.MOVE;
             return true;
         }
     }
 
     @Override
     public boolean rotateLeftBrick() {
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
-        NextShapeInfo nextShape = brickRotator.getNextShape();
-        boolean conflict = MatrixOperations.intersect(currentMatrix, nextShape.getShape(), (int) currentOffset.getX(), (int) currentOffset.getY());
-        if (conflict) {
-            return false;
-        } else {
-            brickRotator.setCurrentShape(nextShape.getPosition());
-            return true;
+        int from = brickRotator.getCurrentShapeIndex();
+        int to = (from + 1) % brickRotator.getBrick().getShapeMatrix().size();
+        BrickType type = brickRotator.getBrickType();
+        return rotateTo(to, (type.getOrientation(to) - type.getOrientation(from)) & 3);
+    }
+
+    @Override
+    public boolean rotateBrick(RotationDirection direction) {
+        int turns = direction.getQuarterTurns();
+        return rotateTo(brickRotator.getBrickType().rotationAfter(brickRotator.getCurrentShapeIndex(), turns), turns);
+    }
+
+    /**
+     * Rotates to a shape, trying the rotation system's kick offsets in order.
+     */
+    private boolean rotateTo(int to, int quarterTurns) {
+        BrickType type = brickRotator.getBrickType();
+        int[][] shape = brickRotator.getBrick().getShapeMatrix().get(to);
+        int from = type.getOrientation(brickRotator.getCurrentShapeIndex());
+        for (int[] kick : rotationSystem.getKicks(type, from, quarterTurns)) {
+            int x = currentOffset.x + kick[0];
+            int y = currentOffset.y + kick[1];
+            if (!MatrixOperations.intersect(currentGameMatrix, shape, x, y)) {
+                brickRotator.setCurrentShape(to);
+                currentOffset = new Point(x, y);
+                lastAction = Math.abs(kick[0]) == 1 && Math.abs(kick[1]) == 2 ? LockAction.FAR_KICK : LockAction.ROTATE;
+                return true;
+            }
         }
+        return false;
     }
 
     @Override
     public boolean trySpawnNewBrick() {
         Brick currentBrick = brickGenerator.getBrick();
         brickRotator.setBrick(currentBrick);
-        currentOffset = new Point(4, 0); // Spawn at top (Y=0), center horizontally (X=4)
-        return MatrixOperations.intersect(currentGameMatrix, brickRotator.getCurrentShape(), (int) currentOffset.getX(), (int) currentOffset.getY());
+        currentOffset = spawnPoint();
+        lastAction = LockAction.MOVE;
+        boolean blocked = MatrixOperations.intersect(currentGameMatrix, brickRotator.getCurrentShape(), (int) currentOffset.getX(), (int) currentOffset.getY());
+        GameEvents.spawned(brickRotator.getBrickType().getCode(), blocked);
+        return blocked;
+    }
+
+    private Point spawnPoint() {
+        return new Point(geometry.getSpawnX(), geometry.getSpawnY());
+    }
+
+    /**
+     * Gets the board's size and spawn point.
+     *
+     * @return the geometry
+     */
+    public BoardGeometry getGeometry() {
+        return geometry;
     }
 
     @Override
@@ -147,22 +259,39 @@ public class SimpleBoard implements Board {
 
     /**
      * Finds the Y position where the piece would land if dropped.
-     * Simulates the piece falling down until collision is detected.
+     * Uses the column-wise drop distance rather than testing every row.
      * 
      * @param startX the starting X position
      * @param startY the starting Y position
      * @return the final Y position where the piece lands
      */
     private int findDropY(int startX, int startY) {
-        int[][] shape = brickRotator.getCurrentShape();
-        int ghostY = startY;
-        
-        // Loop downward until collision detected
-        while (!MatrixOperations.intersect(currentGameMatrix, shape, startX, ghostY + 1)) {
-            ghostY++;
+        return startY + MatrixOperations.dropDistance(currentGameMatrix, brickRotator.getCurrentShape(), startX, startY);
+    }
+
+    /**
+     * Gets how many rows the active brick can fall before landing.
+     *
+     * @return the drop distance, 0 if the brick is resting on the stack or floor
+     */
+    public int getDropDistance() {
+        return MatrixOperations.dropDistance(currentGameMatrix, brickRotator.getCurrentShape(),
+                currentOffset.x, currentOffset.y);
+    }
+
+    /**
+     * Moves the active brick down several rows at once, stopping where it lands.
+     *
+     * @param rows the rows to fall
+     * @return the rows actually fallen
+     */
+    public int dropBrick(int rows) {
+        int fallen = Math.min(rows, getDropDistance());
+        if (fallen > 0) {
+            currentOffset = new Point(currentOffset.x, currentOffset.y + fallen);
+            lastAction = LockAction.MOVE;
         }
-        
-        return ghostY;
+        return fallen;
     }
 
     @Override
@@ -170,19 +299,202 @@ public class SimpleBoard implements Board {
         currentGameMatrix = MatrixOperations.merge(currentGameMatrix, brickRotator.getCurrentShape(), (int) currentOffset.getX(), (int) currentOffset.getY());
     }
 
+    /**
+     * {@inheritDoc}
+     * The clear's score bonus is what the {@link ScoringEngine} awards the lock,
+     * before the level multiplier; a spin can score without clearing anything.
+     */
     @Override
     public ClearRow clearRows() {
+        boolean active = currentOffset != null;
+        int corners = active ? occupiedCorners() : 0;
         ClearRow clearRow = MatrixOperations.checkRemoving(currentGameMatrix);
         currentGameMatrix = clearRow.getNewMatrix();
+        int lines = clearRow.getLinesRemoved();
+        LockScore lockScore = scoringEngine.score(new LockEvent(lines, active ? brickRotator.getBrickType() : null,
+                lastAction, corners, combo, backToBack));
+        if (lines > 0) {
+            combo++;
+            backToBack = lockScore.isDifficult();
+        } else {
+            combo = 0;
+        }
+        clearRow = clearRow.withScore(lockScore.getPoints(), lockScore.getSpin());
+        if (lockListener != null) {
+            lockListener.onLock(this, clearRow);
+        }
         return clearRow;
 
     }
 
+    /**
+     * Finds which corners of the 3x3 box around the active brick's centre are
+     * filled, relative to the way the brick points. Walls and floor count as
+     * filled. Every T shape has its centre at row 1, column 1.
+     */
+    private int occupiedCorners() {
+        int top = currentOffset.y;
+        int left = currentOffset.x;
+        int boardCorners = filled(top, left) | filled(top, left + 2) << 1
+                | filled(top + 2, left + 2) << 2 | filled(top + 2, left) << 3;
+        return LockEvent.relativeCorners(boardCorners,
+                brickRotator.getBrickType().getOrientation(brickRotator.getCurrentShapeIndex()));
+    }
+
+    private int filled(int row, int col) {
+        if (row < 0) {
+            return 0;
+        }
+        if (row >= currentGameMatrix.length || col < 0 || col >= currentGameMatrix[row].length) {
+            return 1;
+        }
+        return currentGameMatrix[row][col] != 0 ? 1 : 0;
+    }
+
+    /**
+     * Replaces the rules that turn locks into points.
+     *
+     * @param scoringEngine the scoring engine
+     */
+    public void setScoringEngine(ScoringEngine scoringEngine) {
+        this.scoringEngine = scoringEngine;
+    }
+
+    /**
+     * Gets the rules that turn locks into points.
+     *
+     * @return the scoring engine
+     */
+    public ScoringEngine getScoringEngine() {
+        return scoringEngine;
+    }
+
+    /**
+     * Sets the callback run after every lock's rows are cleared.
+     *
+     * @param lockListener the listener, or null for none
+     */
+    public void setLockListener(LockListener lockListener) {
+        this.lockListener = lockListener;
+    }
+
+    /**
+     * Pushes garbage rows in from the bottom, shifting the stack up. The rows are
+     * filled with {@link #GARBAGE_CELL} apart from one hole. If the active brick then
+     * overlaps the stack it is pushed up with it, as far as it can go.
+     *
+     * @param count the rows to add
+     * @param holeColumn the empty column of the new rows
+     * @return true if the stack was pushed off the top of the board, which loses the game
+     */
+    public boolean addGarbageRows(int count, int holeColumn) {
+        boolean overflow = MatrixOperations.insertGarbage(currentGameMatrix, count, holeColumn, GARBAGE_CELL);
+        if (currentOffset != null) {
+            int[][] shape = brickRotator.getCurrentShape();
+            int lifted = 0;
+            while (lifted < count && currentOffset.y - lifted > 0
+                    && MatrixOperations.intersect(currentGameMatrix, shape, currentOffset.x, currentOffset.y - lifted)) {
+                lifted++;
+            }
+            if (lifted > 0) {
+                currentOffset = new Point(currentOffset.x, currentOffset.y - lifted);
+            }
+        }
+        return overflow;
+    }
+
     @Override
     public Score getScore() {
         return score;
     }
     
+    /**
+     * Gets the active brick.
+     *
+     * @return the brick currently being placed
+     */
+    public Brick getCurrentBrick() {
+        return brickRotator.getBrick();
+    }
+
+    /**
+     * Gets the type of the active brick, identified once per brick.
+     *
+     * @return the active brick's type
+     */
+    public BrickType getCurrentBrickType() {
+        return brickRotator.getBrickType();
+    }
+
+    /**
+     * Gets a number that changes whenever a new brick becomes active (spawn, hold or
+     * restore), even if it is the same brick instance as before.
+     *
+     * @return the active brick's serial number
+     */
+    public long getBrickSerial() {
+        return brickRotator.getSerial();
+    }
+
+    /**
+     * Gets the active brick's rotation index.
+     *
+     * @return the index into the brick's rotation list
+     */
+    public int getCurrentRotation() {
+        return brickRotator.getCurrentShapeIndex();
+    }
+
+    /**
+     * Gets the active brick's position.
+     *
+     * @return a copy of the brick's offset (x = column, y = row)
+     */
+    public Point getCurrentOffset() {
+        return new Point(currentOffset);
+    }
+
+    /**
+     * Gets the active brick's column without copying its position.
+     *
+     * @return the x offset of the brick's shape matrix
+     */
+    public int getCurrentX() {
+        return currentOffset.x;
+    }
+
+    /**
+     * Gets the rotation system deciding which kicks rotations may use.
+     *
+     * @return the rotation system
+     */
+    public RotationSystem getRotationSystem() {
+        return rotationSystem;
+    }
+
+    /**
+     * Gets the held brick.
+     *
+     * @return the brick in the hold slot, or null if the slot is empty
+     */
+    public Brick getHeldBrick() {
+        return heldBrick;
+    }
+
+    /**
+     * Gets the upcoming bricks in the order they will spawn.
+     * Generators exposing their queue show all of it; others show the next brick only.
+     *
+     * @return the known upcoming bricks, possibly empty
+     */
+    public List<Brick> getPreviewBricks() {
+        if (brickGenerator instanceof RandomBrickGenerator generator) {
+            return new ArrayList<>(generator.copyQueue());
+        }
+        Brick next = brickGenerator.getNextBrick();
+        return next != null ? List.of(next) : List.of();
+    }
+
     /**
      * Gets the lines cleared tracker.
      * 
@@ -200,15 +512,6 @@ public class SimpleBoard implements Board {
     public LevelManager getLevelManager() {
         return levelManager;
     }
-    
-    /**
-     * Gets the high score manager.
-     * 
-     * @return the HighScoreManager
-     */
-    public HighScoreManager getHighScoreManager() {
-        return highScoreManager;
-    }
 
 
     @Override
@@ -217,8 +520,9 @@ public class SimpleBoard implements Board {
         score.reset();
         linesTracker.reset();
         levelManager.reset();
-        highScoreManager.resetNewHighScoreFlag();
         heldBrick = null; // Clear held brick on new game
+        combo = 0;
+        backToBack = false;
         trySpawnNewBrick();
     }
 
@@ -227,6 +531,7 @@ public class SimpleBoard implements Board {
         // Get the current brick before swapping
         Brick currentBrick = brickRotator.getBrick();
 
+        GameEvents.held(brickRotator.getBrickType().getCode(), heldBrick != null);
         if (heldBrick == null) {
             // No brick held - store current brick and spawn new one
             heldBrick = currentBrick;
@@ -236,7 +541,8 @@ public class SimpleBoard implements Board {
             Brick tempBrick = heldBrick;
             heldBrick = currentBrick;
             brickRotator.setBrick(tempBrick);
-            currentOffset = new Point(4, 0); // Reset position to spawn point
+            currentOffset = spawnPoint();
+            lastAction = LockAction.MOVE;
         }
 
         return getViewData();
@@ -261,7 +567,10 @@ public class SimpleBoard implements Board {
             queueSnapshot,
             score.get(),
             linesTracker.getTotalLines(),
-            levelManager.getCurrentLevel()
+            levelManager.getCurrentLevel(),
+            combo,
+            backToBack,
+            lastAction
         );
     }
 
@@ -285,6 +594,9 @@ public class SimpleBoard implements Board {
         score.set(snapshot.getScore());
         linesTracker.setTotalLines(snapshot.getTotalLines());
         levelManager.setLevel(snapshot.getLevel());
+        combo = snapshot.getCombo();
+        backToBack = snapshot.isBackToBack();
+        lastAction = snapshot.getLastAction();
         return getViewData();
     }
 }
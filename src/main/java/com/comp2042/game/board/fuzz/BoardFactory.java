@@ -0,0 +1,20 @@
+package com.comp2042.game.board.fuzz;
+
+import com.comp2042.game.board.Board;
+import com.comp2042.game.bricks.BrickGenerator;
+
+/**
+ * Builds a fresh board for one fuzzed game.
+ */
+@FunctionalInterface
+public interface BoardFactory {
+
+    /**
+     * Creates a board that takes its bricks from a generator. The board must not spawn
+     * a brick yet; the fuzzer spawns the first one.
+     *
+     * @param generator the generator, seeded the same for both boards of a game
+     * @return the new board
+     */
+    Board create(BrickGenerator generator);
+}
@@ -0,0 +1,401 @@
+package com.comp2042.game.board.fuzz;
+
+import com.comp2042.game.board.Board;
+import com.comp2042.game.board.BoardGeometry;
+import com.comp2042.game.board.SimpleBoard;
+import com.comp2042.game.bricks.BrickGeneratorFactory;
+import com.comp2042.game.controller.HeadlessGameView;
+import com.comp2042.game.controller.commands.BrickLanding;
+import com.comp2042.game.data.ClearRow;
+import com.comp2042.game.data.ViewData;
+import com.comp2042.game.operations.RotationDirection;
+import com.comp2042.game.operations.SrsRotationSystem;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Differential fuzzer for board engines. Plays random, seeded games on a reference
+ * board and a candidate board in lockstep, and after every action compares what the
+ * action returned, any {@link ClearRow}, the board matrix, the {@link ViewData}, the
+ * score and, for {@link SimpleBoard}s, the lines and level. Bricks lock through
+ * {@link BrickLanding}, the game's own landing path. A game is fully determined by
+ * its seed and its actions, so a mismatch can be replayed; the first one found is
+ * shrunk to a minimal sequence of actions that still shows it.
+ *
+ * <p>Games run in parallel, one per task, each on fresh boards. Until a second engine
+ * exists the command line fuzzes {@link SimpleBoard} against itself, which still
+ * catches hidden nondeterminism.
+ */
+public final class BoardFuzzer {
+
+    /** Actions played per fuzzed game. */
+    public static final int DEFAULT_GAME_LENGTH = 500;
+
+    /** Actions drawn from, with the common ones repeated to weight them. */
+    private static final FuzzAction[] WEIGHTED_ACTIONS = {
+            FuzzAction.LEFT, FuzzAction.LEFT, FuzzAction.LEFT,
+            FuzzAction.RIGHT, FuzzAction.RIGHT, FuzzAction.RIGHT,
+            FuzzAction.DOWN, FuzzAction.DOWN, FuzzAction.DOWN,
+            FuzzAction.ROTATE,
+            FuzzAction.ROTATE_CLOCKWISE, FuzzAction.ROTATE_CLOCKWISE,
+            FuzzAction.ROTATE_COUNTER_CLOCKWISE, FuzzAction.ROTATE_COUNTER_CLOCKWISE,
+            FuzzAction.ROTATE_180,
+            FuzzAction.HOLD,
+            FuzzAction.HARD_DROP, FuzzAction.HARD_DROP
+    };
+
+    private final BoardFactory reference;
+    private final BoardFactory candidate;
+    private final int gameLength;
+
+    /**
+     * Creates a fuzzer.
+     *
+     * @param reference builds the board taken as correct
+     * @param candidate builds the board checked against it
+     * @param gameLength actions per game
+     */
+    public BoardFuzzer(BoardFactory reference, BoardFactory candidate, int gameLength) {
+        if (gameLength <= 0) {
+            throw new IllegalArgumentException("Game length must be positive: " + gameLength);
+        }
+        this.reference = reference;
+        this.candidate = candidate;
+        this.gameLength = gameLength;
+    }
+
+    /**
+     * Outcome of a fuzzing run.
+     */
+    public static final class Result {
+        private final long games;
+        private final long steps;
+        private final long elapsedNanos;
+        private final Mismatch mismatch;
+
+        Result(long games, long steps, long elapsedNanos, Mismatch mismatch) {
+            this.games = games;
+            this.steps = steps;
+            this.elapsedNanos = elapsedNanos;
+            this.mismatch = mismatch;
+        }
+
+        /**
+         * Gets the games played to the end or to a mismatch.
+         *
+         * @return games
+         */
+        public long getGames() {
+            return games;
+        }
+
+        /**
+         * Gets the actions played on both boards.
+         *
+         * @return steps
+         */
+        public long getSteps() {
+            return steps;
+        }
+
+        /**
+         * Gets the steps played per minute of wall time.
+         *
+         * @return steps per minute
+         */
+        public double getStepsPerMinute() {
+            return elapsedNanos > 0 ? steps * 60e9 / elapsedNanos : 0;
+        }
+
+        /**
+         * Gets the first mismatch found, shrunk.
+         *
+         * @return the mismatch, or null if the boards always agreed
+         */
+        public Mismatch getMismatch() {
+            return mismatch;
+        }
+    }
+
+    /**
+     * Plays games with consecutive seeds until a limit is reached or the boards
+     * disagree, then shrinks the first disagreement.
+     *
+     * @param firstSeed the seed of the first game
+     * @param maxGames the most games to play
+     * @param maxMillis the most wall time to spend before shrinking
+     * @param threads games played at once
+     * @return the run's outcome
+     */
+    public Result fuzz(long firstSeed, long maxGames, long maxMillis, int threads) {
+        long start = System.nanoTime();
+        long deadline = start + maxMillis * 1_000_000L;
+        AtomicLong nextGame = new AtomicLong();
+        LongAdder games = new LongAdder();
+        LongAdder steps = new LongAdder();
+        AtomicReference<Mismatch> found = new AtomicReference<>();
+        Callable<Void> worker = () -> {
+            long game;
+            while (found.get() == null && System.nanoTime() < deadline
+                    && (game = nextGame.getAndIncrement()) < maxGames) {
+                long seed = firstSeed + game;
+                Mismatch mismatch = play(seed, generate(seed));
+                games.increment();
+                steps.add(mismatch != null ? mismatch.getStep() + 1 : gameLength);
+                if (mismatch != null) {
+                    found.compareAndSet(null, mismatch);
+                }
+            }
+            return null;
+        };
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Void>> running = new ArrayList<>(threads);
+            for (int i = 0; i < threads; i++) {
+                running.add(pool.submit(worker));
+            }
+            for (Future<Void> future : running) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while fuzzing", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Fuzzed game failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+        long elapsed = System.nanoTime() - start;
+        Mismatch mismatch = found.get();
+        return new Result(games.sum(), steps.sum(), elapsed, mismatch != null ? shrink(mismatch) : null);
+    }
+
+    /**
+     * Draws a game's actions from its seed.
+     *
+     * @param seed the game's seed
+     * @return the actions
+     */
+    public FuzzAction[] generate(long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        FuzzAction[] actions = new FuzzAction[gameLength];
+        for (int i = 0; i < actions.length; i++) {
+            actions[i] = WEIGHTED_ACTIONS[random.nextInt(WEIGHTED_ACTIONS.length)];
+        }
+        return actions;
+    }
+
+    /**
+     * Plays a game on fresh boards, stopping at the first difference.
+     *
+     * @param seed the seed dealing the bricks
+     * @param actions the actions to play
+     * @return the first difference, or null if the boards agreed throughout
+     */
+    public Mismatch play(long seed, FuzzAction[] actions) {
+        Board expected = reference.create(BrickGeneratorFactory.create(BrickGeneratorFactory.GeneratorType.RANDOM, seed));
+        Board actual = candidate.create(BrickGeneratorFactory.create(BrickGeneratorFactory.GeneratorType.RANDOM, seed));
+        String difference = compare(expected.trySpawnNewBrick(), actual.trySpawnNewBrick(), null, null,
+                expected, actual);
+        if (difference != null) {
+            return new Mismatch(seed, List.of(actions[0]), 0, "first spawn: " + difference);
+        }
+        Outcome expectedOutcome = new Outcome();
+        Outcome actualOutcome = new Outcome();
+        for (int step = 0; step < actions.length; step++) {
+            apply(expected, actions[step], expectedOutcome);
+            apply(actual, actions[step], actualOutcome);
+            difference = compare(expectedOutcome.result, actualOutcome.result,
+                    expectedOutcome.clearRow, actualOutcome.clearRow, expected, actual);
+            if (difference != null) {
+                return new Mismatch(seed, Arrays.asList(actions).subList(0, step + 1), step, difference);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Shrinks a mismatch by removing runs of actions, halving the run length whenever
+     * no run can go, until no single action can be removed. Every removal is replayed
+     * and kept only if the boards still disagree.
+     *
+     * @param mismatch the mismatch to shrink
+     * @return a mismatch with no action left to remove
+     */
+    public Mismatch shrink(Mismatch mismatch) {
+        long seed = mismatch.getSeed();
+        Mismatch smallest = mismatch;
+        int run = Math.max(1, smallest.getActions().size() / 2);
+        while (true) {
+            boolean removed = false;
+            int start = 0;
+            while (start < smallest.getActions().size() && smallest.getActions().size() > 1) {
+                List<FuzzAction> actions = new ArrayList<>(smallest.getActions());
+                actions.subList(start, Math.min(actions.size(), start + run)).clear();
+                Mismatch shorter = actions.isEmpty() ? null : play(seed, actions.toArray(new FuzzAction[0]));
+                if (shorter != null) {
+                    smallest = shorter;
+                    removed = true;
+                } else {
+                    start += run;
+                }
+            }
+            if (!removed) {
+                if (run == 1) {
+                    return smallest;
+                }
+                run = Math.max(1, run / 2);
+            }
+        }
+    }
+
+    /** What one action returned on one board, and the view its landings report to. */
+    private static final class Outcome {
+        private final HeadlessGameView view = new HeadlessGameView();
+        private boolean result;
+        private ClearRow clearRow;
+    }
+
+    private static void apply(Board board, FuzzAction action, Outcome outcome) {
+        outcome.clearRow = null;
+        switch (action) {
+            case LEFT -> outcome.result = board.moveBrickLeft();
+            case RIGHT -> outcome.result = board.moveBrickRight();
+            case ROTATE -> outcome.result = board.rotateLeftBrick();
+            case ROTATE_CLOCKWISE -> outcome.result = board.rotateBrick(RotationDirection.CLOCKWISE);
+            case ROTATE_COUNTER_CLOCKWISE -> outcome.result = board.rotateBrick(RotationDirection.COUNTER_CLOCKWISE);
+            case ROTATE_180 -> outcome.result = board.rotateBrick(RotationDirection.HALF_TURN);
+            case HOLD -> {
+                board.holdBrick();
+                outcome.result = true;
+            }
+            case DOWN -> {
+                outcome.result = board.moveBrickDown();
+                if (!outcome.result) {
+                    land(board, outcome);
+                }
+            }
+            case HARD_DROP -> {
+                while (board.moveBrickDown()) {
+                    // Fall until landing
+                }
+                land(board, outcome);
+            }
+        }
+    }
+
+    /**
+     * Locks the brick through the game's landing path, starting a new game on a top
+     * out so the fuzzed game can go on.
+     */
+    private static void land(Board board, Outcome outcome) {
+        outcome.view.reset();
+        outcome.clearRow = BrickLanding.land(board, outcome.view).getClearRow();
+        outcome.result = outcome.view.isGameOver();
+        if (outcome.result) {
+            board.newGame();
+        }
+    }
+
+    /**
+     * Describes the first difference between two boards after an action.
+     *
+     * @return the difference, or null if there is none
+     */
+    private static String compare(boolean expectedResult, boolean actualResult,
+                                  ClearRow expectedClear, ClearRow actualClear, Board expected, Board actual) {
+        if (expectedResult != actualResult) {
+            return "returned " + actualResult + ", expected " + expectedResult;
+        }
+        if ((expectedClear == null) != (actualClear == null)) {
+            return actualClear == null ? "did not lock" : "locked unexpectedly";
+        }
+        if (expectedClear != null) {
+            if (expectedClear.getLinesRemoved() != actualClear.getLinesRemoved()) {
+                return "cleared " + actualClear.getLinesRemoved() + " lines, expected " + expectedClear.getLinesRemoved();
+            }
+            if (expectedClear.getScoreBonus() != actualClear.getScoreBonus()) {
+                return "clear scored " + actualClear.getScoreBonus() + ", expected " + expectedClear.getScoreBonus();
+            }
+            if (expectedClear.getSpin() != actualClear.getSpin()) {
+                return "clear spin " + actualClear.getSpin() + ", expected " + expectedClear.getSpin();
+            }
+            if (!Arrays.deepEquals(expectedClear.getNewMatrix(), actualClear.getNewMatrix())) {
+                return "cleared matrix differs";
+            }
+        }
+        if (!Arrays.deepEquals(expected.getBoardMatrix(), actual.getBoardMatrix())) {
+            return "board matrix differs";
+        }
+        if (expected.getScore().get() != actual.getScore().get()) {
+            return "score " + actual.getScore().get() + ", expected " + expected.getScore().get();
+        }
+        if (expected instanceof SimpleBoard expectedSimple && actual instanceof SimpleBoard actualSimple) {
+            int expectedLines = expectedSimple.getLinesTracker().getTotalLines();
+            int actualLines = actualSimple.getLinesTracker().getTotalLines();
+            if (expectedLines != actualLines) {
+                return "lines " + actualLines + ", expected " + expectedLines;
+            }
+            int expectedLevel = expectedSimple.getLevelManager().getCurrentLevel();
+            int actualLevel = actualSimple.getLevelManager().getCurrentLevel();
+            if (expectedLevel != actualLevel) {
+                return "level " + actualLevel + ", expected " + expectedLevel;
+            }
+        }
+        ViewData expectedView = expected.getViewData();
+        ViewData actualView = actual.getViewData();
+        if (!Arrays.deepEquals(expectedView.getBrickData(), actualView.getBrickData())) {
+            return "brick shape differs";
+        }
+        if (expectedView.getxPosition() != actualView.getxPosition()
+                || expectedView.getyPosition() != actualView.getyPosition()) {
+            return "brick at " + actualView.getxPosition() + "," + actualView.getyPosition()
+                    + ", expected " + expectedView.getxPosition() + "," + expectedView.getyPosition();
+        }
+        if (expectedView.getGhostX() != actualView.getGhostX() || expectedView.getGhostY() != actualView.getGhostY()) {
+            return "ghost at " + actualView.getGhostX() + "," + actualView.getGhostY()
+                    + ", expected " + expectedView.getGhostX() + "," + expectedView.getGhostY();
+        }
+        if (!Arrays.deepEquals(expectedView.getNextBrickData(), actualView.getNextBrickData())) {
+            return "next brick differs";
+        }
+        if (!Arrays.deepEquals(expectedView.getHoldBrickData(), actualView.getHoldBrickData())) {
+            return "held brick differs";
+        }
+        return null;
+    }
+
+    /**
+     * Fuzzes {@link SimpleBoard} against itself from the command line and exits with
+     * status 1 on a mismatch, so it can gate a build.
+     * Arguments: seconds (default 60), threads (default one per processor),
+     * first seed (default 1).
+     *
+     * @param args optional settings
+     */
+    public static void main(String[] args) {
+        long seconds = args.length > 0 ? Long.parseLong(args[0]) : 60;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 1;
+        BoardFactory simple = generator -> new SimpleBoard(BoardGeometry.STANDARD, generator, new SrsRotationSystem());
+        Result result = new BoardFuzzer(simple, simple, DEFAULT_GAME_LENGTH)
+                .fuzz(seed, Long.MAX_VALUE, seconds * 1000, threads);
+        System.out.printf("%d games, %d steps (%.0f steps/min on %d threads)%n",
+                result.getGames(), result.getSteps(), result.getStepsPerMinute(), threads);
+        if (result.getMismatch() != null) {
+            System.out.println("mismatch: " + result.getMismatch());
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.comp2042.game.board.fuzz;
+
+/**
+ * One step of a fuzzed game, made through the {@link com.comp2042.game.board.Board}
+ * interface only so any engine can be driven.
+ */
+public enum FuzzAction {
+    /** Shift the active brick left. */
+    LEFT,
+
+    /** Shift the active brick right. */
+    RIGHT,
+
+    /** Move the active brick down, landing it if it cannot fall. */
+    DOWN,
+
+    /** Turn the active brick to the next shape in its rotation list. */
+    ROTATE,
+
+    /** Turn the active brick clockwise. */
+    ROTATE_CLOCKWISE,
+
+    /** Turn the active brick counter-clockwise. */
+    ROTATE_COUNTER_CLOCKWISE,
+
+    /** Turn the active brick half a turn. */
+    ROTATE_180,
+
+    /** Swap the active brick with the held one. */
+    HOLD,
+
+    /** Drop the active brick as far as it falls and land it. */
+    HARD_DROP
+}
@@ -0,0 +1,72 @@
+package com.comp2042.game.board.fuzz;
+
+import java.util.List;
+
+/**
+ * A fuzzed game on which two boards disagreed: the seed dealing its bricks, the
+ * actions played and the first difference seen.
+ */
+public final class Mismatch {
+
+    private final long seed;
+    private final List<FuzzAction> actions;
+    private final int step;
+    private final String difference;
+
+    /**
+     * Creates a mismatch.
+     *
+     * @param seed the brick generator seed
+     * @param actions the actions up to and including the one that diverged
+     * @param step the index of the action after which the boards differed
+     * @param difference what differed
+     */
+    public Mismatch(long seed, List<FuzzAction> actions, int step, String difference) {
+        this.seed = seed;
+        this.actions = List.copyOf(actions);
+        this.step = step;
+        this.difference = difference;
+    }
+
+    /**
+     * Gets the seed dealing the game's bricks.
+     *
+     * @return the seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the actions that reproduce the mismatch.
+     *
+     * @return the actions, ending with the one that diverged
+     */
+    public List<FuzzAction> getActions() {
+        return actions;
+    }
+
+    /**
+     * Gets the index of the action after which the boards differed.
+     *
+     * @return the step
+     */
+    public int getStep() {
+        return step;
+    }
+
+    /**
+     * Describes what differed.
+     *
+     * @return the difference
+     */
+    public String getDifference() {
+        return difference;
+    }
+
+    @Override
+    public String toString() {
+        return "seed " + seed + ", step " + step + " " + actions.get(step) + ": " + difference
+                + "\n  actions " + actions;
+    }
+}
@@ -31,6 +31,19 @@ public class BrickGeneratorFactory {
         };
     }
 
+    /**
+     * Creates a seeded brick generator that produces the same sequence for the same seed.
+     *
+     * @param type the generator type
+     * @param seed the random seed
+     * @return a BrickGenerator instance
+     */
+    public static BrickGenerator create(GeneratorType type, long seed) {
+        return switch (type) {
+            case RANDOM -> new RandomBrickGenerator(seed);
+        };
+    }
+
     /**
      * Creates the default brick generator (random).
      * 
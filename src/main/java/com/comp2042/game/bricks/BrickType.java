@@ -0,0 +1,144 @@
+package com.comp2042.game.bricks;
+
+import java.util.function.Supplier;
+
+/**
+ * Enumeration of the seven tetromino types.
+ * Each type is identified by the colour code its shape matrices use, which makes
+ * the code a stable, compact identifier for persistence and analysis.
+ *
+ * <p>Each type also records the orientation of every shape in its rotation list, in
+ * clockwise quarter turns from the guideline spawn orientation (0 = spawn, 1 = right,
+ * 2 = upside down, 3 = left). The shape lists are not in a consistent rotational order,
+ * so directional rotation goes through {@link #rotationAfter(int, int)}.
+ */
+public enum BrickType {
+    /** The I-shaped tetromino (code 1). */
+    I(1, IBrick::new, 0, 3),
+    /** The J-shaped tetromino (code 2). */
+    J(2, JBrick::new, 2, 1, 0, 3),
+    /** The L-shaped tetromino (code 3). */
+    L(3, LBrick::new, 2, 3, 0, 1),
+    /** The O-shaped tetromino (code 4). */
+    O(4, OBrick::new, 0),
+    /** The S-shaped tetromino (code 5). */
+    S(5, SBrick::new, 2, 3),
+    /** The T-shaped tetromino (code 6). */
+    T(6, TBrick::new, 2, 1, 0, 3),
+    /** The Z-shaped tetromino (code 7). */
+    Z(7, ZBrick::new, 2, 3);
+
+    private static final BrickType[] BY_CODE = new BrickType[8];
+
+    static {
+        for (BrickType type : values()) {
+            BY_CODE[type.code] = type;
+        }
+    }
+
+    private final int code;
+    private final Supplier<Brick> factory;
+    private final int[] orientations;
+    private final int[][] rotationAfter; // [rotation][quarter turns]
+
+    BrickType(int code, Supplier<Brick> factory, int... orientations) {
+        this.code = code;
+        this.factory = factory;
+        this.orientations = orientations;
+        rotationAfter = new int[orientations.length][4];
+        for (int from = 0; from < orientations.length; from++) {
+            for (int turns = 0; turns < 4; turns++) {
+                rotationAfter[from][turns] = closestRotation((orientations[from] + turns) & 3);
+            }
+        }
+    }
+
+    /**
+     * Finds the rotation with an orientation, or the one that looks the same for bricks
+     * with fewer than four shapes (a half turn of I, S or Z, any turn of O).
+     */
+    private int closestRotation(int orientation) {
+        for (int rotation = 0; rotation < orientations.length; rotation++) {
+            if (orientations[rotation] == orientation) {
+                return rotation;
+            }
+        }
+        for (int rotation = 0; rotation < orientations.length; rotation++) {
+            if ((orientations[rotation] & 1) == (orientation & 1)) {
+                return rotation;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Gets the colour code used by this brick type's shape matrices.
+     *
+     * @return the colour code (1-7)
+     */
+    public int getCode() {
+        return code;
+    }
+
+    /**
+     * Gets the orientation of one of this type's shapes.
+     *
+     * @param rotation the index into the brick's rotation list
+     * @return clockwise quarter turns from the spawn orientation (0-3)
+     */
+    public int getOrientation(int rotation) {
+        return orientations[rotation];
+    }
+
+    /**
+     * Gets the shape a rotation by some quarter turns leads to.
+     *
+     * @param rotation the current index into the brick's rotation list
+     * @param quarterTurns the clockwise quarter turns (0-3)
+     * @return the index of the shape after rotating
+     */
+    public int rotationAfter(int rotation, int quarterTurns) {
+        return rotationAfter[rotation][quarterTurns];
+    }
+
+    /**
+     * Creates a new brick instance of this type.
+     *
+     * @return a new brick
+     */
+    public Brick create() {
+        return factory.get();
+    }
+
+    /**
+     * Looks up a brick type by its colour code.
+     *
+     * @param code the colour code
+     * @return the matching brick type
+     * @throws IllegalArgumentException if no brick type uses the code
+     */
+    public static BrickType fromCode(int code) {
+        if (code <= 0 || code >= BY_CODE.length || BY_CODE[code] == null) {
+            throw new IllegalArgumentException("Invalid brick code: " + code);
+        }
+        return BY_CODE[code];
+    }
+
+    /**
+     * Determines the type of a brick from the first filled cell of its spawn rotation.
+     *
+     * @param brick the brick to identify
+     * @return the brick's type
+     * @throws IllegalArgumentException if the brick has no filled cells or an unknown code
+     */
+    public static BrickType of(Brick brick) {
+        for (int[] row : brick.getShapeMatrix().get(0)) {
+            for (int cell : row) {
+                if (cell != 0) {
+                    return fromCode(cell);
+                }
+            }
+        }
+        throw new IllegalArgumentException("Brick has no filled cells");
+    }
+}
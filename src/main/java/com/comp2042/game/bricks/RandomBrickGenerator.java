@@ -4,7 +4,9 @@ import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Deque;
 import java.util.List;
+import java.util.SplittableRandom;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Random brick generator that creates bricks randomly from all seven tetromino types.
@@ -19,11 +21,28 @@ public class RandomBrickGenerator implements BrickGenerator {
 
     private final Deque<Brick> nextBricks = new ArrayDeque<>();
 
+    private final RandomGenerator random; // null means the calling thread's ThreadLocalRandom
+
     /**
      * Constructs a random brick generator and initializes it with
      * all seven tetromino types. Pre-generates two bricks for the queue.
      */
     public RandomBrickGenerator() {
+        this(null);
+    }
+
+    /**
+     * Constructs a seeded random brick generator that always produces the same sequence,
+     * for reproducible bot runs and benchmarks.
+     *
+     * @param seed the random seed
+     */
+    public RandomBrickGenerator(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    private RandomBrickGenerator(RandomGenerator random) {
+        this.random = random;
         brickList = new ArrayList<>();
         brickList.add(new IBrick());
         brickList.add(new JBrick());
@@ -32,8 +51,8 @@ public class RandomBrickGenerator implements BrickGenerator {
         brickList.add(new SBrick());
         brickList.add(new TBrick());
         brickList.add(new ZBrick());
-        nextBricks.add(brickList.get(ThreadLocalRandom.current().nextInt(brickList.size())));
-        nextBricks.add(brickList.get(ThreadLocalRandom.current().nextInt(brickList.size())));
+        nextBricks.add(randomBrick());
+        nextBricks.add(randomBrick());
     }
 
     /**
@@ -45,7 +64,7 @@ public class RandomBrickGenerator implements BrickGenerator {
     @Override
     public Brick getBrick() {
         if (nextBricks.size() <= 1) {
-            nextBricks.add(brickList.get(ThreadLocalRandom.current().nextInt(brickList.size())));
+            nextBricks.add(randomBrick());
         }
         return nextBricks.poll();
     }
@@ -60,6 +79,16 @@ public class RandomBrickGenerator implements BrickGenerator {
         return nextBricks.peek();
     }
 
+    /**
+     * Picks a uniformly random brick type.
+     *
+     * @return the chosen brick
+     */
+    private Brick randomBrick() {
+        RandomGenerator generator = random != null ? random : ThreadLocalRandom.current();
+        return brickList.get(generator.nextInt(brickList.size()));
+    }
+
     /**
      * Creates a defensive copy of the current upcoming brick queue.
      *
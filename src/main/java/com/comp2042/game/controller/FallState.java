@@ -0,0 +1,114 @@
+package com.comp2042.game.controller;
+
+import com.comp2042.game.board.SimpleBoard;
+
+import java.awt.Point;
+
+/**
+ * Per-brick gravity and lock delay bookkeeping for the engine tick.
+ * Holds the fractional row the active brick has accumulated, how long it has been
+ * resting on the stack, and how many move resets it has used. The state starts over
+ * whenever a different brick becomes active.
+ */
+public final class FallState {
+
+    private static final int FRACTION_MASK = (1 << 16) - 1;
+
+    private long brickSerial = -1;
+    private int fraction;
+    private int groundedTicks;
+    private int resets;
+    private int lowestY;
+    private int x;
+    private int y;
+    private int rotation;
+
+    /** Creates an empty fall state. */
+    public FallState() { }
+
+    /**
+     * Starts over if the board's active brick is not the one being tracked.
+     *
+     * @param board the board
+     */
+    public void sync(SimpleBoard board) {
+        if (board.getBrickSerial() != brickSerial) {
+            reset();
+            brickSerial = board.getBrickSerial();
+            remember(board);
+            lowestY = y;
+        }
+    }
+
+    /**
+     * Forgets the tracked brick, e.g. after a new game or an undo.
+     */
+    public void reset() {
+        brickSerial = -1;
+        fraction = 0;
+        groundedTicks = 0;
+        resets = 0;
+    }
+
+    /**
+     * Adds one tick of gravity.
+     *
+     * @param gravity rows per tick in 16.16 fixed point
+     * @return the whole rows to fall this tick
+     */
+    public int accumulate(int gravity) {
+        long total = (long) fraction + gravity;
+        fraction = (int) (total & FRACTION_MASK);
+        return (int) Math.min(Integer.MAX_VALUE, total >>> 16);
+    }
+
+    /**
+     * Records a tick spent resting on the stack. Gravity does not build up meanwhile.
+     *
+     * @return the ticks spent grounded so far
+     */
+    public int tickGrounded() {
+        fraction = 0;
+        return ++groundedTicks;
+    }
+
+    /**
+     * Records a fall; reaching a new lowest row restores the move resets.
+     *
+     * @param board the board after the fall
+     */
+    public void onFell(SimpleBoard board) {
+        groundedTicks = 0;
+        remember(board);
+        if (y > lowestY) {
+            lowestY = y;
+            resets = 0;
+        }
+    }
+
+    /**
+     * Records a player move or rotation; if it changed the brick's position while the
+     * lock delay was running, the delay restarts (up to the reset limit).
+     *
+     * @param board the board after the move
+     * @param maxResets the level's move reset limit
+     */
+    public void onPlayerMove(SimpleBoard board, int maxResets) {
+        int oldX = x;
+        int oldY = y;
+        int oldRotation = rotation;
+        remember(board);
+        boolean moved = x != oldX || y != oldY || rotation != oldRotation;
+        if (moved && groundedTicks > 0 && resets < maxResets) {
+            groundedTicks = 0;
+            resets++;
+        }
+    }
+
+    private void remember(SimpleBoard board) {
+        Point offset = board.getCurrentOffset();
+        x = offset.x;
+        y = offset.y;
+        rotation = board.getCurrentRotation();
+    }
+}
@@ -1,15 +1,23 @@
 package com.comp2042.game.controller;
 
+import com.comp2042.game.bricks.BrickType;
+import com.comp2042.game.metrics.GameMetrics;
 import com.comp2042.game.events.InputEventListener;
 import com.comp2042.game.events.MoveEvent;
 import com.comp2042.game.data.DownData;
+import com.comp2042.game.data.SavedGame;
 import com.comp2042.game.data.UndoData;
 import com.comp2042.game.data.ViewData;
 import com.comp2042.game.board.Board;
+import com.comp2042.game.board.BoardGeometry;
 import com.comp2042.game.board.SimpleBoard;
 import com.comp2042.game.controller.commands.*;
+import com.comp2042.game.level.Level;
 import com.comp2042.game.level.LevelManager;
-import com.comp2042.ui.GuiController;
+import com.comp2042.game.operations.RotationDirection;
+import com.comp2042.game.score.HighScoreManager;
+import com.comp2042.game.stats.FinesseTable;
+import com.comp2042.game.stats.LiveStats;
 import com.comp2042.game.data.BoardStateSnapshot;
 import com.comp2042.game.events.EventSource;
 
@@ -22,33 +30,62 @@ import com.comp2042.game.events.EventSource;
  * following Dependency Inversion Principle for better testability.
  */
 public class GameController implements InputEventListener {
-    private final GuiController viewGuiController;
+    private final GameView viewGuiController;
     private final Board board; // Depends on interface, not concrete class
     private BoardStateSnapshot lastMoveSnapshot;
     private int timeSlowUses = 0;
     private int undoUses = 0;
+    private final FallState fallState = new FallState();
+    private double gravitySlowdownMs;
+    private final LiveStats liveStats;
+    private final HighScoreManager highScoreManager;
+    /** The active brick as last seen before a command that may lock it */
+    private BrickType pieceType;
+    private int pieceRotation;
+    private int pieceX;
     
     /**
      * Creates a new GameController with dependency injection.
      * Accepts Board interface rather than concrete SimpleBoard, following
      * Dependency Inversion Principle for better testability.
      * 
-     * @param c the GUI controller for UI updates
+     * @param c the view receiving UI updates (the GUI, or a headless view)
      * @param board the board implementation (injected via interface)
      */
-    public GameController(GuiController c, Board board) {
+    public GameController(GameView c, Board board) {
+        this(c, board, null);
+    }
+
+    /**
+     * Creates a new GameController that tracks the high score and records finished
+     * games on the leaderboard. Only the player's own game has one; bots, servers and
+     * other headless games play without touching the saved scores.
+     *
+     * @param c the view receiving UI updates (the GUI, or a headless view)
+     * @param board the board implementation (injected via interface)
+     * @param highScoreManager the high score manager watching the board's score (nullable)
+     */
+    public GameController(GameView c, Board board, HighScoreManager highScoreManager) {
         this.board = board;
+        this.highScoreManager = highScoreManager;
         viewGuiController = c;
         board.trySpawnNewBrick();
+        GameMetrics.get().gameStarted();
+        liveStats = new LiveStats(board instanceof SimpleBoard simpleBoard
+                ? new FinesseTable(simpleBoard.getGeometry(), simpleBoard.getRotationSystem()) : null,
+                System.nanoTime());
         viewGuiController.setEventListener(this);
         viewGuiController.initGameView(board.getBoardMatrix(), board.getViewData());
-        viewGuiController.bindScore(board.getScore().scoreProperty());
         
         // Bind level and high score if board is SimpleBoard
         if (board instanceof SimpleBoard simpleBoard) {
             LevelManager levelManager = simpleBoard.getLevelManager();
             viewGuiController.bindLevel(levelManager);
-            viewGuiController.bindHighScore(simpleBoard.getHighScoreManager());
+            viewGuiController.bindHighScore(highScoreManager);
+            viewGuiController.bindGameStats(board.getScore(), simpleBoard.getLinesTracker(), levelManager,
+                    highScoreManager);
+        } else {
+            viewGuiController.bindGameStats(board.getScore(), null, null, highScoreManager);
         }
     }
     
@@ -62,11 +99,49 @@ public class GameController implements InputEventListener {
     @Override
     public DownData onDownEvent(MoveEvent event) {
         captureSnapshotIfUser(event);
+        recordKey(event);
+        notePiece();
         MoveCommand command = new DownMoveCommand(board, viewGuiController, event.getEventSource());
         command.execute();
-        return ((DownMoveCommand) command).getDownData();
+        DownData downData = ((DownMoveCommand) command).getDownData();
+        recordLock(downData);
+        return downData;
     }
     
+    /**
+     * Advances gravity and lock delay by one engine tick ({@link Level#TICK_MS}).
+     * The brick falls by the current level's fixed-point gravity, landing in one step
+     * at any speed, and locks once it has rested for the level's lock delay.
+     *
+     * @return the fall or landing result, or null if nothing visible changed
+     *         (or the board does not support gravity ticks)
+     */
+    public DownData onGravityTick() {
+        if (!(board instanceof SimpleBoard simpleBoard)) {
+            return null;
+        }
+        long start = System.nanoTime();
+        Level level = simpleBoard.getLevelManager().getCurrentLevelConfig();
+        int gravity = gravitySlowdownMs > 0
+                ? Level.gravityFor(level.getDropSpeedMs() + gravitySlowdownMs)
+                : level.getGravity();
+        notePiece();
+        GravityTickCommand command = new GravityTickCommand(simpleBoard, viewGuiController, fallState, level, gravity);
+        command.execute();
+        recordLock(command.getDownData());
+        GameMetrics.get().recordTick(System.nanoTime() - start);
+        return command.getDownData();
+    }
+
+    /**
+     * Slows gravity ticks by adding a delay to every row's fall, for the time slow ability.
+     *
+     * @param slowdownMs extra milliseconds per row, 0 for normal speed
+     */
+    public void setGravitySlowdownMs(double slowdownMs) {
+        gravitySlowdownMs = slowdownMs;
+    }
+
     /**
      * Handles left movement event using Command pattern.
      * Polymorphic command execution allows new move types to be added
@@ -78,8 +153,11 @@ public class GameController implements InputEventListener {
     @Override
     public ViewData onLeftEvent(MoveEvent event) {
         captureSnapshotIfUser(event);
+        recordKey(event);
         MoveCommand command = new LeftMoveCommand(board);
-        return command.execute();
+        ViewData viewData = command.execute();
+        trackPlayerMove();
+        return viewData;
     }
     
     /**
@@ -91,12 +169,17 @@ public class GameController implements InputEventListener {
     @Override
     public ViewData onRightEvent(MoveEvent event) {
         captureSnapshotIfUser(event);
+        recordKey(event);
         MoveCommand command = new RightMoveCommand(board);
-        return command.execute();
+        ViewData viewData = command.execute();
+        trackPlayerMove();
+        return viewData;
     }
     
     /**
      * Handles rotation event using Command pattern.
+     * The event type selects the direction: ROTATE turns the brick to its next shape,
+     * the other rotation types turn it as named.
      * 
      * @param event the move event
      * @return ViewData containing updated brick position and shape
@@ -104,8 +187,17 @@ public class GameController implements InputEventListener {
     @Override
     public ViewData onRotateEvent(MoveEvent event) {
         captureSnapshotIfUser(event);
-        MoveCommand command = new RotateMoveCommand(board);
-        return command.execute();
+        RotationDirection direction = switch (event.getEventType()) {
+            case ROTATE_CLOCKWISE -> RotationDirection.CLOCKWISE;
+            case ROTATE_COUNTER_CLOCKWISE -> RotationDirection.COUNTER_CLOCKWISE;
+            case ROTATE_180 -> RotationDirection.HALF_TURN;
+            default -> null; // ROTATE: next shape, as the bot plans with
+        };
+        recordKey(event);
+        MoveCommand command = new RotateMoveCommand(board, direction);
+        ViewData viewData = command.execute();
+        trackPlayerMove();
+        return viewData;
     }
     
     /**
@@ -119,9 +211,13 @@ public class GameController implements InputEventListener {
     @Override
     public DownData onHardDropEvent(MoveEvent event) {
         captureSnapshotIfUser(event);
+        recordKey(event);
+        notePiece();
         MoveCommand command = new HardDropMoveCommand(board, viewGuiController);
         command.execute();
-        return ((HardDropMoveCommand) command).getDownData();
+        DownData downData = ((HardDropMoveCommand) command).getDownData();
+        recordLock(downData);
+        return downData;
     }
     
     /**
@@ -135,6 +231,7 @@ public class GameController implements InputEventListener {
     @Override
     public ViewData onHoldEvent(MoveEvent event) {
         captureSnapshotIfUser(event);
+        recordKey(event);
         if (board instanceof SimpleBoard simpleBoard) {
             return simpleBoard.holdBrick();
         }
@@ -148,12 +245,36 @@ public class GameController implements InputEventListener {
     @Override
     public void createNewGame() {
         board.newGame();
+        if (highScoreManager != null) {
+            highScoreManager.resetNewHighScoreFlag();
+        }
+        GameMetrics.get().gameStarted();
+        liveStats.reset(System.nanoTime());
+        fallState.reset();
         lastMoveSnapshot = null;
         timeSlowUses = 0;
         undoUses = 0;
         viewGuiController.refreshGameBackground(board.getBoardMatrix());
     }
 
+    /**
+     * Gets the live play statistics for the current game.
+     *
+     * @return the statistics
+     */
+    public LiveStats getLiveStats() {
+        return liveStats;
+    }
+
+    /**
+     * Gets the board this controller plays on.
+     *
+     * @return the board
+     */
+    public Board getBoard() {
+        return board;
+    }
+
     /**
      * Checks if the time slow ability can currently be used.
      *
@@ -201,9 +322,50 @@ public class GameController implements InputEventListener {
         undoUses++;
         ViewData viewData = simpleBoard.restoreSnapshot(lastMoveSnapshot);
         lastMoveSnapshot = null;
+        fallState.reset();
+        liveStats.pieceRestarted();
         return new UndoData(true, viewData, board.getBoardMatrix());
     }
 
+    /**
+     * Captures the full in-progress game state for saving to disk.
+     *
+     * @return the saved game, or null if the board does not support snapshots
+     */
+    public SavedGame createSavedGame() {
+        if (!(board instanceof SimpleBoard simpleBoard)) {
+            return null;
+        }
+        return new SavedGame(simpleBoard.createSnapshot(), undoUses, timeSlowUses);
+    }
+
+    /**
+     * Restores a previously saved game, including ability charge counters,
+     * and refreshes the view to show it.
+     *
+     * @param savedGame the saved game to restore
+     * @return true if the game was restored, false if it was saved on a board of another size
+     */
+    public boolean restoreSavedGame(SavedGame savedGame) {
+        if (!(board instanceof SimpleBoard simpleBoard)) {
+            return false;
+        }
+        int[][] savedMatrix = savedGame.getSnapshot().getBoardMatrix();
+        BoardGeometry geometry = simpleBoard.getGeometry();
+        if (savedMatrix.length != geometry.getRows()
+                || (savedMatrix.length > 0 && savedMatrix[0].length != geometry.getColumns())) {
+            return false;
+        }
+        ViewData viewData = simpleBoard.restoreSnapshot(savedGame.getSnapshot());
+        undoUses = savedGame.getUndoUses();
+        timeSlowUses = savedGame.getTimeSlowUses();
+        lastMoveSnapshot = null;
+        fallState.reset();
+        liveStats.reset(System.nanoTime());
+        viewGuiController.showRestoredGame(board.getBoardMatrix(), viewData);
+        return true;
+    }
+
     /**
      * Captures a snapshot of the board state before a user-initiated move.
      * Used to enable undo functionality.
@@ -216,6 +378,51 @@ public class GameController implements InputEventListener {
         }
     }
 
+    /**
+     * Counts a player's key press in the live statistics.
+     *
+     * @param event the move event
+     */
+    private void recordKey(MoveEvent event) {
+        if (event.getEventSource() == EventSource.USER) {
+            liveStats.onKey(event.getEventType(), System.nanoTime());
+        }
+    }
+
+    /**
+     * Remembers where the active brick is before a command that may lock it, since
+     * by the time the command returns the next brick has spawned.
+     */
+    private void notePiece() {
+        if (board instanceof SimpleBoard simpleBoard) {
+            pieceType = simpleBoard.getCurrentBrickType();
+            pieceRotation = simpleBoard.getCurrentRotation();
+            pieceX = simpleBoard.getCurrentX();
+        }
+    }
+
+    /**
+     * Counts the noted brick as placed if the command landed it. Falling never changes
+     * a brick's rotation or column, so the noted ones are where it locked.
+     *
+     * @param downData the command's result
+     */
+    private void recordLock(DownData downData) {
+        if (downData != null && downData.getClearRow() != null && pieceType != null) {
+            liveStats.onPieceLocked(pieceType, pieceRotation, pieceX, System.nanoTime());
+        }
+    }
+
+    /**
+     * Lets a successful move or rotation restart the lock delay of a grounded brick.
+     */
+    private void trackPlayerMove() {
+        if (board instanceof SimpleBoard simpleBoard) {
+            fallState.sync(simpleBoard);
+            fallState.onPlayerMove(simpleBoard, simpleBoard.getLevelManager().getCurrentLevelConfig().getMaxLockResets());
+        }
+    }
+
     /**
      * Gets the total number of cleared lines from the board, if available.
      *
@@ -0,0 +1,85 @@
+package com.comp2042.game.controller;
+
+import com.comp2042.game.data.ViewData;
+import com.comp2042.game.events.InputEventListener;
+import com.comp2042.game.level.LevelManager;
+import com.comp2042.game.level.LinesClearedTracker;
+import com.comp2042.game.score.HighScoreManager;
+import com.comp2042.game.score.Score;
+
+/**
+ * View abstraction the game controller and move commands report to.
+ * Implemented by {@link com.comp2042.ui.GuiController} for the JavaFX window and by
+ * {@link HeadlessGameView} for games run without a UI (bots, benchmarks, tests),
+ * following the Dependency Inversion Principle.
+ */
+public interface GameView {
+
+    /**
+     * Sets the listener that receives input events.
+     *
+     * @param eventListener the game's input listener
+     */
+    void setEventListener(InputEventListener eventListener);
+
+    /**
+     * Shows the initial board and active brick.
+     *
+     * @param boardMatrix the board matrix
+     * @param brick the active brick's view data
+     */
+    void initGameView(int[][] boardMatrix, ViewData brick);
+
+    /**
+     * Binds the score, level and high score display to the game's counters.
+     * The counters are plain engine objects; a view adapts them to its toolkit itself.
+     *
+     * @param score the score counter
+     * @param linesTracker the lines counter (nullable)
+     * @param levelManager the level manager (nullable)
+     * @param highScoreManager the high score manager (nullable)
+     */
+    void bindGameStats(Score score, LinesClearedTracker linesTracker, LevelManager levelManager,
+                       HighScoreManager highScoreManager);
+
+    /**
+     * Supplies the level manager used for drop speed and score multipliers.
+     *
+     * @param levelManager the level manager
+     */
+    void bindLevel(LevelManager levelManager);
+
+    /**
+     * Supplies the high score manager consulted when the game ends.
+     *
+     * @param highScoreManager the high score manager
+     */
+    void bindHighScore(HighScoreManager highScoreManager);
+
+    /**
+     * Called when the player reaches a new level.
+     *
+     * @param newLevel the new level number
+     */
+    void onLevelUp(int newLevel);
+
+    /**
+     * Called when a new brick cannot spawn.
+     */
+    void gameOver();
+
+    /**
+     * Redraws the locked cells of the board.
+     *
+     * @param board the board matrix
+     */
+    void refreshGameBackground(int[][] board);
+
+    /**
+     * Shows a game restored from a save.
+     *
+     * @param boardMatrix the restored board matrix
+     * @param brick the restored active brick's view data
+     */
+    void showRestoredGame(int[][] boardMatrix, ViewData brick);
+}
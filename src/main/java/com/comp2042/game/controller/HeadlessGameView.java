@@ -0,0 +1,68 @@
+package com.comp2042.game.controller;
+
+import com.comp2042.game.data.ViewData;
+import com.comp2042.game.events.InputEventListener;
+import com.comp2042.game.level.LevelManager;
+import com.comp2042.game.level.LinesClearedTracker;
+import com.comp2042.game.score.HighScoreManager;
+import com.comp2042.game.score.Score;
+
+/**
+ * Game view that renders nothing, for running games without JavaFX
+ * (bot play, benchmarking and tests). Only records whether the game is over.
+ */
+public final class HeadlessGameView implements GameView {
+
+    private boolean gameOver;
+
+    /** Creates a headless view for a game in progress. */
+    public HeadlessGameView() { }
+
+    /**
+     * Checks whether the game has ended.
+     *
+     * @return true once a brick failed to spawn, until {@link #reset()} is called
+     */
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    /**
+     * Clears the game over flag, for reusing the view after starting a new game.
+     */
+    public void reset() {
+        gameOver = false;
+    }
+
+    @Override
+    public void setEventListener(InputEventListener eventListener) { }
+
+    @Override
+    public void initGameView(int[][] boardMatrix, ViewData brick) { }
+
+    @Override
+    public void bindGameStats(Score score, LinesClearedTracker linesTracker, LevelManager levelManager,
+                              HighScoreManager highScoreManager) { }
+
+    @Override
+    public void bindLevel(LevelManager levelManager) { }
+
+    @Override
+    public void bindHighScore(HighScoreManager highScoreManager) { }
+
+    @Override
+    public void onLevelUp(int newLevel) { }
+
+    @Override
+    public void gameOver() {
+        gameOver = true;
+    }
+
+    @Override
+    public void refreshGameBackground(int[][] board) { }
+
+    @Override
+    public void showRestoredGame(int[][] boardMatrix, ViewData brick) {
+        gameOver = false;
+    }
+}
@@ -0,0 +1,61 @@
+package com.comp2042.game.controller.commands;
+
+import com.comp2042.game.board.Board;
+import com.comp2042.game.board.SimpleBoard;
+import com.comp2042.game.data.ClearRow;
+import com.comp2042.game.data.DownData;
+import com.comp2042.game.level.LevelManager;
+import com.comp2042.game.metrics.GameMetrics;
+import com.comp2042.game.telemetry.GameEvents;
+import com.comp2042.game.controller.GameView;
+
+/**
+ * The one landing path shared by every command that locks a brick, so soft drops,
+ * hard drops and gravity all score the same way: merge the brick, clear rows, track
+ * lines and level, award the board's lock score with the level multiplier, and
+ * spawn the next brick. Public so tools that drive a board directly, such as the
+ * board fuzzer, lock bricks exactly as the game does.
+ */
+public final class BrickLanding {
+
+    private BrickLanding() { }
+
+    /**
+     * Locks the active brick.
+     *
+     * @param board the board the brick landed on
+     * @param view the view told about level ups, game over and the new background
+     * @return the landing result; its clear carries the points actually awarded
+     */
+    public static DownData land(Board board, GameView view) {
+        int brick = board instanceof SimpleBoard simpleBoard ? simpleBoard.getCurrentBrickType().getCode() : 0;
+        board.mergeBrickToBackground();
+        ClearRow clearRow = board.clearRows();
+        int lines = clearRow.getLinesRemoved();
+        int points = clearRow.getScoreBonus();
+        if (board instanceof SimpleBoard simpleBoard) {
+            LevelManager levelManager = simpleBoard.getLevelManager();
+            if (lines > 0) {
+                simpleBoard.getLinesTracker().addLines(lines);
+                GameEvents.linesCleared(lines, board.getBoardMatrix(), simpleBoard.getLinesTracker().getTotalLines());
+                if (levelManager.updateLevel()) {
+                    GameEvents.levelUp(levelManager.getCurrentLevel(), levelManager.getCurrentLevelConfig().getGravity());
+                    view.onLevelUp(levelManager.getCurrentLevel());
+                }
+            }
+            points = (int) (points * levelManager.getCurrentLevelConfig().getScoreMultiplier());
+            clearRow = clearRow.withScore(points, clearRow.getSpin());
+        }
+        if (points > 0) {
+            board.getScore().add(points);
+        }
+        GameEvents.locked(brick, lines, clearRow.getSpin(), points);
+        GameMetrics.get().recordLock(lines, System.nanoTime());
+        if (board.trySpawnNewBrick()) {
+            GameMetrics.get().gameFinished();
+            view.gameOver();
+        }
+        view.refreshGameBackground(board.getBoardMatrix());
+        return new DownData(clearRow, board.getViewData());
+    }
+}
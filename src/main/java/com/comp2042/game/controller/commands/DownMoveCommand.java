@@ -1,12 +1,10 @@
 package com.comp2042.game.controller.commands;
 
 import com.comp2042.game.board.Board;
-import com.comp2042.game.board.SimpleBoard;
 import com.comp2042.game.data.DownData;
 import com.comp2042.game.data.ViewData;
 import com.comp2042.game.events.EventSource;
-import com.comp2042.game.level.LevelManager;
-import com.comp2042.ui.GuiController;
+import com.comp2042.game.controller.GameView;
 
 /**
  * Command for moving a brick down.
@@ -15,7 +13,7 @@ import com.comp2042.ui.GuiController;
  */
 public class DownMoveCommand implements MoveCommand {
     private final Board board;
-    private final GuiController guiController;
+    private final GameView guiController;
     private final EventSource eventSource;
     private DownData result;
     
@@ -23,10 +21,10 @@ public class DownMoveCommand implements MoveCommand {
      * Creates a new down move command.
      * 
      * @param board the board to perform the move on
-     * @param guiController the GUI controller for updating the display
+     * @param guiController the view for updating the display
      * @param eventSource the source of the move event (USER or THREAD)
      */
-    public DownMoveCommand(Board board, GuiController guiController, EventSource eventSource) {
+    public DownMoveCommand(Board board, GameView guiController, EventSource eventSource) {
         this.board = board;
         this.guiController = guiController;
         this.eventSource = eventSource;
@@ -64,35 +62,7 @@ public class DownMoveCommand implements MoveCommand {
      * update score with level multiplier, track lines cleared, and spawn new brick.
      */
     private void handleBrickLanded() {
-        board.mergeBrickToBackground();
-        var clearRow = board.clearRows();
-        if (clearRow.getLinesRemoved() > 0) {
-            // Get level manager if board is SimpleBoard
-            LevelManager levelManager = null;
-            if (board instanceof SimpleBoard simpleBoard) {
-                levelManager = simpleBoard.getLevelManager();
-                // Track lines cleared
-                simpleBoard.getLinesTracker().addLines(clearRow.getLinesRemoved());
-                // Update level based on new total
-                boolean levelUp = levelManager.updateLevel();
-                if (levelUp) {
-                    guiController.onLevelUp(levelManager.getCurrentLevel());
-                }
-                // Apply level multiplier to score
-                int baseScore = clearRow.getScoreBonus();
-                double multiplier = levelManager.getCurrentLevelConfig().getScoreMultiplier();
-                int finalScore = (int) (baseScore * multiplier);
-                board.getScore().add(finalScore);
-            } else {
-                // Fallback if not SimpleBoard (shouldn't happen in practice)
-                board.getScore().add(clearRow.getScoreBonus());
-            }
-        }
-        if (board.trySpawnNewBrick()) {
-            guiController.gameOver();
-        }
-        guiController.refreshGameBackground(board.getBoardMatrix());
-        result = new DownData(clearRow, board.getViewData());
+        result = BrickLanding.land(board, guiController);
     }
     
     /**
@@ -0,0 +1,77 @@
+package com.comp2042.game.controller.commands;
+
+import com.comp2042.game.board.SimpleBoard;
+import com.comp2042.game.controller.FallState;
+import com.comp2042.game.controller.GameView;
+import com.comp2042.game.data.DownData;
+import com.comp2042.game.data.ViewData;
+import com.comp2042.game.events.EventSource;
+import com.comp2042.game.level.Level;
+
+/**
+ * Command for one engine tick of gravity.
+ * Accumulates fixed-point gravity and lets the brick fall the whole rows gained,
+ * stopping at its landing row in a single move however high the gravity is. A brick
+ * resting on the stack counts down the lock delay instead and locks through
+ * {@link DownMoveCommand} when it runs out.
+ */
+public class GravityTickCommand implements MoveCommand {
+    private final SimpleBoard board;
+    private final GameView guiController;
+    private final FallState fallState;
+    private final Level level;
+    private final int gravity;
+    private DownData result;
+
+    /**
+     * Creates a new gravity tick command.
+     *
+     * @param board the board to perform the tick on
+     * @param guiController the view for updating the display
+     * @param fallState the active brick's fall state
+     * @param level the current level, supplying the lock delay
+     * @param gravity rows per tick in 16.16 fixed point
+     */
+    public GravityTickCommand(SimpleBoard board, GameView guiController, FallState fallState,
+                              Level level, int gravity) {
+        this.board = board;
+        this.guiController = guiController;
+        this.fallState = fallState;
+        this.level = level;
+        this.gravity = gravity;
+    }
+
+    /**
+     * Executes one tick.
+     *
+     * @return ViewData containing the brick position after the tick
+     */
+    @Override
+    public ViewData execute() {
+        fallState.sync(board);
+        if (board.getDropDistance() == 0) {
+            if (fallState.tickGrounded() > level.getLockDelayTicks()) {
+                DownMoveCommand lock = new DownMoveCommand(board, guiController, EventSource.THREAD);
+                lock.execute();
+                result = lock.getDownData();
+                fallState.reset();
+            }
+        } else {
+            int rows = fallState.accumulate(gravity);
+            if (rows > 0 && board.dropBrick(rows) > 0) {
+                fallState.onFell(board);
+                result = new DownData(null, board.getViewData());
+            }
+        }
+        return result != null ? result.getViewData() : board.getViewData();
+    }
+
+    /**
+     * Gets the DownData result after command execution.
+     *
+     * @return the fall or landing result, or null if the brick neither moved nor locked
+     */
+    public DownData getDownData() {
+        return result;
+    }
+}
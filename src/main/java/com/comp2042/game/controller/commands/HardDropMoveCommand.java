@@ -4,8 +4,7 @@ import com.comp2042.game.board.Board;
 import com.comp2042.game.board.SimpleBoard;
 import com.comp2042.game.data.DownData;
 import com.comp2042.game.data.ViewData;
-import com.comp2042.game.level.LevelManager;
-import com.comp2042.ui.GuiController;
+import com.comp2042.game.controller.GameView;
 
 /**
  * Command for hard dropping a brick instantly to the landing position (ghost position).
@@ -17,16 +16,16 @@ import com.comp2042.ui.GuiController;
  */
 public class HardDropMoveCommand implements MoveCommand {
     private final Board board;
-    private final GuiController guiController;
+    private final GameView guiController;
     private DownData result;
     
     /**
      * Creates a new hard drop command.
      * 
      * @param board the board to perform the move on
-     * @param guiController the GUI controller for updating the display
+     * @param guiController the view for updating the display
      */
-    public HardDropMoveCommand(Board board, GuiController guiController) {
+    public HardDropMoveCommand(Board board, GameView guiController) {
         this.board = board;
         this.guiController = guiController;
     }
@@ -41,9 +40,14 @@ public class HardDropMoveCommand implements MoveCommand {
     public ViewData execute() {
         int cellsDropped = 0;
         
-        // Keep moving down until brick can't move anymore (reaches ghost position)
-        while (board.moveBrickDown()) {
-            cellsDropped++;
+        if (board instanceof SimpleBoard simpleBoard) {
+            // Fall straight to the landing row in one step
+            cellsDropped = simpleBoard.dropBrick(Integer.MAX_VALUE);
+        } else {
+            // Keep moving down until brick can't move anymore (reaches ghost position)
+            while (board.moveBrickDown()) {
+                cellsDropped++;
+            }
         }
         
         // Award points for hard drop (2 points per cell dropped)
@@ -74,38 +78,7 @@ public class HardDropMoveCommand implements MoveCommand {
      * Encapsulates complex landing logic to maintain Single Responsibility Principle.
      */
     private void handleBrickLanded() {
-        board.mergeBrickToBackground();
-        var clearRow = board.clearRows();
-        
-        if (clearRow.getLinesRemoved() > 0) {
-            // Get level manager if board is SimpleBoard
-            if (board instanceof SimpleBoard simpleBoard) {
-                LevelManager levelManager = simpleBoard.getLevelManager();
-                // Track lines cleared
-                simpleBoard.getLinesTracker().addLines(clearRow.getLinesRemoved());
-                // Update level based on new total
-                boolean levelUp = levelManager.updateLevel();
-                if (levelUp) {
-                    guiController.onLevelUp(levelManager.getCurrentLevel());
-                }
-                // Apply level multiplier to score
-                int baseScore = clearRow.getScoreBonus();
-                double multiplier = levelManager.getCurrentLevelConfig().getScoreMultiplier();
-                int finalScore = (int) (baseScore * multiplier);
-                board.getScore().add(finalScore);
-            } else {
-                // Fallback if not SimpleBoard (shouldn't happen in practice)
-                board.getScore().add(clearRow.getScoreBonus());
-            }
-        }
-        
-        // Spawn new brick and check for game over
-        if (board.trySpawnNewBrick()) {
-            guiController.gameOver();
-        }
-        
-        guiController.refreshGameBackground(board.getBoardMatrix());
-        result = new DownData(clearRow, board.getViewData());
+        result = BrickLanding.land(board, guiController);
     }
 }
 
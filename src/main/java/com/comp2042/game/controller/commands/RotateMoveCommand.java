@@ -2,6 +2,7 @@ package com.comp2042.game.controller.commands;
 
 import com.comp2042.game.board.Board;
 import com.comp2042.game.data.ViewData;
+import com.comp2042.game.operations.RotationDirection;
 
 /**
  * Command for rotating a brick.
@@ -9,14 +10,26 @@ import com.comp2042.game.data.ViewData;
  */
 public class RotateMoveCommand implements MoveCommand {
     private final Board board;
+    private final RotationDirection direction;
     
     /**
-     * Creates a new rotate move command.
+     * Creates a new rotate move command that turns the brick to its next shape.
      * 
      * @param board the board to perform the rotation on
      */
     public RotateMoveCommand(Board board) {
+        this(board, null);
+    }
+
+    /**
+     * Creates a new rotate move command.
+     *
+     * @param board the board to perform the rotation on
+     * @param direction the rotation direction, or null for the next shape
+     */
+    public RotateMoveCommand(Board board, RotationDirection direction) {
         this.board = board;
+        this.direction = direction;
     }
     
     /**
@@ -26,7 +39,11 @@ public class RotateMoveCommand implements MoveCommand {
      */
     @Override
     public ViewData execute() {
-        board.rotateLeftBrick();
+        if (direction == null) {
+            board.rotateLeftBrick();
+        } else {
+            board.rotateBrick(direction);
+        }
         return board.getViewData();
     }
 }
@@ -2,6 +2,7 @@ package com.comp2042.game.data;
 
 import com.comp2042.game.bricks.Brick;
 import com.comp2042.game.operations.MatrixOperations;
+import com.comp2042.game.score.LockAction;
 
 import java.awt.Point;
 import java.util.ArrayDeque;
@@ -20,9 +21,13 @@ public final class BoardStateSnapshot {
     private final int score;
     private final int totalLines;
     private final int level;
+    private final int combo;
+    private final boolean backToBack;
+    private final LockAction lastAction;
 
     /**
-     * Creates an immutable snapshot of the board state for undo.
+     * Creates an immutable snapshot of the board state for undo, with no combo or
+     * back-to-back chain and no rotation before the lock.
      *
      * @param boardMatrix the current board matrix
      * @param offset the active brick offset
@@ -43,6 +48,39 @@ public final class BoardStateSnapshot {
                               int score,
                               int totalLines,
                               int level) {
+        this(boardMatrix, offset, currentBrick, rotationIndex, heldBrick, queueSnapshot, score, totalLines, level,
+                0, false, LockAction.MOVE);
+    }
+
+    /**
+     * Creates an immutable snapshot of the board state for undo, including the scoring
+     * chain, so a clear that is undone and replayed earns the same bonus again.
+     *
+     * @param boardMatrix the current board matrix
+     * @param offset the active brick offset
+     * @param currentBrick the active brick
+     * @param rotationIndex the active brick rotation index
+     * @param heldBrick the held brick (nullable)
+     * @param queueSnapshot the upcoming brick queue snapshot (nullable)
+     * @param score the current score
+     * @param totalLines the total cleared lines
+     * @param level the current level
+     * @param combo the locks in a row that have cleared rows
+     * @param backToBack whether the last clear was a difficult one
+     * @param lastAction the last thing that moved the active brick
+     */
+    public BoardStateSnapshot(int[][] boardMatrix,
+                              Point offset,
+                              Brick currentBrick,
+                              int rotationIndex,
+                              Brick heldBrick,
+                              Deque<Brick> queueSnapshot,
+                              int score,
+                              int totalLines,
+                              int level,
+                              int combo,
+                              boolean backToBack,
+                              LockAction lastAction) {
         this.boardMatrix = MatrixOperations.copy(boardMatrix);
         this.offset = new Point(offset);
         this.currentBrick = currentBrick;
@@ -52,6 +90,9 @@ public final class BoardStateSnapshot {
         this.score = score;
         this.totalLines = totalLines;
         this.level = level;
+        this.combo = combo;
+        this.backToBack = backToBack;
+        this.lastAction = lastAction;
     }
 
     /**
@@ -134,4 +175,31 @@ public final class BoardStateSnapshot {
     public int getLevel() {
         return level;
     }
+
+    /**
+     * Gets the combo count at the time of the snapshot.
+     *
+     * @return locks in a row that have cleared rows
+     */
+    public int getCombo() {
+        return combo;
+    }
+
+    /**
+     * Gets whether a back-to-back chain was running at the time of the snapshot.
+     *
+     * @return true if the last clear was a difficult one
+     */
+    public boolean isBackToBack() {
+        return backToBack;
+    }
+
+    /**
+     * Gets the last thing that moved the active brick at the time of the snapshot.
+     *
+     * @return the last action
+     */
+    public LockAction getLastAction() {
+        return lastAction;
+    }
 }
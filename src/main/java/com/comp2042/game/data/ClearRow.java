@@ -1,6 +1,7 @@
 package com.comp2042.game.data;
 
 import com.comp2042.game.operations.MatrixOperations;
+import com.comp2042.game.score.SpinType;
 
 /**
  * Immutable data class representing the result of clearing complete rows.
@@ -14,6 +15,7 @@ public final class ClearRow {
     private final int linesRemoved;
     private final int[][] newMatrix;
     private final int scoreBonus;
+    private final SpinType spin;
 
     /**
      * Creates new clear row result data.
@@ -23,9 +25,34 @@ public final class ClearRow {
      * @param scoreBonus score points awarded for clearing rows
      */
     public ClearRow(int linesRemoved, int[][] newMatrix, int scoreBonus) {
+        this(linesRemoved, newMatrix, scoreBonus, SpinType.NONE);
+    }
+
+    /**
+     * Creates new clear row result data for a lock judged as a spin.
+     *
+     * @param linesRemoved number of complete rows that were cleared
+     * @param newMatrix the board matrix after clearing rows
+     * @param scoreBonus score points awarded for the lock
+     * @param spin the spin the lock was judged to be
+     */
+    public ClearRow(int linesRemoved, int[][] newMatrix, int scoreBonus, SpinType spin) {
         this.linesRemoved = linesRemoved;
         this.newMatrix = newMatrix;
         this.scoreBonus = scoreBonus;
+        this.spin = spin;
+    }
+
+    /**
+     * Returns the same clear with a different score. The board matrix is shared,
+     * which is safe since it is never handed out without copying.
+     *
+     * @param scoreBonus the new score bonus
+     * @param spin the spin the lock was judged to be
+     * @return the rescored clear
+     */
+    public ClearRow withScore(int scoreBonus, SpinType spin) {
+        return new ClearRow(linesRemoved, newMatrix, scoreBonus, spin);
     }
 
     /**
@@ -47,12 +74,22 @@ public final class ClearRow {
     }
 
     /**
-     * Returns the score bonus awarded for clearing rows.
-     * Score is calculated as 50 * (lines cleared)².
+     * Returns the score bonus awarded for the lock. Straight from the board this is
+     * the {@link com.comp2042.game.score.ScoringEngine}'s points; after landing it
+     * includes the level multiplier.
      * 
      * @return score bonus points
      */
     public int getScoreBonus() {
         return scoreBonus;
     }
+
+    /**
+     * Returns the spin the lock was judged to be.
+     *
+     * @return the spin, {@link SpinType#NONE} for a plain lock
+     */
+    public SpinType getSpin() {
+        return spin;
+    }
 }
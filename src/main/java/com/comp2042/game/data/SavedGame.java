@@ -0,0 +1,52 @@
+package com.comp2042.game.data;
+
+/**
+ * Immutable description of an in-progress game that can be written to disk and resumed.
+ * Wraps the board snapshot used for undo together with the ability charge counters
+ * tracked by the game controller.
+ */
+public final class SavedGame {
+    private final BoardStateSnapshot snapshot;
+    private final int undoUses;
+    private final int timeSlowUses;
+
+    /**
+     * Creates a saved game description.
+     *
+     * @param snapshot the board state snapshot
+     * @param undoUses the number of undo charges already consumed
+     * @param timeSlowUses the number of time slow charges already consumed
+     */
+    public SavedGame(BoardStateSnapshot snapshot, int undoUses, int timeSlowUses) {
+        this.snapshot = snapshot;
+        this.undoUses = undoUses;
+        this.timeSlowUses = timeSlowUses;
+    }
+
+    /**
+     * Gets the board state snapshot.
+     *
+     * @return the snapshot
+     */
+    public BoardStateSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Gets the number of undo charges already consumed.
+     *
+     * @return consumed undo charges
+     */
+    public int getUndoUses() {
+        return undoUses;
+    }
+
+    /**
+     * Gets the number of time slow charges already consumed.
+     *
+     * @return consumed time slow charges
+     */
+    public int getTimeSlowUses() {
+        return timeSlowUses;
+    }
+}
@@ -0,0 +1,196 @@
+package com.comp2042.game.env;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Serves a {@link VectorTetrisEnv} to another local process through a memory-mapped file,
+ * so a trainer can step thousands of games without sockets or serialisation.
+ *
+ * <p>File layout (little-endian, offsets in bytes):
+ * <pre>
+ *   0  long  magic            written last by the server once the file is ready
+ *   8  int   version
+ *  12  int   numEnvs
+ *  16  int   observationSize  per game, in bytes (see VectorTetrisEnv)
+ *  20  int   command          COMMAND_STEP, COMMAND_RESET or COMMAND_CLOSE
+ *  24  long  requestSeq       incremented by the client to submit a command
+ *  32  long  responseSeq      set to requestSeq by the server when the command is done
+ *  64  int[numEnvs]   actions
+ *      float[numEnvs] rewards
+ *      byte[numEnvs]  dones (1 = game ended and was reset)
+ *      byte[numEnvs * observationSize] observations, 8-byte aligned
+ * </pre>
+ *
+ * <p>Handshake: the client fills in the actions and command, then publishes
+ * {@code requestSeq + 1}; the server runs the command, writes the results and publishes
+ * the same number as {@code responseSeq}. Sequence numbers are read and written with
+ * acquire/release semantics, which orders the plain region accesses around them.
+ * A client in another language does the same with its platform's atomics.
+ */
+public final class SharedMemoryBridge implements AutoCloseable {
+
+    /** Value of the magic field: "TETRSHM1" read as a little-endian long. */
+    public static final long MAGIC = 0x314D485352544554L;
+    /** Layout version. */
+    public static final int VERSION = 1;
+    /** Command: step every game with the actions region. */
+    public static final int COMMAND_STEP = 1;
+    /** Command: reset every game. */
+    public static final int COMMAND_RESET = 2;
+    /** Command: stop serving. */
+    public static final int COMMAND_CLOSE = 3;
+
+    static final int MAGIC_OFFSET = 0;
+    static final int VERSION_OFFSET = 8;
+    static final int NUM_ENVS_OFFSET = 12;
+    static final int OBSERVATION_SIZE_OFFSET = 16;
+    static final int COMMAND_OFFSET = 20;
+    static final int REQUEST_SEQ_OFFSET = 24;
+    static final int RESPONSE_SEQ_OFFSET = 32;
+    static final int ACTIONS_OFFSET = 64;
+
+    static final VarHandle LONGS =
+            MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    static final int SPINS_BEFORE_PARKING = 10_000;
+    static final long PARK_NANOS = 50_000;
+
+    private final VectorTetrisEnv env;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final ByteBuffer observations;
+    private final int rewardsOffset;
+    private final int donesOffset;
+    private final int[] actions;
+    private final float[] rewards;
+    private final boolean[] dones;
+    private volatile boolean running = true;
+
+    /**
+     * Creates (or overwrites) the shared file, resets the environment and publishes
+     * the first observations.
+     *
+     * @param path the file to map
+     * @param env the environment to serve
+     * @throws IOException if the file cannot be created or mapped
+     */
+    public SharedMemoryBridge(Path path, VectorTetrisEnv env) throws IOException {
+        this.env = env;
+        int numEnvs = env.getNumEnvs();
+        rewardsOffset = ACTIONS_OFFSET + 4 * numEnvs;
+        donesOffset = rewardsOffset + 4 * numEnvs;
+        int observationsOffset = align8(donesOffset + numEnvs);
+        int size = observationsOffset + numEnvs * env.getObservationSize();
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        observations = buffer.slice(observationsOffset, numEnvs * env.getObservationSize());
+        actions = new int[numEnvs];
+        rewards = new float[numEnvs];
+        dones = new boolean[numEnvs];
+
+        buffer.putInt(VERSION_OFFSET, VERSION);
+        buffer.putInt(NUM_ENVS_OFFSET, numEnvs);
+        buffer.putInt(OBSERVATION_SIZE_OFFSET, env.getObservationSize());
+        env.reset(observations);
+        LONGS.setRelease(buffer, RESPONSE_SEQ_OFFSET, 0L);
+        LONGS.setRelease(buffer, MAGIC_OFFSET, MAGIC);
+    }
+
+    /**
+     * Serves commands on the calling thread until {@link #COMMAND_CLOSE} arrives or
+     * {@link #close()} is called. Waits spin briefly, then park, so an idle bridge does
+     * not hold a core.
+     */
+    public void serve() {
+        long served = (long) LONGS.getAcquire(buffer, RESPONSE_SEQ_OFFSET);
+        int idle = 0;
+        while (running) {
+            long request = (long) LONGS.getAcquire(buffer, REQUEST_SEQ_OFFSET);
+            if (request == served) {
+                if (++idle < SPINS_BEFORE_PARKING) {
+                    Thread.onSpinWait();
+                } else {
+                    LockSupport.parkNanos(PARK_NANOS);
+                }
+                continue;
+            }
+            idle = 0;
+            int command = buffer.getInt(COMMAND_OFFSET);
+            if (command == COMMAND_STEP) {
+                step();
+            } else if (command == COMMAND_RESET) {
+                env.reset(observations);
+                for (int i = 0; i < actions.length; i++) {
+                    buffer.putFloat(rewardsOffset + 4 * i, 0f);
+                    buffer.put(donesOffset + i, (byte) 0);
+                }
+            } else if (command == COMMAND_CLOSE) {
+                running = false;
+            }
+            served = request;
+            LONGS.setRelease(buffer, RESPONSE_SEQ_OFFSET, served);
+        }
+    }
+
+    private void step() {
+        for (int i = 0; i < actions.length; i++) {
+            int action = buffer.getInt(ACTIONS_OFFSET + 4 * i);
+            // Bad input from the other process must not kill the server
+            actions[i] = action >= 0 && action < VectorTetrisEnv.ACTION_COUNT ? action : VectorTetrisEnv.NONE;
+        }
+        env.step(actions, observations, rewards, dones);
+        for (int i = 0; i < actions.length; i++) {
+            buffer.putFloat(rewardsOffset + 4 * i, rewards[i]);
+            buffer.put(donesOffset + i, (byte) (dones[i] ? 1 : 0));
+        }
+    }
+
+    /**
+     * Stops {@link #serve()} and closes the file. The mapping itself is released when
+     * the buffer is garbage collected.
+     *
+     * @throws IOException if the file cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        running = false;
+        channel.close();
+    }
+
+    static int align8(int offset) {
+        return (offset + 7) & ~7;
+    }
+
+    /**
+     * Serves an environment until a client sends {@link #COMMAND_CLOSE}.
+     * Arguments: file path (default tetris-env.shm), game count (default 1024),
+     * seed (default 0).
+     *
+     * @param args command-line arguments
+     * @throws IOException if the file cannot be mapped
+     */
+    public static void main(String[] args) throws IOException {
+        Path path = Paths.get(args.length > 0 ? args[0] : "tetris-env.shm");
+        int numEnvs = args.length > 1 ? Integer.parseInt(args[1]) : 1024;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 0L;
+        VectorTetrisEnv env = new VectorTetrisEnv(numEnvs, 25, 10, seed);
+        env.setParallelism(ForkJoinPool.commonPool(), 64);
+        try (SharedMemoryBridge bridge = new SharedMemoryBridge(path, env)) {
+            System.out.printf("Serving %d games on %s%n", numEnvs, path.toAbsolutePath());
+            bridge.serve();
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.comp2042.game.env;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.comp2042.game.env.SharedMemoryBridge.LONGS;
+
+/**
+ * Reference client for {@link SharedMemoryBridge}, showing the step protocol from the
+ * trainer's side and measuring its throughput. Trainers in other languages map the same
+ * file and follow the same sequence.
+ */
+public final class SharedMemoryClient implements AutoCloseable {
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int numEnvs;
+    private final int observationSize;
+    private final int rewardsOffset;
+    private final int donesOffset;
+    private final ByteBuffer observations;
+    private final long timeoutNanos;
+    private long sequence;
+
+    /**
+     * Maps a bridge file, waiting for the server to finish publishing it.
+     *
+     * @param path the file the server created
+     * @param timeoutMillis how long to wait for the server, here and for every response
+     * @throws IOException if the file cannot be mapped or has another layout version
+     * @throws TimeoutException if the server does not become ready in time
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public SharedMemoryClient(Path path, long timeoutMillis)
+            throws IOException, TimeoutException, InterruptedException {
+        timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (!Files.exists(path) || Files.size(path) < SharedMemoryBridge.ACTIONS_OFFSET) {
+            awaitDeadline(deadline, path);
+        }
+        channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, SharedMemoryBridge.ACTIONS_OFFSET);
+        while ((long) LONGS.getAcquire(header, SharedMemoryBridge.MAGIC_OFFSET) != SharedMemoryBridge.MAGIC) {
+            awaitDeadline(deadline, path);
+        }
+        header.order(ByteOrder.LITTLE_ENDIAN);
+        if (header.getInt(SharedMemoryBridge.VERSION_OFFSET) != SharedMemoryBridge.VERSION) {
+            throw new IOException("Unsupported bridge version " + header.getInt(SharedMemoryBridge.VERSION_OFFSET));
+        }
+        numEnvs = header.getInt(SharedMemoryBridge.NUM_ENVS_OFFSET);
+        observationSize = header.getInt(SharedMemoryBridge.OBSERVATION_SIZE_OFFSET);
+        rewardsOffset = SharedMemoryBridge.ACTIONS_OFFSET + 4 * numEnvs;
+        donesOffset = rewardsOffset + 4 * numEnvs;
+        int observationsOffset = SharedMemoryBridge.align8(donesOffset + numEnvs);
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, observationsOffset + (long) numEnvs * observationSize);
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        observations = buffer.slice(observationsOffset, numEnvs * observationSize);
+        sequence = (long) LONGS.getAcquire(buffer, SharedMemoryBridge.RESPONSE_SEQ_OFFSET);
+    }
+
+    private static void awaitDeadline(long deadline, Path path) throws TimeoutException, InterruptedException {
+        if (System.currentTimeMillis() > deadline) {
+            throw new TimeoutException("No bridge ready at " + path);
+        }
+        Thread.sleep(10);
+    }
+
+    /**
+     * Gets the number of games served.
+     *
+     * @return the game count
+     */
+    public int getNumEnvs() {
+        return numEnvs;
+    }
+
+    /**
+     * Gets the number of observation bytes per game.
+     *
+     * @return the observation size
+     */
+    public int getObservationSize() {
+        return observationSize;
+    }
+
+    /**
+     * Steps every game and waits for the results.
+     *
+     * @param actions one action per game
+     * @throws TimeoutException if the server does not answer in time
+     */
+    public void step(int[] actions) throws TimeoutException {
+        for (int i = 0; i < numEnvs; i++) {
+            buffer.putInt(SharedMemoryBridge.ACTIONS_OFFSET + 4 * i, actions[i]);
+        }
+        submit(SharedMemoryBridge.COMMAND_STEP);
+    }
+
+    /**
+     * Resets every game and waits for the new observations.
+     *
+     * @throws TimeoutException if the server does not answer in time
+     */
+    public void reset() throws TimeoutException {
+        submit(SharedMemoryBridge.COMMAND_RESET);
+    }
+
+    /**
+     * Gets a game's reward from the last step.
+     *
+     * @param env the game index
+     * @return the reward
+     */
+    public float getReward(int env) {
+        return buffer.getFloat(rewardsOffset + 4 * env);
+    }
+
+    /**
+     * Gets whether a game ended (and was reset) on the last step.
+     *
+     * @param env the game index
+     * @return true if the game ended
+     */
+    public boolean isDone(int env) {
+        return buffer.get(donesOffset + env) != 0;
+    }
+
+    /**
+     * Gets the observation region, laid out as described by {@link VectorTetrisEnv}
+     * with one byte per value. The view is live; read it between steps.
+     *
+     * @return the observations, indexed from 0
+     */
+    public ByteBuffer getObservations() {
+        return observations;
+    }
+
+    /**
+     * Asks the server to stop and closes the file, which stays on disk.
+     *
+     * @throws IOException if the file cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        buffer.putInt(SharedMemoryBridge.COMMAND_OFFSET, SharedMemoryBridge.COMMAND_CLOSE);
+        LONGS.setRelease(buffer, SharedMemoryBridge.REQUEST_SEQ_OFFSET, ++sequence);
+        channel.close();
+    }
+
+    /**
+     * Publishes a command and waits for its response, spinning briefly and then parking
+     * like the server does, so a stalled or dead server cannot hold a core forever.
+     */
+    private void submit(int command) throws TimeoutException {
+        buffer.putInt(SharedMemoryBridge.COMMAND_OFFSET, command);
+        long request = ++sequence;
+        LONGS.setRelease(buffer, SharedMemoryBridge.REQUEST_SEQ_OFFSET, request);
+        int idle = 0;
+        long deadline = 0;
+        while ((long) LONGS.getAcquire(buffer, SharedMemoryBridge.RESPONSE_SEQ_OFFSET) != request) {
+            if (++idle < SharedMemoryBridge.SPINS_BEFORE_PARKING) {
+                Thread.onSpinWait();
+                continue;
+            }
+            if (deadline == 0) {
+                deadline = System.nanoTime() + timeoutNanos;
+            } else if (System.nanoTime() - deadline > 0) {
+                throw new TimeoutException("No response to request " + request);
+            }
+            LockSupport.parkNanos(SharedMemoryBridge.PARK_NANOS);
+        }
+    }
+
+    /**
+     * Connects to a running bridge, steps it with random actions and prints the rate.
+     * Arguments: file path (default tetris-env.shm), steps (default 1000).
+     *
+     * @param args command-line arguments
+     * @throws Exception if the bridge cannot be reached
+     */
+    public static void main(String[] args) throws Exception {
+        Path path = Paths.get(args.length > 0 ? args[0] : "tetris-env.shm");
+        int steps = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        try (SharedMemoryClient client = new SharedMemoryClient(path, 30_000)) {
+            int[] actions = new int[client.getNumEnvs()];
+            SplittableRandom random = new SplittableRandom(0);
+            long episodes = 0;
+            long start = System.nanoTime();
+            for (int step = 0; step < steps; step++) {
+                for (int i = 0; i < actions.length; i++) {
+                    actions[i] = random.nextInt(VectorTetrisEnv.ACTION_COUNT);
+                }
+                client.step(actions);
+                for (int i = 0; i < actions.length; i++) {
+                    episodes += client.isDone(i) ? 1 : 0;
+                }
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+            System.out.printf("%d steps x %d games in %.2f s: %.0f steps/s, %.0f game steps/s, %d episodes%n",
+                    steps, actions.length, seconds, steps / seconds, (double) steps * actions.length / seconds,
+                    episodes);
+        }
+    }
+}
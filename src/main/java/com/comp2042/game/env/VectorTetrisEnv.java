@@ -0,0 +1,499 @@
+package com.comp2042.game.env;
+
+import com.comp2042.game.board.BoardGeometry;
+import com.comp2042.game.bricks.BrickType;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Gym-style vectorised environment that steps many independent games in lockstep,
+ * for training reinforcement learning agents.
+ *
+ * <p>Each call to {@code step} takes one action per game, applies it, applies one row of
+ * gravity, and writes every game's observation, reward and done flag into caller-owned
+ * arrays. Games that top out are reset automatically; the observation written for them
+ * is the first observation of the new episode, as in Gym's auto-reset wrappers.
+ *
+ * <p>The rules match {@link com.comp2042.game.board.SimpleBoard}: uniformly random bricks
+ * with one preview, spawn at column 4 of the top row (or the geometry's spawn point),
+ * rotation to the next shape without kicks (as with
+ * {@link com.comp2042.game.operations.NoKickRotationSystem}), an unlimited hold, and a
+ * reward of 50 &times; lines&sup2; per lock like
+ * {@link com.comp2042.game.operations.MatrixOperations#checkRemoving(int[][])}.
+ * Boards are kept as one bitmask per row in flat arrays shared by all games, so stepping
+ * never allocates.
+ *
+ * <p>Observation layout for game {@code i}, starting at {@code i * getObservationSize()}:
+ * <ol>
+ *   <li>{@code rows * cols} cells of locked occupancy (1 = filled), row-major, top row first</li>
+ *   <li>{@code rows * cols} cells marking the falling brick</li>
+ *   <li>7 values one-hot encoding the falling brick's type (BrickType order)</li>
+ *   <li>7 values one-hot encoding the held brick's type (all zero when the hold is empty)</li>
+ *   <li>7 values one-hot encoding the next brick's type</li>
+ * </ol>
+ *
+ * <p>With {@link #setParallelism(ForkJoinPool, int)} games are stepped in chunks on a
+ * pool; the chunk tasks are created once and reused. Results are identical to
+ * sequential stepping because each game has its own random generator.
+ */
+public final class VectorTetrisEnv {
+
+    /** Action: do nothing this step. */
+    public static final int NONE = 0;
+    /** Action: shift one column left. */
+    public static final int LEFT = 1;
+    /** Action: shift one column right. */
+    public static final int RIGHT = 2;
+    /** Action: rotate to the next shape. */
+    public static final int ROTATE = 3;
+    /** Action: move one extra row down. */
+    public static final int SOFT_DROP = 4;
+    /** Action: drop to the landing row and lock. */
+    public static final int HARD_DROP = 5;
+    /** Action: swap the falling brick with the held one. */
+    public static final int HOLD = 6;
+    /** Number of actions. */
+    public static final int ACTION_COUNT = 7;
+
+    private static final BrickType[] TYPES = BrickType.values();
+    private static final int TYPE_COUNT = TYPES.length;
+    private static final int DEFAULT_SPAWN_X = 4;
+    private static final int NO_BRICK = -1;
+
+    // Cell offsets of every rotation of every brick type: [type][rotation][cell]
+    private static final int[][][] CELL_X = new int[TYPE_COUNT][][];
+    private static final int[][][] CELL_Y = new int[TYPE_COUNT][][];
+
+    static {
+        for (int t = 0; t < TYPE_COUNT; t++) {
+            List<int[][]> shapes = TYPES[t].create().getShapeMatrix();
+            CELL_X[t] = new int[shapes.size()][];
+            CELL_Y[t] = new int[shapes.size()][];
+            for (int r = 0; r < shapes.size(); r++) {
+                int[][] shape = shapes.get(r);
+                int cells = 0;
+                for (int[] row : shape) {
+                    for (int cell : row) {
+                        cells += cell != 0 ? 1 : 0;
+                    }
+                }
+                CELL_X[t][r] = new int[cells];
+                CELL_Y[t][r] = new int[cells];
+                int k = 0;
+                for (int y = 0; y < shape.length; y++) {
+                    for (int x = 0; x < shape[y].length; x++) {
+                        if (shape[y][x] != 0) {
+                            CELL_X[t][r][k] = x;
+                            CELL_Y[t][r][k] = y;
+                            k++;
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private final int numEnvs;
+    private final int rows;
+    private final int cols;
+    private final int spawnX;
+    private final int spawnY;
+    private final long fullRow;
+    private final int observationSize;
+
+    private final long[] masks;
+    private final int[] piece;
+    private final int[] rotation;
+    private final int[] pieceX;
+    private final int[] pieceY;
+    private final int[] held;
+    private final int[] next;
+    private final SplittableRandom[] random;
+
+    // Arguments of the step in progress, read by the chunk tasks
+    private int[] stepActions;
+    private float[] stepFloats;
+    private ByteBuffer stepBytes;
+    private float[] stepRewards;
+    private boolean[] stepDones;
+
+    private ForkJoinPool pool;
+    private Chunk[] chunks;
+    @SuppressWarnings("serial") // Tasks are never serialized
+    private final RecursiveAction root = new RecursiveAction() {
+        @Override
+        protected void compute() {
+            ForkJoinTask.invokeAll(chunks);
+        }
+    };
+
+    /** Steps a contiguous range of games. */
+    @SuppressWarnings("serial") // Tasks are never serialized
+    private final class Chunk extends RecursiveAction {
+        private final int from;
+        private final int to;
+
+        Chunk(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            stepRange(from, to);
+        }
+    }
+
+    /**
+     * Creates an environment of {@code numEnvs} games, all reset. Bricks spawn at
+     * column 4, or further left on boards too narrow for a brick there.
+     *
+     * @param numEnvs the number of games
+     * @param rows the board rows (4 or more)
+     * @param cols the board columns (4 to 64)
+     * @param seed the seed; game {@code i} uses a generator split from it
+     */
+    public VectorTetrisEnv(int numEnvs, int rows, int cols, long seed) {
+        this(numEnvs, rows, cols, Math.min(DEFAULT_SPAWN_X, cols - BoardGeometry.MAX_BRICK_SIZE), 0, seed);
+    }
+
+    /**
+     * Creates an environment of {@code numEnvs} games on boards of the given geometry,
+     * all reset. The buffer rows are part of the board like any other row.
+     *
+     * @param numEnvs the number of games
+     * @param geometry the board size and spawn point
+     * @param seed the seed; game {@code i} uses a generator split from it
+     */
+    public VectorTetrisEnv(int numEnvs, BoardGeometry geometry, long seed) {
+        this(numEnvs, geometry.getRows(), geometry.getColumns(), geometry.getSpawnX(), geometry.getSpawnY(), seed);
+    }
+
+    private VectorTetrisEnv(int numEnvs, int rows, int cols, int spawnX, int spawnY, long seed) {
+        if (numEnvs < 1 || spawnX < 0 || cols < spawnX + BoardGeometry.MAX_BRICK_SIZE || cols > Long.SIZE
+                || rows < spawnY + BoardGeometry.MAX_BRICK_SIZE) {
+            throw new IllegalArgumentException("Unsupported environment " + numEnvs + " x " + rows + "x" + cols);
+        }
+        this.spawnX = spawnX;
+        this.spawnY = spawnY;
+        this.numEnvs = numEnvs;
+        this.rows = rows;
+        this.cols = cols;
+        this.fullRow = cols == Long.SIZE ? -1L : (1L << cols) - 1;
+        this.observationSize = 2 * rows * cols + 3 * TYPE_COUNT;
+        masks = new long[numEnvs * rows];
+        piece = new int[numEnvs];
+        rotation = new int[numEnvs];
+        pieceX = new int[numEnvs];
+        pieceY = new int[numEnvs];
+        held = new int[numEnvs];
+        next = new int[numEnvs];
+        random = new SplittableRandom[numEnvs];
+        SplittableRandom seeds = new SplittableRandom(seed);
+        for (int i = 0; i < numEnvs; i++) {
+            random[i] = seeds.split();
+            resetGame(i);
+        }
+    }
+
+    /**
+     * Steps games in chunks on a pool, or sequentially when {@code pool} is null.
+     *
+     * @param pool the pool, or null for sequential stepping
+     * @param chunkSize the number of games per task (at least 1)
+     */
+    public void setParallelism(ForkJoinPool pool, int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        }
+        this.pool = pool;
+        if (pool == null) {
+            chunks = null;
+            return;
+        }
+        int count = (numEnvs + chunkSize - 1) / chunkSize;
+        chunks = new Chunk[count];
+        for (int c = 0; c < count; c++) {
+            chunks[c] = new Chunk(c * chunkSize, Math.min(numEnvs, (c + 1) * chunkSize));
+        }
+    }
+
+    /**
+     * Gets the number of games.
+     *
+     * @return the game count
+     */
+    public int getNumEnvs() {
+        return numEnvs;
+    }
+
+    /**
+     * Gets the number of observation values per game.
+     *
+     * @return the observation size
+     */
+    public int getObservationSize() {
+        return observationSize;
+    }
+
+    /**
+     * Resets every game and writes the first observations.
+     *
+     * @param observations receives {@code getNumEnvs() * getObservationSize()} values
+     */
+    public void reset(float[] observations) {
+        checkLength(observations.length, "observations");
+        for (int i = 0; i < numEnvs; i++) {
+            resetGame(i);
+            writeObservation(i, observations, null);
+        }
+    }
+
+    /**
+     * Resets every game and writes the first observations as bytes (0 or 1).
+     *
+     * @param observations receives {@code getNumEnvs() * getObservationSize()} bytes,
+     *                     written at absolute indices from 0
+     */
+    public void reset(ByteBuffer observations) {
+        checkLength(observations.capacity(), "observations");
+        for (int i = 0; i < numEnvs; i++) {
+            resetGame(i);
+            writeObservation(i, null, observations);
+        }
+    }
+
+    /**
+     * Steps every game once.
+     *
+     * @param actions one action per game
+     * @param observations receives the observations
+     * @param rewards receives one reward per game
+     * @param dones receives whether each game ended (and was reset) this step
+     */
+    public void step(int[] actions, float[] observations, float[] rewards, boolean[] dones) {
+        checkLength(observations.length, "observations");
+        step(actions, observations, null, rewards, dones);
+    }
+
+    /**
+     * Steps every game once, writing observations as bytes (0 or 1).
+     *
+     * @param actions one action per game
+     * @param observations receives the observations at absolute indices from 0
+     * @param rewards receives one reward per game
+     * @param dones receives whether each game ended (and was reset) this step
+     */
+    public void step(int[] actions, ByteBuffer observations, float[] rewards, boolean[] dones) {
+        checkLength(observations.capacity(), "observations");
+        step(actions, null, observations, rewards, dones);
+    }
+
+    private void step(int[] actions, float[] floats, ByteBuffer bytes, float[] rewards, boolean[] dones) {
+        if (actions.length < numEnvs || rewards.length < numEnvs || dones.length < numEnvs) {
+            throw new IllegalArgumentException("Action, reward and done arrays need " + numEnvs + " entries");
+        }
+        stepActions = actions;
+        stepFloats = floats;
+        stepBytes = bytes;
+        stepRewards = rewards;
+        stepDones = dones;
+        if (pool == null) {
+            stepRange(0, numEnvs);
+        } else {
+            for (Chunk chunk : chunks) {
+                chunk.reinitialize();
+            }
+            root.reinitialize();
+            pool.invoke(root);
+        }
+        stepActions = null;
+        stepFloats = null;
+        stepBytes = null;
+        stepRewards = null;
+        stepDones = null;
+    }
+
+    private void stepRange(int from, int to) {
+        int[] actions = stepActions;
+        float[] rewards = stepRewards;
+        boolean[] dones = stepDones;
+        for (int i = from; i < to; i++) {
+            int lines = -1; // -1 = still falling
+            switch (actions[i]) {
+                case LEFT -> tryMove(i, -1, 0, 0);
+                case RIGHT -> tryMove(i, 1, 0, 0);
+                case ROTATE -> tryMove(i, 0, 0, 1);
+                case SOFT_DROP -> {
+                    if (!tryMove(i, 0, 1, 0)) {
+                        lines = lock(i);
+                    }
+                }
+                case HARD_DROP -> {
+                    while (tryMove(i, 0, 1, 0)) {
+                        // Fall to the landing row
+                    }
+                    lines = lock(i);
+                }
+                case HOLD -> hold(i);
+                case NONE -> { }
+                default -> throw new IllegalArgumentException("Unknown action " + actions[i] + " for game " + i);
+            }
+            if (lines < 0 && !tryMove(i, 0, 1, 0)) {
+                lines = lock(i); // Gravity
+            }
+            boolean done = false;
+            if (lines >= 0 && !spawn(i)) {
+                resetGame(i);
+                done = true;
+            }
+            rewards[i] = lines > 0 ? 50f * lines * lines : 0f;
+            dones[i] = done;
+            writeObservation(i, stepFloats, stepBytes);
+        }
+    }
+
+    private boolean tryMove(int i, int dx, int dy, int rotate) {
+        int t = piece[i];
+        int r = rotate == 0 ? rotation[i] : (rotation[i] + 1) % CELL_X[t].length;
+        int x = pieceX[i] + dx;
+        int y = pieceY[i] + dy;
+        if (!fits(i, t, r, x, y)) {
+            return false;
+        }
+        rotation[i] = r;
+        pieceX[i] = x;
+        pieceY[i] = y;
+        return true;
+    }
+
+    private boolean fits(int i, int type, int rot, int x, int y) {
+        int[] cellX = CELL_X[type][rot];
+        int[] cellY = CELL_Y[type][rot];
+        int base = i * rows;
+        for (int k = 0; k < cellX.length; k++) {
+            int cx = x + cellX[k];
+            int cy = y + cellY[k];
+            if (cy < 0 || cy >= rows || cx < 0 || cx >= cols || (masks[base + cy] & (1L << cx)) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Locks the falling brick and clears full rows.
+     *
+     * @return the number of rows cleared
+     */
+    private int lock(int i) {
+        int t = piece[i];
+        int r = rotation[i];
+        int[] cellX = CELL_X[t][r];
+        int[] cellY = CELL_Y[t][r];
+        int base = i * rows;
+        for (int k = 0; k < cellX.length; k++) {
+            masks[base + pieceY[i] + cellY[k]] |= 1L << (pieceX[i] + cellX[k]);
+        }
+        int write = rows - 1;
+        for (int read = rows - 1; read >= 0; read--) {
+            long mask = masks[base + read];
+            if (mask != fullRow) {
+                masks[base + write--] = mask;
+            }
+        }
+        int cleared = write + 1;
+        for (int row = 0; row <= write; row++) {
+            masks[base + row] = 0L;
+        }
+        return cleared;
+    }
+
+    private void hold(int i) {
+        if (held[i] == NO_BRICK) {
+            held[i] = piece[i];
+            spawn(i); // A failed spawn is caught by the next lock, as in SimpleBoard
+        } else {
+            int swap = held[i];
+            held[i] = piece[i];
+            piece[i] = swap;
+            rotation[i] = 0;
+            pieceX[i] = spawnX;
+            pieceY[i] = spawnY;
+        }
+    }
+
+    /**
+     * Brings in the next brick.
+     *
+     * @return false if it collides, ending the game
+     */
+    private boolean spawn(int i) {
+        piece[i] = next[i];
+        next[i] = random[i].nextInt(TYPE_COUNT);
+        rotation[i] = 0;
+        pieceX[i] = spawnX;
+        pieceY[i] = spawnY;
+        return fits(i, piece[i], 0, spawnX, spawnY);
+    }
+
+    private void resetGame(int i) {
+        int base = i * rows;
+        for (int row = 0; row < rows; row++) {
+            masks[base + row] = 0L;
+        }
+        held[i] = NO_BRICK;
+        next[i] = random[i].nextInt(TYPE_COUNT);
+        if (!spawn(i)) {
+            throw new IllegalStateException("No room to spawn on an empty " + rows + "x" + cols + " board");
+        }
+    }
+
+    private void writeObservation(int i, float[] floats, ByteBuffer bytes) {
+        int offset = i * observationSize;
+        int base = i * rows;
+        int cells = rows * cols;
+        for (int row = 0; row < rows; row++) {
+            long mask = masks[base + row];
+            for (int col = 0; col < cols; col++) {
+                put(floats, bytes, offset + row * cols + col, (int) (mask >>> col) & 1);
+            }
+        }
+        int active = offset + cells;
+        for (int k = 0; k < cells; k++) {
+            put(floats, bytes, active + k, 0);
+        }
+        int[] cellX = CELL_X[piece[i]][rotation[i]];
+        int[] cellY = CELL_Y[piece[i]][rotation[i]];
+        for (int k = 0; k < cellX.length; k++) {
+            int row = pieceY[i] + cellY[k];
+            int col = pieceX[i] + cellX[k];
+            put(floats, bytes, active + row * cols + col, 1);
+        }
+        int types = offset + 2 * cells;
+        for (int t = 0; t < TYPE_COUNT; t++) {
+            put(floats, bytes, types + t, piece[i] == t ? 1 : 0);
+            put(floats, bytes, types + TYPE_COUNT + t, held[i] == t ? 1 : 0);
+            put(floats, bytes, types + 2 * TYPE_COUNT + t, next[i] == t ? 1 : 0);
+        }
+    }
+
+    private static void put(float[] floats, ByteBuffer bytes, int index, int value) {
+        if (floats != null) {
+            floats[index] = value;
+        } else {
+            bytes.put(index, (byte) value);
+        }
+    }
+
+    private void checkLength(int length, String name) {
+        if (length < numEnvs * observationSize) {
+            throw new IllegalArgumentException(name + " needs " + numEnvs * observationSize + " entries, got " + length);
+        }
+    }
+}
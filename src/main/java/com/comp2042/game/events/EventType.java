@@ -14,8 +14,17 @@ public enum EventType {
     /** Move the active brick right by one column */
     RIGHT,
     
-    /** Rotate the active brick clockwise */
+    /** Rotate the active brick to the next shape in its rotation list */
     ROTATE,
+
+    /** Rotate the active brick clockwise */
+    ROTATE_CLOCKWISE,
+
+    /** Rotate the active brick counter-clockwise */
+    ROTATE_COUNTER_CLOCKWISE,
+
+    /** Rotate the active brick half a turn */
+    ROTATE_180,
     
     /** Instantly drop the active brick to the lowest possible position */
     HARD_DROP,
@@ -3,24 +3,78 @@ package com.comp2042.game.level;
 /**
  * Represents a game level with its configuration.
  * Immutable class that holds level-specific settings like drop speed and score multiplier.
+ *
+ * <p>Gravity is expressed in 16.16 fixed-point rows per engine tick
+ * ({@link #TICK_MS}), so a level can fall slower than a row per tick or many rows per
+ * tick (20G is {@code 20 * GRAVITY_ONE}) without changing the timer. A brick resting
+ * on the stack locks after {@link #getLockDelayTicks()} ticks; each successful move
+ * or rotation restarts that delay, at most {@link #getMaxLockResets()} times per row.
  */
 public final class Level {
+
+    /** Length of one engine tick in milliseconds (60 ticks per second). */
+    public static final double TICK_MS = 1000.0 / 60.0;
+
+    /** Gravity of one row per tick. */
+    public static final int GRAVITY_ONE = 1 << 16;
+
+    /** Lock delay used when a level does not set one: half a second. */
+    public static final int DEFAULT_LOCK_DELAY_TICKS = 30;
+
+    /** Move resets allowed when a level does not set a limit. */
+    public static final int DEFAULT_MAX_LOCK_RESETS = 15;
     
     private final int levelNumber;
     private final double dropSpeedMs;
     private final double scoreMultiplier;
+    private final int gravity;
+    private final int lockDelayTicks;
+    private final int maxLockResets;
     
     /**
-     * Creates a new level configuration.
+     * Creates a new level configuration whose gravity matches the drop speed,
+     * with the default lock delay.
      * 
      * @param levelNumber the level number (1, 2, 3, etc.)
      * @param dropSpeedMs the drop speed in milliseconds (lower = faster)
      * @param scoreMultiplier the score multiplier for this level
      */
     public Level(int levelNumber, double dropSpeedMs, double scoreMultiplier) {
+        this(levelNumber, dropSpeedMs, scoreMultiplier, gravityFor(dropSpeedMs),
+                DEFAULT_LOCK_DELAY_TICKS, DEFAULT_MAX_LOCK_RESETS);
+    }
+
+    /**
+     * Creates a new level configuration.
+     *
+     * @param levelNumber the level number (1, 2, 3, etc.)
+     * @param dropSpeedMs the drop speed in milliseconds per row
+     * @param scoreMultiplier the score multiplier for this level
+     * @param gravity rows per tick in 16.16 fixed point ({@link #GRAVITY_ONE} = one row)
+     * @param lockDelayTicks ticks a grounded brick waits before locking
+     * @param maxLockResets how many moves may restart the lock delay
+     */
+    public Level(int levelNumber, double dropSpeedMs, double scoreMultiplier,
+                 int gravity, int lockDelayTicks, int maxLockResets) {
+        if (gravity < 0 || lockDelayTicks < 0 || maxLockResets < 0) {
+            throw new IllegalArgumentException("Gravity and lock settings must not be negative");
+        }
         this.levelNumber = levelNumber;
         this.dropSpeedMs = dropSpeedMs;
         this.scoreMultiplier = scoreMultiplier;
+        this.gravity = gravity;
+        this.lockDelayTicks = lockDelayTicks;
+        this.maxLockResets = maxLockResets;
+    }
+
+    /**
+     * Converts a drop speed to fixed-point gravity.
+     *
+     * @param dropSpeedMs milliseconds per row
+     * @return rows per tick in 16.16 fixed point
+     */
+    public static int gravityFor(double dropSpeedMs) {
+        return (int) Math.round(GRAVITY_ONE * TICK_MS / dropSpeedMs);
     }
     
     /**
@@ -50,5 +104,32 @@ public final class Level {
     public double getScoreMultiplier() {
         return scoreMultiplier;
     }
-}
 
+    /**
+     * Gets the gravity.
+     *
+     * @return rows per tick in 16.16 fixed point
+     */
+    public int getGravity() {
+        return gravity;
+    }
+
+    /**
+     * Gets how long a grounded brick waits before locking.
+     *
+     * @return the lock delay in ticks
+     */
+    public int getLockDelayTicks() {
+        return lockDelayTicks;
+    }
+
+    /**
+     * Gets how many moves or rotations may restart the lock delay before the brick
+     * reaches a new lowest row.
+     *
+     * @return the move reset limit
+     */
+    public int getMaxLockResets() {
+        return maxLockResets;
+    }
+}
@@ -0,0 +1,219 @@
+package com.comp2042.game.level;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
+/**
+ * A LevelStrategy loaded from a properties file and materialized once into an
+ * immutable array of {@link Level}s, so a lookup is an array index and never
+ * allocates. The file lists tuned levels as {@code level.N}; levels past the last
+ * one follow a formula given by the {@code beyond.*} settings, and are precomputed
+ * up to {@link #MATERIALIZED_LEVELS}. Anything higher is computed on demand.
+ *
+ * <p>Curves are swappable per game mode: the standard curve ships as
+ * {@code levels/standard.properties} and a 20G curve as {@code levels/master.properties}.
+ */
+public final class LevelCurve implements LevelStrategy {
+
+    /** Levels held in the lookup table, tuned or extrapolated. */
+    public static final int MATERIALIZED_LEVELS = 100;
+
+    /** Classpath folder holding the bundled curves. */
+    public static final String RESOURCE_FOLDER = "levels/";
+
+    /** Name of the standard curve. */
+    public static final String STANDARD = "standard";
+
+    private static final LevelCurve STANDARD_CURVE = bundled(STANDARD);
+
+    private final Level[] levels; // Indexed by level number; slot 0 unused
+    private final int linesPerLevel;
+    private final int tunedLevels;
+    private final double speedFactor;
+    private final double minDropSpeedMs;
+    private final double multiplierStep;
+    private final double maxMultiplier;
+    private final int lockDelayStep;
+    private final int minLockDelayTicks;
+
+    private LevelCurve(Properties properties) {
+        linesPerLevel = intSetting(properties, "linesPerLevel", 5);
+        if (linesPerLevel < 1) {
+            throw new IllegalArgumentException("linesPerLevel must be at least 1");
+        }
+        int count = 0;
+        while (properties.getProperty("level." + (count + 1)) != null) {
+            count++;
+        }
+        if (count == 0) {
+            throw new IllegalArgumentException("Level curve defines no levels; expected level.1 onwards");
+        }
+        tunedLevels = count;
+        speedFactor = doubleSetting(properties, "beyond.speedFactor", 1.0);
+        minDropSpeedMs = doubleSetting(properties, "beyond.minDropSpeedMs", 0);
+        multiplierStep = doubleSetting(properties, "beyond.multiplierStep", 0);
+        maxMultiplier = doubleSetting(properties, "beyond.maxMultiplier", Double.MAX_VALUE);
+        lockDelayStep = intSetting(properties, "beyond.lockDelayStep", 0);
+        minLockDelayTicks = intSetting(properties, "beyond.minLockDelayTicks", 0);
+
+        levels = new Level[Math.max(MATERIALIZED_LEVELS, tunedLevels) + 1];
+        for (int number = 1; number <= tunedLevels; number++) {
+            levels[number] = parseLevel(number, properties.getProperty("level." + number));
+        }
+        for (int number = tunedLevels + 1; number < levels.length; number++) {
+            levels[number] = extrapolate(number);
+        }
+    }
+
+    /**
+     * Gets the standard curve, loaded once from the classpath.
+     *
+     * @return the standard curve
+     */
+    public static LevelCurve standard() {
+        return STANDARD_CURVE;
+    }
+
+    /**
+     * Loads a curve bundled on the classpath under {@link #RESOURCE_FOLDER}.
+     *
+     * @param name the curve name, e.g. "standard" or "master"
+     * @return the curve
+     * @throws IllegalArgumentException if there is no such curve or it is malformed
+     */
+    public static LevelCurve bundled(String name) {
+        String resource = RESOURCE_FOLDER + name + ".properties";
+        try (InputStream in = LevelCurve.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalArgumentException("No level curve named " + name);
+            }
+            return load(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read level curve " + resource, e);
+        }
+    }
+
+    /**
+     * Loads a curve from a file.
+     *
+     * @param file the properties file
+     * @return the curve
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if the curve is malformed
+     */
+    public static LevelCurve load(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return load(in);
+        }
+    }
+
+    /**
+     * Loads a curve from a properties stream.
+     *
+     * @param in the stream, left open
+     * @return the curve
+     * @throws IOException if the stream cannot be read
+     * @throws IllegalArgumentException if the curve is malformed
+     */
+    public static LevelCurve load(InputStream in) throws IOException {
+        Properties properties = new Properties();
+        properties.load(in);
+        return new LevelCurve(properties);
+    }
+
+    /**
+     * Loads a bundled curve by name, or a curve file if the name is a path to one.
+     *
+     * @param nameOrFile a bundled curve name or a properties file
+     * @return the curve
+     * @throws IllegalArgumentException if there is no such curve or it is malformed
+     */
+    public static LevelCurve named(String nameOrFile) {
+        Path file = Path.of(nameOrFile);
+        if (Files.isRegularFile(file)) {
+            try {
+                return load(file);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not read level curve " + file, e);
+            }
+        }
+        return bundled(nameOrFile);
+    }
+
+    @Override
+    public Level getLevel(int levelNumber) {
+        if (levelNumber < 1) {
+            throw new IllegalArgumentException("Invalid level number: " + levelNumber);
+        }
+        return levelNumber < levels.length ? levels[levelNumber] : extrapolate(levelNumber);
+    }
+
+    @Override
+    public int getLinesPerLevel() {
+        return linesPerLevel;
+    }
+
+    /**
+     * Gets how many levels the file tunes by hand; later ones follow the formula.
+     *
+     * @return the tuned levels
+     */
+    public int getTunedLevels() {
+        return tunedLevels;
+    }
+
+    /**
+     * Computes a level past the tuned ones from the last tuned level.
+     */
+    private Level extrapolate(int levelNumber) {
+        Level last = levels[tunedLevels];
+        int steps = levelNumber - tunedLevels;
+        double speed = Math.max(minDropSpeedMs, last.getDropSpeedMs() * Math.pow(speedFactor, steps));
+        double multiplier = Math.min(maxMultiplier, last.getScoreMultiplier() + multiplierStep * steps);
+        long lockDelay = Math.max(minLockDelayTicks, last.getLockDelayTicks() - (long) lockDelayStep * steps);
+        return new Level(levelNumber, speed, multiplier, Level.gravityFor(speed),
+                (int) Math.min(lockDelay, last.getLockDelayTicks()), last.getMaxLockResets());
+    }
+
+    private static Level parseLevel(int number, String value) {
+        String[] parts = value.split(",");
+        if (parts.length < 2 || parts.length > 4) {
+            throw new IllegalArgumentException("level." + number
+                    + " needs drop speed, multiplier and optionally lock delay and resets: " + value);
+        }
+        try {
+            double speed = Double.parseDouble(parts[0].trim());
+            if (!(speed > 0)) {
+                throw new IllegalArgumentException("level." + number + " drop speed must be positive");
+            }
+            double multiplier = Double.parseDouble(parts[1].trim());
+            int lockDelay = parts.length > 2 ? Integer.parseInt(parts[2].trim()) : Level.DEFAULT_LOCK_DELAY_TICKS;
+            int resets = parts.length > 3 ? Integer.parseInt(parts[3].trim()) : Level.DEFAULT_MAX_LOCK_RESETS;
+            return new Level(number, speed, multiplier, Level.gravityFor(speed), lockDelay, resets);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("level." + number + " is not a list of numbers: " + value, e);
+        }
+    }
+
+    private static int intSetting(Properties properties, String key, int defaultValue) {
+        String value = properties.getProperty(key);
+        try {
+            return value != null ? Integer.parseInt(value.trim()) : defaultValue;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(key + " is not a whole number: " + value, e);
+        }
+    }
+
+    private static double doubleSetting(Properties properties, String key, double defaultValue) {
+        String value = properties.getProperty(key);
+        try {
+            return value != null ? Double.parseDouble(value.trim()) : defaultValue;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(key + " is not a number: " + value, e);
+        }
+    }
+}
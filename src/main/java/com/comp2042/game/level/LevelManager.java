@@ -1,24 +1,19 @@
 package com.comp2042.game.level;
 
-import javafx.beans.property.IntegerProperty;
-import javafx.beans.property.SimpleIntegerProperty;
-
 /**
  * Manages level progression based on lines cleared.
- * Uses Strategy pattern to get level configurations and tracks current level
- * using JavaFX properties for reactive updates.
+ * Uses Strategy pattern to get level configurations and tracks the current level
+ * as a plain primitive; the UI observes it through {@link com.comp2042.ui.ObservableGameStats}.
  * 
  * Design Patterns:
  * - Strategy Pattern: Uses LevelStrategy to get level configurations
- * - Observer Pattern: Uses IntegerProperty for level updates
  */
 public final class LevelManager {
     
-    private static final int LINES_PER_LEVEL = 5;
-    
     private final LinesClearedTracker linesTracker;
-    private final LevelStrategy levelStrategy;
-    private final IntegerProperty currentLevel = new SimpleIntegerProperty(1);
+    private LevelStrategy levelStrategy;
+    private int currentLevel = 1;
+    private Level currentConfig; // Looked up once per level change, read every tick
     
     /**
      * Creates a new LevelManager.
@@ -29,16 +24,27 @@ public final class LevelManager {
     public LevelManager(LinesClearedTracker linesTracker, LevelStrategy levelStrategy) {
         this.linesTracker = linesTracker;
         this.levelStrategy = levelStrategy;
+        currentConfig = levelStrategy.getLevel(currentLevel);
     }
-    
+
     /**
-     * Returns the level property for binding.
-     * UI components can bind to this for automatic updates (Observer pattern).
-     * 
-     * @return the IntegerProperty containing current level
+     * Swaps the level curve, e.g. when a game mode uses its own. The current level
+     * number is kept and its configuration read from the new curve.
+     *
+     * @param levelStrategy the strategy for getting level configurations
      */
-    public IntegerProperty levelProperty() {
-        return currentLevel;
+    public void setLevelStrategy(LevelStrategy levelStrategy) {
+        this.levelStrategy = levelStrategy;
+        currentConfig = levelStrategy.getLevel(currentLevel);
+    }
+
+    /**
+     * Gets the strategy supplying level configurations.
+     *
+     * @return the level strategy
+     */
+    public LevelStrategy getLevelStrategy() {
+        return levelStrategy;
     }
     
     /**
@@ -47,32 +53,34 @@ public final class LevelManager {
      * @return the current level number
      */
     public int getCurrentLevel() {
-        return currentLevel.getValue();
+        return currentLevel;
     }
     
     /**
-     * Gets the current level configuration.
+     * Gets the current level configuration. Cached when the level changes, so this
+     * is a field read however often the game loop asks.
      * 
      * @return the Level configuration for the current level
      */
     public Level getCurrentLevelConfig() {
-        return levelStrategy.getLevel(getCurrentLevel());
+        return currentConfig;
     }
     
     /**
      * Updates the level based on total lines cleared.
-     * Level = (lines cleared / 5) + 1
+     * Level = (lines cleared / lines per level) + 1
      * Should be called whenever lines are cleared.
      * 
      * @return true if level increased, false otherwise
      */
     public boolean updateLevel() {
         int totalLines = linesTracker.getTotalLines();
-        int newLevel = (totalLines / LINES_PER_LEVEL) + 1;
-        int oldLevel = currentLevel.getValue();
+        int newLevel = (totalLines / levelStrategy.getLinesPerLevel()) + 1;
+        int oldLevel = currentLevel;
         
         if (newLevel > oldLevel) {
-            currentLevel.setValue(newLevel);
+            currentLevel = newLevel;
+            currentConfig = levelStrategy.getLevel(newLevel);
             return true; // Level increased
         }
         return false; // Level unchanged
@@ -84,13 +92,15 @@ public final class LevelManager {
      * @param level the level to set
      */
     public void setLevel(int level) {
-        currentLevel.setValue(level);
+        currentConfig = levelStrategy.getLevel(level);
+        currentLevel = level;
     }
     
     /**
      * Resets the level manager to level 1.
      */
     public void reset() {
-        currentLevel.setValue(1);
+        currentLevel = 1;
+        currentConfig = levelStrategy.getLevel(1);
     }
 }
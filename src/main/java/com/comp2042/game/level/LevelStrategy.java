@@ -18,5 +18,14 @@ public interface LevelStrategy {
      * @return the Level configuration for that level
      */
     Level getLevel(int levelNumber);
+
+    /**
+     * Gets how many cleared lines each level takes.
+     *
+     * @return lines per level, at least 1
+     */
+    default int getLinesPerLevel() {
+        return 5;
+    }
 }
 
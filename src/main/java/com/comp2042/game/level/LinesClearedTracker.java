@@ -1,36 +1,24 @@
 package com.comp2042.game.level;
 
-import javafx.beans.property.IntegerProperty;
-import javafx.beans.property.SimpleIntegerProperty;
-
 /**
  * Tracks the total number of lines cleared across the game.
- * Uses JavaFX properties for reactive updates, following Observer pattern.
+ * A plain primitive counter; the UI observes it through
+ * {@link com.comp2042.ui.ObservableGameStats}.
  */
 public final class LinesClearedTracker {
     
-    private final IntegerProperty totalLines = new SimpleIntegerProperty(0);
+    private int totalLines;
 
     /** Creates a tracker with zeroed total lines. */
     public LinesClearedTracker() { }
 
-    /**
-     * Returns the lines property for binding.
-     * UI components can bind to this for automatic updates (Observer pattern).
-     * 
-     * @return the IntegerProperty containing total lines cleared
-     */
-    public IntegerProperty linesProperty() {
-        return totalLines;
-    }
-
     /**
      * Adds lines to the total count.
      * 
      * @param lines the number of lines to add
      */
     public void addLines(int lines) {
-        totalLines.setValue(totalLines.getValue() + lines);
+        totalLines += lines;
     }
 
     /**
@@ -39,7 +27,7 @@ public final class LinesClearedTracker {
      * @return the total lines cleared
      */
     public int getTotalLines() {
-        return totalLines.getValue();
+        return totalLines;
     }
 
     /**
@@ -48,13 +36,13 @@ public final class LinesClearedTracker {
      * @param total the total lines to set
      */
     public void setTotalLines(int total) {
-        totalLines.setValue(total);
+        totalLines = total;
     }
 
     /**
      * Resets the lines counter to zero.
      */
     public void reset() {
-        totalLines.setValue(0);
+        totalLines = 0;
     }
 }
@@ -0,0 +1,38 @@
+package com.comp2042.game.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free event counter. Threads add to separate cells, so the FX thread, the
+ * game loop and simulation workers can all count at once without contending.
+ */
+public final class Counter {
+
+    private final LongAdder count = new LongAdder();
+
+    /** Creates a counter at zero. */
+    public Counter() { }
+
+    /** Adds one. */
+    public void increment() {
+        count.increment();
+    }
+
+    /**
+     * Adds several.
+     *
+     * @param amount the amount to add
+     */
+    public void add(long amount) {
+        count.add(amount);
+    }
+
+    /**
+     * Gets the total so far.
+     *
+     * @return the count
+     */
+    public long get() {
+        return count.sum();
+    }
+}
@@ -0,0 +1,285 @@
+package com.comp2042.game.metrics;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Locale;
+
+/**
+ * The game's in-process metrics: latency histograms for engine ticks, input and
+ * rendering, allocation per frame, piece and line rates, and game counts. One
+ * registry serves the whole process; every recording method is allocation-free
+ * and lock-free, so the FX thread, the game loop and simulation workers can record
+ * at once. Readers see the values through JMX ({@link #registerMBean()}), the
+ * plain-text {@link MetricsEndpoint}, or {@link #writeText(StringBuilder)}.
+ */
+public final class GameMetrics implements GameMetricsMXBean {
+
+    /** Name the registry is registered under in JMX. */
+    public static final String OBJECT_NAME = "com.comp2042:type=GameMetrics";
+
+    /** Window the piece and line rates are averaged over. */
+    public static final int RATE_WINDOW_SECONDS = 10;
+
+    private static final GameMetrics INSTANCE = new GameMetrics();
+    private static final long NANOS_PER_MICRO = 1000;
+
+    private final Histogram tickNanos = new Histogram();
+    private final Histogram inputNanos = new Histogram();
+    private final Histogram renderNanos = new Histogram();
+    private final Histogram frameAllocatedBytes = new Histogram();
+    private final RateMeter pieces = new RateMeter();
+    private final RateMeter lines = new RateMeter();
+    private final Counter gamesStarted = new Counter();
+    private final Counter gamesFinished = new Counter();
+    private final com.sun.management.ThreadMXBean threads = allocationCounter();
+    private long lastFrameAllocation = -1; // Only touched by the thread sampling frames
+
+    private GameMetrics() { }
+
+    /**
+     * Gets the process-wide registry.
+     *
+     * @return the registry
+     */
+    public static GameMetrics get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Records how long one engine tick took.
+     *
+     * @param nanos the tick's duration
+     */
+    public void recordTick(long nanos) {
+        tickNanos.record(nanos);
+    }
+
+    /**
+     * Records how long a key press took to show on screen.
+     *
+     * @param nanos the time from handling the key to the updated view
+     */
+    public void recordInput(long nanos) {
+        inputNanos.record(nanos);
+    }
+
+    /**
+     * Records how long a redraw of the board or brick took.
+     *
+     * @param nanos the time spent updating the scene graph
+     */
+    public void recordRender(long nanos) {
+        renderNanos.record(nanos);
+    }
+
+    /**
+     * Records a lock and the lines it cleared.
+     *
+     * @param linesCleared the rows cleared, 0 or more
+     * @param nowNanos the {@link System#nanoTime()} clock
+     */
+    public void recordLock(int linesCleared, long nowNanos) {
+        pieces.mark(1, nowNanos);
+        if (linesCleared > 0) {
+            lines.mark(linesCleared, nowNanos);
+        }
+    }
+
+    /** Counts a game starting. */
+    public void gameStarted() {
+        gamesStarted.increment();
+    }
+
+    /** Counts a game ending by topping out. */
+    public void gameFinished() {
+        gamesFinished.increment();
+    }
+
+    /**
+     * Records the bytes the calling thread allocated since its previous call, once
+     * per rendered frame. Must always be called from the same thread, normally the
+     * JavaFX Application Thread; does nothing if the JVM cannot count allocation.
+     */
+    public void sampleFrameAllocation() {
+        if (threads == null) {
+            return;
+        }
+        long allocated = threads.getCurrentThreadAllocatedBytes();
+        if (lastFrameAllocation >= 0 && allocated >= lastFrameAllocation) {
+            frameAllocatedBytes.record(allocated - lastFrameAllocation);
+        }
+        lastFrameAllocation = allocated;
+    }
+
+    /**
+     * Registers the registry with the platform MBean server. Safe to call more than once.
+     */
+    public static void registerMBean() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            server.registerMBean(INSTANCE, new ObjectName(OBJECT_NAME));
+        } catch (InstanceAlreadyExistsException ignored) {
+            // Already registered
+        } catch (JMException e) {
+            System.err.println("Could not register game metrics with JMX: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Gets the tick duration histogram, in nanoseconds.
+     *
+     * @return the histogram
+     */
+    public Histogram getTickHistogram() {
+        return tickNanos;
+    }
+
+    /**
+     * Gets the input latency histogram, in nanoseconds.
+     *
+     * @return the histogram
+     */
+    public Histogram getInputHistogram() {
+        return inputNanos;
+    }
+
+    /**
+     * Gets the render time histogram, in nanoseconds.
+     *
+     * @return the histogram
+     */
+    public Histogram getRenderHistogram() {
+        return renderNanos;
+    }
+
+    /**
+     * Gets the allocation per frame histogram, in bytes.
+     *
+     * @return the histogram
+     */
+    public Histogram getFrameAllocationHistogram() {
+        return frameAllocatedBytes;
+    }
+
+    @Override
+    public long getGamesStarted() {
+        return gamesStarted.get();
+    }
+
+    @Override
+    public long getGamesFinished() {
+        return gamesFinished.get();
+    }
+
+    @Override
+    public double getPiecesPerSecond() {
+        return pieces.perSecond(RATE_WINDOW_SECONDS, System.nanoTime());
+    }
+
+    @Override
+    public double getLinesPerMinute() {
+        return lines.perSecond(RATE_WINDOW_SECONDS, System.nanoTime()) * 60;
+    }
+
+    @Override
+    public long getTickCount() {
+        return tickNanos.getCount();
+    }
+
+    @Override
+    public long getTickMicrosP50() {
+        return tickNanos.getValueAtPercentile(50) / NANOS_PER_MICRO;
+    }
+
+    @Override
+    public long getTickMicrosP99() {
+        return tickNanos.getValueAtPercentile(99) / NANOS_PER_MICRO;
+    }
+
+    @Override
+    public long getTickMicrosMax() {
+        return tickNanos.getMax() / NANOS_PER_MICRO;
+    }
+
+    @Override
+    public long getInputLatencyMicrosP50() {
+        return inputNanos.getValueAtPercentile(50) / NANOS_PER_MICRO;
+    }
+
+    @Override
+    public long getInputLatencyMicrosP99() {
+        return inputNanos.getValueAtPercentile(99) / NANOS_PER_MICRO;
+    }
+
+    @Override
+    public long getRenderMicrosP50() {
+        return renderNanos.getValueAtPercentile(50) / NANOS_PER_MICRO;
+    }
+
+    @Override
+    public long getRenderMicrosP99() {
+        return renderNanos.getValueAtPercentile(99) / NANOS_PER_MICRO;
+    }
+
+    @Override
+    public long getFrameCount() {
+        return frameAllocatedBytes.getCount();
+    }
+
+    @Override
+    public long getAllocatedBytesPerFrameP50() {
+        return frameAllocatedBytes.getValueAtPercentile(50);
+    }
+
+    @Override
+    public long getAllocatedBytesPerFrameP99() {
+        return frameAllocatedBytes.getValueAtPercentile(99);
+    }
+
+    /**
+     * Writes every metric as one {@code name value} line, the format the
+     * {@link MetricsEndpoint} serves.
+     *
+     * @param out where to write
+     */
+    public void writeText(StringBuilder out) {
+        line(out, "games_started", getGamesStarted());
+        line(out, "games_finished", getGamesFinished());
+        line(out, "pieces_per_second", getPiecesPerSecond());
+        line(out, "lines_per_minute", getLinesPerMinute());
+        histogram(out, "tick_micros", tickNanos, NANOS_PER_MICRO);
+        histogram(out, "input_latency_micros", inputNanos, NANOS_PER_MICRO);
+        histogram(out, "render_micros", renderNanos, NANOS_PER_MICRO);
+        histogram(out, "frame_allocated_bytes", frameAllocatedBytes, 1);
+    }
+
+    private static void histogram(StringBuilder out, String name, Histogram histogram, long unit) {
+        line(out, name + "_count", histogram.getCount());
+        line(out, name + "_mean", histogram.getMean() / unit);
+        line(out, name + "_p50", histogram.getValueAtPercentile(50) / unit);
+        line(out, name + "_p90", histogram.getValueAtPercentile(90) / unit);
+        line(out, name + "_p99", histogram.getValueAtPercentile(99) / unit);
+        line(out, name + "_max", histogram.getMax() / unit);
+    }
+
+    private static void line(StringBuilder out, String name, long value) {
+        out.append("tetris_").append(name).append(' ').append(value).append('\n');
+    }
+
+    private static void line(StringBuilder out, String name, double value) {
+        out.append("tetris_").append(name).append(' ').append(String.format(Locale.ROOT, "%.3f", value)).append('\n');
+    }
+
+    private static com.sun.management.ThreadMXBean allocationCounter() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean counter && counter.isThreadAllocatedMemorySupported()) {
+            counter.setThreadAllocatedMemoryEnabled(true);
+            return counter;
+        }
+        return null;
+    }
+}
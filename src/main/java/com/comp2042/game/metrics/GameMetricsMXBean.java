@@ -0,0 +1,53 @@
+package com.comp2042.game.metrics;
+
+/**
+ * JMX view of {@link GameMetrics}, registered as {@value GameMetrics#OBJECT_NAME}.
+ * Latencies are in microseconds; rates are over the last {@value GameMetrics#RATE_WINDOW_SECONDS} seconds.
+ */
+public interface GameMetricsMXBean {
+
+    /** @return games started since launch */
+    long getGamesStarted();
+
+    /** @return games that ended by topping out since launch */
+    long getGamesFinished();
+
+    /** @return bricks locked per second */
+    double getPiecesPerSecond();
+
+    /** @return lines cleared per minute */
+    double getLinesPerMinute();
+
+    /** @return engine ticks measured */
+    long getTickCount();
+
+    /** @return median engine tick duration */
+    long getTickMicrosP50();
+
+    /** @return 99th percentile engine tick duration */
+    long getTickMicrosP99();
+
+    /** @return longest engine tick */
+    long getTickMicrosMax();
+
+    /** @return median time from key press to updated view */
+    long getInputLatencyMicrosP50();
+
+    /** @return 99th percentile time from key press to updated view */
+    long getInputLatencyMicrosP99();
+
+    /** @return median time to update the scene graph for a redraw */
+    long getRenderMicrosP50();
+
+    /** @return 99th percentile time to update the scene graph for a redraw */
+    long getRenderMicrosP99();
+
+    /** @return frames sampled for allocation */
+    long getFrameCount();
+
+    /** @return median bytes the FX thread allocated per frame */
+    long getAllocatedBytesPerFrameP50();
+
+    /** @return 99th percentile bytes the FX thread allocated per frame */
+    long getAllocatedBytesPerFrameP99();
+}
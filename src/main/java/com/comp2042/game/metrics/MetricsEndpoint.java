@@ -0,0 +1,68 @@
+package com.comp2042.game.metrics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Serves {@link GameMetrics} as plain text at {@code /metrics} on a loopback port,
+ * for scraping or a quick look with curl. Only reachable from the local machine.
+ */
+public final class MetricsEndpoint implements AutoCloseable {
+
+    /** Path the metrics are served at. */
+    public static final String PATH = "/metrics";
+
+    private final HttpServer server;
+
+    /**
+     * Starts serving.
+     *
+     * @param port the loopback port; 0 picks a free one
+     * @throws IOException if the port cannot be opened
+     */
+    public MetricsEndpoint(int port) throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.createContext(PATH, MetricsEndpoint::serve);
+        server.start();
+    }
+
+    /**
+     * Gets the port being served on.
+     *
+     * @return the local port
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    private static void serve(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            StringBuilder text = new StringBuilder(1024);
+            GameMetrics.get().writeText(text);
+            byte[] body = text.toString().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    /**
+     * Stops serving.
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
@@ -0,0 +1,65 @@
+package com.comp2042.game.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counts events per second over a sliding window of up to a minute, in a ring of
+ * one-second slots. Marking is allocation-free and lock-free; a slot is claimed for
+ * a new second with a compare-and-set, so an event racing that reset may be lost,
+ * which is harmless for a rate.
+ */
+public final class RateMeter {
+
+    /** Longest window a rate can be taken over, in seconds. */
+    public static final int MAX_WINDOW_SECONDS = 60;
+
+    private static final int SLOTS = MAX_WINDOW_SECONDS + 1; // One spare for the second in progress
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final AtomicLongArray counts = new AtomicLongArray(SLOTS);
+    private final AtomicLongArray seconds = new AtomicLongArray(SLOTS);
+
+    /** Creates a meter with no events. */
+    public RateMeter() {
+        for (int i = 0; i < SLOTS; i++) {
+            seconds.set(i, Long.MIN_VALUE);
+        }
+    }
+
+    /**
+     * Records events.
+     *
+     * @param events how many happened
+     * @param nowNanos the {@link System#nanoTime()} clock
+     */
+    public void mark(long events, long nowNanos) {
+        long second = Math.floorDiv(nowNanos, NANOS_PER_SECOND);
+        int slot = (int) Math.floorMod(second, (long) SLOTS);
+        long claimed = seconds.get(slot);
+        if (claimed != second && seconds.compareAndSet(slot, claimed, second)) {
+            counts.set(slot, 0);
+        }
+        counts.addAndGet(slot, events);
+    }
+
+    /**
+     * Gets the average rate over the last whole seconds, leaving out the second in
+     * progress so the rate does not dip at the start of each second.
+     *
+     * @param windowSeconds the window, 1 to {@link #MAX_WINDOW_SECONDS}
+     * @param nowNanos the {@link System#nanoTime()} clock
+     * @return events per second
+     */
+    public double perSecond(int windowSeconds, long nowNanos) {
+        int window = Math.max(1, Math.min(MAX_WINDOW_SECONDS, windowSeconds));
+        long current = Math.floorDiv(nowNanos, NANOS_PER_SECOND);
+        long events = 0;
+        for (int i = 0; i < SLOTS; i++) {
+            long second = seconds.get(i);
+            if (second < current && second >= current - window) {
+                events += counts.get(i);
+            }
+        }
+        return (double) events / window;
+    }
+}
@@ -0,0 +1,218 @@
+package com.comp2042.game.net;
+
+import com.comp2042.game.board.SimpleBoard;
+import com.comp2042.game.bricks.Brick;
+import com.comp2042.game.bricks.BrickType;
+import com.comp2042.game.events.EventType;
+
+import java.awt.Point;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * Binary protocol spoken between {@link GameServer} and its clients.
+ *
+ * <p>Every message is a frame: an unsigned 16-bit length (of everything after it), a
+ * one-byte message type, then the payload. All numbers are big-endian.
+ * <pre>
+ * client to server
+ *   JOIN     long seed                    start a game dealt from the seed
+ *   INPUT    u8 action, int sequence      apply one action (see ACTION_*)
+ *   LEAVE                                 end the session
+ * server to client
+ *   WELCOME  int sessionId, u8 rows, u8 columns
+ *   STATE    int tick, int lastInput, int score, u16 lines, u8 level, u8 flags,
+ *            u8 brick, u8 rotation, i8 x, i8 y, u8 next, u8 hold,
+ *            board: rows * columns cells, two 4-bit colour codes per byte
+ * </pre>
+ * Brick fields are {@link BrickType} codes, 0 for none. {@code lastInput} echoes the
+ * sequence of the latest input applied, so clients can measure input latency.
+ * A standard board's state frame is 150 bytes: 25 of header and 125 of cells.
+ */
+public final class GameProtocol {
+
+    /** Client message: join with a seed. */
+    public static final int JOIN = 1;
+    /** Client message: one input. */
+    public static final int INPUT = 2;
+    /** Client message: leave. */
+    public static final int LEAVE = 3;
+    /** Server message: session accepted. */
+    public static final int WELCOME = 16;
+    /** Server message: game state. */
+    public static final int STATE = 17;
+
+    /** Input: move left. */
+    public static final int ACTION_LEFT = 0;
+    /** Input: move right. */
+    public static final int ACTION_RIGHT = 1;
+    /** Input: rotate to the next shape. */
+    public static final int ACTION_ROTATE = 2;
+    /** Input: rotate clockwise. */
+    public static final int ACTION_ROTATE_CW = 3;
+    /** Input: rotate counter-clockwise. */
+    public static final int ACTION_ROTATE_CCW = 4;
+    /** Input: rotate half a turn. */
+    public static final int ACTION_ROTATE_180 = 5;
+    /** Input: soft drop one row. */
+    public static final int ACTION_DOWN = 6;
+    /** Input: hard drop. */
+    public static final int ACTION_HARD_DROP = 7;
+    /** Input: hold. */
+    public static final int ACTION_HOLD = 8;
+    /** Input: start a new game. */
+    public static final int ACTION_RESTART = 9;
+
+    /** STATE flag: the game is over. */
+    public static final int FLAG_GAME_OVER = 1;
+
+    /** Bytes of the length prefix. */
+    public static final int LENGTH_BYTES = 2;
+    /** JOIN body size, counting the type byte. */
+    public static final int JOIN_SIZE = 9;
+    /** INPUT body size, counting the type byte. */
+    public static final int INPUT_SIZE = 6;
+    /** Largest frame body a server accepts from a client. */
+    public static final int MAX_CLIENT_FRAME = 64;
+    /** Largest frame body of any message. */
+    public static final int MAX_FRAME = 0xFFFF;
+    /** STATE bytes before the board cells, counting the type byte. */
+    public static final int STATE_HEADER = 23;
+
+    private static final EventType[] ACTION_EVENTS = {
+            EventType.LEFT, EventType.RIGHT, EventType.ROTATE, EventType.ROTATE_CLOCKWISE,
+            EventType.ROTATE_COUNTER_CLOCKWISE, EventType.ROTATE_180, EventType.DOWN,
+            EventType.HARD_DROP, EventType.HOLD
+    };
+
+    private GameProtocol() { }
+
+    /**
+     * Gets the event an input action maps to.
+     *
+     * @param action the action code
+     * @return the event type, or null for {@link #ACTION_RESTART} and unknown codes
+     */
+    public static EventType toEvent(int action) {
+        return action >= 0 && action < ACTION_EVENTS.length ? ACTION_EVENTS[action] : null;
+    }
+
+    /**
+     * Gets the size of a whole STATE frame for a board.
+     *
+     * @param rows the board rows
+     * @param columns the board columns
+     * @return the frame size in bytes, length prefix included
+     */
+    public static int stateFrameSize(int rows, int columns) {
+        return LENGTH_BYTES + STATE_HEADER + (rows * columns + 1) / 2;
+    }
+
+    /**
+     * Writes a JOIN frame.
+     *
+     * @param out the buffer to write to
+     * @param seed the brick seed
+     */
+    public static void writeJoin(ByteBuffer out, long seed) {
+        out.putShort((short) JOIN_SIZE).put((byte) JOIN).putLong(seed);
+    }
+
+    /**
+     * Writes an INPUT frame.
+     *
+     * @param out the buffer to write to
+     * @param action the action code
+     * @param sequence the client's input sequence number
+     */
+    public static void writeInput(ByteBuffer out, int action, int sequence) {
+        out.putShort((short) INPUT_SIZE).put((byte) INPUT).put((byte) action).putInt(sequence);
+    }
+
+    /**
+     * Writes a LEAVE frame.
+     *
+     * @param out the buffer to write to
+     */
+    public static void writeLeave(ByteBuffer out) {
+        out.putShort((short) 1).put((byte) LEAVE);
+    }
+
+    /**
+     * Writes a WELCOME frame.
+     *
+     * @param out the buffer to write to
+     * @param sessionId the session id
+     * @param rows the board rows
+     * @param columns the board columns
+     */
+    public static void writeWelcome(ByteBuffer out, int sessionId, int rows, int columns) {
+        out.putShort((short) 7).put((byte) WELCOME).putInt(sessionId).put((byte) rows).put((byte) columns);
+    }
+
+    /**
+     * Writes a STATE frame for a board.
+     *
+     * @param out the buffer to write to, with room for {@link #stateFrameSize}
+     * @param board the board
+     * @param tick the server tick
+     * @param lastInput the sequence of the latest input applied
+     * @param gameOver whether the game is over
+     */
+    public static void writeState(ByteBuffer out, SimpleBoard board, int tick, int lastInput, boolean gameOver) {
+        int[][] matrix = board.getBoardMatrix();
+        int rows = matrix.length;
+        int columns = matrix[0].length;
+        Point offset = board.getCurrentOffset();
+        List<Brick> preview = board.getPreviewBricks();
+        out.putShort((short) (stateFrameSize(rows, columns) - LENGTH_BYTES))
+                .put((byte) STATE)
+                .putInt(tick)
+                .putInt(lastInput)
+                .putInt(board.getScore().get())
+                .putShort((short) board.getLinesTracker().getTotalLines())
+                .put((byte) board.getLevelManager().getCurrentLevel())
+                .put((byte) (gameOver ? FLAG_GAME_OVER : 0))
+                .put((byte) code(board.getCurrentBrick()))
+                .put((byte) board.getCurrentRotation())
+                .put((byte) offset.x)
+                .put((byte) offset.y)
+                .put((byte) (preview.isEmpty() ? 0 : code(preview.get(0))))
+                .put((byte) code(board.getHeldBrick()));
+        int pending = -1;
+        for (int[] row : matrix) {
+            for (int cell : row) {
+                if (pending < 0) {
+                    pending = cell & 0xF;
+                } else {
+                    out.put((byte) (pending << 4 | (cell & 0xF)));
+                    pending = -1;
+                }
+            }
+        }
+        if (pending >= 0) {
+            out.put((byte) (pending << 4));
+        }
+    }
+
+    /**
+     * Unpacks the board cells of a STATE frame.
+     *
+     * @param state the frame body, positioned at the type byte (not moved)
+     * @param board the matrix to fill, sized rows by columns
+     */
+    public static void readCells(ByteBuffer state, int[][] board) {
+        int position = state.position() + STATE_HEADER;
+        int index = 0;
+        for (int[] row : board) {
+            for (int col = 0; col < row.length; col++, index++) {
+                int packed = state.get(position + index / 2);
+                row[col] = (index & 1) == 0 ? (packed >> 4) & 0xF : packed & 0xF;
+            }
+        }
+    }
+
+    private static int code(Brick brick) {
+        return brick == null ? 0 : BrickType.of(brick).getCode();
+    }
+}
@@ -0,0 +1,495 @@
+package com.comp2042.game.net;
+
+import com.comp2042.game.board.BoardGeometry;
+import com.comp2042.game.board.SimpleBoard;
+import com.comp2042.game.bricks.BrickGeneratorFactory;
+import com.comp2042.game.controller.GameController;
+import com.comp2042.game.controller.HeadlessGameView;
+import com.comp2042.game.events.EventSource;
+import com.comp2042.game.events.MoveEvent;
+import com.comp2042.game.level.Level;
+import com.comp2042.game.metrics.GameMetrics;
+import com.comp2042.game.metrics.MetricsEndpoint;
+import com.comp2042.game.operations.SrsRotationSystem;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Authoritative game server: runs one game per connected client and sends each client
+ * its game's state, speaking {@link GameProtocol}. Clients only send inputs; gravity,
+ * locking and scoring run here through the same {@link GameController} as local play.
+ *
+ * <p>Everything happens on the thread calling {@link #run()}: one selector serves all
+ * sockets, and every {@link Level#TICK_MS} the server advances each game by one
+ * gravity tick and sends the games that changed. A game changed by an input is sent
+ * straight away, so input latency is not rounded up to the tick.
+ *
+ * <p>Slow clients cannot make the server buffer without bound:
+ * <ul>
+ *   <li>states are conflated. A game that changes while its client's send buffer is
+ *       full is sent once, as it stands, when room frees up; stale states never queue;</li>
+ *   <li>a client whose send buffer is full is not read from, so its inputs wait in
+ *       the kernel and TCP slows the client down;</li>
+ *   <li>at most {@link #MAX_INPUTS_PER_TICK} inputs are applied per client per tick;</li>
+ *   <li>a client that accepts no data for {@link #STALL_TIMEOUT_MS} is disconnected.</li>
+ * </ul>
+ */
+public final class GameServer implements Runnable, AutoCloseable {
+
+    /** Port used when none is given. */
+    public static final int DEFAULT_PORT = 7420;
+
+    /** Inputs applied per client per tick; the rest wait for later ticks. */
+    public static final int MAX_INPUTS_PER_TICK = 8;
+
+    /** How long a client may leave sent data unread before it is disconnected. */
+    public static final long STALL_TIMEOUT_MS = 5000;
+
+    // States each client's send buffer holds before the client counts as backed up
+    private static final int BUFFERED_STATES = 4;
+    private static final int IN_BUFFER_SIZE = 256;
+    private static final int WELCOME_FRAME_SIZE = 9;
+    // After a longer stall the clock skips ahead rather than running ticks back to back
+    private static final long MAX_CATCH_UP_NANOS = 250_000_000L;
+
+    private static final MoveEvent[] ACTION_EVENTS = new MoveEvent[GameProtocol.ACTION_RESTART];
+
+    static {
+        for (int action = 0; action < ACTION_EVENTS.length; action++) {
+            ACTION_EVENTS[action] = new MoveEvent(GameProtocol.toEvent(action), EventSource.USER);
+        }
+    }
+
+    private final BoardGeometry geometry;
+    private final Selector selector;
+    private final ServerSocketChannel serverChannel;
+    private final int stateFrameSize;
+    private final long tickNanos = (long) (Level.TICK_MS * 1_000_000);
+    private final List<Session> sessions = new ArrayList<>();
+    private volatile boolean running = true;
+    private volatile boolean started;
+    private volatile int sessionCount;
+    private volatile long statesSent;
+    private volatile long bytesSent;
+    private volatile long stalledDisconnects;
+    private int tick;
+    private int nextSessionId = 1;
+
+    /**
+     * Opens a server socket. Call {@link #run()} to start serving.
+     *
+     * @param address the address to listen on; port 0 picks a free port
+     * @param geometry the board every game is played on
+     * @throws IOException if the socket cannot be opened
+     * @throws IllegalArgumentException if the board is too large for the protocol
+     */
+    public GameServer(InetSocketAddress address, BoardGeometry geometry) throws IOException {
+        if (geometry.getRows() > 0xFF
+                || GameProtocol.stateFrameSize(geometry.getRows(), geometry.getColumns()) > GameProtocol.MAX_FRAME) {
+            throw new IllegalArgumentException("Board too large to send: " + geometry);
+        }
+        this.geometry = geometry;
+        this.stateFrameSize = GameProtocol.stateFrameSize(geometry.getRows(), geometry.getColumns());
+        selector = Selector.open();
+        serverChannel = ServerSocketChannel.open();
+        try {
+            serverChannel.bind(address, 1024);
+            serverChannel.configureBlocking(false);
+            serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        } catch (IOException e) {
+            serverChannel.close();
+            selector.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Gets the port the server listens on.
+     *
+     * @return the local port
+     */
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    /**
+     * Gets the number of connected clients.
+     *
+     * @return open sessions
+     */
+    public int getSessionCount() {
+        return sessionCount;
+    }
+
+    /**
+     * Gets the number of states queued for sending so far.
+     *
+     * @return states sent
+     */
+    public long getStatesSent() {
+        return statesSent;
+    }
+
+    /**
+     * Gets the number of bytes written to clients so far.
+     *
+     * @return bytes sent
+     */
+    public long getBytesSent() {
+        return bytesSent;
+    }
+
+    /**
+     * Gets the number of clients disconnected for not reading.
+     *
+     * @return stalled clients dropped
+     */
+    public long getStalledDisconnects() {
+        return stalledDisconnects;
+    }
+
+    /**
+     * Serves clients on the calling thread until {@link #close()} is called.
+     */
+    @Override
+    public void run() {
+        started = true;
+        try {
+            long nextTick = System.nanoTime() + tickNanos;
+            while (running) {
+                long wait = nextTick - System.nanoTime();
+                if (wait > 0) {
+                    selector.select(Math.max(1, wait / 1_000_000));
+                } else {
+                    selector.selectNow();
+                }
+                handleSelected();
+                long now = System.nanoTime();
+                if (now >= nextTick) {
+                    tick(now);
+                    nextTick += tickNanos;
+                    if (now - nextTick > MAX_CATCH_UP_NANOS) {
+                        nextTick = now + tickNanos;
+                    }
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Game server stopped: " + e.getMessage());
+        } finally {
+            closeAll();
+        }
+    }
+
+    /**
+     * Stops serving and disconnects every client.
+     */
+    @Override
+    public void close() {
+        running = false;
+        if (started) {
+            selector.wakeup();
+        } else {
+            closeAll();
+        }
+    }
+
+    private void handleSelected() throws IOException {
+        Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+        while (keys.hasNext()) {
+            SelectionKey key = keys.next();
+            keys.remove();
+            if (!key.isValid()) {
+                continue;
+            }
+            if (key.isAcceptable()) {
+                accept();
+                continue;
+            }
+            Session session = (Session) key.attachment();
+            try {
+                if (key.isValid() && key.isReadable()) {
+                    read(session);
+                }
+                if (session.open && (key.isWritable() || session.dirty)) {
+                    flush(session, System.nanoTime()); // Answer inputs now rather than at the next tick
+                }
+                if (session.open) {
+                    updateInterest(session);
+                }
+            } catch (IOException e) {
+                disconnect(session);
+            }
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel;
+        while ((channel = serverChannel.accept()) != null) {
+            channel.configureBlocking(false);
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            Session session = new Session(nextSessionId++, channel,
+                    ByteBuffer.allocateDirect(WELCOME_FRAME_SIZE + BUFFERED_STATES * stateFrameSize));
+            session.key = channel.register(selector, SelectionKey.OP_READ, session);
+            session.index = sessions.size();
+            sessions.add(session);
+            sessionCount = sessions.size();
+            GameProtocol.writeWelcome(session.out, session.id, geometry.getRows(), geometry.getColumns());
+            try {
+                flush(session, System.nanoTime());
+                updateInterest(session);
+            } catch (IOException e) {
+                disconnect(session);
+            }
+        }
+    }
+
+    private void read(Session session) throws IOException {
+        if (session.channel.read(session.in) < 0) {
+            disconnect(session);
+            return;
+        }
+        applyInputs(session);
+    }
+
+    /**
+     * Applies the complete frames in a session's input buffer, up to this tick's limit.
+     */
+    private void applyInputs(Session session) throws IOException {
+        ByteBuffer in = session.in;
+        in.flip();
+        try {
+            while (session.open && in.remaining() >= GameProtocol.LENGTH_BYTES
+                    && session.inputsThisTick < MAX_INPUTS_PER_TICK) {
+                int length = in.getShort(in.position()) & 0xFFFF;
+                if (length == 0 || length > GameProtocol.MAX_CLIENT_FRAME) {
+                    disconnect(session); // Not speaking the protocol
+                    return;
+                }
+                if (in.remaining() < GameProtocol.LENGTH_BYTES + length) {
+                    break;
+                }
+                int end = in.position() + GameProtocol.LENGTH_BYTES + length;
+                int limit = in.limit();
+                in.position(in.position() + GameProtocol.LENGTH_BYTES).limit(end);
+                handleFrame(session, in, length);
+                in.limit(limit).position(end);
+            }
+        } finally {
+            in.compact();
+        }
+    }
+
+    /**
+     * Handles one frame body, which the buffer's limit bounds to its declared length.
+     * A client sending a frame too short for its type is disconnected.
+     */
+    private void handleFrame(Session session, ByteBuffer frame, int length) {
+        int type = frame.get();
+        if ((type == GameProtocol.JOIN && length < GameProtocol.JOIN_SIZE)
+                || (type == GameProtocol.INPUT && length < GameProtocol.INPUT_SIZE)) {
+            disconnect(session); // Not speaking the protocol
+            return;
+        }
+        switch (type) {
+            case GameProtocol.JOIN -> {
+                if (session.controller == null) {
+                    long seed = frame.getLong();
+                    session.board = new SimpleBoard(geometry,
+                            BrickGeneratorFactory.create(BrickGeneratorFactory.GeneratorType.RANDOM, seed),
+                            new SrsRotationSystem());
+                    session.controller = new GameController(session.view, session.board);
+                    session.dirty = true;
+                }
+            }
+            case GameProtocol.INPUT -> {
+                if (session.controller != null) {
+                    int action = frame.get() & 0xFF;
+                    session.lastInput = frame.getInt();
+                    session.inputsThisTick++;
+                    applyAction(session, action);
+                    session.dirty = true;
+                }
+            }
+            case GameProtocol.LEAVE -> disconnect(session);
+            default -> { } // Unknown messages are skipped, leaving room for newer clients
+        }
+    }
+
+    private void applyAction(Session session, int action) {
+        GameController controller = session.controller;
+        if (action == GameProtocol.ACTION_RESTART) {
+            controller.createNewGame();
+            session.view.reset();
+            return;
+        }
+        if (session.view.isGameOver() || action >= ACTION_EVENTS.length) {
+            return;
+        }
+        MoveEvent event = ACTION_EVENTS[action];
+        switch (event.getEventType()) {
+            case LEFT -> controller.onLeftEvent(event);
+            case RIGHT -> controller.onRightEvent(event);
+            case DOWN -> controller.onDownEvent(event);
+            case HARD_DROP -> controller.onHardDropEvent(event);
+            case HOLD -> controller.onHoldEvent(event);
+            default -> controller.onRotateEvent(event);
+        }
+    }
+
+    private void tick(long now) {
+        tick++;
+        // Backwards, so a disconnect (which moves the last session into the gap) skips none
+        for (int i = sessions.size() - 1; i >= 0; i--) {
+            Session session = sessions.get(i);
+            try {
+                session.inputsThisTick = 0;
+                if (session.in.position() > 0) {
+                    applyInputs(session); // Inputs held back by last tick's limit
+                }
+                if (session.open && session.controller != null && !session.view.isGameOver()
+                        && session.controller.onGravityTick() != null) {
+                    session.dirty = true;
+                }
+                if (session.open) {
+                    flush(session, now);
+                }
+                if (session.open && session.out.position() > 0
+                        && now - session.lastProgressNanos > STALL_TIMEOUT_MS * 1_000_000) {
+                    stalledDisconnects++;
+                    disconnect(session);
+                }
+                if (session.open) {
+                    updateInterest(session);
+                }
+            } catch (IOException e) {
+                disconnect(session);
+            }
+        }
+    }
+
+    /**
+     * Queues the game's state if it changed and there is room, then writes as much of
+     * the send buffer as the socket takes.
+     */
+    private void flush(Session session, long now) throws IOException {
+        ByteBuffer out = session.out;
+        if (session.dirty && session.controller != null && out.remaining() >= stateFrameSize) {
+            GameProtocol.writeState(out, session.board, tick, session.lastInput, session.view.isGameOver());
+            session.dirty = false;
+            statesSent++;
+        }
+        if (out.position() == 0) {
+            session.lastProgressNanos = now;
+            return;
+        }
+        out.flip();
+        int written = session.channel.write(out);
+        out.compact();
+        if (written > 0) {
+            bytesSent += written;
+            session.lastProgressNanos = now;
+        }
+    }
+
+    private void updateInterest(Session session) {
+        int ops = 0;
+        boolean backedUp = session.out.remaining() < stateFrameSize;
+        if (!backedUp && session.inputsThisTick < MAX_INPUTS_PER_TICK) {
+            ops |= SelectionKey.OP_READ;
+        }
+        if (session.out.position() > 0) {
+            ops |= SelectionKey.OP_WRITE;
+        }
+        if (session.key.interestOps() != ops) {
+            session.key.interestOps(ops);
+        }
+    }
+
+    private void disconnect(Session session) {
+        if (!session.open) {
+            return;
+        }
+        session.open = false;
+        session.key.cancel();
+        try {
+            session.channel.close();
+        } catch (IOException ignored) {
+            // Already gone
+        }
+        Session last = sessions.remove(sessions.size() - 1);
+        if (last != session) {
+            sessions.set(session.index, last);
+            last.index = session.index;
+        }
+        sessionCount = sessions.size();
+    }
+
+    private void closeAll() {
+        for (int i = sessions.size() - 1; i >= 0; i--) {
+            disconnect(sessions.get(i));
+        }
+        try {
+            serverChannel.close();
+            selector.close();
+        } catch (IOException ignored) {
+            // Nothing left to serve
+        }
+    }
+
+    /**
+     * Starts a server on the standard board.
+     *
+     * @param args optional port (default {@value #DEFAULT_PORT}) and optional
+     *             loopback port to serve plain-text metrics on
+     * @throws IOException if a socket cannot be opened
+     */
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        GameMetrics.registerMBean();
+        MetricsEndpoint metrics = args.length > 1 ? new MetricsEndpoint(Integer.parseInt(args[1])) : null;
+        try (GameServer server = new GameServer(new InetSocketAddress(port), BoardGeometry.STANDARD)) {
+            System.out.println("Game server listening on port " + server.getPort());
+            server.run();
+        } finally {
+            if (metrics != null) {
+                metrics.close();
+            }
+        }
+    }
+
+    /**
+     * One client's connection and game.
+     */
+    private static final class Session {
+        private final int id;
+        private final SocketChannel channel;
+        private final ByteBuffer in = ByteBuffer.allocate(IN_BUFFER_SIZE);
+        private final ByteBuffer out;
+        private final HeadlessGameView view = new HeadlessGameView();
+        private SelectionKey key;
+        private SimpleBoard board;
+        private GameController controller;
+        private int index;
+        private int lastInput;
+        private int inputsThisTick;
+        private boolean dirty;
+        private boolean open = true;
+        private long lastProgressNanos = System.nanoTime();
+
+        private Session(int id, SocketChannel channel, ByteBuffer out) {
+            this.id = id;
+            this.channel = channel;
+            this.out = out;
+        }
+    }
+}
@@ -0,0 +1,376 @@
+package com.comp2042.game.net;
+
+import com.comp2042.game.board.BoardGeometry;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.SplittableRandom;
+
+/**
+ * Load test for {@link GameServer}: simulates many players from one thread, each on its
+ * own connection, sending random inputs at a steady rate and reading every state.
+ * Reports states and bytes received per second and the input latency, measured from
+ * sending an input to receiving the first state that applied it.
+ */
+public final class LoadTestClient {
+
+    // Latency histogram: 100 microsecond buckets up to one second, then one overflow bucket
+    private static final int LATENCY_BUCKET_MICROS = 100;
+    private static final int LATENCY_BUCKETS = 10_000;
+    // Inputs in flight whose send times are remembered per player
+    private static final int SEQUENCE_WINDOW = 64;
+    private static final int IN_BUFFER_SIZE = 8192;
+    private static final int CONNECTS_PER_ROUND = 256;
+
+    private LoadTestClient() { }
+
+    /**
+     * Totals of one load test.
+     */
+    public static final class Result {
+        private final int connected;
+        private final int disconnected;
+        private final long states;
+        private final long bytes;
+        private final long inputs;
+        private final double seconds;
+        private final long[] latencyBuckets;
+        private final long latencySamples;
+
+        Result(int connected, int disconnected, long states, long bytes, long inputs, double seconds,
+               long[] latencyBuckets) {
+            this.connected = connected;
+            this.disconnected = disconnected;
+            this.states = states;
+            this.bytes = bytes;
+            this.inputs = inputs;
+            this.seconds = seconds;
+            this.latencyBuckets = latencyBuckets;
+            long samples = 0;
+            for (long count : latencyBuckets) {
+                samples += count;
+            }
+            this.latencySamples = samples;
+        }
+
+        /**
+         * Gets the number of players that completed the handshake.
+         *
+         * @return players welcomed by the server
+         */
+        public int getConnected() {
+            return connected;
+        }
+
+        /**
+         * Gets the number of players the server disconnected.
+         *
+         * @return connections closed by the server
+         */
+        public int getDisconnected() {
+            return disconnected;
+        }
+
+        /**
+         * Gets the number of states received.
+         *
+         * @return states received
+         */
+        public long getStates() {
+            return states;
+        }
+
+        /**
+         * Gets the number of bytes received.
+         *
+         * @return bytes received
+         */
+        public long getBytes() {
+            return bytes;
+        }
+
+        /**
+         * Gets the number of inputs sent.
+         *
+         * @return inputs sent
+         */
+        public long getInputs() {
+            return inputs;
+        }
+
+        /**
+         * Gets the number of inputs whose latency was measured.
+         *
+         * @return latency samples
+         */
+        public long getLatencySamples() {
+            return latencySamples;
+        }
+
+        /**
+         * Gets an input latency percentile.
+         *
+         * @param percentile the percentile, 0 to 100
+         * @return the latency in milliseconds (to a tenth), or 0 with no samples
+         */
+        public double getLatencyMillis(double percentile) {
+            long rank = (long) Math.ceil(latencySamples * percentile / 100.0);
+            long seen = 0;
+            for (int bucket = 0; bucket < latencyBuckets.length; bucket++) {
+                seen += latencyBuckets[bucket];
+                if (seen >= rank && seen > 0) {
+                    return (bucket + 1) * LATENCY_BUCKET_MICROS / 1000.0;
+                }
+            }
+            return 0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d players (%d dropped) for %.1f s: %.0f states/s, %.1f KB/s, %.0f inputs/s, "
+                            + "input latency p50 %.1f ms, p99 %.1f ms",
+                    connected, disconnected, seconds, states / seconds, bytes / seconds / 1024, inputs / seconds,
+                    getLatencyMillis(50), getLatencyMillis(99));
+        }
+    }
+
+    /**
+     * Connects the players, plays for a while, then disconnects them.
+     *
+     * @param server the server address
+     * @param players the number of connections
+     * @param seconds how long to play
+     * @param inputsPerSecond inputs each player sends per second
+     * @param seed seed for the brick sequences and the random inputs
+     * @return the totals
+     * @throws IOException if the selector cannot be opened
+     */
+    public static Result run(InetSocketAddress server, int players, double seconds, double inputsPerSecond, long seed)
+            throws IOException {
+        SplittableRandom random = new SplittableRandom(seed);
+        long inputIntervalNanos = (long) (1e9 / inputsPerSecond);
+        long[] latencyBuckets = new long[LATENCY_BUCKETS + 1];
+        Player[] all = new Player[players];
+        long states = 0;
+        long bytes = 0;
+        long inputs = 0;
+        int welcomed = 0;
+        int dropped = 0;
+        try (Selector selector = Selector.open()) {
+            int opened = 0;
+            long start = System.nanoTime();
+            long end = start + (long) (seconds * 1e9);
+            ByteBuffer out = ByteBuffer.allocateDirect(GameProtocol.MAX_CLIENT_FRAME);
+            long now = start;
+            while (now < end) {
+                // Connect gradually so the server's accept backlog never overflows
+                for (int i = 0; i < CONNECTS_PER_ROUND && opened < players; i++, opened++) {
+                    SocketChannel channel = SocketChannel.open();
+                    channel.configureBlocking(false);
+                    channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                    Player player = new Player(channel, seed + opened, now + random.nextLong(inputIntervalNanos));
+                    all[opened] = player;
+                    if (channel.connect(server)) {
+                        player.key = channel.register(selector, SelectionKey.OP_READ, player);
+                        join(player, out);
+                    } else {
+                        player.key = channel.register(selector, SelectionKey.OP_CONNECT, player);
+                    }
+                }
+                selector.select(1);
+                now = System.nanoTime();
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    Player player = (Player) key.attachment();
+                    try {
+                        if (key.isConnectable()) {
+                            player.channel.finishConnect();
+                            key.interestOps(SelectionKey.OP_READ);
+                            join(player, out);
+                            continue;
+                        }
+                        int read = player.channel.read(player.in);
+                        if (read < 0) {
+                            player.close();
+                            dropped++;
+                            continue;
+                        }
+                        bytes += read;
+                        ByteBuffer in = player.in;
+                        in.flip();
+                        while (in.remaining() >= GameProtocol.LENGTH_BYTES) {
+                            int length = in.getShort(in.position()) & 0xFFFF;
+                            if (in.remaining() < GameProtocol.LENGTH_BYTES + length) {
+                                break;
+                            }
+                            int body = in.position() + GameProtocol.LENGTH_BYTES;
+                            int type = in.get(body);
+                            if (type == GameProtocol.WELCOME) {
+                                welcomed++;
+                                player.welcomed = true;
+                            } else if (type == GameProtocol.STATE) {
+                                states++;
+                                int applied = in.getInt(body + 5);
+                                player.gameOver = (in.get(body + 16) & GameProtocol.FLAG_GAME_OVER) != 0;
+                                if (applied > player.acknowledged) {
+                                    player.acknowledged = applied;
+                                    long micros = (now - player.sentNanos[applied % SEQUENCE_WINDOW]) / 1000;
+                                    latencyBuckets[(int) Math.min(LATENCY_BUCKETS, micros / LATENCY_BUCKET_MICROS)]++;
+                                }
+                            }
+                            in.position(body + length);
+                        }
+                        in.compact();
+                    } catch (IOException e) {
+                        player.close();
+                        dropped++;
+                    }
+                }
+                for (int i = 0; i < opened; i++) {
+                    Player player = all[i];
+                    if (player.welcomed && player.open && now >= player.nextInputNanos) {
+                        int action = player.gameOver ? GameProtocol.ACTION_RESTART : randomAction(random);
+                        player.sequence++;
+                        player.sentNanos[player.sequence % SEQUENCE_WINDOW] = now;
+                        out.clear();
+                        GameProtocol.writeInput(out, action, player.sequence);
+                        out.flip();
+                        try {
+                            player.channel.write(out);
+                            inputs++;
+                        } catch (IOException e) {
+                            player.close();
+                            dropped++;
+                        }
+                        player.nextInputNanos += inputIntervalNanos;
+                        if (player.nextInputNanos < now) {
+                            player.nextInputNanos = now + inputIntervalNanos; // Fell behind; do not burst
+                        }
+                    }
+                }
+            }
+            double elapsed = (System.nanoTime() - start) / 1e9;
+            for (int i = 0; i < opened; i++) {
+                all[i].leave(out);
+            }
+            return new Result(welcomed, dropped, states, bytes, inputs, elapsed, latencyBuckets);
+        }
+    }
+
+    private static void join(Player player, ByteBuffer out) throws IOException {
+        out.clear();
+        GameProtocol.writeJoin(out, player.seed);
+        out.flip();
+        player.channel.write(out);
+    }
+
+    /**
+     * Picks an input the way a player mostly plays: moves and rotations, then a drop.
+     */
+    private static int randomAction(SplittableRandom random) {
+        int roll = random.nextInt(10);
+        if (roll < 6) {
+            return roll < 3 ? GameProtocol.ACTION_LEFT : GameProtocol.ACTION_RIGHT;
+        }
+        if (roll < 8) {
+            return GameProtocol.ACTION_ROTATE_CW;
+        }
+        return roll < 9 ? GameProtocol.ACTION_DOWN : GameProtocol.ACTION_HARD_DROP;
+    }
+
+    /**
+     * Runs a load test, against an in-process server unless a port is given.
+     *
+     * @param args optional player count (default 1000), seconds (10), inputs per second
+     *             per player (5) and the port of a running server on this machine
+     * @throws Exception if the server or the connections fail
+     */
+    public static void main(String[] args) throws Exception {
+        int players = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        double seconds = args.length > 1 ? Double.parseDouble(args[1]) : 10;
+        double inputsPerSecond = args.length > 2 ? Double.parseDouble(args[2]) : 5;
+        GameServer embedded = null;
+        int port;
+        if (args.length > 3) {
+            port = Integer.parseInt(args[3]);
+        } else {
+            embedded = new GameServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0),
+                    BoardGeometry.STANDARD);
+            port = embedded.getPort();
+            Thread serverThread = new Thread(embedded, "game-server");
+            serverThread.setDaemon(true);
+            serverThread.start();
+        }
+        try {
+            Result result = run(new InetSocketAddress(InetAddress.getLoopbackAddress(), port),
+                    players, seconds, inputsPerSecond, 0);
+            System.out.println(result);
+            if (embedded != null) {
+                System.out.printf("server: %d states, %.1f MB sent, %d stalled clients dropped%n",
+                        embedded.getStatesSent(), embedded.getBytesSent() / 1048576.0,
+                        embedded.getStalledDisconnects());
+            }
+        } finally {
+            if (embedded != null) {
+                embedded.close();
+            }
+        }
+    }
+
+    /**
+     * One simulated player's connection.
+     */
+    private static final class Player {
+        private final SocketChannel channel;
+        private final long seed;
+        private final ByteBuffer in = ByteBuffer.allocate(IN_BUFFER_SIZE);
+        private final long[] sentNanos = new long[SEQUENCE_WINDOW];
+        private SelectionKey key;
+        private long nextInputNanos;
+        private int sequence;
+        private int acknowledged;
+        private boolean welcomed;
+        private boolean gameOver;
+        private boolean open = true;
+
+        private Player(SocketChannel channel, long seed, long firstInputNanos) {
+            this.channel = channel;
+            this.seed = seed;
+            this.nextInputNanos = firstInputNanos;
+        }
+
+        private void leave(ByteBuffer out) {
+            if (!open) {
+                return;
+            }
+            out.clear();
+            GameProtocol.writeLeave(out);
+            out.flip();
+            try {
+                channel.write(out);
+            } catch (IOException ignored) {
+                // Closing anyway
+            }
+            close();
+        }
+
+        private void close() {
+            open = false;
+            key.cancel();
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // Already closed
+            }
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.comp2042.game.operations;
 
 import com.comp2042.game.bricks.Brick;
+import com.comp2042.game.bricks.BrickType;
 import com.comp2042.game.data.NextShapeInfo;
 
 /**
@@ -14,7 +15,9 @@ import com.comp2042.game.data.NextShapeInfo;
 public class BrickRotator {
 
     private Brick brick;
+    private BrickType brickType;
     private int currentShape = 0;
+    private long serial;
 
     /** Creates a brick rotator with no active brick set. */
     public BrickRotator() { }
@@ -66,7 +69,19 @@ public class BrickRotator {
      */
     public void setBrick(Brick brick) {
         this.brick = brick;
+        brickType = null;
         currentShape = 0;
+        serial++;
+    }
+
+    /**
+     * Gets a number that changes every time a brick is set. Generators reuse brick
+     * instances, so this tells two consecutive bricks of the same type apart.
+     *
+     * @return the number of bricks set so far
+     */
+    public long getSerial() {
+        return serial;
     }
 
     /**
@@ -78,5 +93,15 @@ public class BrickRotator {
         return brick;
     }
 
-
+    /**
+     * Returns the type of the current brick, identified once per brick.
+     *
+     * @return the current brick's type
+     */
+    public BrickType getBrickType() {
+        if (brickType == null) {
+            brickType = BrickType.of(brick);
+        }
+        return brickType;
+    }
 }
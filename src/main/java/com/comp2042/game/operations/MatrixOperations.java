@@ -1,8 +1,12 @@
 package com.comp2042.game.operations;
 
 import com.comp2042.game.data.ClearRow;
+import com.comp2042.game.score.DefaultScoringEngine;
+import com.comp2042.game.score.LockEvent;
+import com.comp2042.game.score.ScoringEngine;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Deque;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -47,6 +51,41 @@ public class MatrixOperations {
         return false;
     }
 
+    /**
+     * Computes how many rows a brick can fall before it lands. Each of the brick's
+     * columns is scanned downwards from its lowest cell to the first filled cell or
+     * the floor, so the cost depends on the gap below the brick rather than on
+     * testing the whole shape at every row.
+     *
+     * @param matrix the game board matrix
+     * @param brick the brick's shape matrix
+     * @param x the brick's column offset
+     * @param y the brick's row offset; the brick must fit there
+     * @return the number of rows the brick can move down
+     */
+    public static int dropDistance(final int[][] matrix, final int[][] brick, int x, int y) {
+        int distance = Integer.MAX_VALUE;
+        for (int col = 0; col < brick[0].length; col++) {
+            int lowest = -1;
+            for (int row = brick.length - 1; row >= 0; row--) {
+                if (brick[row][col] != 0) {
+                    lowest = row;
+                    break;
+                }
+            }
+            if (lowest < 0) {
+                continue;
+            }
+            int boardCol = x + col;
+            int gap = 0;
+            for (int row = y + lowest + 1; row < matrix.length && gap < distance && matrix[row][boardCol] == 0; row++) {
+                gap++;
+            }
+            distance = Math.min(distance, gap);
+        }
+        return distance == Integer.MAX_VALUE ? 0 : distance;
+    }
+
     /**
      * Checks if coordinates are outside the board boundaries.
      * 
@@ -101,10 +140,60 @@ public class MatrixOperations {
         return copy;
     }
 
+    /**
+     * Pushes garbage rows in from the bottom of the board, in place. Row arrays are
+     * shifted up by reference and the arrays leaving the top are reused for the new
+     * rows, so the cost is one pass over the row array plus filling the new rows,
+     * with nothing allocated.
+     *
+     * @param matrix the game board matrix, modified in place
+     * @param count the number of rows to add (at most the board height is used)
+     * @param holeColumn the column left empty in every new row
+     * @param cell the value filling the rest of each new row
+     * @return true if filled cells were pushed off the top of the board
+     */
+    public static boolean insertGarbage(int[][] matrix, int count, int holeColumn, int cell) {
+        int rows = matrix.length;
+        count = Math.min(count, rows);
+        if (count <= 0) {
+            return false;
+        }
+        boolean overflow = false;
+        for (int i = 0; i < count && !overflow; i++) {
+            for (int value : matrix[i]) {
+                if (value != 0) {
+                    overflow = true;
+                    break;
+                }
+            }
+        }
+        // Rotate the row references up by count: the top rows become the new bottom rows
+        reverseRows(matrix, 0, count);
+        reverseRows(matrix, count, rows);
+        reverseRows(matrix, 0, rows);
+        for (int i = rows - count; i < rows; i++) {
+            int[] row = matrix[i];
+            Arrays.fill(row, cell);
+            if (holeColumn >= 0 && holeColumn < row.length) {
+                row[holeColumn] = 0;
+            }
+        }
+        return overflow;
+    }
+
+    private static void reverseRows(int[][] matrix, int from, int to) {
+        for (int i = from, j = to - 1; i < j; i++, j--) {
+            int[] row = matrix[i];
+            matrix[i] = matrix[j];
+            matrix[j] = row;
+        }
+    }
+
     /**
      * Checks for and removes complete rows from the board.
      * Complete rows are removed and remaining rows are shifted down.
-     * Calculates score bonus as 50 * (lines cleared)².
+     * The score bonus is what the standard scoring table gives a plain clear of that
+     * many lines; boards rescore the clear with their own {@link ScoringEngine}.
      * 
      * @param matrix the game board matrix to check
      * @return ClearRow object containing the number of cleared rows,
@@ -138,7 +227,7 @@ public class MatrixOperations {
                 break;
             }
         }
-        int scoreBonus = 50 * clearedRows.size() * clearedRows.size();
+        int scoreBonus = DefaultScoringEngine.STANDARD.score(LockEvent.plainClear(clearedRows.size())).getPoints();
         return new ClearRow(clearedRows.size(), tmp, scoreBonus);
     }
 
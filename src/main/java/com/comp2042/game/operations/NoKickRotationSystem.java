@@ -0,0 +1,20 @@
+package com.comp2042.game.operations;
+
+import com.comp2042.game.bricks.BrickType;
+
+/**
+ * Rotation in place: the rotated shape either fits where the brick is or the rotation
+ * fails. This was the game's only behaviour before wall kicks were added.
+ */
+public class NoKickRotationSystem implements RotationSystem {
+
+    private static final int[][] IN_PLACE = {{0, 0}};
+
+    /** Creates a rotation system without kicks. */
+    public NoKickRotationSystem() { }
+
+    @Override
+    public int[][] getKicks(BrickType type, int fromOrientation, int quarterTurns) {
+        return IN_PLACE;
+    }
+}
@@ -0,0 +1,30 @@
+package com.comp2042.game.operations;
+
+/**
+ * Direction of a rotation request, as a number of clockwise quarter turns.
+ */
+public enum RotationDirection {
+    /** Rotate a quarter turn clockwise. */
+    CLOCKWISE(1),
+
+    /** Rotate half a turn. */
+    HALF_TURN(2),
+
+    /** Rotate a quarter turn counter-clockwise. */
+    COUNTER_CLOCKWISE(3);
+
+    private final int quarterTurns;
+
+    RotationDirection(int quarterTurns) {
+        this.quarterTurns = quarterTurns;
+    }
+
+    /**
+     * Gets the rotation as clockwise quarter turns.
+     *
+     * @return 1, 2 or 3
+     */
+    public int getQuarterTurns() {
+        return quarterTurns;
+    }
+}
@@ -0,0 +1,23 @@
+package com.comp2042.game.operations;
+
+import com.comp2042.game.bricks.BrickType;
+
+/**
+ * Strategy deciding where a brick may move when it rotates.
+ * A rotation tries each offset returned by {@link #getKicks} in order and takes the
+ * first one where the rotated shape fits; if none fits the rotation fails.
+ * Implementations return precomputed arrays so a rotation never allocates here.
+ */
+public interface RotationSystem {
+
+    /**
+     * Gets the offsets to try for a rotation, in board coordinates (x right, y down).
+     *
+     * @param type the brick type
+     * @param fromOrientation the brick's orientation before rotating, in clockwise
+     *                        quarter turns from spawn (see {@link BrickType#getOrientation(int)})
+     * @param quarterTurns the clockwise quarter turns requested (0-3)
+     * @return {dx, dy} pairs to try in order, starting with {0, 0}; must not be modified
+     */
+    int[][] getKicks(BrickType type, int fromOrientation, int quarterTurns);
+}
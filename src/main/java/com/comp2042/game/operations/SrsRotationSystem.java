@@ -0,0 +1,94 @@
+package com.comp2042.game.operations;
+
+import com.comp2042.game.bricks.BrickType;
+
+/**
+ * Super Rotation System wall kicks: when a rotated brick does not fit in place, up to
+ * four alternative offsets are tried so bricks can rotate against walls and the stack.
+ * The I brick has its own table, the O brick never moves, and the remaining bricks
+ * share the J/L/S/T/Z table. Half turns use the common SRS+ 180-degree table.
+ *
+ * <p>Orientations are the SRS states 0, R, 2 and L numbered 0-3. All tables are
+ * converted to board coordinates (y down) once, when the class loads.
+ */
+public class SrsRotationSystem implements RotationSystem {
+
+    private static final int[][] IN_PLACE = {{0, 0}};
+
+    // Offsets in SRS coordinates (y up), indexed [from state][quarter turns - 1]
+    private static final int[][][][] JLSTZ_SRS = {
+            { // From 0
+                    {{0, 0}, {-1, 0}, {-1, 1}, {0, -2}, {-1, -2}},        // 0 -> R
+                    {{0, 0}, {0, 1}, {1, 1}, {-1, 1}, {1, 0}, {-1, 0}},   // 0 -> 2
+                    {{0, 0}, {1, 0}, {1, 1}, {0, -2}, {1, -2}}            // 0 -> L
+            },
+            { // From R
+                    {{0, 0}, {1, 0}, {1, -1}, {0, 2}, {1, 2}},            // R -> 2
+                    {{0, 0}, {1, 0}, {1, 2}, {1, 1}, {0, 2}, {0, 1}},     // R -> L
+                    {{0, 0}, {1, 0}, {1, -1}, {0, 2}, {1, 2}}             // R -> 0
+            },
+            { // From 2
+                    {{0, 0}, {1, 0}, {1, 1}, {0, -2}, {1, -2}},           // 2 -> L
+                    {{0, 0}, {0, -1}, {-1, -1}, {1, -1}, {-1, 0}, {1, 0}}, // 2 -> 0
+                    {{0, 0}, {-1, 0}, {-1, 1}, {0, -2}, {-1, -2}}         // 2 -> R
+            },
+            { // From L
+                    {{0, 0}, {-1, 0}, {-1, -1}, {0, 2}, {-1, 2}},         // L -> 0
+                    {{0, 0}, {-1, 0}, {-1, 2}, {-1, 1}, {0, 2}, {0, 1}},  // L -> R
+                    {{0, 0}, {-1, 0}, {-1, -1}, {0, 2}, {-1, 2}}          // L -> 2
+            }
+    };
+
+    private static final int[][][][] I_SRS = {
+            {
+                    {{0, 0}, {-2, 0}, {1, 0}, {-2, -1}, {1, 2}},          // 0 -> R
+                    JLSTZ_SRS[0][1],
+                    {{0, 0}, {-1, 0}, {2, 0}, {-1, 2}, {2, -1}}           // 0 -> L
+            },
+            {
+                    {{0, 0}, {-1, 0}, {2, 0}, {-1, 2}, {2, -1}},          // R -> 2
+                    JLSTZ_SRS[1][1],
+                    {{0, 0}, {2, 0}, {-1, 0}, {2, 1}, {-1, -2}}           // R -> 0
+            },
+            {
+                    {{0, 0}, {2, 0}, {-1, 0}, {2, 1}, {-1, -2}},          // 2 -> L
+                    JLSTZ_SRS[2][1],
+                    {{0, 0}, {1, 0}, {-2, 0}, {1, -2}, {-2, 1}}           // 2 -> R
+            },
+            {
+                    {{0, 0}, {1, 0}, {-2, 0}, {1, -2}, {-2, 1}},          // L -> 0
+                    JLSTZ_SRS[3][1],
+                    {{0, 0}, {-2, 0}, {1, 0}, {-2, -1}, {1, 2}}           // L -> 2
+            }
+    };
+
+    private static final int[][][][] JLSTZ_KICKS = toBoardCoordinates(JLSTZ_SRS);
+    private static final int[][][][] I_KICKS = toBoardCoordinates(I_SRS);
+
+    /** Creates an SRS rotation system. */
+    public SrsRotationSystem() { }
+
+    @Override
+    public int[][] getKicks(BrickType type, int fromOrientation, int quarterTurns) {
+        if (type == BrickType.O || quarterTurns == 0) {
+            return IN_PLACE;
+        }
+        int[][][][] table = type == BrickType.I ? I_KICKS : JLSTZ_KICKS;
+        return table[fromOrientation][quarterTurns - 1];
+    }
+
+    private static int[][][][] toBoardCoordinates(int[][][][] srs) {
+        int[][][][] board = new int[srs.length][][][];
+        for (int from = 0; from < srs.length; from++) {
+            board[from] = new int[srs[from].length][][];
+            for (int turns = 0; turns < srs[from].length; turns++) {
+                int[][] kicks = srs[from][turns];
+                board[from][turns] = new int[kicks.length][];
+                for (int k = 0; k < kicks.length; k++) {
+                    board[from][turns][k] = new int[]{kicks[k][0], -kicks[k][1]};
+                }
+            }
+        }
+        return board;
+    }
+}
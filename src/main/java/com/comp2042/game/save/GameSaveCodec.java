@@ -0,0 +1,240 @@
+package com.comp2042.game.save;
+
+import com.comp2042.game.bricks.Brick;
+import com.comp2042.game.bricks.BrickType;
+import com.comp2042.game.data.BoardStateSnapshot;
+import com.comp2042.game.data.SavedGame;
+import com.comp2042.game.score.LockAction;
+
+import java.awt.Point;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.zip.CRC32;
+
+/**
+ * Encodes and decodes saved games in a compact, versioned binary format.
+ * Java serialization is deliberately avoided so the format stays small, stable
+ * across class changes and cheap to decode at startup.
+ *
+ * <p>Layout (big-endian):
+ * <pre>
+ * int   magic ("TSAV")
+ * byte  format version
+ * short rows, short columns, byte bits per cell
+ * byte[] board cells, bit-packed row-major
+ * short x, short y, byte current brick code, byte rotation, byte held brick code (0 = none)
+ * byte  queue length, byte[] queue brick codes
+ * int   score, int lines, int level, short undo uses, short time slow uses
+ * short combo, byte back-to-back (0 or 1), byte last action ordinal   (version 2 on)
+ * int   CRC32 of everything above
+ * </pre>
+ *
+ * <p>Version 1 files, written before the scoring chain was saved, still load with no
+ * combo, no back-to-back chain and a plain move as the last action.
+ */
+public final class GameSaveCodec {
+
+    /** Magic number identifying a save file ("TSAV"). */
+    static final int MAGIC = 0x54534156;
+
+    /** Current format version. */
+    static final byte VERSION = 2;
+
+    /** Oldest format version still read. */
+    static final byte OLDEST_VERSION = 1;
+
+    private static final int HEADER_BYTES = 4 + 1 + 2 + 2 + 1;
+    private static final int PIECE_BYTES = 2 + 2 + 1 + 1 + 1 + 1;
+    private static final int COUNTER_BYTES = 4 + 4 + 4 + 2 + 2;
+    private static final int CHAIN_BYTES = 2 + 1 + 1;
+    private static final LockAction[] LOCK_ACTIONS = LockAction.values();
+    private static final int CHECKSUM_BYTES = 4;
+
+    private GameSaveCodec() { }
+
+    /**
+     * Encodes a saved game into its binary representation.
+     *
+     * @param savedGame the game to encode
+     * @return the encoded bytes
+     */
+    public static byte[] encode(SavedGame savedGame) {
+        BoardStateSnapshot snapshot = savedGame.getSnapshot();
+        int[][] matrix = snapshot.getBoardMatrix();
+        int rows = matrix.length;
+        int cols = rows > 0 ? matrix[0].length : 0;
+        int bitsPerCell = bitsPerCell(matrix);
+        int boardBytes = (rows * cols * bitsPerCell + 7) / 8;
+        Deque<Brick> queue = snapshot.getQueueSnapshot();
+        int queueLength = queue != null ? queue.size() : 0;
+
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + boardBytes + PIECE_BYTES
+                + queueLength + COUNTER_BYTES + CHAIN_BYTES + CHECKSUM_BYTES);
+        buffer.putInt(MAGIC);
+        buffer.put(VERSION);
+        buffer.putShort((short) rows);
+        buffer.putShort((short) cols);
+        buffer.put((byte) bitsPerCell);
+        packBoard(buffer, matrix, bitsPerCell);
+
+        Point offset = snapshot.getOffset();
+        buffer.putShort((short) offset.x);
+        buffer.putShort((short) offset.y);
+        buffer.put((byte) BrickType.of(snapshot.getCurrentBrick()).getCode());
+        buffer.put((byte) snapshot.getRotationIndex());
+        buffer.put((byte) (snapshot.getHeldBrick() != null ? BrickType.of(snapshot.getHeldBrick()).getCode() : 0));
+        buffer.put((byte) queueLength);
+        if (queue != null) {
+            for (Brick brick : queue) {
+                buffer.put((byte) BrickType.of(brick).getCode());
+            }
+        }
+
+        buffer.putInt(snapshot.getScore());
+        buffer.putInt(snapshot.getTotalLines());
+        buffer.putInt(snapshot.getLevel());
+        buffer.putShort((short) savedGame.getUndoUses());
+        buffer.putShort((short) savedGame.getTimeSlowUses());
+        buffer.putShort((short) snapshot.getCombo());
+        buffer.put((byte) (snapshot.isBackToBack() ? 1 : 0));
+        buffer.put((byte) snapshot.getLastAction().ordinal());
+
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), 0, buffer.position());
+        buffer.putInt((int) crc.getValue());
+        return buffer.array();
+    }
+
+    /**
+     * Decodes a saved game from its binary representation.
+     *
+     * @param data the encoded bytes
+     * @return the decoded game
+     * @throws IllegalArgumentException if the data is truncated, corrupt or of an unknown version
+     */
+    public static SavedGame decode(byte[] data) {
+        if (data.length < HEADER_BYTES + CHECKSUM_BYTES) {
+            throw new IllegalArgumentException("Save data is truncated");
+        }
+        CRC32 crc = new CRC32();
+        crc.update(data, 0, data.length - CHECKSUM_BYTES);
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        if (buffer.getInt(data.length - CHECKSUM_BYTES) != (int) crc.getValue()) {
+            throw new IllegalArgumentException("Save data checksum mismatch");
+        }
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new IllegalArgumentException("Not a save file");
+            }
+            byte version = buffer.get();
+            if (version < OLDEST_VERSION || version > VERSION) {
+                throw new IllegalArgumentException("Unsupported save version: " + version);
+            }
+            int rows = buffer.getShort();
+            int cols = buffer.getShort();
+            int bitsPerCell = buffer.get();
+            int[][] matrix = unpackBoard(buffer, rows, cols, bitsPerCell);
+
+            Point offset = new Point(buffer.getShort(), buffer.getShort());
+            Brick current = BrickType.fromCode(buffer.get()).create();
+            int rotation = buffer.get();
+            int heldCode = buffer.get();
+            Brick held = heldCode != 0 ? BrickType.fromCode(heldCode).create() : null;
+            int queueLength = buffer.get();
+            Deque<Brick> queue = new ArrayDeque<>(queueLength);
+            for (int i = 0; i < queueLength; i++) {
+                queue.add(BrickType.fromCode(buffer.get()).create());
+            }
+
+            int score = buffer.getInt();
+            int lines = buffer.getInt();
+            int level = buffer.getInt();
+            int undoUses = buffer.getShort();
+            int timeSlowUses = buffer.getShort();
+            int combo = 0;
+            boolean backToBack = false;
+            LockAction lastAction = LockAction.MOVE;
+            if (version >= 2) {
+                combo = buffer.getShort();
+                backToBack = buffer.get() != 0;
+                int action = buffer.get();
+                if (action < 0 || action >= LOCK_ACTIONS.length) {
+                    throw new IllegalArgumentException("Unknown last action: " + action);
+                }
+                lastAction = LOCK_ACTIONS[action];
+            }
+
+            BoardStateSnapshot snapshot = new BoardStateSnapshot(matrix, offset, current, rotation,
+                    held, queue, score, lines, level, combo, backToBack, lastAction);
+            return new SavedGame(snapshot, undoUses, timeSlowUses);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Save data is truncated", e);
+        }
+    }
+
+    /**
+     * Finds the smallest number of bits able to hold every cell value of the board.
+     *
+     * @param matrix the board matrix
+     * @return bits per cell (at least 1)
+     */
+    private static int bitsPerCell(int[][] matrix) {
+        int max = 1;
+        for (int[] row : matrix) {
+            for (int cell : row) {
+                if (cell < 0) {
+                    throw new IllegalArgumentException("Negative cell value: " + cell);
+                }
+                max = Math.max(max, cell);
+            }
+        }
+        return 32 - Integer.numberOfLeadingZeros(max);
+    }
+
+    /**
+     * Writes the board cells row-major, each using {@code bitsPerCell} bits, most significant bit first.
+     */
+    private static void packBoard(ByteBuffer buffer, int[][] matrix, int bitsPerCell) {
+        long accumulator = 0;
+        int pending = 0;
+        for (int[] row : matrix) {
+            for (int cell : row) {
+                accumulator = (accumulator << bitsPerCell) | cell;
+                pending += bitsPerCell;
+                while (pending >= 8) {
+                    pending -= 8;
+                    buffer.put((byte) (accumulator >>> pending));
+                }
+            }
+        }
+        if (pending > 0) {
+            buffer.put((byte) (accumulator << (8 - pending)));
+        }
+    }
+
+    /**
+     * Reads board cells written by {@link #packBoard(ByteBuffer, int[][], int)}.
+     */
+    private static int[][] unpackBoard(ByteBuffer buffer, int rows, int cols, int bitsPerCell) {
+        if (rows < 0 || cols < 0 || bitsPerCell < 1 || bitsPerCell > 31) {
+            throw new IllegalArgumentException("Invalid board header");
+        }
+        int[][] matrix = new int[rows][cols];
+        int mask = (1 << bitsPerCell) - 1;
+        long accumulator = 0;
+        int available = 0;
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                while (available < bitsPerCell) {
+                    accumulator = (accumulator << 8) | (buffer.get() & 0xFF);
+                    available += 8;
+                }
+                available -= bitsPerCell;
+                matrix[i][j] = (int) (accumulator >>> available) & mask;
+            }
+        }
+        return matrix;
+    }
+}
@@ -0,0 +1,121 @@
+package com.comp2042.game.save;
+
+import com.comp2042.game.data.SavedGame;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Persists in-progress games so they can be resumed after the application is closed.
+ * Encoding and disk writes run on a dedicated background thread so the JavaFX
+ * Application Thread never blocks on I/O. Each save is written to a temporary file
+ * and atomically renamed over the previous save, so a crash mid-write never leaves
+ * a half-written save behind.
+ */
+public final class GameSaveManager {
+
+    private static final String APP_DIR = ".tetris";
+    private static final String SAVE_FILE = "savegame.dat";
+
+    private final Path saveFile;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "game-save-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Creates a save manager using the default location in the user's home directory
+     * ({@code ~/.tetris/savegame.dat}).
+     */
+    public GameSaveManager() {
+        this(Paths.get(System.getProperty("user.home"), APP_DIR, SAVE_FILE));
+    }
+
+    /**
+     * Creates a save manager writing to the given file.
+     *
+     * @param saveFile the save file location
+     */
+    public GameSaveManager(Path saveFile) {
+        this.saveFile = saveFile;
+    }
+
+    /**
+     * Saves the game on the background writer thread.
+     *
+     * @param savedGame the game to save
+     * @return a future completing once the save is durable on disk
+     */
+    public CompletableFuture<Void> saveAsync(SavedGame savedGame) {
+        return CompletableFuture.runAsync(() -> {
+            try {
+                AtomicFileWriter.write(saveFile, GameSaveCodec.encode(savedGame));
+            } catch (IOException e) {
+                System.err.println("Failed to save game: " + e.getMessage());
+            }
+        }, writer);
+    }
+
+    /**
+     * Loads the saved game on the background writer thread, after any pending saves.
+     *
+     * @return a future with the saved game, or empty if there is none or it is unreadable
+     */
+    public CompletableFuture<Optional<SavedGame>> loadAsync() {
+        return CompletableFuture.supplyAsync(this::load, writer);
+    }
+
+    /**
+     * Loads the saved game synchronously.
+     *
+     * @return the saved game, or empty if there is none or it is unreadable
+     */
+    public Optional<SavedGame> load() {
+        if (!Files.exists(saveFile)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(GameSaveCodec.decode(Files.readAllBytes(saveFile)));
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Failed to load saved game: " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Deletes the saved game on the background writer thread.
+     * Called when a game ends so it cannot be resumed.
+     *
+     * @return a future completing once the save is removed
+     */
+    public CompletableFuture<Void> deleteAsync() {
+        return CompletableFuture.runAsync(() -> {
+            try {
+                Files.deleteIfExists(saveFile);
+            } catch (IOException e) {
+                System.err.println("Failed to delete saved game: " + e.getMessage());
+            }
+        }, writer);
+    }
+
+    /**
+     * Waits for pending writes to finish and stops the writer thread.
+     * Called on application exit so the final save is not lost.
+     */
+    public void shutdown() {
+        writer.shutdown();
+        try {
+            writer.awaitTermination(2, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
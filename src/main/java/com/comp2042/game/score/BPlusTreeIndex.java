@@ -0,0 +1,435 @@
+package com.comp2042.game.score;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Disk-backed B+tree mapping {@code long} keys to record numbers.
+ * Entries are ordered by (key, record number), so duplicate keys are allowed and
+ * every entry is unique. Leaves are doubly linked, which lets range queries walk
+ * in either direction: ascending for time ranges, descending for top-K by score.
+ *
+ * <p>Page 0 holds the header; every other page is a leaf or internal node. All
+ * page access goes through a {@link PageCache} that holds modified pages until
+ * {@link #flush()}, so the file always holds the tree as of the last flush. A flush
+ * marks the header before writing any node and clears the mark after the last one;
+ * an index found still marked was cut off mid-flush and is rebuilt empty, to be
+ * re-indexed by its owner. Inserting an entry that is already present does nothing,
+ * so an owner may replay records the index may already hold.
+ */
+final class BPlusTreeIndex implements Closeable {
+
+    /**
+     * Callback receiving index entries during a range scan.
+     */
+    @FunctionalInterface
+    interface EntryVisitor {
+        /**
+         * Receives one entry.
+         *
+         * @param key the entry key
+         * @param record the record number
+         * @return true to continue scanning, false to stop
+         */
+        boolean visit(long key, long record);
+    }
+
+    private static final int MAGIC = 0x54425450; // "TBTP"
+
+    // Header page layout
+    private static final int HEADER_MAGIC = 0;
+    private static final int HEADER_ROOT = 4;
+    private static final int HEADER_PAGE_COUNT = 12;
+    private static final int HEADER_INDEXED_RECORDS = 20;
+    private static final int HEADER_FLUSHING = 28;
+
+    // Node page layout
+    private static final byte LEAF = 1;
+    private static final byte INTERNAL = 2;
+    private static final int NODE_TYPE = 0;
+    private static final int NODE_COUNT = 4;
+    private static final int NODE_PREV = 8;
+    private static final int NODE_NEXT = 16;
+    private static final int LEAF_ENTRIES = 24;
+    private static final int LEAF_ENTRY_SIZE = 16;
+    private static final int INTERNAL_FIRST_CHILD = 24;
+    private static final int INTERNAL_ENTRIES = 32;
+    private static final int INTERNAL_ENTRY_SIZE = 24;
+
+    static final int MAX_LEAF_ENTRIES = (PageCache.PAGE_SIZE - LEAF_ENTRIES) / LEAF_ENTRY_SIZE;
+    static final int MAX_INTERNAL_ENTRIES = (PageCache.PAGE_SIZE - INTERNAL_ENTRIES) / INTERNAL_ENTRY_SIZE;
+
+    private final PageCache cache;
+    private long root;
+    private long pageCount;
+    private long indexedRecords;
+
+    /** Result of splitting a node: the separator entry and the new right sibling. */
+    private record Split(long key, long record, long rightPage) { }
+
+    /**
+     * Opens (or creates) an index file. An index left part way through a flush is
+     * reset to empty, with {@link #getIndexedRecords()} back at 0.
+     *
+     * @param file the index file
+     * @param cachePages the page cache capacity
+     * @throws IOException if the file cannot be opened or is not an index
+     */
+    BPlusTreeIndex(Path file, int cachePages) throws IOException {
+        this.cache = new PageCache(file, cachePages, true);
+        ByteBuffer header = cache.read(0);
+        if (header.getInt(HEADER_MAGIC) == 0
+                || (header.getInt(HEADER_MAGIC) == MAGIC && header.getInt(HEADER_FLUSHING) != 0)) {
+            pageCount = 1;
+            root = allocate(LEAF);
+            writeHeader();
+        } else if (header.getInt(HEADER_MAGIC) == MAGIC) {
+            root = header.getLong(HEADER_ROOT);
+            pageCount = header.getLong(HEADER_PAGE_COUNT);
+            indexedRecords = header.getLong(HEADER_INDEXED_RECORDS);
+        } else {
+            cache.close();
+            throw new IOException("Not an index file: " + file);
+        }
+    }
+
+    /**
+     * Gets how many data records have been indexed, used to catch up after a crash.
+     *
+     * @return the number of indexed records
+     */
+    long getIndexedRecords() {
+        return indexedRecords;
+    }
+
+    /**
+     * Inserts an entry, unless the same (key, record) entry is already present.
+     *
+     * @param key the key
+     * @param record the record number
+     */
+    void insert(long key, long record) {
+        Split split = insertInto(root, key, record);
+        if (split != null) {
+            long newRoot = allocate(INTERNAL);
+            ByteBuffer page = cache.read(newRoot);
+            page.putLong(INTERNAL_FIRST_CHILD, root);
+            putInternalEntry(page, 0, split.key, split.record, split.rightPage);
+            page.putInt(NODE_COUNT, 1);
+            cache.markDirty(newRoot, page);
+            root = newRoot;
+        }
+        indexedRecords = Math.max(indexedRecords, record + 1);
+    }
+
+    /**
+     * Visits entries with {@code low <= key <= high} in ascending order.
+     *
+     * @param low the smallest key (inclusive)
+     * @param high the largest key (inclusive)
+     * @param visitor the entry callback
+     */
+    void scanAscending(long low, long high, EntryVisitor visitor) {
+        long leaf = findLeaf(low, Long.MIN_VALUE);
+        ByteBuffer page = cache.read(leaf);
+        int position = lowerBound(page, low, Long.MIN_VALUE);
+        while (true) {
+            int count = page.getInt(NODE_COUNT);
+            for (; position < count; position++) {
+                long key = leafKey(page, position);
+                if (key > high || !visitor.visit(key, leafRecord(page, position))) {
+                    return;
+                }
+            }
+            long next = page.getLong(NODE_NEXT);
+            if (next == 0) {
+                return;
+            }
+            page = cache.read(next);
+            position = 0;
+        }
+    }
+
+    /**
+     * Visits entries with {@code low <= key <= high} in descending order.
+     *
+     * @param low the smallest key (inclusive)
+     * @param high the largest key (inclusive)
+     * @param visitor the entry callback
+     */
+    void scanDescending(long low, long high, EntryVisitor visitor) {
+        long leaf = findLeaf(high, Long.MAX_VALUE);
+        ByteBuffer page = cache.read(leaf);
+        int position = lowerBound(page, high, Long.MAX_VALUE) - 1;
+        while (true) {
+            for (; position >= 0; position--) {
+                long key = leafKey(page, position);
+                if (key < low || !visitor.visit(key, leafRecord(page, position))) {
+                    return;
+                }
+            }
+            long prev = page.getLong(NODE_PREV);
+            if (prev == 0) {
+                return;
+            }
+            page = cache.read(prev);
+            position = page.getInt(NODE_COUNT) - 1;
+        }
+    }
+
+    /**
+     * Writes all dirty pages and then the header to disk.
+     * The header is marked as flushing while node pages are written, so a flush cut
+     * off part way is detected on the next open.
+     *
+     * @throws IOException if a write fails
+     */
+    void flush() throws IOException {
+        ByteBuffer header = cache.read(0);
+        header.putInt(HEADER_FLUSHING, 1);
+        cache.markDirty(0, header);
+        cache.flushPage(0);
+        cache.flush();
+        writeHeader();
+        cache.flushPage(0);
+    }
+
+    /**
+     * Checks whether enough modified pages are held in memory that the index should be flushed.
+     *
+     * @return true once the dirty pages fill the cache capacity
+     */
+    boolean needsFlush() {
+        return cache.getDirtyPages() >= cache.getCapacity();
+    }
+
+    /**
+     * Gets the underlying page cache, for statistics.
+     *
+     * @return the page cache
+     */
+    PageCache getCache() {
+        return cache;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            cache.close();
+        }
+    }
+
+    private Split insertInto(long pageId, long key, long record) {
+        ByteBuffer page = cache.read(pageId);
+        if (page.get(NODE_TYPE) == LEAF) {
+            return insertIntoLeaf(pageId, page, key, record);
+        }
+        int count = page.getInt(NODE_COUNT);
+        int childIndex = upperBoundInternal(page, count, key, record);
+        long child = childIndex == 0 ? page.getLong(INTERNAL_FIRST_CHILD) : internalChild(page, childIndex - 1);
+        Split childSplit = insertInto(child, key, record);
+        if (childSplit == null) {
+            return null;
+        }
+        if (count < MAX_INTERNAL_ENTRIES) {
+            shiftInternal(page, childIndex, count);
+            putInternalEntry(page, childIndex, childSplit.key, childSplit.record, childSplit.rightPage);
+            page.putInt(NODE_COUNT, count + 1);
+            cache.markDirty(pageId, page);
+            return null;
+        }
+        return splitInternal(pageId, page, childIndex, childSplit);
+    }
+
+    private Split insertIntoLeaf(long pageId, ByteBuffer page, long key, long record) {
+        int count = page.getInt(NODE_COUNT);
+        int position = lowerBound(page, key, record);
+        if (position < count && leafKey(page, position) == key && leafRecord(page, position) == record) {
+            return null;
+        }
+        if (count < MAX_LEAF_ENTRIES) {
+            insertLeafEntry(page, count, position, key, record);
+            cache.markDirty(pageId, page);
+            return null;
+        }
+
+        // Move the upper half to a new right sibling, then insert into the correct half
+        long rightId = allocate(LEAF);
+        ByteBuffer right = cache.read(rightId);
+        int mid = count / 2;
+        int moved = count - mid;
+        System.arraycopy(page.array(), LEAF_ENTRIES + mid * LEAF_ENTRY_SIZE,
+                right.array(), LEAF_ENTRIES, moved * LEAF_ENTRY_SIZE);
+        page.putInt(NODE_COUNT, mid);
+        right.putInt(NODE_COUNT, moved);
+
+        long oldNext = page.getLong(NODE_NEXT);
+        right.putLong(NODE_PREV, pageId);
+        right.putLong(NODE_NEXT, oldNext);
+        page.putLong(NODE_NEXT, rightId);
+        if (oldNext != 0) {
+            ByteBuffer next = cache.read(oldNext);
+            next.putLong(NODE_PREV, rightId);
+            cache.markDirty(oldNext, next);
+        }
+
+        if (compare(key, record, leafKey(right, 0), leafRecord(right, 0)) < 0) {
+            insertLeafEntry(page, mid, lowerBound(page, key, record), key, record);
+        } else {
+            insertLeafEntry(right, moved, lowerBound(right, key, record), key, record);
+        }
+        cache.markDirty(pageId, page);
+        cache.markDirty(rightId, right);
+        return new Split(leafKey(right, 0), leafRecord(right, 0), rightId);
+    }
+
+    private Split splitInternal(long pageId, ByteBuffer page, int insertAt, Split childSplit) {
+        int count = MAX_INTERNAL_ENTRIES + 1;
+        long[] keys = new long[count];
+        long[] records = new long[count];
+        long[] children = new long[count + 1];
+        children[0] = page.getLong(INTERNAL_FIRST_CHILD);
+        for (int i = 0, source = 0; i < count; i++) {
+            if (i == insertAt) {
+                keys[i] = childSplit.key;
+                records[i] = childSplit.record;
+                children[i + 1] = childSplit.rightPage;
+            } else {
+                keys[i] = internalKey(page, source);
+                records[i] = internalRecord(page, source);
+                children[i + 1] = internalChild(page, source);
+                source++;
+            }
+        }
+
+        int mid = count / 2;
+        long rightId = allocate(INTERNAL);
+        ByteBuffer right = cache.read(rightId);
+
+        page.putInt(NODE_COUNT, mid);
+        for (int i = 0; i < mid; i++) {
+            putInternalEntry(page, i, keys[i], records[i], children[i + 1]);
+        }
+        right.putLong(INTERNAL_FIRST_CHILD, children[mid + 1]);
+        int rightCount = count - mid - 1;
+        for (int i = 0; i < rightCount; i++) {
+            putInternalEntry(right, i, keys[mid + 1 + i], records[mid + 1 + i], children[mid + 2 + i]);
+        }
+        right.putInt(NODE_COUNT, rightCount);
+        cache.markDirty(pageId, page);
+        cache.markDirty(rightId, right);
+        return new Split(keys[mid], records[mid], rightId);
+    }
+
+    private long findLeaf(long key, long record) {
+        long pageId = root;
+        ByteBuffer page = cache.read(pageId);
+        while (page.get(NODE_TYPE) == INTERNAL) {
+            int childIndex = upperBoundInternal(page, page.getInt(NODE_COUNT), key, record);
+            pageId = childIndex == 0 ? page.getLong(INTERNAL_FIRST_CHILD) : internalChild(page, childIndex - 1);
+            page = cache.read(pageId);
+        }
+        return pageId;
+    }
+
+    /** Index of the first leaf entry not less than (key, record). */
+    private static int lowerBound(ByteBuffer page, long key, long record) {
+        int low = 0;
+        int high = page.getInt(NODE_COUNT);
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(leafKey(page, mid), leafRecord(page, mid), key, record) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /** Number of separators less than or equal to (key, record), i.e. the child to descend into. */
+    private static int upperBoundInternal(ByteBuffer page, int count, long key, long record) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(internalKey(page, mid), internalRecord(page, mid), key, record) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static void insertLeafEntry(ByteBuffer page, int count, int position, long key, long record) {
+        int offset = LEAF_ENTRIES + position * LEAF_ENTRY_SIZE;
+        System.arraycopy(page.array(), offset, page.array(), offset + LEAF_ENTRY_SIZE,
+                (count - position) * LEAF_ENTRY_SIZE);
+        page.putLong(offset, key);
+        page.putLong(offset + 8, record);
+        page.putInt(NODE_COUNT, count + 1);
+    }
+
+    private static void shiftInternal(ByteBuffer page, int position, int count) {
+        int offset = INTERNAL_ENTRIES + position * INTERNAL_ENTRY_SIZE;
+        System.arraycopy(page.array(), offset, page.array(), offset + INTERNAL_ENTRY_SIZE,
+                (count - position) * INTERNAL_ENTRY_SIZE);
+    }
+
+    private static void putInternalEntry(ByteBuffer page, int index, long key, long record, long child) {
+        int offset = INTERNAL_ENTRIES + index * INTERNAL_ENTRY_SIZE;
+        page.putLong(offset, key);
+        page.putLong(offset + 8, record);
+        page.putLong(offset + 16, child);
+    }
+
+    private static long leafKey(ByteBuffer page, int index) {
+        return page.getLong(LEAF_ENTRIES + index * LEAF_ENTRY_SIZE);
+    }
+
+    private static long leafRecord(ByteBuffer page, int index) {
+        return page.getLong(LEAF_ENTRIES + index * LEAF_ENTRY_SIZE + 8);
+    }
+
+    private static long internalKey(ByteBuffer page, int index) {
+        return page.getLong(INTERNAL_ENTRIES + index * INTERNAL_ENTRY_SIZE);
+    }
+
+    private static long internalRecord(ByteBuffer page, int index) {
+        return page.getLong(INTERNAL_ENTRIES + index * INTERNAL_ENTRY_SIZE + 8);
+    }
+
+    private static long internalChild(ByteBuffer page, int index) {
+        return page.getLong(INTERNAL_ENTRIES + index * INTERNAL_ENTRY_SIZE + 16);
+    }
+
+    private static int compare(long keyA, long recordA, long keyB, long recordB) {
+        int byKey = Long.compare(keyA, keyB);
+        return byKey != 0 ? byKey : Long.compare(recordA, recordB);
+    }
+
+    private long allocate(byte type) {
+        long pageId = pageCount++;
+        ByteBuffer page = cache.read(pageId);
+        Arrays.fill(page.array(), (byte) 0);
+        page.put(NODE_TYPE, type);
+        cache.markDirty(pageId, page);
+        return pageId;
+    }
+
+    private void writeHeader() {
+        ByteBuffer header = cache.read(0);
+        header.putInt(HEADER_MAGIC, MAGIC);
+        header.putLong(HEADER_ROOT, root);
+        header.putLong(HEADER_PAGE_COUNT, pageCount);
+        header.putLong(HEADER_INDEXED_RECORDS, indexedRecords);
+        header.putInt(HEADER_FLUSHING, 0);
+        cache.markDirty(0, header);
+    }
+}
@@ -0,0 +1,111 @@
+package com.comp2042.game.score;
+
+import com.comp2042.game.bricks.BrickType;
+
+/**
+ * Default implementation of ScoringEngine, driven entirely by lookup tables built
+ * once up front: the spin a lock counts as is read from the brick, the last action
+ * and the four corner bits, and the points from the spin and the lines cleared.
+ * A difficult clear (four lines, or a spin clearing rows) made right after another
+ * earns half as much again, and each lock in a clearing streak adds a combo bonus.
+ *
+ * <p>The standard tables keep the original 50, 200, 450 and 800 points for one to
+ * four lines, and follow the common guideline values for spins.
+ */
+public class DefaultScoringEngine implements ScoringEngine {
+
+    /** The most lines a table distinguishes; larger clears score as this many. */
+    public static final int MAX_LINES = 4;
+
+    private static final int[] CLEAR_POINTS = {0, 50, 200, 450, 800};
+    private static final int[] MINI_POINTS = {100, 200, 400, 400, 400};
+    private static final int[] FULL_POINTS = {400, 800, 1200, 1600, 1600};
+    private static final int COMBO_POINTS = 50;
+
+    private static final SpinType[] SPINS = SpinType.values();
+    private static final LockAction[] ACTIONS = LockAction.values();
+    private static final int CORNER_MASKS = 16;
+    private static final int ROW = MAX_LINES + 1;
+
+    // Spin by [T or not][last action][corners], flattened
+    private static final byte[] SPIN = spinTable();
+    // 1 for bricks that can spin, by ordinal
+    private static final byte[] SPINS_BY_PIECE = spinningPieces();
+
+    /** The standard rules, shared since the engine has no state. */
+    public static final DefaultScoringEngine STANDARD = new DefaultScoringEngine();
+
+    // Points and difficulty by [spin][lines], flattened
+    private final int[] points = new int[SPINS.length * ROW];
+    private final int[] difficult = new int[SPINS.length * ROW];
+    private final int comboPoints;
+
+    /** Creates an engine with the standard tables. */
+    public DefaultScoringEngine() {
+        this(CLEAR_POINTS, MINI_POINTS, FULL_POINTS, COMBO_POINTS);
+    }
+
+    /**
+     * Creates an engine with custom points. Each table is indexed by lines cleared,
+     * from 0 to {@link #MAX_LINES}.
+     *
+     * @param clearPoints points for a clear without a spin
+     * @param miniPoints points for a mini T-spin
+     * @param fullPoints points for a full T-spin
+     * @param comboPoints points per lock of an ongoing clearing streak
+     * @throws IllegalArgumentException if a table has the wrong length
+     */
+    public DefaultScoringEngine(int[] clearPoints, int[] miniPoints, int[] fullPoints, int comboPoints) {
+        int[][] bySpin = {clearPoints, miniPoints, fullPoints};
+        for (int spin = 0; spin < bySpin.length; spin++) {
+            if (bySpin[spin].length != ROW) {
+                throw new IllegalArgumentException("Points tables need " + ROW + " entries, one per line count");
+            }
+            System.arraycopy(bySpin[spin], 0, points, spin * ROW, ROW);
+            for (int lines = 1; lines < ROW; lines++) {
+                boolean hard = lines == MAX_LINES || SPINS[spin] != SpinType.NONE;
+                difficult[spin * ROW + lines] = hard ? 1 : 0;
+            }
+        }
+        this.comboPoints = comboPoints;
+    }
+
+    @Override
+    public LockScore score(LockEvent event) {
+        int canSpin = event.getPiece() == null ? 0 : SPINS_BY_PIECE[event.getPiece().ordinal()];
+        int spin = SPIN[(canSpin * ACTIONS.length + event.getLastAction().ordinal()) * CORNER_MASKS
+                + event.getCorners()];
+        int lines = Math.min(event.getLines(), MAX_LINES);
+        int index = spin * ROW + lines;
+        int base = points[index];
+        // Half again for a difficult clear following another; -1 masks in the bonus, 0 masks it out
+        int backToBack = -(difficult[index] & (event.isBackToBack() ? 1 : 0));
+        int combo = comboPoints * event.getCombo() * Integer.signum(lines);
+        return new LockScore(base + ((base >> 1) & backToBack) + combo, SPINS[spin], difficult[index] != 0);
+    }
+
+    /**
+     * Applies the three-corner rule: a rotated T with three corners filled spins,
+     * fully if both front corners are filled or the rotation used a far kick.
+     */
+    private static byte[] spinTable() {
+        byte[] table = new byte[2 * ACTIONS.length * CORNER_MASKS];
+        for (LockAction action : ACTIONS) {
+            for (int corners = 0; corners < CORNER_MASKS; corners++) {
+                SpinType spin = SpinType.NONE;
+                if (action != LockAction.MOVE && Integer.bitCount(corners) >= 3) {
+                    boolean front = (corners & LockEvent.FRONT_CORNERS) == LockEvent.FRONT_CORNERS;
+                    spin = front || action == LockAction.FAR_KICK ? SpinType.FULL : SpinType.MINI;
+                }
+                table[(ACTIONS.length + action.ordinal()) * CORNER_MASKS + corners] = (byte) spin.ordinal();
+            }
+        }
+        return table;
+    }
+
+    private static byte[] spinningPieces() {
+        byte[] table = new byte[BrickType.values().length];
+        table[BrickType.T.ordinal()] = 1;
+        return table;
+    }
+}
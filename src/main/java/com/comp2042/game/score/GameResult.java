@@ -0,0 +1,108 @@
+package com.comp2042.game.score;
+
+/**
+ * Immutable result of one finished game, as stored in the {@link ScoreDatabase}.
+ * Ruleset and generator are small caller-assigned identifiers (for example the
+ * ordinal of {@link com.comp2042.game.bricks.BrickGeneratorFactory.GeneratorType}).
+ */
+public final class GameResult {
+
+    /** Largest ruleset or generator identifier that can be stored. */
+    public static final int MAX_ID = Short.MAX_VALUE;
+
+    private final int score;
+    private final int lines;
+    private final int level;
+    private final int ruleset;
+    private final int generator;
+    private final long durationMs;
+    private final long timestamp;
+
+    /**
+     * Creates a game result.
+     *
+     * @param score the final score
+     * @param lines the total lines cleared
+     * @param level the level reached
+     * @param ruleset the ruleset identifier (0 to {@link #MAX_ID})
+     * @param generator the brick generator identifier (0 to {@link #MAX_ID})
+     * @param durationMs the game duration in milliseconds
+     * @param timestamp the time the game ended, in epoch milliseconds
+     * @throws IllegalArgumentException if an identifier is out of range
+     */
+    public GameResult(int score, int lines, int level, int ruleset, int generator, long durationMs, long timestamp) {
+        if (ruleset < 0 || ruleset > MAX_ID || generator < 0 || generator > MAX_ID) {
+            throw new IllegalArgumentException("Ruleset and generator ids must be between 0 and " + MAX_ID);
+        }
+        this.score = score;
+        this.lines = lines;
+        this.level = level;
+        this.ruleset = ruleset;
+        this.generator = generator;
+        this.durationMs = durationMs;
+        this.timestamp = timestamp;
+    }
+
+    /**
+     * Gets the final score.
+     *
+     * @return the score
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Gets the total lines cleared.
+     *
+     * @return lines cleared
+     */
+    public int getLines() {
+        return lines;
+    }
+
+    /**
+     * Gets the level reached.
+     *
+     * @return the level
+     */
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * Gets the ruleset identifier.
+     *
+     * @return the ruleset id
+     */
+    public int getRuleset() {
+        return ruleset;
+    }
+
+    /**
+     * Gets the brick generator identifier.
+     *
+     * @return the generator id
+     */
+    public int getGenerator() {
+        return generator;
+    }
+
+    /**
+     * Gets the game duration.
+     *
+     * @return duration in milliseconds
+     */
+    public long getDurationMs() {
+        return durationMs;
+    }
+
+    /**
+     * Gets the time the game ended.
+     *
+     * @return epoch milliseconds
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+}
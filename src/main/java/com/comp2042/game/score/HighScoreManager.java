@@ -1,70 +1,177 @@
 package com.comp2042.game.score;
 
-import javafx.beans.property.IntegerProperty;
-import javafx.beans.property.SimpleIntegerProperty;
+import com.comp2042.game.level.LevelManager;
+import com.comp2042.game.level.LinesClearedTracker;
+import com.comp2042.game.save.AtomicFileWriter;
 
-import java.io.*;
+import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.zip.CRC32;
 
 /**
  * Manages high score persistence and tracking.
- * Automatically saves and loads high score from disk, and tracks when
- * the current score beats the high score.
+ * Loads the saved high score and leaderboard in the background, tracks when the
+ * current score beats the high score, and records finished games on the leaderboard
+ * without blocking the caller on disk I/O. Loaded values are handed to the thread that
+ * reads the manager through an {@link Executor} ({@code Platform::runLater} for the GUI),
+ * never waited for.
  * 
- * Uses Observer pattern via JavaFX IntegerProperty for UI binding.
- * Implements Singleton-like behavior through instance management.
+ * The score is not observed per increment: {@link #checkHighScore()} compares it once
+ * per frame (from {@link com.comp2042.ui.ObservableGameStats}) and at game end. The
+ * getters are plain reads of the result of the last check.
  */
 public final class HighScoreManager {
     
     private static final String HIGH_SCORE_FILE = "highscore.dat";
     private static final String APP_DIR = ".tetris";
+    private static final String DEFAULT_PLAYER_NAME = "Player";
+    private static final int MAGIC = 0x54485343; // "THSC"
+    private static final byte VERSION = 1;
+    // magic, version, score, CRC32
+    private static final int FILE_BYTES = 4 + 1 + 4 + 4;
     
-    private final IntegerProperty highScore = new SimpleIntegerProperty(0);
-    private boolean isNewHighScore = false;
+    private volatile int highScore;
+    private final Score currentScore;
+    private final LinesClearedTracker linesTracker;
+    private final LevelManager levelManager;
+    private final LeaderboardStore leaderboardStore;
+    private final Path highScoreFile;
+    private final Executor applyOn;
+    private final CompletableFuture<Void> loaded;
+    private volatile List<LeaderboardEntry> leaderboard = List.of();
+    private volatile boolean isNewHighScore = false;
+    private long gameStartMillis = System.currentTimeMillis();
     
     /**
-     * Creates a new HighScoreManager.
-     * Loads the saved high score from disk and observes the current score
-     * to automatically detect when a new high score is achieved.
+     * Creates a new HighScoreManager that only tracks the score.
+     * Leaderboard entries recorded by this manager report zero lines and level.
      * 
      * @param currentScore the current game score to monitor
      */
     public HighScoreManager(Score currentScore) {
-        loadHighScore();
-        
-        // Listen for score changes to detect new high scores
-        currentScore.scoreProperty().addListener((obs, oldVal, newVal) -> {
-            if (newVal.intValue() > highScore.get()) {
-                highScore.set(newVal.intValue());
-                if (!isNewHighScore) {
-                    isNewHighScore = true;
-                }
-            }
-        });
+        this(currentScore, null, null);
     }
-    
+
     /**
-     * Returns the high score property for UI binding.
-     * 
-     * @return the IntegerProperty representing the high score
+     * Creates a new HighScoreManager using the default storage locations.
+     *
+     * @param currentScore the current game score to monitor
+     * @param linesTracker the lines tracker recorded on the leaderboard (nullable)
+     * @param levelManager the level manager recorded on the leaderboard (nullable)
      */
-    public IntegerProperty highScoreProperty() {
-        return highScore;
+    public HighScoreManager(Score currentScore, LinesClearedTracker linesTracker, LevelManager levelManager) {
+        this(currentScore, linesTracker, levelManager, Runnable::run);
+    }
+
+    /**
+     * Creates a new HighScoreManager using the default storage locations, applying
+     * loaded values on the given executor.
+     *
+     * @param currentScore the current game score to monitor
+     * @param linesTracker the lines tracker recorded on the leaderboard (nullable)
+     * @param levelManager the level manager recorded on the leaderboard (nullable)
+     * @param applyOn runs updates on the thread that reads this manager
+     */
+    public HighScoreManager(Score currentScore, LinesClearedTracker linesTracker, LevelManager levelManager,
+                            Executor applyOn) {
+        this(currentScore, linesTracker, levelManager, new LeaderboardStore(),
+                Paths.get(System.getProperty("user.home"), APP_DIR, HIGH_SCORE_FILE), applyOn);
+    }
+
+    /**
+     * Creates a new HighScoreManager that applies loaded values on the background writer.
+     *
+     * @param currentScore the current game score to monitor
+     * @param linesTracker the lines tracker recorded on the leaderboard (nullable)
+     * @param levelManager the level manager recorded on the leaderboard (nullable)
+     * @param leaderboardStore the leaderboard store
+     * @param highScoreFile the file holding the single best score
+     */
+    public HighScoreManager(Score currentScore, LinesClearedTracker linesTracker, LevelManager levelManager,
+                            LeaderboardStore leaderboardStore, Path highScoreFile) {
+        this(currentScore, linesTracker, levelManager, leaderboardStore, highScoreFile, Runnable::run);
+    }
+
+    /**
+     * Creates a new HighScoreManager.
+     * Starts loading the saved high score and leaderboard in the background and applies
+     * them on {@code applyOn} once read, so neither construction nor any getter waits on disk.
+     * Until then the high score counts only games played since construction.
+     *
+     * @param currentScore the current game score to monitor
+     * @param linesTracker the lines tracker recorded on the leaderboard (nullable)
+     * @param levelManager the level manager recorded on the leaderboard (nullable)
+     * @param leaderboardStore the leaderboard store
+     * @param highScoreFile the file holding the single best score
+     * @param applyOn runs updates on the thread that reads this manager
+     */
+    public HighScoreManager(Score currentScore, LinesClearedTracker linesTracker, LevelManager levelManager,
+                            LeaderboardStore leaderboardStore, Path highScoreFile, Executor applyOn) {
+        this.currentScore = currentScore;
+        this.linesTracker = linesTracker;
+        this.levelManager = levelManager;
+        this.leaderboardStore = leaderboardStore;
+        this.highScoreFile = highScoreFile;
+        this.applyOn = applyOn;
+        CompletableFuture<Integer> savedHighScore = LeaderboardStore.supplyOnWriter(this::readHighScoreFile);
+        this.loaded = leaderboardStore.loadAsync().thenAcceptBothAsync(savedHighScore, this::applyLoaded, applyOn);
+    }
+
+    /**
+     * Completes once the saved high score and leaderboard have been applied.
+     * For callers that must not see the values from before loading, such as tests;
+     * the game itself never waits on it.
+     *
+     * @return a future completing after the saved values are applied
+     */
+    public CompletableFuture<Void> whenLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Compares the current score against the high score, raising the high score
+     * and setting the new high score flag if it was beaten.
+     * Cheap enough to call every frame.
+     *
+     * @return true if the current game holds a new high score
+     */
+    public boolean checkHighScore() {
+        int score = currentScore.get();
+        if (score > highScore) {
+            highScore = score;
+            isNewHighScore = true;
+        }
+        return isNewHighScore;
     }
     
     /**
-     * Gets the current high score value.
+     * Gets the high score as of the last {@link #checkHighScore()}, including the
+     * current game's score if it was higher then.
      * 
      * @return the current high score
      */
     public int getHighScore() {
-        return highScore.get();
+        return highScore;
+    }
+
+    /**
+     * Gets the leaderboard, best entry first.
+     *
+     * @return an unmodifiable list of leaderboard entries
+     */
+    public List<LeaderboardEntry> getLeaderboard() {
+        return leaderboard;
     }
     
     /**
-     * Checks if the current game has achieved a new high score.
+     * Checks if the current game had achieved a new high score as of the last
+     * {@link #checkHighScore()}.
      * 
      * @return true if a new high score was achieved this game
      */
@@ -74,68 +181,126 @@ public final class HighScoreManager {
     
     /**
      * Resets the new high score flag.
-     * Called when starting a new game.
+     * Called when starting a new game, so it also restarts the game duration clock.
      */
     public void resetNewHighScoreFlag() {
         isNewHighScore = false;
+        gameStartMillis = System.currentTimeMillis();
     }
     
     /**
-     * Saves the current high score to disk.
-     * Creates the application directory if it doesn't exist.
-     * High score is stored in user's home directory under .tetris/highscore.dat
+     * Saves the current high score to disk on the background writer.
+     * High score is stored in user's home directory under .tetris/highscore.dat with a
+     * CRC32 checksum, replaced atomically so a crash cannot corrupt it. The file is read,
+     * compared and written under the same cross-process file lock as the leaderboard, so
+     * a higher score saved by this or another application instance is always kept.
      */
     public void saveHighScore() {
-        try {
-            // Create app directory if it doesn't exist
-            Path appDir = Paths.get(System.getProperty("user.home"), APP_DIR);
-            if (!Files.exists(appDir)) {
-                Files.createDirectories(appDir);
-            }
-            
-            // Write high score to file
-            Path highScoreFile = appDir.resolve(HIGH_SCORE_FILE);
-            try (DataOutputStream dos = new DataOutputStream(
-                    new FileOutputStream(highScoreFile.toFile()))) {
-                dos.writeInt(highScore.get());
+        int best = highScore;
+        LeaderboardStore.supplyOnWriter(() -> {
+            try {
+                LeaderboardStore.underLock(highScoreFile, () -> {
+                    int saved = readHighScoreFile();
+                    if (best > saved || !Files.exists(highScoreFile)) {
+                        AtomicFileWriter.write(highScoreFile, encodeHighScore(Math.max(best, saved)));
+                    }
+                    return null;
+                });
+            } catch (IOException e) {
+                System.err.println("Failed to save high score: " + e.getMessage());
             }
-        } catch (IOException e) {
-            System.err.println("Failed to save high score: " + e.getMessage());
-        }
+            return null;
+        });
     }
     
     /**
-     * Loads the high score from disk.
-     * If the file doesn't exist or cannot be read, defaults to 0.
+     * Called when the game ends.
+     * Records the game on the leaderboard and saves the high score if it was beaten.
+     * Both writes happen on the background writer.
+     */
+    public void onGameEnd() {
+        checkHighScore();
+        long now = System.currentTimeMillis();
+        LeaderboardEntry entry = new LeaderboardEntry(
+                System.getProperty("user.name", DEFAULT_PLAYER_NAME),
+                currentScore.get(),
+                linesTracker != null ? linesTracker.getTotalLines() : 0,
+                levelManager != null ? levelManager.getCurrentLevel() : 1,
+                now - gameStartMillis,
+                now);
+        leaderboardStore.submitAsync(entry).thenAcceptAsync(updated -> leaderboard = updated, applyOn);
+        if (isNewHighScore) {
+            saveHighScore();
+        }
+    }
+
+    /**
+     * Applies the background-loaded high score and leaderboard.
+     * The saved high score is the best of the legacy high score file and the leaderboard's top entry;
+     * a game that only beat the unloaded default loses its new high score flag.
+     */
+    private void applyLoaded(List<LeaderboardEntry> entries, int savedHighScore) {
+        leaderboard = entries;
+        int saved = savedHighScore;
+        if (!entries.isEmpty()) {
+            saved = Math.max(saved, entries.get(0).getScore());
+        }
+        if (saved > highScore) {
+            highScore = saved;
+            isNewHighScore = isNewHighScore && currentScore.get() > saved;
+        }
+    }
+
+    /**
+     * Reads the high score file.
+     * If the file doesn't exist, cannot be read or fails its checksum, defaults to 0.
+     *
+     * @return the saved high score
      */
-    private void loadHighScore() {
+    private int readHighScoreFile() {
         try {
-            Path highScoreFile = Paths.get(System.getProperty("user.home"), APP_DIR, HIGH_SCORE_FILE);
-            
             if (Files.exists(highScoreFile)) {
-                try (DataInputStream dis = new DataInputStream(
-                        new FileInputStream(highScoreFile.toFile()))) {
-                    int savedHighScore = dis.readInt();
-                    highScore.set(savedHighScore);
-                }
-            } else {
-                // No saved high score, start at 0
-                highScore.set(0);
+                return decodeHighScore(Files.readAllBytes(highScoreFile));
             }
-        } catch (IOException e) {
+        } catch (IOException | IllegalArgumentException e) {
             System.err.println("Failed to load high score: " + e.getMessage());
-            highScore.set(0);
         }
+        return 0;
     }
-    
+
     /**
-     * Called when the game ends.
-     * Saves the high score if it was beaten.
+     * Encodes a high score as: magic, version, score, CRC32.
      */
-    public void onGameEnd() {
-        if (isNewHighScore) {
-            saveHighScore();
+    static byte[] encodeHighScore(int score) {
+        ByteBuffer buffer = ByteBuffer.allocate(FILE_BYTES);
+        buffer.putInt(MAGIC).put(VERSION).putInt(score);
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), 0, buffer.position());
+        buffer.putInt((int) crc.getValue());
+        return buffer.array();
+    }
+
+    /**
+     * Decodes a high score written by {@link #encodeHighScore(int)}, verifying the
+     * checksum. A bare four-byte score, written before the checksum was added, is
+     * still read.
+     */
+    static int decodeHighScore(byte[] data) {
+        if (data.length == Integer.BYTES) {
+            return ByteBuffer.wrap(data).getInt();
         }
+        if (data.length != FILE_BYTES) {
+            throw new IllegalArgumentException("High score data is truncated");
+        }
+        CRC32 crc = new CRC32();
+        crc.update(data, 0, data.length - 4);
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        if (buffer.getInt(data.length - 4) != (int) crc.getValue()) {
+            throw new IllegalArgumentException("High score checksum mismatch");
+        }
+        if (buffer.getInt() != MAGIC || buffer.get() != VERSION) {
+            throw new IllegalArgumentException("Unsupported high score format");
+        }
+        return buffer.getInt();
     }
 }
-
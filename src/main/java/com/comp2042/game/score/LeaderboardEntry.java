@@ -0,0 +1,91 @@
+package com.comp2042.game.score;
+
+/**
+ * Immutable record of a finished game on the leaderboard.
+ */
+public final class LeaderboardEntry {
+
+    /** Maximum stored length of a player name. */
+    public static final int MAX_NAME_LENGTH = 32;
+
+    private final String name;
+    private final int score;
+    private final int lines;
+    private final int level;
+    private final long durationMs;
+    private final long timestamp;
+
+    /**
+     * Creates a leaderboard entry.
+     *
+     * @param name the player name (truncated to {@link #MAX_NAME_LENGTH} characters)
+     * @param score the final score
+     * @param lines the total lines cleared
+     * @param level the level reached
+     * @param durationMs the game duration in milliseconds
+     * @param timestamp the time the game ended, in epoch milliseconds
+     */
+    public LeaderboardEntry(String name, int score, int lines, int level, long durationMs, long timestamp) {
+        String safeName = name != null ? name : "";
+        this.name = safeName.length() > MAX_NAME_LENGTH ? safeName.substring(0, MAX_NAME_LENGTH) : safeName;
+        this.score = score;
+        this.lines = lines;
+        this.level = level;
+        this.durationMs = durationMs;
+        this.timestamp = timestamp;
+    }
+
+    /**
+     * Gets the player name.
+     *
+     * @return the player name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the final score.
+     *
+     * @return the score
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Gets the total lines cleared.
+     *
+     * @return lines cleared
+     */
+    public int getLines() {
+        return lines;
+    }
+
+    /**
+     * Gets the level reached.
+     *
+     * @return the level
+     */
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * Gets the game duration.
+     *
+     * @return duration in milliseconds
+     */
+    public long getDurationMs() {
+        return durationMs;
+    }
+
+    /**
+     * Gets the time the game ended.
+     *
+     * @return epoch milliseconds
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+}
@@ -0,0 +1,247 @@
+package com.comp2042.game.score;
+
+import com.comp2042.game.save.AtomicFileWriter;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
+
+/**
+ * Crash-safe persistent store for the top-N leaderboard.
+ *
+ * <p>All disk access runs on a single background writer thread shared by every store
+ * in the process, so the JavaFX Application Thread never blocks on I/O. Each write:
+ * <ol>
+ *   <li>takes an exclusive {@link FileLock} on a sibling lock file so other application
+ *       instances on the same machine cannot interleave their updates,</li>
+ *   <li>re-reads the file and merges the new entry, so entries recorded by other
+ *       instances are kept,</li>
+ *   <li>writes the result with a CRC32 checksum via {@link AtomicFileWriter}.</li>
+ * </ol>
+ * Files with a bad checksum are treated as empty rather than crashing the game.
+ */
+public final class LeaderboardStore {
+
+    /** Default number of entries kept on the leaderboard. */
+    public static final int DEFAULT_CAPACITY = 10;
+
+    private static final int MAGIC = 0x544C4244; // "TLBD"
+    private static final byte VERSION = 1;
+    private static final String APP_DIR = ".tetris";
+    private static final String LEADERBOARD_FILE = "leaderboard.dat";
+    private static final String LOCK_SUFFIX = ".lock";
+
+    /** An update made while holding a file's cross-process lock. */
+    @FunctionalInterface
+    interface LockedUpdate<T> {
+        T apply() throws IOException;
+    }
+
+    /** Orders entries best first: higher score, then earlier timestamp. */
+    private static final Comparator<LeaderboardEntry> RANKING =
+            Comparator.comparingInt(LeaderboardEntry::getScore).reversed()
+                    .thenComparingLong(LeaderboardEntry::getTimestamp);
+
+    // One writer per process: file locks are held per JVM, so overlapping locks from
+    // two threads of the same process would fail rather than wait
+    private static final ExecutorService WRITER = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "leaderboard-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Path file;
+    private final int capacity;
+
+    /**
+     * Creates a store at the default location ({@code ~/.tetris/leaderboard.dat}).
+     */
+    public LeaderboardStore() {
+        this(Paths.get(System.getProperty("user.home"), APP_DIR, LEADERBOARD_FILE), DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a store at the given location.
+     *
+     * @param file the leaderboard file
+     * @param capacity the maximum number of entries kept
+     */
+    public LeaderboardStore(Path file, int capacity) {
+        this.file = file;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Loads the leaderboard on the background thread.
+     *
+     * @return a future with the entries, best first
+     */
+    public CompletableFuture<List<LeaderboardEntry>> loadAsync() {
+        return CompletableFuture.supplyAsync(() -> Collections.unmodifiableList(read()), WRITER);
+    }
+
+    /**
+     * Records a finished game on the background thread.
+     * The entry is dropped if it does not rank within the top entries.
+     *
+     * @param entry the entry to record
+     * @return a future with the updated leaderboard, best first
+     */
+    public CompletableFuture<List<LeaderboardEntry>> submitAsync(LeaderboardEntry entry) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return Collections.unmodifiableList(merge(entry));
+            } catch (IOException e) {
+                System.err.println("Failed to save leaderboard: " + e.getMessage());
+                return Collections.unmodifiableList(read());
+            }
+        }, WRITER);
+    }
+
+    /**
+     * Runs a task on the shared background writer, after any pending leaderboard writes.
+     *
+     * @param task the task to run
+     * @param <T> the task result type
+     * @return a future with the task result
+     */
+    static <T> CompletableFuture<T> supplyOnWriter(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, WRITER);
+    }
+
+    /**
+     * Merges an entry into the file while holding the cross-process lock.
+     */
+    private List<LeaderboardEntry> merge(LeaderboardEntry entry) throws IOException {
+        return underLock(file, () -> {
+            List<LeaderboardEntry> entries = read();
+            entries.add(entry);
+            entries.sort(RANKING);
+            if (entries.size() > capacity) {
+                entries.subList(capacity, entries.size()).clear();
+            }
+            AtomicFileWriter.write(file, encode(entries));
+            return entries;
+        });
+    }
+
+    /**
+     * Runs a read-modify-write of a file while holding an exclusive lock on its sibling
+     * {@code .lock} file, so other application instances cannot interleave with it.
+     * Must run on the writer thread, as two locks from one process would clash.
+     *
+     * @param file the file being updated
+     * @param update the update
+     * @param <T> the update result type
+     * @return the update's result
+     * @throws IOException if the lock cannot be taken or the update fails
+     */
+    static <T> T underLock(Path file, LockedUpdate<T> update) throws IOException {
+        Path lockFile = file.resolveSibling(file.getFileName() + LOCK_SUFFIX);
+        Path dir = lockFile.toAbsolutePath().getParent();
+        if (dir != null) {
+            Files.createDirectories(dir);
+        }
+        try (FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            FileLock lock = channel.lock();
+            try {
+                return update.apply();
+            } finally {
+                lock.release();
+            }
+        }
+    }
+
+    /**
+     * Reads the leaderboard file, returning an empty list if it is missing or corrupt.
+     */
+    private List<LeaderboardEntry> read() {
+        if (!Files.exists(file)) {
+            return new ArrayList<>();
+        }
+        try {
+            return decode(Files.readAllBytes(file));
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Failed to load leaderboard: " + e.getMessage());
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * Encodes entries as: magic, version, count, entries, CRC32.
+     */
+    static byte[] encode(List<LeaderboardEntry> entries) {
+        List<byte[]> names = new ArrayList<>(entries.size());
+        int size = 4 + 1 + 4 + 4;
+        for (LeaderboardEntry entry : entries) {
+            byte[] name = entry.getName().getBytes(StandardCharsets.UTF_8);
+            names.add(name);
+            size += 2 + name.length + 4 + 4 + 4 + 8 + 8;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putInt(MAGIC);
+        buffer.put(VERSION);
+        buffer.putInt(entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            LeaderboardEntry entry = entries.get(i);
+            buffer.putShort((short) names.get(i).length);
+            buffer.put(names.get(i));
+            buffer.putInt(entry.getScore());
+            buffer.putInt(entry.getLines());
+            buffer.putInt(entry.getLevel());
+            buffer.putLong(entry.getDurationMs());
+            buffer.putLong(entry.getTimestamp());
+        }
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), 0, buffer.position());
+        buffer.putInt((int) crc.getValue());
+        return buffer.array();
+    }
+
+    /**
+     * Decodes entries written by {@link #encode(List)}, verifying the checksum.
+     */
+    static List<LeaderboardEntry> decode(byte[] data) {
+        if (data.length < 4 + 1 + 4 + 4) {
+            throw new IllegalArgumentException("Leaderboard data is truncated");
+        }
+        CRC32 crc = new CRC32();
+        crc.update(data, 0, data.length - 4);
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        if (buffer.getInt(data.length - 4) != (int) crc.getValue()) {
+            throw new IllegalArgumentException("Leaderboard checksum mismatch");
+        }
+        try {
+            if (buffer.getInt() != MAGIC || buffer.get() != VERSION) {
+                throw new IllegalArgumentException("Unsupported leaderboard format");
+            }
+            int count = buffer.getInt();
+            List<LeaderboardEntry> entries = new ArrayList<>(Math.max(0, Math.min(count, 1024)));
+            for (int i = 0; i < count; i++) {
+                byte[] name = new byte[buffer.getShort() & 0xFFFF];
+                buffer.get(name);
+                entries.add(new LeaderboardEntry(new String(name, StandardCharsets.UTF_8),
+                        buffer.getInt(), buffer.getInt(), buffer.getInt(), buffer.getLong(), buffer.getLong()));
+            }
+            return entries;
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Leaderboard data is truncated", e);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.comp2042.game.score;
+
+/**
+ * The last thing that successfully moved a brick before it locked. Only a brick
+ * rotated into place can score a spin.
+ */
+public enum LockAction {
+    /** Moved sideways or down, or never moved after spawning. */
+    MOVE,
+    /** Rotated, in place or with a short kick. */
+    ROTATE,
+    /**
+     * Rotated with a kick of one column and two rows, which only fits a T into a
+     * slot it could not otherwise reach; this upgrades a mini T-spin to a full one.
+     */
+    FAR_KICK
+}
@@ -0,0 +1,123 @@
+package com.comp2042.game.score;
+
+import com.comp2042.game.bricks.BrickType;
+
+/**
+ * Everything a {@link ScoringEngine} needs to know about one lock.
+ * Corner occupancy is relative to the way the T points: bits 0 and 1 are the two
+ * corners beside its nose, bits 2 and 3 the two behind its flat side. A corner
+ * outside the board counts as filled.
+ */
+public final class LockEvent {
+
+    /** Corner bits beside the T's nose. */
+    public static final int FRONT_CORNERS = 0b0011;
+
+    /** Corner bits behind the T's flat side. */
+    public static final int BACK_CORNERS = 0b1100;
+
+    private final int lines;
+    private final BrickType piece;
+    private final LockAction lastAction;
+    private final int corners;
+    private final int combo;
+    private final boolean backToBack;
+
+    /**
+     * Creates a lock event.
+     *
+     * @param lines the rows the lock cleared
+     * @param piece the brick that locked
+     * @param lastAction the last successful movement of the brick
+     * @param corners the filled corners around a T's centre, 4 bits; ignored for other bricks
+     * @param combo how many locks in a row before this one cleared rows
+     * @param backToBack whether the last lock that cleared rows was a difficult clear
+     */
+    public LockEvent(int lines, BrickType piece, LockAction lastAction, int corners, int combo, boolean backToBack) {
+        this.lines = lines;
+        this.piece = piece;
+        this.lastAction = lastAction;
+        this.corners = corners & 0xF;
+        this.combo = combo;
+        this.backToBack = backToBack;
+    }
+
+    /**
+     * Creates an event for a plain clear with no spin, combo or back-to-back.
+     *
+     * @param lines the rows cleared
+     * @return the event
+     */
+    public static LockEvent plainClear(int lines) {
+        return new LockEvent(lines, null, LockAction.MOVE, 0, 0, false);
+    }
+
+    /**
+     * Turns corners measured on the board into corners relative to the T.
+     * The board corners are given clockwise from the top left (bit 0 top left,
+     * bit 1 top right, bit 2 bottom right, bit 3 bottom left); turning them by the
+     * T's orientation brings the corners beside its nose down to bits 0 and 1.
+     *
+     * @param boardCorners the filled corners, clockwise from the top left
+     * @param orientation the T's orientation, 0 pointing up, then clockwise
+     * @return the corners relative to the T
+     */
+    public static int relativeCorners(int boardCorners, int orientation) {
+        int turn = orientation & 3;
+        return ((boardCorners >>> turn) | (boardCorners << (4 - turn))) & 0xF;
+    }
+
+    /**
+     * Gets the rows the lock cleared.
+     *
+     * @return the lines cleared
+     */
+    public int getLines() {
+        return lines;
+    }
+
+    /**
+     * Gets the brick that locked.
+     *
+     * @return the brick type, or null if unknown
+     */
+    public BrickType getPiece() {
+        return piece;
+    }
+
+    /**
+     * Gets the last successful movement before the lock.
+     *
+     * @return the last action
+     */
+    public LockAction getLastAction() {
+        return lastAction;
+    }
+
+    /**
+     * Gets the filled corners around the T's centre, relative to the way it points.
+     *
+     * @return the corner bits
+     */
+    public int getCorners() {
+        return corners;
+    }
+
+    /**
+     * Gets how many locks in a row before this one cleared rows.
+     *
+     * @return the combo counter, 0 if the previous lock cleared nothing
+     */
+    public int getCombo() {
+        return combo;
+    }
+
+    /**
+     * Checks whether the last lock that cleared rows was a difficult clear.
+     *
+     * @return true if a difficult clear now counts as back-to-back
+     */
+    public boolean isBackToBack() {
+        return backToBack;
+    }
+}
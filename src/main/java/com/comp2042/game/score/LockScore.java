@@ -0,0 +1,52 @@
+package com.comp2042.game.score;
+
+/**
+ * What a {@link ScoringEngine} awarded for one lock.
+ */
+public final class LockScore {
+
+    private final int points;
+    private final SpinType spin;
+    private final boolean difficult;
+
+    /**
+     * Creates a lock score.
+     *
+     * @param points the points before the level multiplier
+     * @param spin the spin the lock was judged to be
+     * @param difficult whether the clear keeps a back-to-back chain going
+     */
+    public LockScore(int points, SpinType spin, boolean difficult) {
+        this.points = points;
+        this.spin = spin;
+        this.difficult = difficult;
+    }
+
+    /**
+     * Gets the points before the level multiplier.
+     *
+     * @return the points
+     */
+    public int getPoints() {
+        return points;
+    }
+
+    /**
+     * Gets the spin the lock was judged to be.
+     *
+     * @return the spin
+     */
+    public SpinType getSpin() {
+        return spin;
+    }
+
+    /**
+     * Checks whether the clear was difficult: four lines, or a spin that cleared rows.
+     * A difficult clear after another one earns the back-to-back bonus.
+     *
+     * @return true for a difficult clear
+     */
+    public boolean isDifficult() {
+        return difficult;
+    }
+}
@@ -0,0 +1,235 @@
+package com.comp2042.game.score;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded LRU cache of fixed-size pages in front of a file.
+ * Pages are read on demand, modified in place and written back when they are
+ * evicted or the cache is flushed. Used by {@link ScoreDatabase} for both the
+ * append-only data file and its B+tree index files.
+ *
+ * <p>A cache that holds dirty pages never evicts them: modified pages only reach the
+ * file on {@link #flush()}, so the file keeps the state of the last flush. Clean pages
+ * are still evicted; the owner flushes when too many dirty pages accumulate.
+ */
+final class PageCache implements Closeable {
+
+    /** Size of every page in bytes. */
+    static final int PAGE_SIZE = 4096;
+
+    private final FileChannel channel;
+    private final int capacity;
+    private final boolean holdDirtyPages;
+    // Access-ordered: iteration starts at the least recently used page
+    private final LinkedHashMap<Long, Page> pages = new LinkedHashMap<>(64, 0.75f, true);
+    private long hits;
+    private long misses;
+    private int dirtyPages;
+
+    private static final class Page {
+        final ByteBuffer buffer;
+        boolean dirty;
+
+        Page(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+    }
+
+    /**
+     * Opens (or creates) the file behind the cache, writing dirty pages back on eviction.
+     *
+     * @param file the backing file
+     * @param capacity the maximum number of pages kept in memory
+     * @throws IOException if the file cannot be opened
+     */
+    PageCache(Path file, int capacity) throws IOException {
+        this(file, capacity, false);
+    }
+
+    /**
+     * Opens (or creates) the file behind the cache.
+     *
+     * @param file the backing file
+     * @param capacity the maximum number of clean pages kept in memory
+     * @param holdDirtyPages true to keep dirty pages in memory until {@link #flush()}
+     * @throws IOException if the file cannot be opened
+     */
+    PageCache(Path file, int capacity, boolean holdDirtyPages) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.capacity = Math.max(8, capacity);
+        this.holdDirtyPages = holdDirtyPages;
+    }
+
+    /**
+     * Returns the page's buffer, reading it from disk on a miss.
+     * Pages beyond the end of the file are returned zero-filled.
+     *
+     * @param pageId the page number
+     * @return the page buffer (absolute get/put only)
+     */
+    ByteBuffer read(long pageId) {
+        Page page = pages.get(pageId);
+        if (page != null) {
+            hits++;
+            return page.buffer;
+        }
+        misses++;
+        ByteBuffer buffer = ByteBuffer.allocate(PAGE_SIZE);
+        try {
+            long position = pageId * PAGE_SIZE;
+            while (buffer.hasRemaining()) {
+                int read = channel.read(buffer, position + buffer.position());
+                if (read < 0) {
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        buffer.clear();
+        pages.put(pageId, new Page(buffer));
+        evictIfNeeded();
+        return buffer;
+    }
+
+    /**
+     * Marks a page as modified so it is written back on eviction or flush.
+     * The buffer is re-attached if the page was evicted while the caller held it.
+     *
+     * @param pageId the page number
+     * @param buffer the page buffer returned by {@link #read(long)}
+     */
+    void markDirty(long pageId, ByteBuffer buffer) {
+        Page page = pages.get(pageId);
+        if (page == null || page.buffer != buffer) {
+            page = new Page(buffer);
+            pages.put(pageId, page);
+        }
+        if (!page.dirty) {
+            page.dirty = true;
+            dirtyPages++;
+        }
+        evictIfNeeded();
+    }
+
+    /**
+     * Writes all dirty pages and forces them to disk.
+     *
+     * @throws IOException if a write fails
+     */
+    void flush() throws IOException {
+        for (Map.Entry<Long, Page> entry : pages.entrySet()) {
+            writeIfDirty(entry.getKey(), entry.getValue());
+        }
+        channel.force(false);
+    }
+
+    /**
+     * Writes one page if it is dirty and forces it to disk, leaving other dirty pages
+     * cached. Lets an owner order its writes, for example a header after the pages it covers.
+     *
+     * @param pageId the page number
+     * @throws IOException if the write fails
+     */
+    void flushPage(long pageId) throws IOException {
+        Page page = pages.get(pageId);
+        if (page != null && page.dirty) {
+            writeIfDirty(pageId, page);
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Gets the number of cache hits since the cache was opened.
+     *
+     * @return hit count
+     */
+    long getHits() {
+        return hits;
+    }
+
+    /**
+     * Gets the number of cache misses since the cache was opened.
+     *
+     * @return miss count
+     */
+    long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Gets the number of pages currently held in memory.
+     *
+     * @return resident page count
+     */
+    int size() {
+        return pages.size();
+    }
+
+    /**
+     * Gets the number of modified pages not yet written back.
+     *
+     * @return dirty page count
+     */
+    int getDirtyPages() {
+        return dirtyPages;
+    }
+
+    /**
+     * Gets the page capacity the cache was opened with.
+     *
+     * @return the capacity
+     */
+    int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void evictIfNeeded() {
+        Iterator<Map.Entry<Long, Page>> iterator = pages.entrySet().iterator();
+        while (pages.size() > capacity && iterator.hasNext()) {
+            Map.Entry<Long, Page> eldest = iterator.next();
+            if (holdDirtyPages && eldest.getValue().dirty) {
+                continue;
+            }
+            try {
+                writeIfDirty(eldest.getKey(), eldest.getValue());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            iterator.remove();
+        }
+    }
+
+    private void writeIfDirty(long pageId, Page page) throws IOException {
+        if (!page.dirty) {
+            return;
+        }
+        ByteBuffer view = page.buffer.duplicate();
+        view.clear();
+        long position = pageId * PAGE_SIZE;
+        while (view.hasRemaining()) {
+            channel.write(view, position + view.position());
+        }
+        page.dirty = false;
+        dirtyPages--;
+    }
+}
@@ -1,37 +1,25 @@
 package com.comp2042.game.score;
 
-import javafx.beans.property.IntegerProperty;
-import javafx.beans.property.SimpleIntegerProperty;
-
 /**
- * Manages the game score using JavaFX properties.
- * Implements Observer pattern - UI components bind to scoreProperty() to
- * automatically receive updates when score changes.
+ * Tracks the game score as a plain primitive counter.
+ * Scoring runs many times per second in headless and bot games, so the engine keeps
+ * no observable state here; the UI reads the value through
+ * {@link com.comp2042.ui.ObservableGameStats}, which publishes it at most once per frame.
  */
 public final class Score {
 
-    private final IntegerProperty score = new SimpleIntegerProperty(0);
+    private int score;
 
     /** Creates a score tracker initialized to zero. */
     public Score() { }
 
-    /**
-     * Returns the score property for binding.
-     * UI components can bind to this for automatic updates (Observer pattern).
-     *
-     * @return the score property
-     */
-    public IntegerProperty scoreProperty() {
-        return score;
-    }
-
     /**
      * Gets the current score value.
      *
      * @return the score
      */
     public int get() {
-        return score.getValue();
+        return score;
     }
 
     /**
@@ -40,7 +28,7 @@ public final class Score {
      * @param i the points to add
      */
     public void add(int i){
-        score.setValue(score.getValue() + i);
+        score += i;
     }
 
     /**
@@ -49,13 +37,13 @@ public final class Score {
      * @param value the new score value
      */
     public void set(int value) {
-        score.setValue(value);
+        score = value;
     }
 
     /**
      * Resets the score to zero.
      */
     public void reset() {
-        score.setValue(0);
+        score = 0;
     }
 }
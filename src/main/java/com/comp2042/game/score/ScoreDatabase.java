@@ -0,0 +1,323 @@
+package com.comp2042.game.score;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Embedded, file-backed database of game results for large offline runs (for example
+ * bot farms producing millions of games). Runs entirely locally with no external database.
+ *
+ * <p>Storage layout inside the database directory:
+ * <ul>
+ *   <li>{@code results.dat} - append-only file of fixed 32-byte records</li>
+ *   <li>{@code score.idx}, {@code time.idx} - B+tree indexes over score and timestamp</li>
+ *   <li>{@code ruleset.idx}, {@code generator.idx}, {@code day.idx} - B+tree indexes over
+ *       (ruleset, score), (generator, score) and (UTC day, score)</li>
+ * </ul>
+ * Top-K queries walk the relevant index backwards from the highest score and stop after
+ * K entries, and time range queries walk the time index forwards, so neither scans the
+ * whole data set. Every file sits behind a bounded LRU {@link PageCache}.
+ *
+ * <p>Changes are durable once {@link #flush()} or {@link #close()} returns. Index pages
+ * reach disk only when flushed, and the database flushes by itself once an index holds a
+ * cache's worth of modified pages. Indexes record how many data records they cover and the
+ * data file is flushed first, so if the process stops between flushes, or part way
+ * through one, the missing index entries are rebuilt on the next open.
+ * All public methods are synchronized, so one database may be shared between threads.
+ */
+public final class ScoreDatabase implements Closeable {
+
+    /** Default total page cache size (4 KB pages). */
+    public static final int DEFAULT_CACHE_PAGES = 1024;
+
+    private static final int MAGIC = 0x54524553; // "TRES"
+    private static final int HEADER_MAGIC = 0;
+    private static final int HEADER_RECORD_COUNT = 4;
+    private static final int RECORD_SIZE = 32;
+    private static final int RECORDS_PER_PAGE = PageCache.PAGE_SIZE / RECORD_SIZE;
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+
+    private final PageCache data;
+    private final BPlusTreeIndex scoreIndex;
+    private final BPlusTreeIndex timeIndex;
+    private final BPlusTreeIndex rulesetIndex;
+    private final BPlusTreeIndex generatorIndex;
+    private final BPlusTreeIndex dayIndex;
+    private final List<BPlusTreeIndex> indexes;
+    private long recordCount;
+
+    /**
+     * Opens (or creates) a database with the default cache size.
+     *
+     * @param directory the database directory
+     * @throws IOException if the files cannot be opened
+     */
+    public ScoreDatabase(Path directory) throws IOException {
+        this(directory, DEFAULT_CACHE_PAGES);
+    }
+
+    /**
+     * Opens (or creates) a database.
+     *
+     * @param directory the database directory
+     * @param cachePages the total number of 4 KB pages cached in memory across all files
+     * @throws IOException if the files cannot be opened or are corrupt
+     */
+    public ScoreDatabase(Path directory, int cachePages) throws IOException {
+        Files.createDirectories(directory);
+        int perFile = Math.max(8, cachePages / 6);
+        data = new PageCache(directory.resolve("results.dat"), perFile);
+        ByteBuffer header = data.read(0);
+        if (header.getInt(HEADER_MAGIC) == 0) {
+            header.putInt(HEADER_MAGIC, MAGIC);
+            data.markDirty(0, header);
+        } else if (header.getInt(HEADER_MAGIC) != MAGIC) {
+            data.close();
+            throw new IOException("Not a score database: " + directory);
+        }
+        recordCount = header.getLong(HEADER_RECORD_COUNT);
+
+        scoreIndex = new BPlusTreeIndex(directory.resolve("score.idx"), perFile);
+        timeIndex = new BPlusTreeIndex(directory.resolve("time.idx"), perFile);
+        rulesetIndex = new BPlusTreeIndex(directory.resolve("ruleset.idx"), perFile);
+        generatorIndex = new BPlusTreeIndex(directory.resolve("generator.idx"), perFile);
+        dayIndex = new BPlusTreeIndex(directory.resolve("day.idx"), perFile);
+        indexes = List.of(scoreIndex, timeIndex, rulesetIndex, generatorIndex, dayIndex);
+        catchUpIndexes();
+    }
+
+    /**
+     * Appends a result and indexes it.
+     *
+     * @param result the result to store
+     * @return the record number assigned to the result
+     */
+    public synchronized long append(GameResult result) {
+        long record = recordCount;
+        long pageId = 1 + record / RECORDS_PER_PAGE;
+        ByteBuffer page = data.read(pageId);
+        int offset = (int) (record % RECORDS_PER_PAGE) * RECORD_SIZE;
+        page.putInt(offset, result.getScore());
+        page.putInt(offset + 4, result.getLines());
+        page.putInt(offset + 8, result.getLevel());
+        page.putShort(offset + 12, (short) result.getRuleset());
+        page.putShort(offset + 14, (short) result.getGenerator());
+        page.putLong(offset + 16, result.getDurationMs());
+        page.putLong(offset + 24, result.getTimestamp());
+        data.markDirty(pageId, page);
+
+        recordCount++;
+        ByteBuffer header = data.read(0);
+        header.putLong(HEADER_RECORD_COUNT, recordCount);
+        data.markDirty(0, header);
+
+        index(record, result);
+        flushIfNeeded();
+        return record;
+    }
+
+    /**
+     * Reads a stored result by record number.
+     *
+     * @param record the record number returned by {@link #append(GameResult)}
+     * @return the stored result
+     * @throws IndexOutOfBoundsException if the record does not exist
+     */
+    public synchronized GameResult get(long record) {
+        if (record < 0 || record >= recordCount) {
+            throw new IndexOutOfBoundsException("No record " + record);
+        }
+        ByteBuffer page = data.read(1 + record / RECORDS_PER_PAGE);
+        int offset = (int) (record % RECORDS_PER_PAGE) * RECORD_SIZE;
+        return new GameResult(
+                page.getInt(offset),
+                page.getInt(offset + 4),
+                page.getInt(offset + 8),
+                page.getShort(offset + 12),
+                page.getShort(offset + 14),
+                page.getLong(offset + 16),
+                page.getLong(offset + 24));
+    }
+
+    /**
+     * Gets the number of stored results.
+     *
+     * @return the record count
+     */
+    public synchronized long size() {
+        return recordCount;
+    }
+
+    /**
+     * Gets the K highest-scoring results overall.
+     *
+     * @param k the number of results
+     * @return up to K results, best first
+     */
+    public synchronized List<GameResult> topK(int k) {
+        return collectDescending(scoreIndex, Long.MIN_VALUE, Long.MAX_VALUE, k);
+    }
+
+    /**
+     * Gets the K highest-scoring results for a ruleset.
+     *
+     * @param ruleset the ruleset id
+     * @param k the number of results
+     * @return up to K results, best first
+     */
+    public synchronized List<GameResult> topKByRuleset(int ruleset, int k) {
+        return collectDescending(rulesetIndex, partitionLow(ruleset), partitionHigh(ruleset), k);
+    }
+
+    /**
+     * Gets the K highest-scoring results for a brick generator.
+     *
+     * @param generator the generator id
+     * @param k the number of results
+     * @return up to K results, best first
+     */
+    public synchronized List<GameResult> topKByGenerator(int generator, int k) {
+        return collectDescending(generatorIndex, partitionLow(generator), partitionHigh(generator), k);
+    }
+
+    /**
+     * Gets the K highest-scoring results that ended on a given UTC day.
+     *
+     * @param day the day
+     * @param k the number of results
+     * @return up to K results, best first
+     */
+    public synchronized List<GameResult> topKByDay(LocalDate day, int k) {
+        long epochDay = day.toEpochDay();
+        return collectDescending(dayIndex, partitionLow(epochDay), partitionHigh(epochDay), k);
+    }
+
+    /**
+     * Gets results that ended within a time range, oldest first.
+     *
+     * @param fromTimestamp the earliest end time (inclusive, epoch milliseconds)
+     * @param toTimestamp the latest end time (inclusive, epoch milliseconds)
+     * @param limit the maximum number of results
+     * @return up to {@code limit} results in time order
+     */
+    public synchronized List<GameResult> range(long fromTimestamp, long toTimestamp, int limit) {
+        List<GameResult> results = new ArrayList<>();
+        if (limit <= 0) {
+            return results;
+        }
+        timeIndex.scanAscending(fromTimestamp, toTimestamp, (key, record) -> {
+            results.add(get(record));
+            return results.size() < limit;
+        });
+        return results;
+    }
+
+    /**
+     * Writes all cached pages and headers to disk.
+     *
+     * @throws IOException if a write fails
+     */
+    public synchronized void flush() throws IOException {
+        // Data first, so indexes never cover records that are not on disk
+        data.flush();
+        scoreIndex.flush();
+        timeIndex.flush();
+        rulesetIndex.flush();
+        generatorIndex.flush();
+        dayIndex.flush();
+    }
+
+    /**
+     * Gets the page cache hit ratio across all files, for tuning the cache size.
+     *
+     * @return hits divided by total page accesses, or 0 if nothing was accessed
+     */
+    public synchronized double getCacheHitRatio() {
+        long hits = data.getHits();
+        long total = data.getHits() + data.getMisses();
+        for (BPlusTreeIndex index : indexes) {
+            hits += index.getCache().getHits();
+            total += index.getCache().getHits() + index.getCache().getMisses();
+        }
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        flush();
+        data.close();
+        scoreIndex.close();
+        timeIndex.close();
+        rulesetIndex.close();
+        generatorIndex.close();
+        dayIndex.close();
+    }
+
+    private void index(long record, GameResult result) {
+        long biasedScore = Integer.toUnsignedLong(result.getScore() ^ Integer.MIN_VALUE);
+        long epochDay = Math.floorDiv(result.getTimestamp(), MILLIS_PER_DAY);
+        scoreIndex.insert(result.getScore(), record);
+        timeIndex.insert(result.getTimestamp(), record);
+        rulesetIndex.insert(((long) result.getRuleset() << 32) | biasedScore, record);
+        generatorIndex.insert(((long) result.getGenerator() << 32) | biasedScore, record);
+        dayIndex.insert((epochDay << 32) | biasedScore, record);
+    }
+
+    /**
+     * Re-indexes records appended after the oldest index was last flushed.
+     * Indexes that already hold a record ignore it being inserted again.
+     */
+    private void catchUpIndexes() {
+        long from = recordCount;
+        for (BPlusTreeIndex index : indexes) {
+            from = Math.min(from, index.getIndexedRecords());
+        }
+        for (long record = from; record < recordCount; record++) {
+            index(record, get(record));
+            flushIfNeeded();
+        }
+    }
+
+    /**
+     * Flushes once any index holds a cache's worth of modified pages, which it keeps in memory until then.
+     */
+    private void flushIfNeeded() {
+        for (BPlusTreeIndex index : indexes) {
+            if (index.needsFlush()) {
+                try {
+                    flush();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return;
+            }
+        }
+    }
+
+    private List<GameResult> collectDescending(BPlusTreeIndex index, long low, long high, int k) {
+        List<GameResult> results = new ArrayList<>(Math.max(0, Math.min(k, 1024)));
+        if (k <= 0) {
+            return results;
+        }
+        index.scanDescending(low, high, (key, record) -> {
+            results.add(get(record));
+            return results.size() < k;
+        });
+        return results;
+    }
+
+    private static long partitionLow(long partition) {
+        return partition << 32;
+    }
+
+    private static long partitionHigh(long partition) {
+        return (partition << 32) | 0xFFFFFFFFL;
+    }
+}
@@ -0,0 +1,18 @@
+package com.comp2042.game.score;
+
+/**
+ * Strategy turning a lock into points. Different rule sets can be swapped in
+ * through {@link com.comp2042.game.board.SimpleBoard#setScoringEngine} without
+ * changing the landing code.
+ */
+public interface ScoringEngine {
+
+    /**
+     * Scores one lock. Called for every lock, including ones that clear nothing,
+     * since a spin scores on its own.
+     *
+     * @param event the lock
+     * @return the points awarded before the level multiplier, and how the lock was judged
+     */
+    LockScore score(LockEvent event);
+}
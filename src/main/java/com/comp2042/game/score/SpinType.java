@@ -0,0 +1,14 @@
+package com.comp2042.game.score;
+
+/**
+ * How a T brick was twisted into the spot it locked in, as judged by the
+ * three-corner rule. Other bricks always lock with {@link #NONE}.
+ */
+public enum SpinType {
+    /** No spin: the brick was not a T or was not rotated into place. */
+    NONE,
+    /** A mini T-spin: three corners filled, but only one of the two in front. */
+    MINI,
+    /** A full T-spin: both front corners and at least one back corner filled. */
+    FULL
+}
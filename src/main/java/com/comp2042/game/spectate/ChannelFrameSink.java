@@ -0,0 +1,50 @@
+package com.comp2042.game.spectate;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes every frame to a blocking channel, typically a file recording the stream
+ * for later replay.
+ */
+public final class ChannelFrameSink implements FrameSink {
+
+    private final WritableByteChannel channel;
+
+    /**
+     * Creates a sink writing to a channel. The sink closes the channel when closed.
+     *
+     * @param channel a blocking channel
+     */
+    public ChannelFrameSink(WritableByteChannel channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * Creates a sink recording to a file, replacing any existing file.
+     *
+     * @param path the file
+     * @return the sink
+     * @throws IOException if the file cannot be opened
+     */
+    public static ChannelFrameSink toFile(Path path) throws IOException {
+        return new ChannelFrameSink(FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING));
+    }
+
+    @Override
+    public void accept(ByteBuffer frame, boolean keyframe) throws IOException {
+        while (frame.hasRemaining()) {
+            channel.write(frame);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
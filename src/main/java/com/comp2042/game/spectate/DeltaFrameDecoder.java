@@ -0,0 +1,247 @@
+package com.comp2042.game.spectate;
+
+import com.comp2042.game.bricks.BrickType;
+import com.comp2042.game.data.ViewData;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * Rebuilds a game from the spectator stream written by {@link DeltaFrameEncoder}:
+ * the board matrix, the {@link ViewData} the renderer draws the bricks from, and
+ * the score, lines and level. Deltas that arrive before the first keyframe are
+ * skipped, so a viewer can start reading anywhere in the stream.
+ */
+public final class DeltaFrameDecoder {
+
+    // Shapes of every brick type by colour code, so frames never create bricks
+    private static final List<int[][]>[] SHAPES = loadShapes();
+
+    private int[][] matrix;
+    private int bufferRows;
+    private int elapsedMillis;
+    private int brick;
+    private int rotation;
+    private int x;
+    private int y;
+    private int ghostY;
+    private int next;
+    private int hold;
+    private int score;
+    private int lines;
+    private int level;
+    private int flags;
+
+    /** Creates a decoder waiting for its first keyframe. */
+    public DeltaFrameDecoder() { }
+
+    /**
+     * Applies one frame.
+     *
+     * @param frame the frame body (after the length prefix); read to its limit
+     * @return true if the frame was applied, false if it was a delta before any keyframe
+     * @throws IllegalArgumentException if the frame is malformed
+     */
+    public boolean apply(ByteBuffer frame) {
+        try {
+            int kind = frame.get();
+            if (kind != FrameFormat.KEYFRAME && kind != FrameFormat.DELTA) {
+                throw new IllegalArgumentException("Unknown frame kind " + kind);
+            }
+            if (kind == FrameFormat.DELTA && matrix == null) {
+                frame.position(frame.limit());
+                return false;
+            }
+            elapsedMillis = frame.getShort() & 0xFFFF;
+            int fields = frame.get() & 0xFF;
+            if (kind == FrameFormat.KEYFRAME) {
+                int rows = frame.get() & 0xFF;
+                int columns = frame.get() & 0xFF;
+                bufferRows = frame.get() & 0xFF;
+                if (rows == 0 || columns == 0 || bufferRows >= rows) {
+                    throw new IllegalArgumentException("Bad board size " + columns + "x" + rows);
+                }
+                if (matrix == null || matrix.length != rows || matrix[0].length != columns) {
+                    matrix = new int[rows][columns];
+                }
+            }
+            readFields(frame, fields);
+            if (kind == FrameFormat.KEYFRAME) {
+                for (int[] row : matrix) {
+                    unpackRow(frame, row);
+                }
+            } else {
+                int changedRows = frame.get() & 0xFF;
+                for (int i = 0; i < changedRows; i++) {
+                    readRowChanges(frame);
+                }
+            }
+            return true;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Truncated or corrupt frame", e);
+        }
+    }
+
+    private void readFields(ByteBuffer frame, int fields) {
+        if ((fields & FrameFormat.FIELD_PIECE) != 0) {
+            brick = brickCode(frame.get());
+            rotation = frame.get() & 0xFF;
+            x = frame.get();
+            y = frame.get();
+            ghostY = frame.get();
+            if (brick != 0 && rotation >= SHAPES[brick].size()) {
+                throw new IllegalArgumentException("Unknown rotation " + rotation + " of brick " + brick);
+            }
+        }
+        if ((fields & FrameFormat.FIELD_NEXT) != 0) {
+            next = brickCode(frame.get());
+        }
+        if ((fields & FrameFormat.FIELD_HOLD) != 0) {
+            hold = brickCode(frame.get());
+        }
+        if ((fields & FrameFormat.FIELD_SCORE) != 0) {
+            score = frame.getInt();
+        }
+        if ((fields & FrameFormat.FIELD_LINES) != 0) {
+            lines = frame.getShort() & 0xFFFF;
+        }
+        if ((fields & FrameFormat.FIELD_LEVEL) != 0) {
+            level = frame.get() & 0xFF;
+        }
+        if ((fields & FrameFormat.FIELD_FLAGS) != 0) {
+            flags = frame.get() & 0xFF;
+        }
+    }
+
+    private void readRowChanges(ByteBuffer frame) {
+        int[] row = matrix[frame.get() & 0xFF];
+        int count = frame.get() & 0xFF;
+        if (count == FrameFormat.FULL_ROW) {
+            unpackRow(frame, row);
+            return;
+        }
+        for (int i = 0; i < count; i++) {
+            int col = frame.get() & 0xFF;
+            row[col] = frame.get() & 0xFF;
+        }
+    }
+
+    private static void unpackRow(ByteBuffer frame, int[] row) {
+        for (int col = 0; col < row.length; col += 2) {
+            int packed = frame.get();
+            row[col] = (packed >> 4) & 0xF;
+            if (col + 1 < row.length) {
+                row[col + 1] = packed & 0xF;
+            }
+        }
+    }
+
+    /**
+     * Checks whether a keyframe has been applied yet.
+     *
+     * @return true once the decoder holds a whole game
+     */
+    public boolean hasKeyframe() {
+        return matrix != null;
+    }
+
+    /**
+     * Gets the board matrix. The same array is updated in place by later frames.
+     *
+     * @return the board, or null before the first keyframe
+     */
+    public int[][] getBoardMatrix() {
+        return matrix;
+    }
+
+    /**
+     * Gets the number of hidden rows at the top of the board.
+     *
+     * @return the buffer rows
+     */
+    public int getBufferRows() {
+        return bufferRows;
+    }
+
+    /**
+     * Builds the view data for the bricks as of the last frame.
+     *
+     * @return the view data, or null before the first keyframe or while no brick is active
+     */
+    public ViewData getViewData() {
+        if (matrix == null || brick == 0) {
+            return null;
+        }
+        return new ViewData(SHAPES[brick].get(rotation), x, y,
+                next != 0 ? SHAPES[next].get(0) : null,
+                hold != 0 ? SHAPES[hold].get(0) : null,
+                x, ghostY);
+    }
+
+    /**
+     * Gets the milliseconds between the last frame and the one before it.
+     *
+     * @return the elapsed time the encoder recorded
+     */
+    public int getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    /**
+     * Gets the score.
+     *
+     * @return the score as of the last frame
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Gets the lines cleared.
+     *
+     * @return the lines as of the last frame
+     */
+    public int getLines() {
+        return lines;
+    }
+
+    /**
+     * Gets the level.
+     *
+     * @return the level as of the last frame
+     */
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * Checks whether the game is over.
+     *
+     * @return true if the last frame flagged the game as over
+     */
+    public boolean isGameOver() {
+        return (flags & FrameFormat.FLAG_GAME_OVER) != 0;
+    }
+
+    private static int brickCode(byte value) {
+        int code = value & 0xFF;
+        if (code >= SHAPES.length || (code != 0 && SHAPES[code] == null)) {
+            throw new IllegalArgumentException("Unknown brick " + code);
+        }
+        return code;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"}) // Generic arrays can only be made raw
+    private static List<int[][]>[] loadShapes() {
+        int maxCode = 0;
+        for (BrickType type : BrickType.values()) {
+            maxCode = Math.max(maxCode, type.getCode());
+        }
+        List<int[][]>[] shapes = new List[maxCode + 1];
+        for (BrickType type : BrickType.values()) {
+            shapes[type.getCode()] = type.create().getShapeMatrix();
+        }
+        return shapes;
+    }
+}
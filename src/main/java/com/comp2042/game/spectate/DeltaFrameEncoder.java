@@ -0,0 +1,241 @@
+package com.comp2042.game.spectate;
+
+import com.comp2042.game.board.SimpleBoard;
+import com.comp2042.game.bricks.Brick;
+import com.comp2042.game.bricks.BrickType;
+
+import java.awt.Point;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Encodes a game into the spectator stream described by {@link FrameFormat}.
+ * Remembers what it last sent, so each frame carries only the rows, cells and fields
+ * that changed; a keyframe with the whole state goes out periodically, and whenever
+ * one is requested, so viewers can join or recover mid-stream.
+ *
+ * <p>Call {@link #encode} once per rendered frame or engine tick. Comparing a row
+ * is a single array comparison, so a frame where little changed costs little more
+ * than a scan of the board.
+ */
+public final class DeltaFrameEncoder {
+
+    /** Frames between keyframes by default: two seconds at 60 frames a second. */
+    public static final int DEFAULT_KEYFRAME_INTERVAL = 120;
+
+    private final int keyframeInterval;
+    private int[][] sent;
+    private int bufferRows;
+    private int framesSinceKeyframe;
+    private boolean keyframeRequested = true;
+    private long lastMillis = -1;
+    private int brick;
+    private int rotation;
+    private int x;
+    private int y;
+    private int ghostY;
+    private int next;
+    private int hold;
+    private int score;
+    private int lines;
+    private int level;
+    private int flags;
+
+    /** Creates an encoder sending a keyframe every {@link #DEFAULT_KEYFRAME_INTERVAL} frames. */
+    public DeltaFrameEncoder() {
+        this(DEFAULT_KEYFRAME_INTERVAL);
+    }
+
+    /**
+     * Creates an encoder.
+     *
+     * @param keyframeInterval frames between keyframes, at least 1
+     * @throws IllegalArgumentException if the interval is less than 1
+     */
+    public DeltaFrameEncoder(int keyframeInterval) {
+        if (keyframeInterval < 1) {
+            throw new IllegalArgumentException("Keyframe interval must be at least 1");
+        }
+        this.keyframeInterval = keyframeInterval;
+    }
+
+    /**
+     * Makes the next frame a keyframe, e.g. because a viewer joined.
+     */
+    public void requestKeyframe() {
+        keyframeRequested = true;
+    }
+
+    /**
+     * Encodes the game's current state as one frame.
+     *
+     * @param board the board being played
+     * @param gameOver whether the game is over
+     * @param nowMillis a millisecond clock, for the frame's elapsed time
+     * @param out the buffer to write to, with room for {@link FrameFormat#maxFrameSize}
+     * @return {@link FrameFormat#KEYFRAME} or {@link FrameFormat#DELTA} for the frame
+     *         written, or 0 if nothing changed and nothing was written
+     * @throws IllegalArgumentException if the board has more than {@link FrameFormat#MAX_ROWS} rows
+     */
+    public int encode(SimpleBoard board, boolean gameOver, long nowMillis, ByteBuffer out) {
+        int[][] matrix = board.getBoardMatrix();
+        if (matrix.length > FrameFormat.MAX_ROWS) {
+            throw new IllegalArgumentException("Board too tall to stream: " + matrix.length + " rows");
+        }
+        boolean keyframe = keyframeRequested || ++framesSinceKeyframe >= keyframeInterval
+                || sent == null || sent.length != matrix.length || sent[0].length != matrix[0].length;
+        int fields = readFields(board, gameOver, keyframe);
+        int changedRows = 0;
+        if (!keyframe) {
+            for (int row = 0; row < matrix.length; row++) {
+                if (!Arrays.equals(sent[row], matrix[row])) {
+                    changedRows++;
+                }
+            }
+            if (fields == 0 && changedRows == 0) {
+                return 0;
+            }
+        }
+
+        int start = out.position();
+        out.putShort((short) 0); // Length, filled in below
+        out.put((byte) (keyframe ? FrameFormat.KEYFRAME : FrameFormat.DELTA));
+        out.putShort((short) elapsed(nowMillis));
+        out.put((byte) fields);
+        if (keyframe) {
+            bufferRows = board.getGeometry().getBufferRows();
+            out.put((byte) matrix.length).put((byte) matrix[0].length).put((byte) bufferRows);
+        }
+        writeFields(out, fields);
+        if (keyframe) {
+            sent = new int[matrix.length][matrix[0].length];
+            for (int row = 0; row < matrix.length; row++) {
+                packRow(out, matrix[row]);
+                System.arraycopy(matrix[row], 0, sent[row], 0, matrix[row].length);
+            }
+            framesSinceKeyframe = 0;
+            keyframeRequested = false;
+        } else {
+            out.put((byte) changedRows);
+            for (int row = 0; row < matrix.length; row++) {
+                if (!Arrays.equals(sent[row], matrix[row])) {
+                    writeRowChanges(out, row, sent[row], matrix[row]);
+                }
+            }
+        }
+        out.putShort(start, (short) (out.position() - start - FrameFormat.LENGTH_BYTES));
+        return keyframe ? FrameFormat.KEYFRAME : FrameFormat.DELTA;
+    }
+
+    /**
+     * Reads the game's fields, keeping those that changed.
+     *
+     * @return the field bits to send
+     */
+    private int readFields(SimpleBoard board, boolean gameOver, boolean keyframe) {
+        Point offset = board.getCurrentOffset();
+        List<Brick> preview = board.getPreviewBricks();
+        int newBrick = code(board.getCurrentBrick());
+        int newRotation = board.getCurrentRotation();
+        int newGhostY = offset.y + board.getDropDistance();
+        int newNext = preview.isEmpty() ? 0 : code(preview.get(0));
+        int newHold = code(board.getHeldBrick());
+        int newScore = board.getScore().get();
+        int newLines = board.getLinesTracker().getTotalLines();
+        int newLevel = board.getLevelManager().getCurrentLevel();
+        int newFlags = gameOver ? FrameFormat.FLAG_GAME_OVER : 0;
+
+        int fields = 0;
+        if (newBrick != brick || newRotation != rotation || offset.x != x || offset.y != y || newGhostY != ghostY) {
+            fields |= FrameFormat.FIELD_PIECE;
+        }
+        fields |= newNext != next ? FrameFormat.FIELD_NEXT : 0;
+        fields |= newHold != hold ? FrameFormat.FIELD_HOLD : 0;
+        fields |= newScore != score ? FrameFormat.FIELD_SCORE : 0;
+        fields |= newLines != lines ? FrameFormat.FIELD_LINES : 0;
+        fields |= newLevel != level ? FrameFormat.FIELD_LEVEL : 0;
+        fields |= newFlags != flags ? FrameFormat.FIELD_FLAGS : 0;
+
+        brick = newBrick;
+        rotation = newRotation;
+        x = offset.x;
+        y = offset.y;
+        ghostY = newGhostY;
+        next = newNext;
+        hold = newHold;
+        score = newScore;
+        lines = newLines;
+        level = newLevel;
+        flags = newFlags;
+        return keyframe ? FrameFormat.ALL_FIELDS : fields;
+    }
+
+    private void writeFields(ByteBuffer out, int fields) {
+        if ((fields & FrameFormat.FIELD_PIECE) != 0) {
+            out.put((byte) brick).put((byte) rotation).put((byte) x).put((byte) y).put((byte) ghostY);
+        }
+        if ((fields & FrameFormat.FIELD_NEXT) != 0) {
+            out.put((byte) next);
+        }
+        if ((fields & FrameFormat.FIELD_HOLD) != 0) {
+            out.put((byte) hold);
+        }
+        if ((fields & FrameFormat.FIELD_SCORE) != 0) {
+            out.putInt(score);
+        }
+        if ((fields & FrameFormat.FIELD_LINES) != 0) {
+            out.putShort((short) lines);
+        }
+        if ((fields & FrameFormat.FIELD_LEVEL) != 0) {
+            out.put((byte) level);
+        }
+        if ((fields & FrameFormat.FIELD_FLAGS) != 0) {
+            out.put((byte) flags);
+        }
+    }
+
+    /**
+     * Writes one changed row as single cells, or whole when that is smaller, and
+     * remembers it as sent.
+     */
+    private static void writeRowChanges(ByteBuffer out, int row, int[] previous, int[] current) {
+        int changed = 0;
+        for (int col = 0; col < current.length; col++) {
+            if (previous[col] != current[col]) {
+                changed++;
+            }
+        }
+        out.put((byte) row);
+        if (2 * changed >= FrameFormat.packedRowBytes(current.length)) {
+            out.put((byte) FrameFormat.FULL_ROW);
+            packRow(out, current);
+        } else {
+            out.put((byte) changed);
+            for (int col = 0; col < current.length; col++) {
+                if (previous[col] != current[col]) {
+                    out.put((byte) col).put((byte) current[col]);
+                }
+            }
+        }
+        System.arraycopy(current, 0, previous, 0, current.length);
+    }
+
+    private static void packRow(ByteBuffer out, int[] row) {
+        for (int col = 0; col < row.length; col += 2) {
+            int high = row[col] & 0xF;
+            int low = col + 1 < row.length ? row[col + 1] & 0xF : 0;
+            out.put((byte) (high << 4 | low));
+        }
+    }
+
+    private int elapsed(long nowMillis) {
+        long elapsed = lastMillis < 0 ? 0 : Math.max(0, nowMillis - lastMillis);
+        lastMillis = nowMillis;
+        return (int) Math.min(0xFFFF, elapsed);
+    }
+
+    private static int code(Brick brick) {
+        return brick == null ? 0 : BrickType.of(brick).getCode();
+    }
+}
@@ -0,0 +1,92 @@
+package com.comp2042.game.spectate;
+
+/**
+ * Layout of the spectator stream written by {@link DeltaFrameEncoder}.
+ *
+ * <p>The stream is a sequence of frames, each an unsigned 16-bit length (of everything
+ * after it) followed by the body. Numbers are big-endian.
+ * <pre>
+ *   u8  kind              KEYFRAME or DELTA
+ *   u16 elapsed           milliseconds since the previous frame (saturating)
+ *   u8  fields            which of the optional fields below follow (FIELD_*)
+ *   keyframe only: u8 rows, u8 columns, u8 bufferRows
+ *   FIELD_PIECE  u8 brick, u8 rotation, i8 x, i8 y, i8 ghostY
+ *   FIELD_NEXT   u8 brick
+ *   FIELD_HOLD   u8 brick
+ *   FIELD_SCORE  int score
+ *   FIELD_LINES  u16 lines
+ *   FIELD_LEVEL  u8 level
+ *   FIELD_FLAGS  u8 flags (FLAG_*)
+ *   keyframe: every row, packed two 4-bit colour codes per byte (an odd last
+ *             column fills half a byte)
+ *   delta:    u8 changed rows, then for each: u8 row, u8 count and either count
+ *             (u8 column, u8 code) pairs or, when count is FULL_ROW, the whole row packed
+ *             like a keyframe's
+ * </pre>
+ * Brick fields are {@link com.comp2042.game.bricks.BrickType} codes, 0 for none.
+ * A keyframe carries every field; a delta carries only what changed since the
+ * previous frame, and nothing at all is written for a frame where nothing changed.
+ */
+public final class FrameFormat {
+
+    /** Frame kind: the whole game state. */
+    public static final int KEYFRAME = 1;
+    /** Frame kind: changes since the previous frame. */
+    public static final int DELTA = 2;
+
+    /** Field bit: active brick, rotation, position and landing row. */
+    public static final int FIELD_PIECE = 1;
+    /** Field bit: next brick. */
+    public static final int FIELD_NEXT = 1 << 1;
+    /** Field bit: held brick. */
+    public static final int FIELD_HOLD = 1 << 2;
+    /** Field bit: score. */
+    public static final int FIELD_SCORE = 1 << 3;
+    /** Field bit: lines cleared. */
+    public static final int FIELD_LINES = 1 << 4;
+    /** Field bit: level. */
+    public static final int FIELD_LEVEL = 1 << 5;
+    /** Field bit: flags. */
+    public static final int FIELD_FLAGS = 1 << 6;
+    /** Every field, as sent in keyframes. */
+    public static final int ALL_FIELDS = (1 << 7) - 1;
+
+    /** Flag: the game is over. */
+    public static final int FLAG_GAME_OVER = 1;
+
+    /** Changed-cell count marking a row sent whole. */
+    public static final int FULL_ROW = 0xFF;
+
+    /** Bytes of the length prefix. */
+    public static final int LENGTH_BYTES = 2;
+
+    /** Largest number of rows a stream can describe. */
+    public static final int MAX_ROWS = 0xFF;
+
+    // kind, elapsed, fields, dimensions and every field
+    private static final int MAX_HEADER = 1 + 2 + 1 + 3 + 5 + 1 + 1 + 4 + 2 + 1 + 1;
+
+    private FrameFormat() { }
+
+    /**
+     * Gets the size of the largest frame a board can produce, length prefix included.
+     *
+     * @param rows the board rows
+     * @param columns the board columns
+     * @return the bound in bytes
+     */
+    public static int maxFrameSize(int rows, int columns) {
+        // A delta sending every row whole is the largest frame
+        return LENGTH_BYTES + MAX_HEADER + 1 + rows * (2 + packedRowBytes(columns));
+    }
+
+    /**
+     * Gets the bytes one row takes when packed.
+     *
+     * @param columns the board columns
+     * @return the packed row size
+     */
+    public static int packedRowBytes(int columns) {
+        return (columns + 1) / 2;
+    }
+}
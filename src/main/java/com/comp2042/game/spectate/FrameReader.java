@@ -0,0 +1,59 @@
+package com.comp2042.game.spectate;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * Splits a blocking channel carrying the spectator stream (a socket or a recording)
+ * back into frames.
+ */
+public final class FrameReader {
+
+    private final ReadableByteChannel channel;
+    private final ByteBuffer length = ByteBuffer.allocate(FrameFormat.LENGTH_BYTES);
+    private ByteBuffer body = ByteBuffer.allocate(1024);
+
+    /**
+     * Creates a reader.
+     *
+     * @param channel a blocking channel positioned at the start of a frame
+     */
+    public FrameReader(ReadableByteChannel channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * Reads the next frame.
+     *
+     * @return the frame body (after the length prefix), valid until the next call,
+     *         or null at the end of the stream
+     * @throws IOException if reading fails or the stream ends inside a frame
+     */
+    public ByteBuffer next() throws IOException {
+        length.clear();
+        if (!readFully(length, true)) {
+            return null;
+        }
+        int size = length.getShort(0) & 0xFFFF;
+        if (body.capacity() < size) {
+            body = ByteBuffer.allocate(Math.max(size, 2 * body.capacity()));
+        }
+        body.clear().limit(size);
+        readFully(body, false);
+        return body.flip();
+    }
+
+    private boolean readFully(ByteBuffer buffer, boolean endAllowed) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                if (endAllowed && buffer.position() == 0) {
+                    return false;
+                }
+                throw new EOFException("Stream ended inside a frame");
+            }
+        }
+        return true;
+    }
+}
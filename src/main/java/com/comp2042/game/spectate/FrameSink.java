@@ -0,0 +1,30 @@
+package com.comp2042.game.spectate;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Destination for encoded spectator frames: a file, a socket fan-out, and so on.
+ */
+public interface FrameSink extends Closeable {
+
+    /**
+     * Takes one frame.
+     *
+     * @param frame the whole frame, length prefix included, from position to limit;
+     *              the sink may move the position but must not keep the buffer
+     * @param keyframe whether the frame is a keyframe
+     * @throws IOException if the sink can no longer take frames
+     */
+    void accept(ByteBuffer frame, boolean keyframe) throws IOException;
+
+    /**
+     * Checks whether the sink needs a keyframe soon, e.g. because a viewer joined.
+     *
+     * @return true to have the next frame encoded as a keyframe
+     */
+    default boolean wantsKeyframe() {
+        return false;
+    }
+}
@@ -0,0 +1,153 @@
+package com.comp2042.game.spectate;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fans one spectator stream out to any number of viewers over TCP.
+ * Runs entirely on the thread publishing frames: each frame accepts waiting viewers,
+ * appends the frame to every viewer's buffer and writes what each socket takes,
+ * all without blocking, so a game can publish from its render loop.
+ *
+ * <p>A viewer starts with the next keyframe (joining requests one). A viewer too slow
+ * to keep up is never buffered without bound: when a frame does not fit in its buffer
+ * it skips frames until the next keyframe, which brings it back in step.
+ */
+public final class SpectatorServer implements FrameSink {
+
+    /** Port used when none is given. */
+    public static final int DEFAULT_PORT = 7421;
+
+    /** Bytes buffered per viewer before it skips to the next keyframe. */
+    public static final int VIEWER_BUFFER_SIZE = 64 * 1024;
+
+    private final ServerSocketChannel serverChannel;
+    private final List<Viewer> viewers = new ArrayList<>();
+
+    /**
+     * Starts listening for viewers.
+     *
+     * @param address the address to listen on; port 0 picks a free port
+     * @throws IOException if the socket cannot be opened
+     */
+    public SpectatorServer(InetSocketAddress address) throws IOException {
+        serverChannel = ServerSocketChannel.open();
+        try {
+            serverChannel.bind(address);
+            serverChannel.configureBlocking(false);
+        } catch (IOException e) {
+            serverChannel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Gets the port viewers connect to.
+     *
+     * @return the local port
+     */
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    /**
+     * Gets the number of connected viewers.
+     *
+     * @return viewers
+     */
+    public int getViewerCount() {
+        return viewers.size();
+    }
+
+    @Override
+    public boolean wantsKeyframe() {
+        acceptViewers();
+        for (Viewer viewer : viewers) {
+            if (!viewer.inStep) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void accept(ByteBuffer frame, boolean keyframe) {
+        acceptViewers();
+        for (int i = viewers.size() - 1; i >= 0; i--) {
+            Viewer viewer = viewers.get(i);
+            if (keyframe) {
+                viewer.inStep = true;
+            }
+            if (viewer.inStep) {
+                if (viewer.out.remaining() >= frame.remaining()) {
+                    viewer.out.put(frame.duplicate());
+                } else {
+                    viewer.inStep = false; // Too far behind; wait for the next keyframe
+                }
+            }
+            try {
+                viewer.flush();
+            } catch (IOException e) {
+                viewer.close();
+                viewers.remove(i);
+            }
+        }
+    }
+
+    private void acceptViewers() {
+        try {
+            SocketChannel channel;
+            while ((channel = serverChannel.accept()) != null) {
+                channel.configureBlocking(false);
+                channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                viewers.add(new Viewer(channel));
+            }
+        } catch (IOException e) {
+            System.err.println("Could not accept spectator: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (Viewer viewer : viewers) {
+            viewer.close();
+        }
+        viewers.clear();
+        serverChannel.close();
+    }
+
+    /**
+     * One viewer's connection.
+     */
+    private static final class Viewer {
+        private final SocketChannel channel;
+        private final ByteBuffer out = ByteBuffer.allocateDirect(VIEWER_BUFFER_SIZE);
+        private boolean inStep;
+
+        private Viewer(SocketChannel channel) {
+            this.channel = channel;
+        }
+
+        private void flush() throws IOException {
+            if (out.position() > 0) {
+                out.flip();
+                channel.write(out);
+                out.compact();
+            }
+        }
+
+        private void close() {
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // Already gone
+            }
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.comp2042.game.spectate;
+
+import com.comp2042.game.board.BoardGeometry;
+import com.comp2042.game.board.SimpleBoard;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Encodes a game once per frame and hands each encoded frame to every sink, so one
+ * encoding serves a recording and any number of viewers.
+ */
+public final class SpectatorStream implements Closeable {
+
+    private final DeltaFrameEncoder encoder;
+    private final List<FrameSink> sinks = new ArrayList<>();
+    private final ByteBuffer frame;
+
+    /**
+     * Creates a stream for games on a board of the given size.
+     *
+     * @param geometry the board geometry
+     * @param encoder the encoder
+     * @throws IllegalArgumentException if the board is too tall to stream
+     */
+    public SpectatorStream(BoardGeometry geometry, DeltaFrameEncoder encoder) {
+        if (geometry.getRows() > FrameFormat.MAX_ROWS) {
+            throw new IllegalArgumentException("Board too tall to stream: " + geometry);
+        }
+        this.encoder = encoder;
+        this.frame = ByteBuffer.allocate(FrameFormat.maxFrameSize(geometry.getRows(), geometry.getColumns()));
+    }
+
+    /**
+     * Adds a sink that receives every frame from now on.
+     *
+     * @param sink the sink
+     */
+    public void addSink(FrameSink sink) {
+        sinks.add(sink);
+        encoder.requestKeyframe();
+    }
+
+    /**
+     * Encodes the game's current state and passes the frame, if anything changed, to
+     * every sink. A sink that fails is closed and dropped.
+     *
+     * @param board the board being played
+     * @param gameOver whether the game is over
+     * @param nowMillis a millisecond clock
+     */
+    public void capture(SimpleBoard board, boolean gameOver, long nowMillis) {
+        for (FrameSink sink : sinks) {
+            if (sink.wantsKeyframe()) {
+                encoder.requestKeyframe();
+                break;
+            }
+        }
+        frame.clear();
+        int kind = encoder.encode(board, gameOver, nowMillis, frame);
+        if (kind == 0) {
+            return;
+        }
+        frame.flip();
+        for (int i = sinks.size() - 1; i >= 0; i--) {
+            FrameSink sink = sinks.get(i);
+            try {
+                sink.accept(frame.duplicate(), kind == FrameFormat.KEYFRAME);
+            } catch (IOException e) {
+                System.err.println("Spectator stream sink failed: " + e.getMessage());
+                sinks.remove(i);
+                closeQuietly(sink);
+            }
+        }
+    }
+
+    /**
+     * Closes every sink.
+     */
+    @Override
+    public void close() {
+        for (FrameSink sink : sinks) {
+            closeQuietly(sink);
+        }
+        sinks.clear();
+    }
+
+    private static void closeQuietly(FrameSink sink) {
+        try {
+            sink.close();
+        } catch (IOException e) {
+            System.err.println("Could not close spectator stream sink: " + e.getMessage());
+        }
+    }
+}
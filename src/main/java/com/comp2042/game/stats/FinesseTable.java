@@ -0,0 +1,142 @@
+package com.comp2042.game.stats;
+
+import com.comp2042.game.board.BoardGeometry;
+import com.comp2042.game.bricks.BrickType;
+import com.comp2042.game.operations.RotationSystem;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The fewest shift and rotation keys that take each brick from its spawn position to
+ * each rotation and column, precomputed once per board so judging a placement is a
+ * table lookup.
+ *
+ * <p>The table is built by a breadth-first search over (rotation, column) on an empty
+ * board with room above and below, using the same shapes and rotation kicks as the
+ * game. Every key press counts once; the game has no auto-shift, so walking to a wall
+ * costs one key per column.
+ */
+public final class FinesseTable {
+
+    /** Value for placements no key sequence reaches on an empty board. */
+    public static final int UNREACHABLE = -1;
+
+    /** Columns a shape's matrix may hang past the left wall. */
+    private static final int LEFT_MARGIN = 3;
+
+    private final int columns;
+    private final byte[][][] keys; // [brick code][rotation][column + LEFT_MARGIN]
+
+    /**
+     * Builds the table for a board.
+     *
+     * @param geometry the board's width and spawn point
+     * @param rotationSystem the kicks rotations may use
+     */
+    public FinesseTable(BoardGeometry geometry, RotationSystem rotationSystem) {
+        columns = geometry.getColumns();
+        keys = new byte[BrickType.values().length + 1][][];
+        for (BrickType type : BrickType.values()) {
+            keys[type.getCode()] = search(type, geometry.getSpawnX(), rotationSystem);
+        }
+    }
+
+    /**
+     * Gets the fewest keys that place a brick.
+     *
+     * @param type the brick type
+     * @param rotation the index into the brick's rotation list
+     * @param column the x offset of the brick's shape matrix
+     * @return the number of shift and rotation keys, or {@link #UNREACHABLE}
+     */
+    public int minimalKeys(BrickType type, int rotation, int column) {
+        byte[][] table = keys[type.getCode()];
+        int index = column + LEFT_MARGIN;
+        if (rotation < 0 || rotation >= table.length || index < 0 || index >= table[rotation].length) {
+            return UNREACHABLE;
+        }
+        return table[rotation][index];
+    }
+
+    private byte[][] search(BrickType type, int spawnX, RotationSystem rotationSystem) {
+        List<int[][]> shapes = type.create().getShapeMatrix();
+        int rotations = shapes.size();
+        int width = columns + LEFT_MARGIN;
+        byte[][] cost = new byte[rotations][width];
+        for (byte[] row : cost) {
+            Arrays.fill(row, (byte) UNREACHABLE);
+        }
+        if (!fits(shapes.get(0), spawnX)) {
+            return cost;
+        }
+        int[] queue = new int[rotations * width];
+        int head = 0;
+        int tail = 0;
+        cost[0][spawnX + LEFT_MARGIN] = 0;
+        queue[tail++] = spawnX + LEFT_MARGIN;
+        while (head < tail) {
+            int state = queue[head++];
+            int rotation = state / width;
+            int x = state % width - LEFT_MARGIN;
+            int next = cost[rotation][x + LEFT_MARGIN] + 1;
+            int[] targets = {
+                    shift(shapes.get(rotation), rotation, x - 1),
+                    shift(shapes.get(rotation), rotation, x + 1),
+                    turn(type, shapes, rotation, x, (rotation + 1) % rotations, -1, rotationSystem),
+                    turn(type, shapes, rotation, x, type.rotationAfter(rotation, 1), 1, rotationSystem),
+                    turn(type, shapes, rotation, x, type.rotationAfter(rotation, 2), 2, rotationSystem),
+                    turn(type, shapes, rotation, x, type.rotationAfter(rotation, 3), 3, rotationSystem)
+            };
+            for (int target : targets) {
+                if (target >= 0 && cost[target / width][target % width] == UNREACHABLE) {
+                    cost[target / width][target % width] = (byte) next;
+                    queue[tail++] = target;
+                }
+            }
+        }
+        return cost;
+    }
+
+    /** Gets the state after a shift, or -1 if the shape would leave the board. */
+    private int shift(int[][] shape, int rotation, int x) {
+        return fits(shape, x) ? state(rotation, x) : -1;
+    }
+
+    /**
+     * Gets the state after a rotation, taking the first kick that stays on the board.
+     * A negative turn count stands for the next-shape key, which turns by however far
+     * apart the two shapes are.
+     */
+    private int turn(BrickType type, List<int[][]> shapes, int from, int x, int to, int quarterTurns,
+                     RotationSystem rotationSystem) {
+        if (to == from) {
+            return -1;
+        }
+        int turns = quarterTurns < 0 ? (type.getOrientation(to) - type.getOrientation(from)) & 3 : quarterTurns;
+        for (int[] kick : rotationSystem.getKicks(type, type.getOrientation(from), turns)) {
+            if (fits(shapes.get(to), x + kick[0])) {
+                return state(to, x + kick[0]);
+            }
+        }
+        return -1;
+    }
+
+    private int state(int rotation, int x) {
+        return rotation * (columns + LEFT_MARGIN) + x + LEFT_MARGIN;
+    }
+
+    private boolean fits(int[][] shape, int x) {
+        if (x < -LEFT_MARGIN || x >= columns) {
+            return false;
+        }
+        for (int[] row : shape) {
+            for (int col = 0; col < row.length; col++) {
+                if (row[col] != 0 && (x + col < 0 || x + col >= columns)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
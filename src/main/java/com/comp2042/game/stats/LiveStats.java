@@ -0,0 +1,198 @@
+package com.comp2042.game.stats;
+
+import com.comp2042.game.bricks.BrickType;
+import com.comp2042.game.events.EventType;
+
+/**
+ * Live play statistics: pieces per second, actions per minute and keys per piece over
+ * a sliding window, plus finesse faults judged against a {@link FinesseTable}.
+ *
+ * <p>Fed by the game controller with one call per key and one per locked piece. Event
+ * times go into fixed-size rings and everything else is a counter, so recording never
+ * allocates. Not thread safe; feed and read it from the thread running the game.
+ */
+public final class LiveStats {
+
+    /** Window the live rates are taken over. */
+    public static final long DEFAULT_WINDOW_NANOS = 10_000_000_000L;
+
+    private static final int KEY_HISTORY = 1024;
+    private static final int PIECE_HISTORY = 256;
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+
+    private final FinesseTable finesse;
+    private final long windowNanos;
+    private final TimestampRing keyTimes = new TimestampRing(KEY_HISTORY);
+    private final TimestampRing pieceTimes = new TimestampRing(PIECE_HISTORY);
+    private long startNanos;
+    private long pieces;
+    private long keys;
+    private long finesseFaults;
+    private long wastedKeys;
+    private int pieceMoveKeys; // Shift and rotation keys spent on the active piece
+
+    /**
+     * Creates statistics over the default window.
+     *
+     * @param finesse the table placements are judged by, or null to skip finesse
+     * @param nowNanos the {@link System#nanoTime()} clock when the game starts
+     */
+    public LiveStats(FinesseTable finesse, long nowNanos) {
+        this(finesse, DEFAULT_WINDOW_NANOS, nowNanos);
+    }
+
+    /**
+     * Creates statistics.
+     *
+     * @param finesse the table placements are judged by, or null to skip finesse
+     * @param windowNanos the window live rates are taken over
+     * @param nowNanos the {@link System#nanoTime()} clock when the game starts
+     */
+    public LiveStats(FinesseTable finesse, long windowNanos, long nowNanos) {
+        if (windowNanos <= 0) {
+            throw new IllegalArgumentException("Window must be positive: " + windowNanos);
+        }
+        this.finesse = finesse;
+        this.windowNanos = windowNanos;
+        reset(nowNanos);
+    }
+
+    /**
+     * Starts counting a new game.
+     *
+     * @param nowNanos the {@link System#nanoTime()} clock
+     */
+    public void reset(long nowNanos) {
+        keyTimes.clear();
+        pieceTimes.clear();
+        startNanos = nowNanos;
+        pieces = 0;
+        keys = 0;
+        finesseFaults = 0;
+        wastedKeys = 0;
+        pieceMoveKeys = 0;
+    }
+
+    /**
+     * Records a key press. Holding starts a new piece as far as finesse goes.
+     *
+     * @param type the action the key performed
+     * @param nowNanos the {@link System#nanoTime()} clock
+     */
+    public void onKey(EventType type, long nowNanos) {
+        keys++;
+        keyTimes.add(nowNanos);
+        switch (type) {
+            case LEFT, RIGHT, ROTATE, ROTATE_CLOCKWISE, ROTATE_COUNTER_CLOCKWISE, ROTATE_180 -> pieceMoveKeys++;
+            case HOLD -> pieceMoveKeys = 0;
+            default -> { } // Drops are needed whatever the placement
+        }
+    }
+
+    /**
+     * Records a locked piece and judges its finesse. Placements the table cannot reach
+     * (tucks and spins under the stack) are not judged.
+     *
+     * @param type the piece's type
+     * @param rotation the index into the piece's rotation list when it locked
+     * @param column the x offset of the piece's shape matrix when it locked
+     * @param nowNanos the {@link System#nanoTime()} clock
+     */
+    public void onPieceLocked(BrickType type, int rotation, int column, long nowNanos) {
+        pieces++;
+        pieceTimes.add(nowNanos);
+        if (finesse != null) {
+            int minimal = finesse.minimalKeys(type, rotation, column);
+            if (minimal != FinesseTable.UNREACHABLE && pieceMoveKeys > minimal) {
+                finesseFaults++;
+                wastedKeys += pieceMoveKeys - minimal;
+            }
+        }
+        pieceMoveKeys = 0;
+    }
+
+    /**
+     * Forgets the keys spent on the active piece, for when it is put back by an undo
+     * or a restore and no longer where those keys left it.
+     */
+    public void pieceRestarted() {
+        pieceMoveKeys = 0;
+    }
+
+    /**
+     * Gets pieces per second over the window, or since the game started if that is
+     * shorter.
+     *
+     * @param nowNanos the {@link System#nanoTime()} clock
+     * @return PPS
+     */
+    public double getPiecesPerSecond(long nowNanos) {
+        return pieceTimes.countSince(nowNanos - windowNanos) * 1e9 / span(nowNanos);
+    }
+
+    /**
+     * Gets actions (key presses) per minute over the window, or since the game started
+     * if that is shorter.
+     *
+     * @param nowNanos the {@link System#nanoTime()} clock
+     * @return APM
+     */
+    public double getActionsPerMinute(long nowNanos) {
+        return keyTimes.countSince(nowNanos - windowNanos) * 60e9 / span(nowNanos);
+    }
+
+    /**
+     * Gets keys per piece over the window.
+     *
+     * @param nowNanos the {@link System#nanoTime()} clock
+     * @return KPP, 0 if no piece locked in the window
+     */
+    public double getKeysPerPiece(long nowNanos) {
+        long cutoff = nowNanos - windowNanos;
+        int windowPieces = pieceTimes.countSince(cutoff);
+        return windowPieces > 0 ? (double) keyTimes.countSince(cutoff) / windowPieces : 0;
+    }
+
+    /**
+     * Gets the pieces locked this game.
+     *
+     * @return pieces
+     */
+    public long getPieces() {
+        return pieces;
+    }
+
+    /**
+     * Gets the keys pressed this game.
+     *
+     * @return keys
+     */
+    public long getKeys() {
+        return keys;
+    }
+
+    /**
+     * Gets the pieces placed with more keys than needed this game.
+     *
+     * @return finesse faults
+     */
+    public long getFinesseFaults() {
+        return finesseFaults;
+    }
+
+    /**
+     * Summarizes the game so far.
+     *
+     * @param nowNanos the {@link System#nanoTime()} clock
+     * @return the summary
+     */
+    public StatsSummary summarize(long nowNanos) {
+        return new StatsSummary(Math.max(0, nowNanos - startNanos) / NANOS_PER_MILLI,
+                pieces, keys, finesseFaults, wastedKeys);
+    }
+
+    /** Gets the time the live rates are averaged over, at least a millisecond. */
+    private long span(long nowNanos) {
+        return Math.max(NANOS_PER_MILLI, Math.min(windowNanos, nowNanos - startNanos));
+    }
+}
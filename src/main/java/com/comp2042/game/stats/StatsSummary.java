@@ -0,0 +1,111 @@
+package com.comp2042.game.stats;
+
+import java.util.Locale;
+
+/**
+ * Whole-game statistics, taken when a game ends.
+ */
+public final class StatsSummary {
+
+    private final long durationMillis;
+    private final long pieces;
+    private final long keys;
+    private final long finesseFaults;
+    private final long wastedKeys;
+
+    /**
+     * Creates a summary.
+     *
+     * @param durationMillis how long the game ran
+     * @param pieces pieces locked
+     * @param keys keys pressed
+     * @param finesseFaults pieces placed with more keys than needed
+     * @param wastedKeys keys pressed beyond the fewest needed, over all faulted pieces
+     */
+    public StatsSummary(long durationMillis, long pieces, long keys, long finesseFaults, long wastedKeys) {
+        this.durationMillis = durationMillis;
+        this.pieces = pieces;
+        this.keys = keys;
+        this.finesseFaults = finesseFaults;
+        this.wastedKeys = wastedKeys;
+    }
+
+    /**
+     * Gets how long the game ran.
+     *
+     * @return milliseconds
+     */
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    /**
+     * Gets the pieces locked.
+     *
+     * @return pieces
+     */
+    public long getPieces() {
+        return pieces;
+    }
+
+    /**
+     * Gets the keys pressed.
+     *
+     * @return keys
+     */
+    public long getKeys() {
+        return keys;
+    }
+
+    /**
+     * Gets the pieces placed with more keys than needed.
+     *
+     * @return finesse faults
+     */
+    public long getFinesseFaults() {
+        return finesseFaults;
+    }
+
+    /**
+     * Gets the keys pressed beyond the fewest needed.
+     *
+     * @return wasted keys
+     */
+    public long getWastedKeys() {
+        return wastedKeys;
+    }
+
+    /**
+     * Gets the average pieces per second.
+     *
+     * @return PPS, 0 for a game with no duration
+     */
+    public double getPiecesPerSecond() {
+        return durationMillis > 0 ? pieces * 1000.0 / durationMillis : 0;
+    }
+
+    /**
+     * Gets the average actions (key presses) per minute.
+     *
+     * @return APM, 0 for a game with no duration
+     */
+    public double getActionsPerMinute() {
+        return durationMillis > 0 ? keys * 60_000.0 / durationMillis : 0;
+    }
+
+    /**
+     * Gets the average keys pressed per piece.
+     *
+     * @return KPP, 0 before the first piece
+     */
+    public double getKeysPerPiece() {
+        return pieces > 0 ? (double) keys / pieces : 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "%d pieces in %.1fs: %.2f PPS, %.0f APM, %.2f KPP, %d finesse faults",
+                pieces, durationMillis / 1000.0, getPiecesPerSecond(), getActionsPerMinute(), getKeysPerPiece(),
+                finesseFaults);
+    }
+}
@@ -0,0 +1,74 @@
+package com.comp2042.game.stats;
+
+/**
+ * The most recent event times, kept in a fixed ring so recording an event never
+ * allocates. Once the ring is full each new time overwrites the oldest.
+ */
+final class TimestampRing {
+
+    private final long[] times;
+    private final int mask;
+    private int next;
+    private int size;
+
+    /**
+     * Creates an empty ring.
+     *
+     * @param capacity how many times to keep; rounded up to a power of two
+     */
+    TimestampRing(int capacity) {
+        int length = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        times = new long[length];
+        mask = length - 1;
+    }
+
+    /**
+     * Records an event.
+     *
+     * @param nanos when it happened
+     */
+    void add(long nanos) {
+        times[next] = nanos;
+        next = (next + 1) & mask;
+        if (size < times.length) {
+            size++;
+        }
+    }
+
+    /**
+     * Counts the kept events at or after a time, walking back from the newest.
+     * Gives at most the ring's capacity, so a window busier than that is undercounted.
+     *
+     * @param cutoffNanos the earliest time counted
+     * @return the number of events
+     */
+    int countSince(long cutoffNanos) {
+        int count = 0;
+        int index = next;
+        while (count < size) {
+            index = (index - 1) & mask;
+            if (times[index] - cutoffNanos < 0) {
+                break;
+            }
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Gets how many times the ring can keep.
+     *
+     * @return the capacity
+     */
+    int capacity() {
+        return times.length;
+    }
+
+    /**
+     * Forgets every event.
+     */
+    void clear() {
+        next = 0;
+        size = 0;
+    }
+}
@@ -0,0 +1,26 @@
+package com.comp2042.game.telemetry;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event spanning one update of the game view's scene graph.
+ */
+@Name("com.comp2042.FrameRendered")
+@Label("Frame Rendered")
+@Category({"TetrisJFX", "UI"})
+@Description("The board or the active brick redrawn")
+@StackTrace(false)
+public final class FrameRenderedEvent extends jdk.jfr.Event {
+
+    @Label("Part")
+    @Description("What was redrawn: board or brick")
+    String part;
+
+    @Label("Nodes Touched")
+    @Description("Scene graph nodes whose properties were changed")
+    int nodesTouched;
+}
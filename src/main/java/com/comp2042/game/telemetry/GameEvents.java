@@ -0,0 +1,176 @@
+package com.comp2042.game.telemetry;
+
+import com.comp2042.game.score.SpinType;
+
+/**
+ * Emits the game's flight recorder events. Every method checks that its event type
+ * is being recorded before filling in any field, so with recording off an emit costs
+ * a flag test and the events can stay in production builds.
+ *
+ * <p>Record with e.g. {@code -XX:StartFlightRecording:filename=game.jfr}; the events
+ * appear under the TetrisJFX category.
+ */
+public final class GameEvents {
+
+    private GameEvents() { }
+
+    /**
+     * Records a brick spawning.
+     *
+     * @param brick the brick's colour code
+     * @param blocked whether it overlapped the stack
+     */
+    public static void spawned(int brick, boolean blocked) {
+        PieceSpawnEvent event = new PieceSpawnEvent();
+        if (event.shouldCommit()) {
+            event.brick = brick;
+            event.blocked = blocked;
+            event.commit();
+        }
+    }
+
+    /**
+     * Records a lock.
+     *
+     * @param brick the brick's colour code, 0 if unknown
+     * @param lines the rows it cleared
+     * @param spin the spin it was judged to be
+     * @param points the points awarded, including the level multiplier
+     */
+    public static void locked(int brick, int lines, SpinType spin, int points) {
+        PieceLockEvent event = new PieceLockEvent();
+        if (event.shouldCommit()) {
+            event.brick = brick;
+            event.lines = lines;
+            event.spin = spin.name();
+            event.points = points;
+            event.commit();
+        }
+    }
+
+    /**
+     * Records a line clear. The stack height is only measured while recording.
+     *
+     * @param lines the rows cleared
+     * @param board the board after the clear
+     * @param totalLines the lines cleared so far this game
+     */
+    public static void linesCleared(int lines, int[][] board, int totalLines) {
+        LineClearEvent event = new LineClearEvent();
+        if (event.shouldCommit()) {
+            event.lines = lines;
+            event.boardHeight = stackHeight(board);
+            event.totalLines = totalLines;
+            event.commit();
+        }
+    }
+
+    /**
+     * Records a level up.
+     *
+     * @param level the new level
+     * @param gravity the new level's gravity in 16.16 fixed point
+     */
+    public static void levelUp(int level, int gravity) {
+        LevelUpEvent event = new LevelUpEvent();
+        if (event.shouldCommit()) {
+            event.level = level;
+            event.gravity = gravity;
+            event.commit();
+        }
+    }
+
+    /**
+     * Records a hold.
+     *
+     * @param brick the colour code of the brick put on hold
+     * @param swapped whether a held brick came back into play
+     */
+    public static void held(int brick, boolean swapped) {
+        HoldEvent event = new HoldEvent();
+        if (event.shouldCommit()) {
+            event.brick = brick;
+            event.swapped = swapped;
+            event.commit();
+        }
+    }
+
+    /**
+     * Records an undo request.
+     *
+     * @param succeeded whether a move was undone
+     */
+    public static void undo(boolean succeeded) {
+        UndoEvent event = new UndoEvent();
+        if (event.shouldCommit()) {
+            event.succeeded = succeeded;
+            event.commit();
+        }
+    }
+
+    /**
+     * Starts timing a key press.
+     *
+     * @return the event to pass to {@link #inputHandled} once the view is updated
+     */
+    public static InputHandledEvent beginInput() {
+        InputHandledEvent event = new InputHandledEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Finishes timing a key press, recording it if it lasted past the threshold.
+     *
+     * @param event the event from {@link #beginInput()}
+     * @param key the key pressed
+     */
+    public static void inputHandled(InputHandledEvent event, String key) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.key = key;
+            event.commit();
+        }
+    }
+
+    /**
+     * Starts timing a view update.
+     *
+     * @return the event to pass to {@link #frameRendered} once the view is updated
+     */
+    public static FrameRenderedEvent beginFrame() {
+        FrameRenderedEvent event = new FrameRenderedEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Finishes timing a view update, recording it if it lasted past the threshold.
+     *
+     * @param event the event from {@link #beginFrame()}
+     * @param part what was redrawn
+     * @param nodesTouched scene graph nodes changed
+     */
+    public static void frameRendered(FrameRenderedEvent event, String part, int nodesTouched) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.part = part;
+            event.nodesTouched = nodesTouched;
+            event.commit();
+        }
+    }
+
+    /**
+     * Measures the stack as rows from the floor to its highest filled cell.
+     */
+    static int stackHeight(int[][] board) {
+        for (int row = 0; row < board.length; row++) {
+            for (int cell : board[row]) {
+                if (cell != 0) {
+                    return board.length - row;
+                }
+            }
+        }
+        return 0;
+    }
+}
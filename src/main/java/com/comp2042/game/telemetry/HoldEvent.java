@@ -0,0 +1,25 @@
+package com.comp2042.game.telemetry;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for the player holding a brick.
+ */
+@Name("com.comp2042.Hold")
+@Label("Hold")
+@Category({"TetrisJFX", "Engine"})
+@StackTrace(false)
+public final class HoldEvent extends jdk.jfr.Event {
+
+    @Label("Held Brick")
+    @Description("Colour code of the brick put on hold")
+    int brick;
+
+    @Label("Swapped")
+    @Description("Whether a held brick came back into play, rather than a new one spawning")
+    boolean swapped;
+}
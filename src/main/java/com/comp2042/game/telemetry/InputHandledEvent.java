@@ -0,0 +1,23 @@
+package com.comp2042.game.telemetry;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event spanning one key press, from the handler being called to
+ * the view showing its result. The event's duration is the input latency the game
+ * adds on top of the toolkit's.
+ */
+@Name("com.comp2042.InputHandled")
+@Label("Input Handled")
+@Category({"TetrisJFX", "UI"})
+@Description("A key press handled, with the time it took to update the view")
+@StackTrace(false)
+public final class InputHandledEvent extends jdk.jfr.Event {
+
+    @Label("Key")
+    String key;
+}
@@ -0,0 +1,24 @@
+package com.comp2042.game.telemetry;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for the game reaching a new level.
+ */
+@Name("com.comp2042.LevelUp")
+@Label("Level Up")
+@Category({"TetrisJFX", "Engine"})
+@StackTrace(false)
+public final class LevelUpEvent extends jdk.jfr.Event {
+
+    @Label("Level")
+    int level;
+
+    @Label("Gravity")
+    @Description("Rows per tick in 16.16 fixed point at the new level")
+    int gravity;
+}
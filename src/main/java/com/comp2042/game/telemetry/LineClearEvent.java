@@ -0,0 +1,28 @@
+package com.comp2042.game.telemetry;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for a lock that cleared rows.
+ */
+@Name("com.comp2042.LineClear")
+@Label("Line Clear")
+@Category({"TetrisJFX", "Engine"})
+@Description("A lock cleared one or more rows")
+@StackTrace(false)
+public final class LineClearEvent extends jdk.jfr.Event {
+
+    @Label("Lines")
+    int lines;
+
+    @Label("Board Height")
+    @Description("Rows from the floor to the top of the stack after the clear")
+    int boardHeight;
+
+    @Label("Total Lines")
+    int totalLines;
+}
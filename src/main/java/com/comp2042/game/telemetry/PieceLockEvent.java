@@ -0,0 +1,33 @@
+package com.comp2042.game.telemetry;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for a brick locking into the stack, whether or not it
+ * cleared rows.
+ */
+@Name("com.comp2042.PieceLock")
+@Label("Piece Lock")
+@Category({"TetrisJFX", "Engine"})
+@Description("A brick locked into the stack")
+@StackTrace(false)
+public final class PieceLockEvent extends jdk.jfr.Event {
+
+    @Label("Brick")
+    @Description("Colour code of the brick, 0 if unknown")
+    int brick;
+
+    @Label("Lines")
+    int lines;
+
+    @Label("Spin")
+    String spin;
+
+    @Label("Points")
+    @Description("Points awarded for the lock, including the level multiplier")
+    int points;
+}
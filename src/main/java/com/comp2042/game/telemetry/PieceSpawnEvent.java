@@ -0,0 +1,26 @@
+package com.comp2042.game.telemetry;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for a new brick entering the board.
+ */
+@Name("com.comp2042.PieceSpawn")
+@Label("Piece Spawn")
+@Category({"TetrisJFX", "Engine"})
+@Description("A new brick entered the board")
+@StackTrace(false)
+public final class PieceSpawnEvent extends jdk.jfr.Event {
+
+    @Label("Brick")
+    @Description("Colour code of the brick, 1 to 7")
+    int brick;
+
+    @Label("Blocked")
+    @Description("Whether the brick overlapped the stack, ending the game")
+    boolean blocked;
+}
@@ -0,0 +1,21 @@
+package com.comp2042.game.telemetry;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for an undo request.
+ */
+@Name("com.comp2042.Undo")
+@Label("Undo")
+@Category({"TetrisJFX", "Engine"})
+@StackTrace(false)
+public final class UndoEvent extends jdk.jfr.Event {
+
+    @Label("Succeeded")
+    @Description("Whether a move was undone; false when no undo was available")
+    boolean succeeded;
+}
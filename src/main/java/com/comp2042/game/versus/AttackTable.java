@@ -0,0 +1,16 @@
+package com.comp2042.game.versus;
+
+/**
+ * Strategy deciding how many garbage rows a line clear sends to the opponent.
+ * Different rule sets can be swapped in without changing {@link VersusMatch}.
+ */
+public interface AttackTable {
+
+    /**
+     * Gets the garbage sent for a lock.
+     *
+     * @param linesCleared the rows the lock cleared, 1 or more
+     * @return the garbage rows to send, 0 or more
+     */
+    int getAttack(int linesCleared);
+}
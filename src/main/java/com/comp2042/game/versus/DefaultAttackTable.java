@@ -0,0 +1,23 @@
+package com.comp2042.game.versus;
+
+/**
+ * Default implementation of AttackTable, following the common guideline values:
+ * a single sends nothing, a double one row, a triple two rows and a four-line
+ * clear four rows. Clearing more than four rows at once (possible on tall custom
+ * bricks only) sends one row per line.
+ */
+public class DefaultAttackTable implements AttackTable {
+
+    private static final int[] ATTACK = {0, 0, 1, 2, 4};
+
+    /** Creates the default attack table. */
+    public DefaultAttackTable() { }
+
+    @Override
+    public int getAttack(int linesCleared) {
+        if (linesCleared <= 0) {
+            return 0;
+        }
+        return linesCleared < ATTACK.length ? ATTACK[linesCleared] : linesCleared;
+    }
+}
@@ -0,0 +1,271 @@
+package com.comp2042.game.versus;
+
+import com.comp2042.game.ai.BotPlayer;
+import com.comp2042.game.ai.MovePlanner;
+import com.comp2042.game.ai.PlacementEnumerator;
+import com.comp2042.game.board.SimpleBoard;
+import com.comp2042.game.controller.GameController;
+import com.comp2042.game.controller.HeadlessGameView;
+import com.comp2042.game.data.ClearRow;
+import com.comp2042.game.level.Level;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * A head-to-head match between several independent boards in one process.
+ * Every board keeps its own engine, level and clock: {@link #advanceTo(long)} runs
+ * each board's gravity ticks and bot inputs that are due by the given time, so
+ * boards never wait for each other and a slow frame only makes them catch up.
+ *
+ * <p>Line clears attack through an {@link AttackTable}. An attack first cancels the
+ * attacker's own pending garbage and the rest goes to the next player still in the
+ * match. Pending garbage is added to a board when its next brick locks without
+ * clearing anything, at most {@link #MAX_GARBAGE_PER_LOCK} rows at a time, all with
+ * the same random hole. The last player standing wins.
+ *
+ * <p>A match is not thread-safe; drive it and send human input from one thread. Bots
+ * plan their placements on a planner executor, and {@link #advanceTo(long)} only
+ * applies plans that have finished, so a frame never waits for a search.
+ */
+public final class VersusMatch {
+
+    /** Most garbage rows added to a board by one lock. */
+    public static final int MAX_GARBAGE_PER_LOCK = 8;
+
+    /** Default delay between a bot's inputs: 100 ms. */
+    public static final double DEFAULT_BOT_STEP_MS = 100.0;
+
+    private static final long TICK_NANOS = Math.round(Level.TICK_MS * 1_000_000);
+    // A board further behind than this skips ahead instead of replaying every tick
+    private static final long MAX_CATCH_UP_NANOS = 250_000_000L;
+
+    // Shared by every match, so the bots' searches run one at a time off the frame thread
+    private static final ExecutorService PLANNER = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "versus-planner");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final AttackTable attackTable;
+    private final SplittableRandom random;
+    private final Executor planExecutor;
+    private final List<VersusPlayer> players = new ArrayList<>();
+    private boolean started;
+
+    /**
+     * Creates an empty match whose bots plan on a shared background thread.
+     *
+     * @param attackTable decides the garbage each line clear sends
+     * @param seed seeds the garbage holes
+     */
+    public VersusMatch(AttackTable attackTable, long seed) {
+        this(attackTable, seed, PLANNER);
+    }
+
+    /**
+     * Creates an empty match.
+     *
+     * @param attackTable decides the garbage each line clear sends
+     * @param seed seeds the garbage holes
+     * @param planExecutor runs the bots' placement searches ({@code Runnable::run} plans
+     *                     inside {@link #advanceTo(long)}, which makes matches reproducible)
+     */
+    public VersusMatch(AttackTable attackTable, long seed, Executor planExecutor) {
+        this.attackTable = attackTable;
+        this.random = new SplittableRandom(seed);
+        this.planExecutor = planExecutor;
+    }
+
+    /**
+     * Adds a board played through its controller, e.g. from the keyboard.
+     *
+     * @param name the display name
+     * @param board the player's board
+     * @return the player
+     */
+    public VersusPlayer addHuman(String name, SimpleBoard board) {
+        return addPlayer(name, board, null, 0);
+    }
+
+    /**
+     * Adds a board played by a bot.
+     *
+     * @param name the display name
+     * @param board the bot's board
+     * @param planner chooses the bot's placements
+     * @param stepMs milliseconds between the bot's inputs
+     * @return the player
+     */
+    public VersusPlayer addBot(String name, SimpleBoard board, MovePlanner planner, double stepMs) {
+        return addPlayer(name, board, planner, Math.max(1L, Math.round(stepMs * 1_000_000)));
+    }
+
+    private VersusPlayer addPlayer(String name, SimpleBoard board, MovePlanner planner, long botStepNanos) {
+        if (started) {
+            throw new IllegalStateException("Players must join before the match starts");
+        }
+        HeadlessGameView view = new HeadlessGameView();
+        GameController controller = new GameController(view, board);
+        BotPlayer bot = planner != null ? new BotPlayer(controller, board, planner, planExecutor) : null;
+        VersusPlayer player = new VersusPlayer(name, board, bot, botStepNanos, view, controller);
+        board.setLockListener((locked, clearRow) -> onLock(player, clearRow));
+        players.add(player);
+        return player;
+    }
+
+    /**
+     * Gets the players in joining order.
+     *
+     * @return an unmodifiable view of the players
+     */
+    public List<VersusPlayer> getPlayers() {
+        return Collections.unmodifiableList(players);
+    }
+
+    /**
+     * Starts every board's clock.
+     *
+     * @param nowNanos the current time, on the clock later passed to {@link #advanceTo(long)}
+     */
+    public void start(long nowNanos) {
+        started = true;
+        for (VersusPlayer player : players) {
+            player.nextTickNanos = nowNanos + TICK_NANOS;
+            player.nextBotNanos = nowNanos + player.getBotStepNanos();
+        }
+    }
+
+    /**
+     * Runs every board's gravity ticks and bot inputs due by the given time.
+     * A bot whose plan is still being computed skips its due inputs; its clock
+     * carries on, so it does not burst through them once the plan arrives.
+     *
+     * @param nowNanos the current time
+     */
+    public void advanceTo(long nowNanos) {
+        if (!started || isOver()) {
+            return;
+        }
+        for (VersusPlayer player : players) {
+            if (player.isOut()) {
+                continue;
+            }
+            if (nowNanos - player.nextTickNanos > MAX_CATCH_UP_NANOS) {
+                player.nextTickNanos = nowNanos - MAX_CATCH_UP_NANOS;
+            }
+            while (player.nextTickNanos <= nowNanos && !player.isOut()) {
+                player.getController().onGravityTick();
+                player.nextTickNanos += TICK_NANOS;
+                checkToppedOut(player);
+            }
+            BotPlayer bot = player.getBot();
+            if (bot == null) {
+                continue;
+            }
+            if (nowNanos - player.nextBotNanos > MAX_CATCH_UP_NANOS) {
+                player.nextBotNanos = nowNanos - MAX_CATCH_UP_NANOS;
+            }
+            while (player.nextBotNanos <= nowNanos && !player.isOut()) {
+                // The bot replans by itself when gravity locked the brick mid-plan
+                PlacementEnumerator.Move move = bot.pollMove();
+                if (move != null) {
+                    bot.perform(move);
+                }
+                player.nextBotNanos += player.getBotStepNanos();
+                checkToppedOut(player);
+            }
+        }
+    }
+
+    /**
+     * Checks for players who topped out through their own input and takes them out
+     * of the match. {@link #advanceTo(long)} does this for the boards it drives.
+     */
+    public void checkToppedOut() {
+        for (VersusPlayer player : players) {
+            checkToppedOut(player);
+        }
+    }
+
+    private void checkToppedOut(VersusPlayer player) {
+        if (!player.isOut() && player.hasToppedOut()) {
+            player.knockOut();
+        }
+    }
+
+    /**
+     * Checks whether at most one player is left.
+     *
+     * @return true once the match is decided
+     */
+    public boolean isOver() {
+        int standing = 0;
+        for (VersusPlayer player : players) {
+            if (!player.isOut()) {
+                standing++;
+            }
+        }
+        return players.size() > 1 ? standing <= 1 : standing == 0;
+    }
+
+    /**
+     * Gets the last player standing.
+     *
+     * @return the winner, or null while the match is running or if nobody is left
+     */
+    public VersusPlayer getWinner() {
+        if (!isOver()) {
+            return null;
+        }
+        for (VersusPlayer player : players) {
+            if (!player.isOut()) {
+                return player;
+            }
+        }
+        return null;
+    }
+
+    private void onLock(VersusPlayer player, ClearRow clearRow) {
+        if (player.isOut()) {
+            return;
+        }
+        int lines = clearRow.getLinesRemoved();
+        if (lines > 0) {
+            int attack = player.cancel(attackTable.getAttack(lines));
+            VersusPlayer target = attack > 0 ? nextOpponent(player) : null;
+            if (target != null) {
+                target.receive(attack);
+                player.sent(attack);
+            }
+            return;
+        }
+        int rows = player.takeGarbage(MAX_GARBAGE_PER_LOCK);
+        if (rows > 0) {
+            SimpleBoard board = player.getBoard();
+            int hole = random.nextInt(board.getGeometry().getColumns());
+            if (board.addGarbageRows(rows, hole)) {
+                player.knockOut();
+            }
+            if (player.getBot() != null) {
+                player.getBot().resync();
+            }
+        }
+    }
+
+    private VersusPlayer nextOpponent(VersusPlayer player) {
+        int index = players.indexOf(player);
+        for (int step = 1; step < players.size(); step++) {
+            VersusPlayer candidate = players.get((index + step) % players.size());
+            if (!candidate.isOut()) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+}
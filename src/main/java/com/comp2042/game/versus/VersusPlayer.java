@@ -0,0 +1,154 @@
+package com.comp2042.game.versus;
+
+import com.comp2042.game.ai.BotPlayer;
+import com.comp2042.game.board.SimpleBoard;
+import com.comp2042.game.controller.GameController;
+import com.comp2042.game.controller.HeadlessGameView;
+
+/**
+ * One board in a {@link VersusMatch}: its engine, its own clock and its garbage
+ * counters. Human players send input through {@link #getController()}; bot players
+ * are driven by the match.
+ */
+public final class VersusPlayer {
+
+    private final String name;
+    private final SimpleBoard board;
+    private final HeadlessGameView view;
+    private final GameController controller;
+    private final BotPlayer bot;
+    private final long botStepNanos;
+
+    long nextTickNanos;
+    long nextBotNanos;
+    private int pendingGarbage;
+    private int linesSent;
+    private int garbageReceived;
+    private boolean out;
+
+    VersusPlayer(String name, SimpleBoard board, BotPlayer bot, long botStepNanos,
+                 HeadlessGameView view, GameController controller) {
+        this.name = name;
+        this.board = board;
+        this.bot = bot;
+        this.botStepNanos = botStepNanos;
+        this.view = view;
+        this.controller = controller;
+    }
+
+    /**
+     * Gets the player's display name.
+     *
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the player's board.
+     *
+     * @return the board
+     */
+    public SimpleBoard getBoard() {
+        return board;
+    }
+
+    /**
+     * Gets the controller that takes this player's input.
+     *
+     * @return the game controller
+     */
+    public GameController getController() {
+        return controller;
+    }
+
+    /**
+     * Checks whether the match plays this board itself.
+     *
+     * @return true for bot players
+     */
+    public boolean isBot() {
+        return bot != null;
+    }
+
+    /**
+     * Gets the garbage rows waiting to be added to this board at its next lock
+     * that clears no lines.
+     *
+     * @return the pending rows
+     */
+    public int getPendingGarbage() {
+        return pendingGarbage;
+    }
+
+    /**
+     * Gets the garbage rows this player has sent to opponents.
+     *
+     * @return the rows sent, after cancelling incoming garbage
+     */
+    public int getLinesSent() {
+        return linesSent;
+    }
+
+    /**
+     * Gets the garbage rows added to this board so far.
+     *
+     * @return the rows received
+     */
+    public int getGarbageReceived() {
+        return garbageReceived;
+    }
+
+    /**
+     * Checks whether the player has topped out.
+     *
+     * @return true once the player is out of the match
+     */
+    public boolean isOut() {
+        return out;
+    }
+
+    BotPlayer getBot() {
+        return bot;
+    }
+
+    long getBotStepNanos() {
+        return botStepNanos;
+    }
+
+    boolean hasToppedOut() {
+        return view.isGameOver();
+    }
+
+    void knockOut() {
+        out = true;
+        pendingGarbage = 0;
+    }
+
+    /**
+     * Cancels incoming garbage with an attack.
+     *
+     * @return the part of the attack left over
+     */
+    int cancel(int attack) {
+        int cancelled = Math.min(attack, pendingGarbage);
+        pendingGarbage -= cancelled;
+        return attack - cancelled;
+    }
+
+    void receive(int rows) {
+        pendingGarbage += rows;
+    }
+
+    void sent(int rows) {
+        linesSent += rows;
+    }
+
+    int takeGarbage(int max) {
+        int rows = Math.min(max, pendingGarbage);
+        pendingGarbage -= rows;
+        garbageReceived += rows;
+        return rows;
+    }
+}
@@ -0,0 +1,132 @@
+package com.comp2042.ui;
+
+import com.comp2042.game.board.BoardGeometry;
+import com.comp2042.game.data.ViewData;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Paint;
+
+import java.util.Arrays;
+
+/**
+ * Draws a whole board, its ghost piece and its active brick on a single canvas node.
+ * Used where several boards share a window: the scene graph holds one node per board
+ * instead of one rectangle per cell, and each frame only redraws the cells that
+ * changed since the last one.
+ */
+public final class BoardCanvas extends Canvas {
+
+    // Frame values above this mark ghost cells; the low bits hold the color code
+    private static final int GHOST = 1 << 16;
+    private static final int ARC = 9;
+
+    private final int columns;
+    private final int visibleRows;
+    private final int bufferRows;
+    private final int cellSize;
+    private final int pitch;
+    private final int[] frame;
+    private final int[] shown;
+    private Paint[] fills = new Paint[0];
+    private Paint[] ghostFills = new Paint[0];
+    private boolean repaintAll = true;
+
+    /**
+     * Creates a canvas sized for a board.
+     *
+     * @param geometry the board geometry
+     * @param cellSize the size of one cell in pixels
+     */
+    public BoardCanvas(BoardGeometry geometry, int cellSize) {
+        super(geometry.getColumns() * (cellSize + 1), geometry.getVisibleRows() * (cellSize + 1));
+        this.columns = geometry.getColumns();
+        this.visibleRows = geometry.getVisibleRows();
+        this.bufferRows = geometry.getBufferRows();
+        this.cellSize = cellSize;
+        this.pitch = cellSize + 1;
+        frame = new int[columns * visibleRows];
+        shown = new int[columns * visibleRows];
+    }
+
+    /**
+     * Forgets what is drawn, so the next {@link #render} repaints every cell, e.g.
+     * after a theme change alters the colors.
+     */
+    public void invalidate() {
+        repaintAll = true;
+        fills = new Paint[0];
+        ghostFills = new Paint[0];
+    }
+
+    /**
+     * Draws the board with its ghost piece and active brick.
+     *
+     * @param matrix the board matrix, including the buffer rows
+     * @param brick the active brick's view data, or null to draw the stack only
+     */
+    public void render(int[][] matrix, ViewData brick) {
+        for (int row = 0; row < visibleRows; row++) {
+            System.arraycopy(matrix[row + bufferRows], 0, frame, row * columns, columns);
+        }
+        if (brick != null) {
+            overlay(brick.getBrickData(), brick.getGhostX(), brick.getGhostY(), GHOST);
+            overlay(brick.getBrickData(), brick.getxPosition(), brick.getyPosition(), 0);
+        }
+
+        GraphicsContext gc = getGraphicsContext2D();
+        for (int i = 0; i < frame.length; i++) {
+            int value = frame[i];
+            if (!repaintAll && value == shown[i]) {
+                continue;
+            }
+            shown[i] = value;
+            double x = (i % columns) * pitch;
+            double y = (i / columns) * pitch;
+            gc.clearRect(x, y, pitch, pitch);
+            if (value != 0) {
+                gc.setFill(value >= GHOST ? ghostFill(value - GHOST) : fill(value));
+                gc.fillRoundRect(x, y, cellSize, cellSize, ARC, ARC);
+            }
+        }
+        repaintAll = false;
+    }
+
+    private void overlay(int[][] shape, int x, int y, int flag) {
+        for (int i = 0; i < shape.length; i++) {
+            int row = y + i - bufferRows;
+            if (row < 0 || row >= visibleRows) {
+                continue;
+            }
+            for (int j = 0; j < shape[i].length; j++) {
+                int col = x + j;
+                if (shape[i][j] != 0 && col >= 0 && col < columns) {
+                    int index = row * columns + col;
+                    // The ghost never covers the stack; the brick covers everything
+                    if (flag == 0 || frame[index] == 0) {
+                        frame[index] = shape[i][j] + flag;
+                    }
+                }
+            }
+        }
+    }
+
+    private Paint fill(int code) {
+        if (code >= fills.length) {
+            fills = Arrays.copyOf(fills, code + 1);
+        }
+        if (fills[code] == null) {
+            fills[code] = ColorMapper.getFillColor(code);
+        }
+        return fills[code];
+    }
+
+    private Paint ghostFill(int code) {
+        if (code >= ghostFills.length) {
+            ghostFills = Arrays.copyOf(ghostFills, code + 1);
+        }
+        if (ghostFills[code] == null) {
+            ghostFills[code] = ColorMapper.getGhostFillColor(code);
+        }
+        return ghostFills[code];
+    }
+}
@@ -25,7 +25,7 @@ public class ControlsPanel extends BorderPane {
         final Label movementLabel = new Label("Movement:");
         movementLabel.getStyleClass().add("gameOverStyle");
 
-        final Label movementControls = new Label("← → A D    Move Left/Right\n↓ S        Soft Drop (1 point)\n↑ W        Rotate Piece");
+        final Label movementControls = new Label("← → A D    Move Left/Right\n↓ S        Soft Drop (1 point)\n↑ W        Rotate Piece\nX Z        Rotate Clockwise/Counter\nQ          Rotate 180°");
         movementControls.getStyleClass().add("controlsText");
         movementControls.setTextAlignment(javafx.scene.text.TextAlignment.CENTER);
 
@@ -38,7 +38,9 @@ public class ControlsPanel extends BorderPane {
             "G          Slow Time (every 3 rows, 5s)\n" +
             "U          Undo Last Move (every 5 rows)\n" +
             "P          Pause/Resume\n" +
-            "T          Change Theme"
+            "T          Change Theme\n" +
+            "B          Bot Autoplay On/Off\n" +
+            "H          Best Move Hint On/Off"
         );
         actionControls.getStyleClass().add("controlsText");
         actionControls.setTextAlignment(javafx.scene.text.TextAlignment.CENTER);
@@ -8,23 +8,31 @@ import javafx.scene.layout.VBox;
 
 /**
  * Panel displayed when the game ends.
- * Shows "GAME OVER" message and provides a "New Game" button.
+ * Shows "GAME OVER" message, the game's statistics and a "New Game" button.
  */
 public class GameOverPanel extends BorderPane {
 
     private final Button newGameButton;
+    private final Label summaryLabel;
 
     /** Creates the game over panel with the restart action. */
     public GameOverPanel() {
         final Label gameOverLabel = new Label("GAME OVER");
         gameOverLabel.getStyleClass().add("gameOverStyle");
         
+        summaryLabel = new Label();
+        summaryLabel.getStyleClass().add("ability-label");
+        summaryLabel.setWrapText(true);
+        summaryLabel.setMaxWidth(180);
+        summaryLabel.setVisible(false);
+        summaryLabel.setManaged(false);
+
         newGameButton = new Button("New Game (N)");
         newGameButton.getStyleClass().add("game-button");
         
         VBox content = new VBox(15);
         content.setAlignment(Pos.CENTER);
-        content.getChildren().addAll(gameOverLabel, newGameButton);
+        content.getChildren().addAll(gameOverLabel, summaryLabel, newGameButton);
         
         setCenter(content);
         
@@ -41,4 +49,15 @@ public class GameOverPanel extends BorderPane {
         return newGameButton;
     }
 
+    /**
+     * Shows the finished game's statistics under the message.
+     *
+     * @param summary the text to show, or null to hide the summary
+     */
+    public void showSummary(String summary) {
+        summaryLabel.setText(summary);
+        summaryLabel.setVisible(summary != null);
+        summaryLabel.setManaged(summary != null);
+    }
+
 }
@@ -1,5 +1,6 @@
 package com.comp2042.ui;
 
+import com.comp2042.game.board.BoardGeometry;
 import com.comp2042.game.data.ViewData;
 import javafx.scene.layout.GridPane;
 import javafx.scene.shape.Rectangle;
@@ -8,53 +9,163 @@ import javafx.scene.shape.Rectangle;
  * Handles data-to-UI transformations for game rendering.
  * Extracted from GuiController following Single Responsibility Principle -
  * separates rendering logic from input handling and timing.
+ *
+ * <p>Board cells are only repainted when their value changes, so a refresh costs
+ * little more than a scan of the matrix even on the widest boards.
  */
 public final class GameViewModel {
 
-    // Keep brick sizing consistent with GuiController (24px)
-    private static final int BRICK_SIZE = 24;
+    /** Cell size in pixels on boards that fit the standard window. */
+    public static final int DEFAULT_CELL_SIZE = 24;
 
-    /** Creates a view model for positioning and rendering bricks and board. */
-    public GameViewModel() { }
+    /** Smallest cell size wide or tall boards are shrunk to. */
+    public static final int MIN_CELL_SIZE = 12;
+
+    // Largest board area before cells shrink: twice the standard board in each direction
+    private static final int MAX_BOARD_WIDTH_PX = 2 * 10 * (DEFAULT_CELL_SIZE + 1);
+    private static final int MAX_BOARD_HEIGHT_PX = 2 * 23 * (DEFAULT_CELL_SIZE + 1);
+
+    // The active brick panel has always sat this much lower than the hidden rows' height
+    private static final int BRICK_PANEL_NUDGE = 8;
+
+    private final int cellSize;
+    private final int bufferRows;
+    private int[][] shownColors;
+    private Rectangle[][] shownMatrix;
+
+    /** Creates a view model for the standard board. */
+    public GameViewModel() {
+        this(DEFAULT_CELL_SIZE, BoardGeometry.DEFAULT_BUFFER_ROWS);
+    }
+
+    /**
+     * Creates a view model for positioning and rendering bricks and board.
+     *
+     * @param cellSize the size of one cell in pixels
+     * @param bufferRows the hidden rows at the top of the board matrix
+     */
+    public GameViewModel(int cellSize, int bufferRows) {
+        this.cellSize = cellSize;
+        this.bufferRows = bufferRows;
+    }
+
+    /**
+     * Creates a view model for a board, shrinking the cells of boards too large to
+     * show at the default size.
+     *
+     * @param geometry the board geometry
+     * @return the view model
+     */
+    public static GameViewModel forGeometry(BoardGeometry geometry) {
+        int fitWidth = MAX_BOARD_WIDTH_PX / geometry.getColumns() - 1;
+        int fitHeight = MAX_BOARD_HEIGHT_PX / geometry.getVisibleRows() - 1;
+        int cellSize = Math.max(MIN_CELL_SIZE, Math.min(DEFAULT_CELL_SIZE, Math.min(fitWidth, fitHeight)));
+        return new GameViewModel(cellSize, geometry.getBufferRows());
+    }
+
+    /**
+     * Gets the size of one cell.
+     *
+     * @return the cell size in pixels
+     */
+    public int getCellSize() {
+        return cellSize;
+    }
+
+    /**
+     * Gets the number of hidden rows at the top of the board matrix.
+     *
+     * @return the buffer rows
+     */
+    public int getBufferRows() {
+        return bufferRows;
+    }
+
+    /**
+     * Gets the vertical offset that hides the buffer rows of a panel drawn over the board.
+     *
+     * @param panel the overlay panel
+     * @return the offset in pixels (zero or negative)
+     */
+    public double hiddenRowsOffset(GridPane panel) {
+        return -bufferRows * (cellSize + panel.getHgap());
+    }
 
     /**
      * Positions the brick panel based on the current brick's position.
-     * 
+     *
      * @param gamePanel the main game panel
      * @param brickPanel the brick panel to position
      * @param brick the view data containing brick position
      */
     public void positionBrickPanel(GridPane gamePanel, GridPane brickPanel, ViewData brick) {
-        brickPanel.setLayoutX(gamePanel.getLayoutX() + brick.getxPosition() * brickPanel.getVgap() + brick.getxPosition() * BRICK_SIZE);
-        brickPanel.setLayoutY(-42 + gamePanel.getLayoutY() + brick.getyPosition() * brickPanel.getHgap() + brick.getyPosition() * BRICK_SIZE);
+        brickPanel.setLayoutX(gamePanel.getLayoutX() + brick.getxPosition() * brickPanel.getVgap() + brick.getxPosition() * cellSize);
+        brickPanel.setLayoutY(BRICK_PANEL_NUDGE + hiddenRowsOffset(brickPanel) + gamePanel.getLayoutY()
+                + brick.getyPosition() * brickPanel.getHgap() + brick.getyPosition() * cellSize);
     }
 
     /**
      * Updates the brick rectangles with colors from the view data.
-     * 
+     *
      * @param rectangles the rectangle array to update
      * @param brick the view data containing brick shape and colors
+     * @return the number of rectangles updated
      */
-    public void updateBrickRectangles(Rectangle[][] rectangles, ViewData brick) {
+    public int updateBrickRectangles(Rectangle[][] rectangles, ViewData brick) {
+        int touched = 0;
         for (int i = 0; i < brick.getBrickData().length; i++) {
             for (int j = 0; j < brick.getBrickData()[i].length; j++) {
                 setRectangleData(brick.getBrickData()[i][j], rectangles[i][j]);
+                touched++;
             }
         }
+        return touched;
     }
 
     /**
      * Updates the board display matrix with the current board state.
-     * 
+     * Cells showing the same value as last time are left alone.
+     *
      * @param displayMatrix the rectangle array representing the board display
      * @param board the board state matrix
+     * @return the number of cells repainted
      */
-    public void updateBoard(Rectangle[][] displayMatrix, int[][] board) {
-        for (int i = 2; i < board.length; i++) {
-            for (int j = 0; j < board[i].length; j++) {
-                setRectangleData(board[i][j], displayMatrix[i][j]);
+    public int updateBoard(Rectangle[][] displayMatrix, int[][] board) {
+        int touched = 0;
+        if (displayMatrix != shownMatrix || shownColors == null || shownColors.length != board.length) {
+            shownMatrix = displayMatrix;
+            shownColors = new int[board.length][];
+        }
+        for (int i = bufferRows; i < board.length; i++) {
+            int[] row = board[i];
+            int[] shown = shownColors[i];
+            if (shown == null || shown.length != row.length) {
+                shown = new int[row.length];
+                shownColors[i] = shown;
+                for (int j = 0; j < row.length; j++) {
+                    setRectangleData(row[j], displayMatrix[i][j]);
+                    shown[j] = row[j];
+                }
+                touched += row.length;
+                continue;
+            }
+            for (int j = 0; j < row.length; j++) {
+                if (shown[j] != row[j]) {
+                    setRectangleData(row[j], displayMatrix[i][j]);
+                    shown[j] = row[j];
+                    touched++;
+                }
             }
         }
+        return touched;
+    }
+
+    /**
+     * Forgets what the board shows, so the next {@link #updateBoard} repaints every
+     * cell, e.g. after a theme change alters the colors.
+     */
+    public void invalidateBoard() {
+        shownColors = null;
     }
 
     private void setRectangleData(int color, Rectangle rectangle) {
@@ -1,25 +1,35 @@
 package com.comp2042.ui;
 
 import javafx.beans.property.BooleanProperty;
-import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerProperty;
 import javafx.beans.property.SimpleBooleanProperty;
 import javafx.event.ActionEvent;
+import javafx.event.EventHandler;
+import javafx.scene.input.KeyEvent;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
 import javafx.scene.Group;
+import javafx.scene.Node;
 import javafx.scene.effect.Reflection;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.Pane;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Rectangle;
+import javafx.scene.shape.StrokeType;
 import javafx.scene.text.Font;
 import javafx.collections.ObservableList;
+import javafx.animation.AnimationTimer;
 import javafx.animation.PauseTransition;
+import javafx.application.Platform;
 import javafx.util.Duration;
 
+import java.awt.Point;
 import java.net.URL;
+import java.util.Locale;
 import java.util.ResourceBundle;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import com.comp2042.game.events.InputEventListener;
 import com.comp2042.game.events.MoveEvent;
@@ -27,11 +37,31 @@ import javafx.scene.control.Label;
 import com.comp2042.game.events.EventType;
 import com.comp2042.game.events.EventSource;
 import com.comp2042.game.data.ViewData;
+import com.comp2042.game.data.ClearRow;
 import com.comp2042.game.data.DownData;
 import com.comp2042.game.data.UndoData;
 import com.comp2042.game.controller.GameController;
+import com.comp2042.game.controller.GameView;
+import com.comp2042.game.ai.BotPlayer;
+import com.comp2042.game.ai.HeuristicWeights;
+import com.comp2042.game.ai.HintService;
+import com.comp2042.game.ai.LookaheadSearch;
+import com.comp2042.game.ai.PlacementDecision;
+import com.comp2042.game.ai.PlacementEnumerator;
+import com.comp2042.game.board.BoardGeometry;
+import com.comp2042.game.board.SimpleBoard;
+import com.comp2042.game.level.Level;
 import com.comp2042.game.level.LevelManager;
+import com.comp2042.game.level.LinesClearedTracker;
 import com.comp2042.game.score.HighScoreManager;
+import com.comp2042.game.score.Score;
+import com.comp2042.game.metrics.GameMetrics;
+import com.comp2042.game.score.SpinType;
+import com.comp2042.game.stats.LiveStats;
+import com.comp2042.game.stats.StatsSummary;
+import com.comp2042.game.telemetry.FrameRenderedEvent;
+import com.comp2042.game.telemetry.GameEvents;
+import com.comp2042.game.telemetry.InputHandledEvent;
 import com.comp2042.ui.theme.Theme;
 import com.comp2042.ui.theme.ThemeManager;
 import javafx.beans.binding.Bindings;
@@ -56,14 +86,23 @@ import javafx.beans.binding.Bindings;
  *   <li>Displaying score, level, and notification animations</li>
  * </ul>
  */
-public class GuiController implements Initializable {
-
-    /** Size of each brick block in pixels */
-    private static final int BRICK_SIZE = 24;
+public class GuiController implements Initializable, GameView {
+
+    /** Size of each block in the next and hold previews, in pixels */
+    private static final int BRICK_SIZE = GameViewModel.DEFAULT_CELL_SIZE;
+    /** Size of the window for the standard board */
+    private static final double DEFAULT_SCENE_WIDTH = 432;
+    private static final double DEFAULT_SCENE_HEIGHT = 612;
+    /** Left edge of the score, preview and ability column */
+    private static final double SIDEBAR_X = 270;
+    /** Nanoseconds between refreshes of the live statistics */
+    private static final long LIVE_STATS_REFRESH_NANOS = 250_000_000L;
     /** Additional milliseconds to apply when slowing time */
     private static final double TIME_SLOW_OFFSET_MS = 500.0;
     /** Duration in milliseconds for the slow-time effect */
     private static final int TIME_SLOW_DURATION_MS = 5000;
+    /** Milliseconds between bot inputs in autoplay mode */
+    private static final double AUTOPLAY_STEP_MS = 40.0;
     
 
     /** Main game board grid panel */
@@ -85,6 +124,10 @@ public class GuiController implements Initializable {
     /** Panel for displaying the ghost piece (landing preview) */
     @FXML
     private GridPane ghostPanel;
+
+    /** Panel outlining the hinted best placement */
+    @FXML
+    private GridPane hintPanel;
     
     /** Panel for displaying the next piece preview */
     @FXML
@@ -130,6 +173,10 @@ public class GuiController implements Initializable {
     @FXML
     private Label undoStatusLabel;
 
+    /** Label showing live pieces per second, actions per minute, keys per piece and finesse */
+    @FXML
+    private Label liveStatsLabel;
+
     /** 2D array of rectangles representing the game board cells */
     private Rectangle[][] displayMatrix;
     
@@ -138,6 +185,7 @@ public class GuiController implements Initializable {
     
     /** Manages high score tracking and persistence */
     private HighScoreManager highScoreManager;
+    private ObservableGameStats gameStats;
     
     /** Panel displayed when game is paused */
     private PausePanel pausePanel;
@@ -152,6 +200,9 @@ public class GuiController implements Initializable {
     
     /** 2D array of rectangles representing the ghost piece */
     private Rectangle[][] ghostRectangles;
+
+    /** 2D array of rectangles outlining the hinted placement */
+    private Rectangle[][] hintRectangles;
     
     /** 2D array of rectangles representing the next piece preview */
     private Rectangle[][] nextBrickRectangles;
@@ -161,10 +212,36 @@ public class GuiController implements Initializable {
     
     /** Timer for automatic brick dropping */
     private GameTimer gameTimer;
+    /**
+     * Samples the FX thread's allocation once per rendered frame for the metrics, and
+     * refreshes the live statistics
+     */
+    private final AnimationTimer frameSampler = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            GameMetrics.get().sampleFrameAllocation();
+            refreshLiveStats(now);
+        }
+    };
+    /** When the live statistics were last shown */
+    private long liveStatsShownAt;
+    /** Whether the finished game's summary is on the game over panel */
+    private boolean summaryShown;
     /** Active slow-time flag */
     private boolean timeSlowActive;
     /** Timer to end slow-time effect */
     private PauseTransition timeSlowTimer;
+    /** Bot driving the game in autoplay mode, or null when a human is playing */
+    private BotPlayer botPlayer;
+    private ExecutorService autoPlayWorker;
+    /** Background best move hints, or null while hints are off */
+    private HintService hintService;
+    /** Brick serial, column and rotation the current hint was requested for */
+    private long hintSerial = -1;
+    private int hintX;
+    private int hintRotation;
+    /** Whether the view shows a game played elsewhere, with no timer or input of its own */
+    private boolean spectating;
 
     /** Property tracking whether the game is paused */
     private final BooleanProperty isPause = new SimpleBooleanProperty();
@@ -176,7 +253,11 @@ public class GuiController implements Initializable {
     private InputHandler inputHandler;
 
     /** View model for game rendering operations */
-    private final GameViewModel gameViewModel = new GameViewModel();
+    private GameViewModel gameViewModel = new GameViewModel();
+
+    /** Window size needed for the board */
+    private double sceneWidth = DEFAULT_SCENE_WIDTH;
+    private double sceneHeight = DEFAULT_SCENE_HEIGHT;
 
     /** Cache of current board state for repainting during theme switches */
     private int[][] currentBoardMatrix;
@@ -201,6 +282,7 @@ public class GuiController implements Initializable {
         gamePanel.requestFocus();
 
         gameTimer = new GameTimer();
+        frameSampler.start();
 
         gameOverPanel.setVisible(false);
         gameOverOverlay.setVisible(false);
@@ -216,6 +298,52 @@ public class GuiController implements Initializable {
         initThemeHandling();
     }
 
+    /**
+     * Sizes the board display for a board geometry. Boards wider or taller than the
+     * standard one get smaller cells and a larger window, with the side column moved
+     * over to make room. Call before the game view is initialized.
+     *
+     * @param geometry the board geometry
+     */
+    public void setBoardGeometry(BoardGeometry geometry) {
+        gameViewModel = GameViewModel.forGeometry(geometry);
+        double pitch = gameViewModel.getCellSize() + gamePanel.getHgap();
+        double standardPitch = GameViewModel.DEFAULT_CELL_SIZE + gamePanel.getHgap();
+        double extraWidth = Math.max(0, geometry.getColumns() * pitch
+                - BoardGeometry.STANDARD.getColumns() * standardPitch);
+        double extraHeight = Math.max(0, geometry.getVisibleRows() * pitch
+                - BoardGeometry.STANDARD.getVisibleRows() * standardPitch);
+        sceneWidth = DEFAULT_SCENE_WIDTH + extraWidth;
+        sceneHeight = DEFAULT_SCENE_HEIGHT + extraHeight;
+
+        for (Node node : ((Pane) gameBoard.getParent()).getChildren()) {
+            if (node instanceof Rectangle overlay) {
+                overlay.setWidth(sceneWidth);
+                overlay.setHeight(sceneHeight);
+            } else if (node.getLayoutX() >= SIDEBAR_X) {
+                node.setLayoutX(node.getLayoutX() + extraWidth);
+            }
+        }
+    }
+
+    /**
+     * Gets the window width the board needs.
+     *
+     * @return the scene width in pixels
+     */
+    public double getSceneWidth() {
+        return sceneWidth;
+    }
+
+    /**
+     * Gets the window height the board needs.
+     *
+     * @return the scene height in pixels
+     */
+    public double getSceneHeight() {
+        return sceneHeight;
+    }
+
     /**
      * Sets up the theme handling logic.
      * Listens for theme changes to update stylesheets and repaint the game.
@@ -236,6 +364,7 @@ public class GuiController implements Initializable {
                 }
                 
                 // Repaint board and active piece with new theme colors
+                gameViewModel.invalidateBoard();
                 if (currentBoardMatrix != null) {
                     refreshGameBackground(currentBoardMatrix);
                 }
@@ -295,16 +424,19 @@ public class GuiController implements Initializable {
      * @param boardMatrix the 2D array representing the game board state
      * @param brick the initial brick's view data
      */
+    @Override
     public void initGameView(int[][] boardMatrix, ViewData brick) {
         this.currentBoardMatrix = boardMatrix;
         this.currentViewData = brick;
+        int cellSize = gameViewModel.getCellSize();
+        int bufferRows = gameViewModel.getBufferRows();
         displayMatrix = new Rectangle[boardMatrix.length][boardMatrix[0].length];
-        for (int i = 2; i < boardMatrix.length; i++) {
+        for (int i = bufferRows; i < boardMatrix.length; i++) {
             for (int j = 0; j < boardMatrix[i].length; j++) {
-                Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
+                Rectangle rectangle = new Rectangle(cellSize, cellSize);
                 rectangle.setFill(Color.TRANSPARENT);
                 displayMatrix[i][j] = rectangle;
-                gamePanel.add(rectangle, j, i - 2);
+                gamePanel.add(rectangle, j, i - bufferRows);
             }
         }
 
@@ -312,7 +444,7 @@ public class GuiController implements Initializable {
         rectangles = new Rectangle[brick.getBrickData().length][brick.getBrickData()[0].length];
         for (int i = 0; i < brick.getBrickData().length; i++) {
             for (int j = 0; j < brick.getBrickData()[i].length; j++) {
-                Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
+                Rectangle rectangle = new Rectangle(cellSize, cellSize);
                 rectangle.setFill(ColorMapper.getFillColor(brick.getBrickData()[i][j]));
                 rectangles[i][j] = rectangle;
                 brickPanel.add(rectangle, j, i);
@@ -324,7 +456,7 @@ public class GuiController implements Initializable {
         ghostRectangles = new Rectangle[brick.getBrickData().length][brick.getBrickData()[0].length];
         for (int i = 0; i < brick.getBrickData().length; i++) {
             for (int j = 0; j < brick.getBrickData()[i].length; j++) {
-                Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
+                Rectangle rectangle = new Rectangle(cellSize, cellSize);
                 rectangle.setFill(ColorMapper.getGhostFillColor(brick.getBrickData()[i][j]));
                 rectangle.setArcHeight(9);
                 rectangle.setArcWidth(9);
@@ -335,6 +467,21 @@ public class GuiController implements Initializable {
         // Position ghost panel at the landing position
         positionGhostPanel(brick);
 
+        // Initialize hint panel with outlined rectangles, shown once a hint arrives
+        hintRectangles = new Rectangle[brick.getBrickData().length][brick.getBrickData()[0].length];
+        for (int i = 0; i < hintRectangles.length; i++) {
+            for (int j = 0; j < hintRectangles[i].length; j++) {
+                Rectangle rectangle = new Rectangle(cellSize, cellSize);
+                rectangle.setFill(Color.TRANSPARENT);
+                rectangle.setStrokeWidth(2);
+                rectangle.setStrokeType(StrokeType.INSIDE);
+                rectangle.setArcHeight(9);
+                rectangle.setArcWidth(9);
+                hintRectangles[i][j] = rectangle;
+                hintPanel.add(rectangle, j, i);
+            }
+        }
+
         // Initialize next brick preview panel
         initNextBrickPreview(brick);
 
@@ -345,9 +492,19 @@ public class GuiController implements Initializable {
     
     /**
      * Starts the game timer with the current level's drop speed.
+     * In autoplay mode the timer drives bot inputs instead of gravity.
      */
     private void startTimerWithCurrentLevelSpeed() {
-        if (levelManager != null) {
+        if (spectating) {
+            return; // The spectated game runs elsewhere
+        }
+        if (botPlayer != null) {
+            gameTimer.start(this::stepAutoPlay, AUTOPLAY_STEP_MS);
+        } else if (gameController != null && gameController.getBoard() instanceof SimpleBoard) {
+            // Fixed engine tick; the level's gravity decides how far the brick falls
+            gameController.setGravitySlowdownMs(timeSlowActive ? TIME_SLOW_OFFSET_MS : 0);
+            gameTimer.start(this::gravityTick, Level.TICK_MS);
+        } else if (levelManager != null) {
             double speed = levelManager.getCurrentLevelConfig().getDropSpeedMs();
             if (timeSlowActive) {
                 speed += TIME_SLOW_OFFSET_MS;
@@ -370,19 +527,28 @@ public class GuiController implements Initializable {
      */
     private void refreshBrick(ViewData brick) {
         if (isPause.getValue() == Boolean.FALSE) {
+            long start = System.nanoTime();
+            FrameRenderedEvent frame = GameEvents.beginFrame();
             this.currentViewData = brick;
             gameViewModel.positionBrickPanel(gamePanel, brickPanel, brick);
-            gameViewModel.updateBrickRectangles(rectangles, brick);
+            int touched = 2 + gameViewModel.updateBrickRectangles(rectangles, brick); // Both panels move
             
             // Update ghost piece position and appearance
             positionGhostPanel(brick);
-            updateGhostRectangles(brick);
+            touched += updateGhostRectangles(brick);
 
             // Update next brick preview
-            updateNextBrickPreview(brick);
+            touched += updateNextBrickPreview(brick);
 
             // Update hold brick preview
-            updateHoldBrickPreview(brick);
+            touched += updateHoldBrickPreview(brick);
+
+            // A fall keeps the hint; a shift, turn, hold or new brick makes it stale
+            if (hintIsStale()) {
+                requestHint();
+            }
+            GameEvents.frameRendered(frame, "brick", touched);
+            GameMetrics.get().recordRender(System.nanoTime() - start);
         }
     }
     
@@ -392,23 +558,116 @@ public class GuiController implements Initializable {
      * @param brick the view data containing ghost position
      */
     private void positionGhostPanel(ViewData brick) {
-        ghostPanel.setLayoutX(gamePanel.getLayoutX() + brick.getGhostX() * ghostPanel.getVgap() + brick.getGhostX() * BRICK_SIZE);
-        ghostPanel.setLayoutY(-50 + gamePanel.getLayoutY() + brick.getGhostY() * ghostPanel.getHgap() + brick.getGhostY() * BRICK_SIZE);
+        positionOverlayPanel(ghostPanel, brick.getGhostX(), brick.getGhostY());
+    }
+
+    /**
+     * Positions a brick-sized overlay panel at a board offset.
+     *
+     * @param panel the overlay panel
+     * @param x the brick's column offset
+     * @param y the brick's row offset, counting the hidden rows
+     */
+    private void positionOverlayPanel(GridPane panel, int x, int y) {
+        int cellSize = gameViewModel.getCellSize();
+        panel.setLayoutX(gamePanel.getLayoutX() + x * panel.getVgap() + x * cellSize);
+        panel.setLayoutY(gameViewModel.hiddenRowsOffset(panel) + gamePanel.getLayoutY() + y * panel.getHgap() + y * cellSize);
+    }
+
+    /**
+     * Turns best move hints on or off.
+     */
+    private void toggleHint() {
+        if (hintService != null) {
+            hintService.shutdown();
+            hintService = null;
+            hintPanel.setVisible(false);
+        } else {
+            hintService = new HintService(HeuristicWeights.DEFAULT, Platform::runLater);
+            requestHint();
+        }
+        NotificationPanel notificationPanel = new NotificationPanel(hintService != null ? "HINTS ON" : "HINTS OFF");
+        groupNotification.getChildren().add(notificationPanel);
+        notificationPanel.showScore(groupNotification.getChildren());
+        gamePanel.requestFocus();
+    }
+
+    /**
+     * Hides the current hint and starts computing one for the active brick's position
+     * in the background, superseding any hint still being computed.
+     */
+    private void requestHint() {
+        if (hintService == null || hintPanel == null) {
+            return;
+        }
+        hintPanel.setVisible(false);
+        if (isPause.getValue() == Boolean.TRUE || isGameOver.getValue() == Boolean.TRUE
+                || gameController == null || !(gameController.getBoard() instanceof SimpleBoard simpleBoard)) {
+            hintService.cancel();
+            hintSerial = -1;
+            return;
+        }
+        Point offset = simpleBoard.getCurrentOffset();
+        hintSerial = simpleBoard.getBrickSerial();
+        hintX = offset.x;
+        hintRotation = simpleBoard.getCurrentRotation();
+        hintService.request(simpleBoard.getBoardMatrix(), simpleBoard.getCurrentBrick(),
+                simpleBoard.getCurrentRotation(), offset.x, offset.y, this::showHint);
+    }
+
+    /**
+     * Checks whether the active brick has moved other than by falling since the hint
+     * was requested. The board only changes when a brick locks, which also changes the
+     * serial, so a brick that has only fallen still has the same best placement.
+     *
+     * @return true if a new hint should be requested
+     */
+    private boolean hintIsStale() {
+        if (hintService == null || gameController == null
+                || !(gameController.getBoard() instanceof SimpleBoard simpleBoard)) {
+            return true;
+        }
+        return simpleBoard.getBrickSerial() != hintSerial
+                || simpleBoard.getCurrentOffset().x != hintX
+                || simpleBoard.getCurrentRotation() != hintRotation;
+    }
+
+    /**
+     * Draws a finished hint as an outline of the brick at its recommended placement.
+     *
+     * @param hint the recommended placement, or null if there is none
+     */
+    private void showHint(PlacementDecision hint) {
+        if (hint == null || hintService == null || isPause.getValue() == Boolean.TRUE) {
+            return;
+        }
+        int[][] shape = hint.getBrick().getShapeMatrix().get(hint.getRotation());
+        for (int i = 0; i < hintRectangles.length && i < shape.length; i++) {
+            for (int j = 0; j < hintRectangles[i].length && j < shape[i].length; j++) {
+                hintRectangles[i][j].setStroke(shape[i][j] != 0 ? ColorMapper.getFillColor(shape[i][j]) : Color.TRANSPARENT);
+            }
+        }
+        positionOverlayPanel(hintPanel, hint.getX(), hint.getY());
+        hintPanel.setVisible(true);
     }
     
     /**
      * Updates the ghost rectangles with semi-transparent colors.
      * 
      * @param brick the view data containing brick shape and colors
+     * @return the number of rectangles updated
      */
-    private void updateGhostRectangles(ViewData brick) {
+    private int updateGhostRectangles(ViewData brick) {
+        int touched = 0;
         for (int i = 0; i < brick.getBrickData().length; i++) {
             for (int j = 0; j < brick.getBrickData()[i].length; j++) {
                 ghostRectangles[i][j].setFill(ColorMapper.getGhostFillColor(brick.getBrickData()[i][j]));
                 ghostRectangles[i][j].setArcHeight(9);
                 ghostRectangles[i][j].setArcWidth(9);
+                touched++;
             }
         }
+        return touched;
     }
     
     /**
@@ -483,10 +742,11 @@ public class GuiController implements Initializable {
      * Called whenever a new piece spawns and the next piece changes.
      *
      * @param brick the view data containing updated next brick information
+     * @return the number of rectangles updated or created
      */
-    private void updateNextBrickPreview(ViewData brick) {
+    private int updateNextBrickPreview(ViewData brick) {
         if (brick.getNextBrickData() == null || nextBrickRectangles == null) {
-            return;
+            return 0;
         }
 
         int[][] nextBrickData = brick.getNextBrickData();
@@ -496,7 +756,7 @@ public class GuiController implements Initializable {
             nextBrickRectangles[0].length != nextBrickData[0].length) {
             nextBrickPanel.getChildren().clear();
             initNextBrickPreview(brick);
-            return;
+            return nextBrickData.length * nextBrickData[0].length;
         }
 
         // Update colors
@@ -507,6 +767,7 @@ public class GuiController implements Initializable {
                 nextBrickRectangles[i][j].setArcWidth(9);
             }
         }
+        return nextBrickData.length * nextBrickData[0].length;
     }
 
     /**
@@ -514,10 +775,11 @@ public class GuiController implements Initializable {
      * Called whenever the held brick changes (hold operation or new game).
      *
      * @param brick the view data containing updated hold brick information
+     * @return the number of rectangles created
      */
-    private void updateHoldBrickPreview(ViewData brick) {
+    private int updateHoldBrickPreview(ViewData brick) {
         if (holdBrickRectangles == null) {
-            return;
+            return 0;
         }
 
         int[][] holdBrickData = brick.getHoldBrickData();
@@ -552,6 +814,43 @@ public class GuiController implements Initializable {
                 }
             }
         }
+        return holdBrickRectangles.length * holdBrickRectangles[0].length;
+    }
+
+    /**
+     * Shows the live statistics a few times a second, and puts a finished game's summary
+     * on the game over panel. The game ends inside the move that locks its last piece,
+     * before that piece is counted, so the summary waits for the next frame.
+     *
+     * @param now the frame's time on the {@link System#nanoTime()} clock
+     */
+    private void refreshLiveStats(long now) {
+        if (liveStatsLabel == null) {
+            return;
+        }
+        liveStatsLabel.setVisible(gameController != null && !spectating);
+        if (gameController == null || spectating) {
+            return;
+        }
+        LiveStats stats = gameController.getLiveStats();
+        if (isGameOver.get()) {
+            if (!summaryShown) {
+                summaryShown = true;
+                StatsSummary summary = stats.summarize(now);
+                gameOverPanel.showSummary(String.format(Locale.ROOT,
+                        "%d pieces in %.0fs%nPPS %.2f  APM %.0f%nKPP %.2f  Finesse %d",
+                        summary.getPieces(), summary.getDurationMillis() / 1000.0, summary.getPiecesPerSecond(),
+                        summary.getActionsPerMinute(), summary.getKeysPerPiece(), summary.getFinesseFaults()));
+            }
+            return;
+        }
+        if (isPause.get() || now - liveStatsShownAt < LIVE_STATS_REFRESH_NANOS) {
+            return;
+        }
+        liveStatsShownAt = now;
+        liveStatsLabel.setText(String.format(Locale.ROOT, "PPS %.2f  APM %.0f%nKPP %.2f  Finesse %d",
+                stats.getPiecesPerSecond(now), stats.getActionsPerMinute(now), stats.getKeysPerPiece(now),
+                stats.getFinesseFaults()));
     }
 
     /**
@@ -584,14 +883,41 @@ public class GuiController implements Initializable {
         undoStatusLabel.getStyleClass().add(undoReady ? "ability-ready" : "ability-locked");
     }
 
+    /**
+     * Shows one frame of a game played elsewhere, e.g. decoded from a spectator stream.
+     * The first frame sets up the board and puts the view in spectator mode: no timer
+     * runs and no game takes input. Call after {@link #setBoardGeometry}.
+     *
+     * @param boardMatrix the board
+     * @param brick the bricks; the first frame must have one, later frames may pass null
+     *              to leave them as they are
+     * @param gameOver whether the spectated game is over
+     */
+    public void showSpectatedFrame(int[][] boardMatrix, ViewData brick, boolean gameOver) {
+        if (displayMatrix == null) {
+            spectating = true;
+            initGameView(boardMatrix, brick);
+        }
+        refreshGameBackground(boardMatrix);
+        if (brick != null) {
+            refreshBrick(brick);
+        }
+        gameOverOverlay.setVisible(gameOver);
+    }
+
     /**
      * Refreshes the game board background with the current board state.
      * 
      * @param board the 2D array representing the current board state
      */
+    @Override
     public void refreshGameBackground(int[][] board) {
+        long start = System.nanoTime();
+        FrameRenderedEvent frame = GameEvents.beginFrame();
         this.currentBoardMatrix = board;
-        gameViewModel.updateBoard(displayMatrix, board);
+        int touched = gameViewModel.updateBoard(displayMatrix, board);
+        GameEvents.frameRendered(frame, "board", touched);
+        GameMetrics.get().recordRender(System.nanoTime() - start);
     }
 
     
@@ -604,59 +930,89 @@ public class GuiController implements Initializable {
      */
     private void moveDown(MoveEvent event) {
         if (isPause.getValue() == Boolean.FALSE) {
-            DownData downData = eventListener.onDownEvent(event);
-            int linesCleared = 0;
-            if (downData.getClearRow() != null && downData.getClearRow().getLinesRemoved() > 0) {
-                linesCleared = downData.getClearRow().getLinesRemoved();
-                // Update board matrix as lines were removed and blocks shifted
-                refreshGameBackground(downData.getClearRow().getNewMatrix());
-                
-                // Calculate final score with level multiplier for display
-                int baseScore = downData.getClearRow().getScoreBonus();
-                int finalScore = baseScore;
-                if (levelManager != null) {
-                    double multiplier = levelManager.getCurrentLevelConfig().getScoreMultiplier();
-                    finalScore = (int) (baseScore * multiplier);
-                }
-                NotificationPanel notificationPanel = new NotificationPanel("+" + finalScore);
-                groupNotification.getChildren().add(notificationPanel);
-                notificationPanel.showScore(groupNotification.getChildren());
-            }
-            // Trigger a brief shockwave and brick bounce visual when lines are cleared
-            if (linesCleared > 0) {
-                triggerShockwaveEffect();
-                triggerBrickBounceEffect();
-            }
-            refreshBrick(downData.getViewData());
-            refreshAbilityIndicators();
+            showDownData(eventListener.onDownEvent(event));
         }
         gamePanel.requestFocus();
     }
+
+    /**
+     * Runs one engine tick of gravity and lock delay, refreshing only when the brick
+     * fell or locked.
+     */
+    private void gravityTick() {
+        if (isPause.getValue() == Boolean.FALSE) {
+            DownData downData = gameController.onGravityTick();
+            if (downData != null) {
+                showDownData(downData);
+            }
+        }
+    }
+
+    /**
+     * Shows the result of a fall: cleared rows, score notification and the brick.
+     *
+     * @param downData the fall or landing result
+     */
+    private void showDownData(DownData downData) {
+        int linesCleared = 0;
+        if (downData.getClearRow() != null && downData.getClearRow().getLinesRemoved() > 0) {
+            linesCleared = downData.getClearRow().getLinesRemoved();
+            // Update board matrix as lines were removed and blocks shifted
+            refreshGameBackground(downData.getClearRow().getNewMatrix());
+        }
+        showLockScore(downData.getClearRow());
+        // Trigger a brief shockwave and brick bounce visual when lines are cleared
+        if (linesCleared > 0) {
+            triggerShockwaveEffect();
+            triggerBrickBounceEffect();
+        }
+        refreshBrick(downData.getViewData());
+        refreshAbilityIndicators();
+    }
     
+    /**
+     * Pops up the points a lock earned, already including the level multiplier,
+     * for any lock that cleared rows or spun.
+     *
+     * @param clearRow the landing's clear, or null if the brick only moved
+     */
+    private void showLockScore(ClearRow clearRow) {
+        if (clearRow == null || (clearRow.getLinesRemoved() == 0 && clearRow.getSpin() == SpinType.NONE)) {
+            return;
+        }
+        String label = switch (clearRow.getSpin()) {
+            case FULL -> "T-SPIN +";
+            case MINI -> "MINI T-SPIN +";
+            case NONE -> "+";
+        };
+        NotificationPanel notificationPanel = new NotificationPanel(label + clearRow.getScoreBonus());
+        groupNotification.getChildren().add(notificationPanel);
+        notificationPanel.showScore(groupNotification.getChildren());
+    }
+
     /**
      * Handles hard drop - instantly drops piece to ghost position.
      * Called when player presses SPACE bar.
      */
     private void handleHardDrop() {
+        handleHardDrop(EventSource.USER);
+    }
+
+    /**
+     * Hard drops the active brick for the given source and shows the landing.
+     *
+     * @param source who asked for the drop
+     */
+    private void handleHardDrop(EventSource source) {
         if (isPause.getValue() == Boolean.FALSE) {
-            DownData downData = eventListener.onHardDropEvent(new MoveEvent(EventType.HARD_DROP, EventSource.USER));
+            DownData downData = eventListener.onHardDropEvent(new MoveEvent(EventType.HARD_DROP, source));
             int linesCleared = 0;
             if (downData.getClearRow() != null && downData.getClearRow().getLinesRemoved() > 0) {
                 linesCleared = downData.getClearRow().getLinesRemoved();
                 // Update board matrix as lines were removed and blocks shifted
                 refreshGameBackground(downData.getClearRow().getNewMatrix());
-                
-                // Calculate final score with level multiplier for display
-                int baseScore = downData.getClearRow().getScoreBonus();
-                int finalScore = baseScore;
-                if (levelManager != null) {
-                    double multiplier = levelManager.getCurrentLevelConfig().getScoreMultiplier();
-                    finalScore = (int) (baseScore * multiplier);
-                }
-                NotificationPanel notificationPanel = new NotificationPanel("+" + finalScore);
-                groupNotification.getChildren().add(notificationPanel);
-                notificationPanel.showScore(groupNotification.getChildren());
             }
+            showLockScore(downData.getClearRow());
             // Hard drops also trigger the shockwave and brick bounce effects
             if (linesCleared > 0) {
                 triggerShockwaveEffect();
@@ -676,6 +1032,9 @@ public class GuiController implements Initializable {
         if (isPause.getValue() == Boolean.FALSE) {
             ViewData viewData = eventListener.onHoldEvent(new MoveEvent(EventType.HOLD, EventSource.USER));
             refreshBrick(viewData);
+            if (botPlayer != null) {
+                botPlayer.resync();
+            }
         }
         gamePanel.requestFocus();
     }
@@ -733,7 +1092,11 @@ public class GuiController implements Initializable {
         }
 
         UndoData undoData = gameController.undoLastMove();
+        GameEvents.undo(undoData.isPerformed());
         if (undoData.isPerformed()) {
+            if (botPlayer != null) {
+                botPlayer.resync();
+            }
             refreshGameBackground(undoData.getBoardMatrix());
             refreshBrick(undoData.getViewData());
 
@@ -751,6 +1114,7 @@ public class GuiController implements Initializable {
      * 
      * @param eventListener the listener to handle game input events
      */
+    @Override
     public void setEventListener(InputEventListener eventListener) {
         this.eventListener = eventListener;
         if (eventListener instanceof GameController controller) {
@@ -772,62 +1136,75 @@ public class GuiController implements Initializable {
                 () -> ThemeManager.getInstance().cycleTheme(), // T key - cycle theme
                 this::handleTimeSlow, // G key - slow time power
                 this::handleUndo, // U key - undo last move
+                this::toggleAutoPlay, // B key - bot autoplay
+                this::toggleHint, // H key - best move hint
                 this::refreshBrick // Refresh brick immediately after moves to fix latency
         );
     
-        gamePanel.setOnKeyPressed(inputHandler.build());
+        EventHandler<KeyEvent> keys = inputHandler.build();
+        gamePanel.setOnKeyPressed(keyEvent -> {
+            long start = System.nanoTime();
+            InputHandledEvent input = GameEvents.beginInput();
+            keys.handle(keyEvent);
+            GameEvents.inputHandled(input, keyEvent.getCode().getName());
+            GameMetrics.get().recordInput(System.nanoTime() - start);
+        });
         refreshAbilityIndicators();
     }
 
     /**
-     * Binds the score property to the score label using JavaFX property binding.
+     * Binds the score, level and high score labels to the game's counters through an
+     * {@link ObservableGameStats} adapter, and starts publishing them once per frame.
      * Implements the Observer pattern for automatic UI updates.
      * 
-     * @param integerProperty the score property to bind
+     * @param score the score counter
+     * @param linesTracker the lines counter (nullable)
+     * @param levelManager the level manager (nullable)
+     * @param highScoreManager the high score manager (nullable)
      */
-    public void bindScore(IntegerProperty integerProperty) {
-        if (scoreLabel != null) {
-            scoreLabel.textProperty().bind(
-                Bindings.createStringBinding(
-                    () -> "Score: " + integerProperty.getValue(),
-                    integerProperty
-                )
+    @Override
+    public void bindGameStats(Score score, LinesClearedTracker linesTracker, LevelManager levelManager,
+                              HighScoreManager highScoreManager) {
+        if (gameStats != null) {
+            gameStats.stop();
+        }
+        ObservableGameStats stats = new ObservableGameStats(score, linesTracker, levelManager, highScoreManager);
+        gameStats = stats;
+        bindLabel(scoreLabel, "Score: ", stats.scoreProperty());
+        bindLabel(levelLabel, "Level: ", stats.levelProperty());
+        bindLabel(highScoreLabel, "High Score: ", stats.highScoreProperty());
+        stats.start();
+    }
+
+    /**
+     * Binds a label's text to a prefix followed by an integer property's value.
+     */
+    private static void bindLabel(Label label, String prefix, ReadOnlyIntegerProperty property) {
+        if (label != null) {
+            label.textProperty().bind(
+                Bindings.createStringBinding(() -> prefix + property.get(), property)
             );
         }
     }
     
     /**
-     * Binds the level property to the level label.
+     * Sets the level manager used for drop speed and score multipliers.
      * 
-     * @param levelManager the level manager containing the level property
+     * @param levelManager the level manager
      */
+    @Override
     public void bindLevel(LevelManager levelManager) {
         this.levelManager = levelManager;
-        if (levelLabel != null && levelManager != null) {
-            levelLabel.textProperty().bind(
-                Bindings.createStringBinding(
-                    () -> "Level: " + levelManager.levelProperty().getValue(),
-                    levelManager.levelProperty()
-                )
-            );
-        }
     }
     
     /**
-     * Binds the high score property to the high score label.
+     * Sets the high score manager consulted when the game ends.
      * 
-     * @param highScoreManager the high score manager containing the high score property
+     * @param highScoreManager the high score manager
      */
+    @Override
     public void bindHighScore(HighScoreManager highScoreManager) {
         this.highScoreManager = highScoreManager;
-        if (highScoreLabel != null && highScoreManager != null) {
-            highScoreLabel.textProperty().bind(
-                Bindings.createStringBinding(
-                    () -> "High Score: " + highScoreManager.highScoreProperty().getValue(),
-                    highScoreManager.highScoreProperty()
-                )
-            );
-        }
     }
     
     /**
@@ -836,6 +1213,7 @@ public class GuiController implements Initializable {
      * 
      * @param newLevel the new level number
      */
+    @Override
     public void onLevelUp(int newLevel) {
         // Show level-up notification
         NotificationPanel notificationPanel = new NotificationPanel("LEVEL " + newLevel + "!");
@@ -850,6 +1228,7 @@ public class GuiController implements Initializable {
      * Handles game over state by stopping the timer, showing the game over panel,
      * and checking for new high scores.
      */
+    @Override
     public void gameOver() {
         gameTimer.stop();
         if (timeSlowTimer != null) {
@@ -863,12 +1242,14 @@ public class GuiController implements Initializable {
             pausePanel = null;
         }
         
-        // Check for new high score
-        if (highScoreManager != null && highScoreManager.isNewHighScore()) {
-            NotificationPanel notificationPanel = new NotificationPanel("NEW HIGH SCORE!");
-            groupNotification.getChildren().add(notificationPanel);
-            notificationPanel.showScore(groupNotification.getChildren());
-            highScoreManager.onGameEnd(); // Save high score
+        // Check for new high score, then record the game on the leaderboard
+        if (highScoreManager != null) {
+            if (highScoreManager.checkHighScore()) {
+                NotificationPanel notificationPanel = new NotificationPanel("NEW HIGH SCORE!");
+                groupNotification.getChildren().add(notificationPanel);
+                notificationPanel.showScore(groupNotification.getChildren());
+            }
+            highScoreManager.onGameEnd(); // Saved in the background
         }
         
         // Show gray overlay and game over panel
@@ -876,6 +1257,7 @@ public class GuiController implements Initializable {
         gameOverPanel.setVisible(true);
         isGameOver.setValue(Boolean.TRUE);
         isPause.setValue(Boolean.FALSE); // Ensure not in pause state
+        requestHint(); // Cancels and hides the hint now that the game is over
         refreshAbilityIndicators();
 
     }
@@ -895,6 +1277,8 @@ public class GuiController implements Initializable {
         // Hide overlay and game over panel
         gameOverOverlay.setVisible(false);
         gameOverPanel.setVisible(false);
+        gameOverPanel.showSummary(null);
+        summaryShown = false;
         
         // Clear pause panel if it exists
         if (pausePanel != null) {
@@ -902,14 +1286,47 @@ public class GuiController implements Initializable {
         }
         
         eventListener.createNewGame();
+        if (botPlayer != null) {
+            botPlayer.resync();
+        }
         gamePanel.requestFocus();
         startTimerWithCurrentLevelSpeed();
         isPause.setValue(Boolean.FALSE);
         isGameOver.setValue(Boolean.FALSE);
+        requestHint();
         refreshAbilityIndicators();
 
     }
 
+    /**
+     * Shows a game restored from a save, repainting the board and active brick
+     * and restarting the timer at the restored level's speed.
+     *
+     * @param boardMatrix the restored board matrix
+     * @param brick the restored view data
+     */
+    @Override
+    public void showRestoredGame(int[][] boardMatrix, ViewData brick) {
+        if (botPlayer != null) {
+            botPlayer.resync();
+        }
+        refreshGameBackground(boardMatrix);
+        refreshBrick(brick);
+        if (isPause.getValue() == Boolean.FALSE && isGameOver.getValue() == Boolean.FALSE) {
+            startTimerWithCurrentLevelSpeed();
+        }
+        refreshAbilityIndicators();
+    }
+
+    /**
+     * Checks whether the current game has ended.
+     *
+     * @return true if the game is over
+     */
+    public boolean isGameOver() {
+        return isGameOver.getValue();
+    }
+
     /**
      * Handles pause game action by restoring focus to the game panel.
      * 
@@ -919,6 +1336,60 @@ public class GuiController implements Initializable {
         gamePanel.requestFocus();
     }
     
+    /**
+     * Turns bot autoplay (demo mode) on or off.
+     * While on, the game timer feeds the bot's inputs through the same handlers
+     * as key presses instead of applying gravity. The bot searches on its own worker
+     * thread, like hints, so the JavaFX Application Thread never waits for a plan.
+     */
+    private void toggleAutoPlay() {
+        if (botPlayer != null) {
+            botPlayer = null;
+            autoPlayWorker.shutdownNow();
+            autoPlayWorker = null;
+        } else if (gameController != null && gameController.getBoard() instanceof SimpleBoard simpleBoard) {
+            autoPlayWorker = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "autoplay-planner");
+                thread.setDaemon(true);
+                return thread;
+            });
+            botPlayer = new BotPlayer(eventListener, simpleBoard, new LookaheadSearch(HeuristicWeights.DEFAULT),
+                    autoPlayWorker);
+        } else {
+            return;
+        }
+        NotificationPanel notificationPanel = new NotificationPanel(botPlayer != null ? "AUTOPLAY ON" : "AUTOPLAY OFF");
+        groupNotification.getChildren().add(notificationPanel);
+        notificationPanel.showScore(groupNotification.getChildren());
+        if (isPause.getValue() == Boolean.FALSE && isGameOver.getValue() == Boolean.FALSE) {
+            startTimerWithCurrentLevelSpeed();
+        }
+        gamePanel.requestFocus();
+    }
+
+    /**
+     * Sends the bot's next input, routed through the same handlers as the matching key.
+     * Does nothing while the bot is still planning. The inputs are sent as
+     * {@link EventSource#THREAD} events, so they are not counted as the player's keys.
+     */
+    private void stepAutoPlay() {
+        if (isPause.getValue() == Boolean.TRUE || isGameOver.getValue() == Boolean.TRUE) {
+            return;
+        }
+        PlacementEnumerator.Move move = botPlayer.pollMove();
+        if (move == null) {
+            return;
+        }
+        switch (move) {
+            case LEFT -> refreshBrick(eventListener.onLeftEvent(new MoveEvent(EventType.LEFT, EventSource.THREAD)));
+            case RIGHT -> refreshBrick(eventListener.onRightEvent(new MoveEvent(EventType.RIGHT, EventSource.THREAD)));
+            case ROTATE -> refreshBrick(eventListener.onRotateEvent(new MoveEvent(EventType.ROTATE, EventSource.THREAD)));
+            case HOLD -> refreshBrick(eventListener.onHoldEvent(new MoveEvent(EventType.HOLD, EventSource.THREAD)));
+            case SOFT_DROP -> moveDown(new MoveEvent(EventType.DOWN, EventSource.THREAD));
+            case HARD_DROP -> handleHardDrop(EventSource.THREAD);
+        }
+    }
+
     /**
      * Toggles the pause state of the game.
      * Pauses or resumes the game timer and shows/hides the pause notification.
@@ -940,6 +1411,7 @@ public class GuiController implements Initializable {
             startTimerWithCurrentLevelSpeed();
             hidePauseNotification();
         }
+        requestHint();
     }
     
     /**
@@ -981,7 +1453,7 @@ public class GuiController implements Initializable {
         Rectangle[][] grid = new Rectangle[brickData.length][brickData[0].length];
         for (int i = 0; i < brickData.length; i++) {
             for (int j = 0; j < brickData[i].length; j++) {
-                Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
+                Rectangle rectangle = new Rectangle(gameViewModel.getCellSize(), gameViewModel.getCellSize());
                 if (isGhost) {
                     rectangle.setFill(ColorMapper.getGhostFillColor(brickData[i][j]));
                     rectangle.setArcHeight(9);
@@ -29,6 +29,8 @@ public final class InputHandler {
     private final Runnable onHoldRequested;
     private final Runnable onTimeSlowRequested;
     private final Runnable onUndoRequested;
+    private final Runnable onAutoPlayRequested;
+    private final Runnable onHintRequested;
     private final Consumer<ViewData> onBrickMoved;
 
     /**
@@ -45,6 +47,8 @@ public final class InputHandler {
      * @param onThemeToggleRequested callback for theme toggle requests (T key)
      * @param onTimeSlowRequested callback for time slow requests (G key)
      * @param onUndoRequested callback for undo requests (U key)
+     * @param onAutoPlayRequested callback for toggling bot autoplay (B key)
+     * @param onHintRequested callback for toggling best move hints (H key)
      * @param onBrickMoved callback to refresh brick after movement (accepts ViewData)
      */
     public InputHandler(InputEventListener eventListener,
@@ -58,6 +62,8 @@ public final class InputHandler {
                         Runnable onThemeToggleRequested,
                         Runnable onTimeSlowRequested,
                         Runnable onUndoRequested,
+                        Runnable onAutoPlayRequested,
+                        Runnable onHintRequested,
                         Consumer<ViewData> onBrickMoved) {
         this.eventListener = eventListener;
         this.isPause = isPause;
@@ -70,6 +76,8 @@ public final class InputHandler {
         this.onThemeToggleRequested = onThemeToggleRequested;
         this.onTimeSlowRequested = onTimeSlowRequested;
         this.onUndoRequested = onUndoRequested;
+        this.onAutoPlayRequested = onAutoPlayRequested;
+        this.onHintRequested = onHintRequested;
         this.onBrickMoved = onBrickMoved;
     }
 
@@ -96,6 +104,21 @@ public final class InputHandler {
                     onBrickMoved.accept(viewData);
                     keyEvent.consume();
                 }
+                if (keyEvent.getCode() == KeyCode.X) {
+                    ViewData viewData = eventListener.onRotateEvent(new MoveEvent(EventType.ROTATE_CLOCKWISE, EventSource.USER));
+                    onBrickMoved.accept(viewData);
+                    keyEvent.consume();
+                }
+                if (keyEvent.getCode() == KeyCode.Z) {
+                    ViewData viewData = eventListener.onRotateEvent(new MoveEvent(EventType.ROTATE_COUNTER_CLOCKWISE, EventSource.USER));
+                    onBrickMoved.accept(viewData);
+                    keyEvent.consume();
+                }
+                if (keyEvent.getCode() == KeyCode.Q) {
+                    ViewData viewData = eventListener.onRotateEvent(new MoveEvent(EventType.ROTATE_180, EventSource.USER));
+                    onBrickMoved.accept(viewData);
+                    keyEvent.consume();
+                }
                 if (keyEvent.getCode() == KeyCode.DOWN || keyEvent.getCode() == KeyCode.S) {
                     onSoftDropRequested.run();
                     keyEvent.consume();
@@ -129,6 +152,14 @@ public final class InputHandler {
                 onThemeToggleRequested.run();
                 keyEvent.consume();
             }
+            if (keyEvent.getCode() == KeyCode.B) {
+                onAutoPlayRequested.run();
+                keyEvent.consume();
+            }
+            if (keyEvent.getCode() == KeyCode.H) {
+                onHintRequested.run();
+                keyEvent.consume();
+            }
         };
     }
 }
@@ -13,9 +13,12 @@ import javafx.scene.layout.VBox;
 public class MainMenuPanel extends BorderPane {
 
     private final Button startGameButton;
+    private final Button resumeGameButton;
     private final Button controlsButton;
+    private final Button versusButton;
+    private final Button botMatchButton;
 
-    /** Creates the main menu with start and controls options. */
+    /** Creates the main menu with start, versus and controls options. */
     public MainMenuPanel() {
         // Set background style
         getStyleClass().add("main-menu-background");
@@ -29,12 +32,23 @@ public class MainMenuPanel extends BorderPane {
         startGameButton = new Button("Start Game");
         startGameButton.getStyleClass().add("game-button");
 
+        resumeGameButton = new Button("Resume Game");
+        resumeGameButton.getStyleClass().add("game-button");
+        setResumeAvailable(false);
+
+        versusButton = new Button("Versus Bot");
+        versusButton.getStyleClass().add("game-button");
+
+        botMatchButton = new Button("Bot vs Bot");
+        botMatchButton.getStyleClass().add("game-button");
+
         controlsButton = new Button("Controls");
         controlsButton.getStyleClass().add("game-button");
 
         VBox content = new VBox(20);
         content.setAlignment(Pos.CENTER);
-        content.getChildren().addAll(titleLabel, subtitleLabel, startGameButton, controlsButton);
+        content.getChildren().addAll(titleLabel, subtitleLabel, resumeGameButton, startGameButton,
+                versusButton, botMatchButton, controlsButton);
 
         setCenter(content);
     }
@@ -48,6 +62,43 @@ public class MainMenuPanel extends BorderPane {
         return startGameButton;
     }
 
+    /**
+     * Gets the resume game button for event binding.
+     *
+     * @return the resume game button
+     */
+    public Button getResumeGameButton() {
+        return resumeGameButton;
+    }
+
+    /**
+     * Shows or hides the resume button depending on whether a saved game exists.
+     *
+     * @param available true if a saved game can be resumed
+     */
+    public void setResumeAvailable(boolean available) {
+        resumeGameButton.setVisible(available);
+        resumeGameButton.setManaged(available);
+    }
+
+    /**
+     * Gets the button starting a match against a bot.
+     *
+     * @return the versus button
+     */
+    public Button getVersusButton() {
+        return versusButton;
+    }
+
+    /**
+     * Gets the button starting a match between two bots.
+     *
+     * @return the bot match button
+     */
+    public Button getBotMatchButton() {
+        return botMatchButton;
+    }
+
     /**
      * Gets the controls button for event binding.
      *
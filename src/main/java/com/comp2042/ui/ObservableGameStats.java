@@ -0,0 +1,132 @@
+package com.comp2042.ui;
+
+import com.comp2042.game.level.LevelManager;
+import com.comp2042.game.level.LinesClearedTracker;
+import com.comp2042.game.score.HighScoreManager;
+import com.comp2042.game.score.Score;
+import javafx.animation.AnimationTimer;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
+
+/**
+ * Observable adapter over the engine's primitive score, lines and level counters.
+ * The engine updates plain ints on every scoring event; this adapter copies them into
+ * JavaFX properties at most once per rendered frame, so UI bindings see each change
+ * without the engine paying for property notifications on every increment.
+ * High score detection also runs here, once per frame, through
+ * {@link HighScoreManager#checkHighScore()}.
+ *
+ * Implements the Adapter pattern between the engine and the Observer-based UI bindings.
+ */
+public final class ObservableGameStats {
+
+    private final Score score;
+    private final LinesClearedTracker linesTracker;
+    private final LevelManager levelManager;
+    private final HighScoreManager highScoreManager;
+
+    private final ReadOnlyIntegerWrapper scoreValue = new ReadOnlyIntegerWrapper();
+    private final ReadOnlyIntegerWrapper linesValue = new ReadOnlyIntegerWrapper();
+    private final ReadOnlyIntegerWrapper levelValue = new ReadOnlyIntegerWrapper(1);
+    private final ReadOnlyIntegerWrapper highScoreValue = new ReadOnlyIntegerWrapper();
+
+    private AnimationTimer frameTimer;
+
+    /**
+     * Creates an adapter over the given counters and publishes their current values.
+     *
+     * @param score the score counter
+     * @param linesTracker the lines counter (nullable)
+     * @param levelManager the level manager (nullable)
+     * @param highScoreManager the high score manager (nullable)
+     */
+    public ObservableGameStats(Score score, LinesClearedTracker linesTracker,
+                               LevelManager levelManager, HighScoreManager highScoreManager) {
+        this.score = score;
+        this.linesTracker = linesTracker;
+        this.levelManager = levelManager;
+        this.highScoreManager = highScoreManager;
+        publish();
+    }
+
+    /**
+     * Copies the current counter values into the observable properties.
+     * Properties only notify listeners when their value actually changed.
+     * Called every frame once {@link #start()} has been called, and may be called
+     * directly to publish immediately (for example after restoring a game).
+     */
+    public void publish() {
+        scoreValue.set(score.get());
+        if (linesTracker != null) {
+            linesValue.set(linesTracker.getTotalLines());
+        }
+        if (levelManager != null) {
+            levelValue.set(levelManager.getCurrentLevel());
+        }
+        if (highScoreManager != null) {
+            highScoreManager.checkHighScore();
+            highScoreValue.set(highScoreManager.getHighScore());
+        }
+    }
+
+    /**
+     * Starts publishing once per JavaFX pulse. Must be called on the JavaFX Application Thread.
+     */
+    public void start() {
+        if (frameTimer == null) {
+            frameTimer = new AnimationTimer() {
+                @Override
+                public void handle(long now) {
+                    publish();
+                }
+            };
+        }
+        frameTimer.start();
+    }
+
+    /**
+     * Stops per-frame publishing after publishing the final values.
+     */
+    public void stop() {
+        if (frameTimer != null) {
+            frameTimer.stop();
+        }
+        publish();
+    }
+
+    /**
+     * Returns the published score for binding.
+     *
+     * @return the score property
+     */
+    public ReadOnlyIntegerProperty scoreProperty() {
+        return scoreValue.getReadOnlyProperty();
+    }
+
+    /**
+     * Returns the published total lines cleared for binding.
+     *
+     * @return the lines property
+     */
+    public ReadOnlyIntegerProperty linesProperty() {
+        return linesValue.getReadOnlyProperty();
+    }
+
+    /**
+     * Returns the published level for binding.
+     *
+     * @return the level property
+     */
+    public ReadOnlyIntegerProperty levelProperty() {
+        return levelValue.getReadOnlyProperty();
+    }
+
+    /**
+     * Returns the published high score for binding.
+     *
+     * @return the high score property
+     */
+    public ReadOnlyIntegerProperty highScoreProperty() {
+        return highScoreValue.getReadOnlyProperty();
+    }
+}
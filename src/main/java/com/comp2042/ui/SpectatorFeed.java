@@ -0,0 +1,121 @@
+package com.comp2042.ui;
+
+import com.comp2042.game.level.DefaultLevelStrategy;
+import com.comp2042.game.level.LevelManager;
+import com.comp2042.game.level.LinesClearedTracker;
+import com.comp2042.game.score.Score;
+import com.comp2042.game.spectate.DeltaFrameDecoder;
+import com.comp2042.game.spectate.FrameReader;
+import javafx.animation.AnimationTimer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Plays a spectator stream on a {@link GuiController}. A background thread reads
+ * frames from the socket or recording; once per rendered frame the JavaFX thread
+ * decodes whatever arrived and shows the result, so a burst of frames costs one
+ * repaint. Recordings are replayed at the pace they were recorded.
+ */
+public final class SpectatorFeed {
+
+    private final GuiController view;
+    private final DeltaFrameDecoder decoder;
+    private final FrameReader reader;
+    private final boolean paced;
+    private final Queue<byte[]> frames = new ConcurrentLinkedQueue<>();
+    private final Score score = new Score();
+    private final LinesClearedTracker linesTracker = new LinesClearedTracker();
+    private final LevelManager levelManager = new LevelManager(linesTracker, new DefaultLevelStrategy());
+    private final AnimationTimer timer;
+    private volatile boolean running;
+
+    /**
+     * Creates a feed. The decoder must already hold a keyframe, so the view can be
+     * sized for the board before the feed starts.
+     *
+     * @param view the view to draw on, sized for the stream's board
+     * @param decoder the decoder, holding at least one keyframe
+     * @param reader the stream's remaining frames
+     * @param paced true to wait out each frame's recorded time (for recordings),
+     *              false to show frames as they arrive (for live streams)
+     */
+    public SpectatorFeed(GuiController view, DeltaFrameDecoder decoder, FrameReader reader, boolean paced) {
+        this.view = view;
+        this.decoder = decoder;
+        this.reader = reader;
+        this.paced = paced;
+        this.timer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                showArrivedFrames();
+            }
+        };
+    }
+
+    /**
+     * Shows the decoder's current frame and starts following the stream.
+     * Must be called on the JavaFX Application Thread.
+     */
+    public void start() {
+        running = true;
+        show();
+        view.bindGameStats(score, linesTracker, levelManager, null);
+        Thread thread = new Thread(this::readFrames, "spectator-reader");
+        thread.setDaemon(true);
+        thread.start();
+        timer.start();
+    }
+
+    /**
+     * Stops following the stream.
+     */
+    public void stop() {
+        running = false;
+        timer.stop();
+    }
+
+    private void readFrames() {
+        try {
+            ByteBuffer frame;
+            while (running && (frame = reader.next()) != null) {
+                if (paced) {
+                    Thread.sleep(frame.getShort(1) & 0xFFFF);
+                }
+                byte[] copy = new byte[frame.remaining()];
+                frame.get(copy);
+                frames.add(copy);
+            }
+        } catch (IOException e) {
+            System.err.println("Spectator stream ended: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void showArrivedFrames() {
+        boolean changed = false;
+        byte[] frame;
+        while ((frame = frames.poll()) != null) {
+            try {
+                changed |= decoder.apply(ByteBuffer.wrap(frame));
+            } catch (IllegalArgumentException e) {
+                System.err.println("Bad spectator frame: " + e.getMessage());
+                stop();
+                return;
+            }
+        }
+        if (changed) {
+            show();
+        }
+    }
+
+    private void show() {
+        score.set(decoder.getScore());
+        linesTracker.setTotalLines(decoder.getLines());
+        levelManager.setLevel(Math.max(1, decoder.getLevel()));
+        view.showSpectatedFrame(decoder.getBoardMatrix(), decoder.getViewData(), decoder.isGameOver());
+    }
+}
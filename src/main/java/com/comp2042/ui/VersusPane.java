@@ -0,0 +1,191 @@
+package com.comp2042.ui;
+
+import com.comp2042.game.board.BoardGeometry;
+import com.comp2042.game.board.SimpleBoard;
+import com.comp2042.game.controller.GameController;
+import com.comp2042.game.events.EventSource;
+import com.comp2042.game.events.EventType;
+import com.comp2042.game.events.MoveEvent;
+import com.comp2042.game.versus.VersusMatch;
+import com.comp2042.game.versus.VersusPlayer;
+import com.comp2042.ui.theme.ThemeManager;
+import javafx.animation.AnimationTimer;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
+import javafx.scene.layout.BorderPane;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.StackPane;
+import javafx.scene.layout.VBox;
+
+import java.util.List;
+
+/**
+ * Window content for a {@link VersusMatch}: every board side by side, each drawn on
+ * one {@link BoardCanvas}, with garbage counters underneath. A single animation timer
+ * advances the match and redraws the boards once per frame. The first human player,
+ * if any, plays with the usual keys.
+ */
+public final class VersusPane extends BorderPane {
+
+    private final VersusMatch match;
+    private final List<VersusPlayer> players;
+    private final BoardCanvas[] canvases;
+    private final Label[] statLabels;
+    private final int[][] shownStats;
+    private final VersusPlayer human;
+    private final Label resultLabel;
+    private final Button backButton;
+    private final AnimationTimer timer;
+
+    /**
+     * Creates the view for a match whose players have all joined.
+     *
+     * @param match the match
+     * @param geometry the geometry shared by the boards
+     */
+    public VersusPane(VersusMatch match, BoardGeometry geometry) {
+        this.match = match;
+        this.players = match.getPlayers();
+        getStyleClass().add("main-menu-background");
+
+        int cellSize = GameViewModel.forGeometry(geometry).getCellSize();
+        canvases = new BoardCanvas[players.size()];
+        statLabels = new Label[players.size()];
+        shownStats = new int[players.size()][4];
+        HBox boards = new HBox(24);
+        boards.setAlignment(Pos.CENTER);
+        VersusPlayer firstHuman = null;
+        for (int i = 0; i < players.size(); i++) {
+            VersusPlayer player = players.get(i);
+            if (firstHuman == null && !player.isBot()) {
+                firstHuman = player;
+            }
+            Label nameLabel = new Label(player.getName());
+            nameLabel.getStyleClass().add("score-label");
+            canvases[i] = new BoardCanvas(geometry, cellSize);
+            StackPane frame = new StackPane(canvases[i]);
+            frame.getStyleClass().add("gameBoard");
+            statLabels[i] = new Label();
+            shownStats[i][0] = -1; // Forces the first update
+            statLabels[i].getStyleClass().add("score-label");
+            VBox column = new VBox(8, nameLabel, frame, statLabels[i]);
+            column.setAlignment(Pos.TOP_CENTER);
+            boards.getChildren().add(column);
+        }
+        human = firstHuman;
+
+        resultLabel = new Label();
+        resultLabel.getStyleClass().add("gameOverStyle");
+        backButton = new Button("Menu");
+        backButton.getStyleClass().add("game-button");
+        backButton.setFocusTraversable(false);
+        HBox footer = new HBox(20, resultLabel, backButton);
+        footer.setAlignment(Pos.CENTER);
+
+        setPadding(new Insets(16));
+        setCenter(boards);
+        setBottom(footer);
+        BorderPane.setMargin(footer, new Insets(12, 0, 0, 0));
+
+        setFocusTraversable(true);
+        setOnKeyPressed(this::onKeyPressed);
+        ThemeManager.getInstance().currentThemeProperty().addListener((obs, oldTheme, newTheme) -> {
+            for (BoardCanvas canvas : canvases) {
+                canvas.invalidate();
+            }
+        });
+
+        timer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                match.advanceTo(now);
+                render();
+            }
+        };
+    }
+
+    /**
+     * Gets the button returning to the menu.
+     *
+     * @return the menu button
+     */
+    public Button getBackButton() {
+        return backButton;
+    }
+
+    /**
+     * Starts the match clocks and the frame timer.
+     */
+    public void start() {
+        match.start(System.nanoTime());
+        render();
+        timer.start();
+        requestFocus();
+    }
+
+    /**
+     * Stops the frame timer, freezing the match.
+     */
+    public void stop() {
+        timer.stop();
+    }
+
+    private void render() {
+        for (int i = 0; i < players.size(); i++) {
+            VersusPlayer player = players.get(i);
+            SimpleBoard board = player.getBoard();
+            canvases[i].render(board.getBoardMatrix(), player.isOut() ? null : board.getViewData());
+            updateStats(i, player);
+        }
+        if (match.isOver() && resultLabel.getText().isEmpty()) {
+            VersusPlayer winner = match.getWinner();
+            resultLabel.setText(winner != null ? winner.getName().toUpperCase() + " WINS" : "DRAW");
+            timer.stop();
+        }
+    }
+
+    private void updateStats(int index, VersusPlayer player) {
+        int[] shown = shownStats[index];
+        int score = player.getBoard().getScore().get();
+        int out = player.isOut() ? 1 : 0;
+        if (shown[0] == score && shown[1] == player.getLinesSent()
+                && shown[2] == player.getPendingGarbage() && shown[3] == out) {
+            return;
+        }
+        shown[0] = score;
+        shown[1] = player.getLinesSent();
+        shown[2] = player.getPendingGarbage();
+        shown[3] = out;
+        statLabels[index].setText(player.isOut()
+                ? "OUT  Sent " + shown[1]
+                : "Score " + score + "  Sent " + shown[1] + "  Incoming " + shown[2]);
+    }
+
+    private void onKeyPressed(KeyEvent keyEvent) {
+        if (human == null || human.isOut() || match.isOver()) {
+            return;
+        }
+        GameController controller = human.getController();
+        KeyCode code = keyEvent.getCode();
+        switch (code) {
+            case LEFT, A -> controller.onLeftEvent(new MoveEvent(EventType.LEFT, EventSource.USER));
+            case RIGHT, D -> controller.onRightEvent(new MoveEvent(EventType.RIGHT, EventSource.USER));
+            case UP, W -> controller.onRotateEvent(new MoveEvent(EventType.ROTATE, EventSource.USER));
+            case X -> controller.onRotateEvent(new MoveEvent(EventType.ROTATE_CLOCKWISE, EventSource.USER));
+            case Z -> controller.onRotateEvent(new MoveEvent(EventType.ROTATE_COUNTER_CLOCKWISE, EventSource.USER));
+            case Q -> controller.onRotateEvent(new MoveEvent(EventType.ROTATE_180, EventSource.USER));
+            case DOWN, S -> controller.onDownEvent(new MoveEvent(EventType.DOWN, EventSource.USER));
+            case SPACE -> controller.onHardDropEvent(new MoveEvent(EventType.HARD_DROP, EventSource.USER));
+            case C -> controller.onHoldEvent(new MoveEvent(EventType.HOLD, EventSource.USER));
+            default -> {
+                return;
+            }
+        }
+        keyEvent.consume();
+        match.checkToppedOut();
+    }
+}
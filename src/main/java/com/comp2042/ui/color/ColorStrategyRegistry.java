@@ -25,6 +25,7 @@ public class ColorStrategyRegistry {
         register(new RedColorStrategy());
         register(new BeigeColorStrategy());
         register(new BurlyWoodColorStrategy());
+        register(new GrayColorStrategy());
     }
     
     private static void register(ColorStrategy strategy) {
@@ -0,0 +1,24 @@
+package com.comp2042.ui.color;
+
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+
+/**
+ * Strategy for gray color (code 8), used for garbage rows in versus play.
+ * Implements ColorStrategy interface following Strategy pattern.
+ */
+public class GrayColorStrategy implements ColorStrategy {
+
+    /** Creates a Gray color strategy. */
+    public GrayColorStrategy() { }
+
+    @Override
+    public Paint getColor() {
+        return Color.GRAY;
+    }
+    
+    @Override
+    public int getColorCode() {
+        return 8;
+    }
+}
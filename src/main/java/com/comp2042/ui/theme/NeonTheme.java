@@ -32,6 +32,7 @@ public class NeonTheme implements Theme {
             case 5 -> Color.RED;
             case 6 -> Color.ORANGE;
             case 7 -> Color.PURPLE;
+            case 8 -> Color.DIMGRAY;
             default -> Color.TRANSPARENT; // Only empty cells (0) are transparent
         };
     }
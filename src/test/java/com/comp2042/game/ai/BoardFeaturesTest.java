@@ -0,0 +1,125 @@
+package com.comp2042.game.ai;
+
+import com.comp2042.game.bricks.BrickType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoardFeaturesTest {
+
+    @Test
+    void loadComputesFeaturesOfSmallBoard() {
+        // Columns 0..3; row 0 at the top
+        int[][] board = {
+            {0, 0, 0, 0},
+            {1, 0, 0, 0},
+            {1, 0, 1, 0},
+            {1, 1, 1, 0},
+        };
+        BoardFeatures features = new BoardFeatures(4, 4);
+        features.load(board);
+
+        assertEquals(3 + 1 + 2 + 0, features.getAggregateHeight());
+        assertEquals(0, features.getHoles());
+        assertEquals(2 + 1 + 2, features.getBumpiness());
+        // Column 1 is a well of depth 1 and column 3 a well of depth 2 against the wall
+        assertEquals(1 + (1 + 2), features.getWells());
+    }
+
+    @Test
+    void holesCountCoveredEmptyCells() {
+        int[][] board = {
+            {0, 0, 0},
+            {1, 0, 0},
+            {0, 0, 0},
+            {1, 0, 0},
+        };
+        BoardFeatures features = new BoardFeatures(4, 3);
+        features.load(board);
+
+        assertEquals(1, features.getHoles());
+        assertEquals(3, features.getHeight(0));
+    }
+
+    @Test
+    void incrementalPlacementMatchesFullRebuild() {
+        Random random = new Random(3);
+        int rows = 20;
+        int cols = 10;
+        int[][] board = new int[rows][cols];
+        BoardFeatures incremental = new BoardFeatures(rows, cols);
+        BoardFeatures rebuilt = new BoardFeatures(rows, cols);
+        PlacementEnumerator enumerator = new PlacementEnumerator();
+
+        for (int piece = 0; piece < 300; piece++) {
+            BrickType type = BrickType.values()[random.nextInt(BrickType.values().length)];
+            int count = enumerator.enumerate(board, type.create(), 0, 4, 0);
+            if (count == 0) {
+                board = new int[rows][cols];
+                incremental.load(board);
+                continue;
+            }
+            int choice = random.nextInt(count);
+            List<int[][]> shapes = type.create().getShapeMatrix();
+            int[][] shape = shapes.get(enumerator.getRotation(choice));
+            int lines = incremental.place(shape, enumerator.getX(choice), enumerator.getY(choice));
+            board = lockAndClear(board, shape, enumerator.getX(choice), enumerator.getY(choice));
+
+            rebuilt.load(board);
+            assertEquals(rebuilt.getAggregateHeight(), incremental.getAggregateHeight());
+            assertEquals(rebuilt.getHoles(), incremental.getHoles());
+            assertEquals(rebuilt.getBumpiness(), incremental.getBumpiness());
+            assertEquals(rebuilt.getRowTransitions(), incremental.getRowTransitions());
+            assertEquals(rebuilt.getColumnTransitions(), incremental.getColumnTransitions());
+            assertEquals(rebuilt.getWells(), incremental.getWells());
+            assertEquals(lines, incremental.getLinesCleared());
+            assertEquals(rebuilt.getHash(), incremental.getHash());
+        }
+    }
+
+    @Test
+    void hashDependsOnlyOnTheBoard() {
+        int[][] vertical = BrickType.I.create().getShapeMatrix().get(1);
+        BoardFeatures leftFirst = new BoardFeatures(20, 10);
+        BoardFeatures rightFirst = new BoardFeatures(20, 10);
+
+        leftFirst.place(vertical, 0, 16);
+        leftFirst.place(vertical, 3, 16);
+        rightFirst.place(vertical, 3, 16);
+        rightFirst.place(vertical, 0, 16);
+
+        assertEquals(leftFirst.getHash(), rightFirst.getHash());
+        assertNotEquals(new BoardFeatures(20, 10).getHash(), leftFirst.getHash());
+    }
+
+    @Test
+    void rejectsBoardsWiderThanRowMasks() {
+        assertThrows(IllegalArgumentException.class, () -> new BoardFeatures(20, BoardFeatures.MAX_COLUMNS + 1));
+    }
+
+    private static int[][] lockAndClear(int[][] board, int[][] shape, int x, int y) {
+        for (int r = 0; r < shape.length; r++) {
+            for (int c = 0; c < shape[r].length; c++) {
+                if (shape[r][c] != 0) {
+                    board[y + r][x + c] = shape[r][c];
+                }
+            }
+        }
+        int rows = board.length;
+        int[][] result = new int[rows][board[0].length];
+        int write = rows - 1;
+        for (int r = rows - 1; r >= 0; r--) {
+            boolean full = true;
+            for (int cell : board[r]) {
+                full &= cell != 0;
+            }
+            if (!full) {
+                result[write--] = board[r].clone();
+            }
+        }
+        return result;
+    }
+}
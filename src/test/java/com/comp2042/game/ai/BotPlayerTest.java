@@ -0,0 +1,147 @@
+package com.comp2042.game.ai;
+
+import com.comp2042.game.board.BoardGeometry;
+import com.comp2042.game.board.SimpleBoard;
+import com.comp2042.game.bricks.RandomBrickGenerator;
+import com.comp2042.game.controller.GameController;
+import com.comp2042.game.controller.HeadlessGameView;
+import com.comp2042.game.events.EventSource;
+import com.comp2042.game.events.EventType;
+import com.comp2042.game.events.MoveEvent;
+import com.comp2042.game.operations.SrsRotationSystem;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.comp2042.game.ai.PlacementEnumerator.Move.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BotPlayerTest {
+
+    /** Plans a fixed path and remembers the boards it was asked about. */
+    private static final class ScriptedPlanner implements MovePlanner {
+        final List<SimpleBoard> planned = new ArrayList<>();
+        List<PlacementEnumerator.Move> path = List.of(LEFT, LEFT, HARD_DROP);
+
+        @Override
+        public PlacementDecision plan(BoardFeatures features, SimpleBoard board) {
+            planned.add(board);
+            if (path == null) {
+                return null;
+            }
+            return new PlacementDecision(board.getCurrentBrick(), 0, 0, 0, 0, path);
+        }
+    }
+
+    private SimpleBoard board;
+    private GameController controller;
+    private ScriptedPlanner planner;
+    private final List<Runnable> queued = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        board = new SimpleBoard(BoardGeometry.STANDARD, new RandomBrickGenerator(3), new SrsRotationSystem());
+        controller = new GameController(new HeadlessGameView(), board);
+        planner = new ScriptedPlanner();
+    }
+
+    private void runQueued() {
+        List<Runnable> tasks = new ArrayList<>(queued);
+        queued.clear();
+        tasks.forEach(Runnable::run);
+    }
+
+    @Test
+    void pollMoveOnlyHandsOutFinishedPlans() {
+        BotPlayer bot = new BotPlayer(controller, board, planner, queued::add);
+
+        assertNull(bot.pollMove());
+        assertNull(bot.pollMove());
+        assertEquals(1, queued.size(), "one plan in flight at a time");
+
+        runQueued();
+        assertEquals(LEFT, bot.pollMove());
+    }
+
+    @Test
+    void plansFromACopyOfThePosition() {
+        BotPlayer bot = new BotPlayer(controller, board, planner, queued::add);
+        bot.pollMove();
+        runQueued();
+
+        SimpleBoard copy = planner.planned.get(0);
+        assertNotSame(board, copy);
+        assertSame(board.getCurrentBrick(), copy.getCurrentBrick());
+        assertEquals(board.getCurrentOffset(), copy.getCurrentOffset());
+        assertEquals(board.getPreviewBricks(), copy.getPreviewBricks());
+    }
+
+    @Test
+    void brickLockedMidPlanIsPlannedAgain() {
+        BotPlayer bot = new BotPlayer(controller, board, planner, Runnable::run);
+        bot.perform(bot.pollMove());
+
+        // Gravity locks the brick before the plan is done
+        controller.onHardDropEvent(new MoveEvent(EventType.HARD_DROP, EventSource.THREAD));
+
+        assertEquals(LEFT, bot.pollMove());
+        assertEquals(2, planner.planned.size());
+    }
+
+    @Test
+    void refusedMoveIsPlannedAgain() {
+        BotPlayer bot = new BotPlayer(controller, board, planner, Runnable::run);
+        assertEquals(LEFT, bot.pollMove()); // Never performed, as if the board refused it
+
+        assertEquals(LEFT, bot.pollMove());
+        assertEquals(2, planner.planned.size());
+    }
+
+    @Test
+    void planKeepsGoingAfterItsOwnHold() {
+        planner.path = List.of(HOLD, LEFT, HARD_DROP);
+        BotPlayer bot = new BotPlayer(controller, board, planner, Runnable::run);
+
+        bot.perform(bot.pollMove());
+        bot.perform(bot.pollMove());
+        assertEquals(HARD_DROP, bot.pollMove());
+        assertEquals(1, planner.planned.size());
+    }
+
+    @Test
+    void brickWithNowhereToGoIsDropped() {
+        planner.path = null;
+        BotPlayer bot = new BotPlayer(controller, board, planner, Runnable::run);
+
+        assertEquals(HARD_DROP, bot.pollMove());
+    }
+
+    @Test
+    void plansGetTheFeaturesTrackedFromEarlierLocks() {
+        MovePlanner heuristic = new HeuristicBot(HeuristicWeights.DEFAULT);
+        List<long[]> hashes = new ArrayList<>();
+        MovePlanner recording = (features, position) -> {
+            BoardFeatures reloaded = new BoardFeatures(features.getRows(), features.getColumns());
+            reloaded.load(position.getBoardMatrix());
+            hashes.add(new long[] {features.getHash(), reloaded.getHash()});
+            return heuristic.plan(features, position);
+        };
+        BotPlayer bot = new BotPlayer(controller, board, recording, queued::add);
+
+        for (int moves = 0; moves < 400; moves++) {
+            PlacementEnumerator.Move move = bot.pollMove();
+            if (move == null) {
+                runQueued();
+            } else {
+                bot.perform(move);
+            }
+        }
+
+        assertTrue(hashes.size() > 20, "planned " + hashes.size() + " bricks");
+        for (long[] pair : hashes) {
+            assertEquals(pair[1], pair[0], "features handed to the plan match the board");
+        }
+    }
+}
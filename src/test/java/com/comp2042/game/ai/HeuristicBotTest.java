@@ -0,0 +1,49 @@
+package com.comp2042.game.ai;
+
+import com.comp2042.game.bricks.BrickType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HeuristicBotTest {
+
+    @Test
+    void completesAnAlmostFullRow() {
+        int rows = 20;
+        int cols = 10;
+        int[][] board = new int[rows][cols];
+        for (int c = 0; c < cols - 1; c++) {
+            board[rows - 1][c] = 1;
+        }
+        BoardFeatures features = new BoardFeatures(rows, cols);
+        features.load(board);
+        HeuristicBot bot = new HeuristicBot(HeuristicWeights.DEFAULT);
+
+        PlacementDecision decision = bot.choose(features, board, BrickType.I.create(), 0, 4, 0);
+
+        assertNotNull(decision);
+        // Vertical I (rotation 1) in the last column, bottom cell on the last row
+        assertEquals(1, decision.getRotation());
+        assertEquals(PlacementEnumerator.Move.HARD_DROP, decision.getPath().get(decision.getPath().size() - 1));
+    }
+
+    @Test
+    void headlessGameClearsLinesAndIsReproducible() {
+        HeadlessBotRunner.Result first = HeadlessBotRunner.run(HeuristicWeights.DEFAULT, 1L, 300);
+        HeadlessBotRunner.Result second = HeadlessBotRunner.run(HeuristicWeights.DEFAULT, 1L, 300);
+
+        assertEquals(300, first.getPieces());
+        assertFalse(first.isToppedOut());
+        assertTrue(first.getLines() > 100, "Bot should clear most of the rows it fills");
+        assertEquals(first.getScore(), second.getScore());
+        assertEquals(first.getLines(), second.getLines());
+    }
+
+    @Test
+    void weightsRoundTripThroughArray() {
+        double[] array = HeuristicWeights.DEFAULT.toArray();
+
+        assertEquals(HeuristicWeights.DEFAULT, HeuristicWeights.fromArray(array));
+        assertThrows(IllegalArgumentException.class, () -> HeuristicWeights.fromArray(new double[2]));
+    }
+}
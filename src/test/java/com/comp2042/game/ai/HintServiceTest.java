@@ -0,0 +1,74 @@
+package com.comp2042.game.ai;
+
+import com.comp2042.game.bricks.BrickType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HintServiceTest {
+
+    @Test
+    void deliversHintOnCallbackExecutor() throws InterruptedException {
+        BlockingQueue<Runnable> callbacks = new LinkedBlockingQueue<>();
+        HintService service = new HintService(HeuristicWeights.DEFAULT, callbacks::add);
+        List<PlacementDecision> hints = new CopyOnWriteArrayList<>();
+        try {
+            service.request(new int[20][10], BrickType.T.create(), 0, 4, 0, hints::add);
+            Runnable callback = callbacks.poll(5, TimeUnit.SECONDS);
+            assertNotNull(callback, "Hint should be computed off the calling thread");
+            assertTrue(hints.isEmpty(), "Hint is only delivered through the callback executor");
+
+            callback.run();
+
+            assertEquals(1, hints.size());
+            assertNotNull(hints.get(0));
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    void newerRequestSupersedesOlderOne() throws InterruptedException {
+        BlockingQueue<Runnable> callbacks = new LinkedBlockingQueue<>();
+        HintService service = new HintService(HeuristicWeights.DEFAULT, callbacks::add);
+        List<PlacementDecision> hints = new CopyOnWriteArrayList<>();
+        try {
+            service.request(new int[20][10], BrickType.T.create(), 0, 4, 0, hints::add);
+            service.request(new int[20][10], BrickType.I.create(), 0, 4, 0, hints::add);
+            Runnable callback;
+            while ((callback = callbacks.poll(1, TimeUnit.SECONDS)) != null) {
+                callback.run();
+            }
+
+            assertEquals(1, hints.size());
+            assertEquals(BrickType.I.create().getClass(), hints.get(0).getBrick().getClass());
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    void cancelledRequestNeverCallsBack() throws InterruptedException {
+        BlockingQueue<Runnable> callbacks = new LinkedBlockingQueue<>();
+        HintService service = new HintService(HeuristicWeights.DEFAULT, callbacks::add);
+        List<PlacementDecision> hints = new CopyOnWriteArrayList<>();
+        try {
+            service.request(new int[20][10], BrickType.S.create(), 0, 4, 0, hints::add);
+            service.cancel();
+            Runnable callback;
+            while ((callback = callbacks.poll(500, TimeUnit.MILLISECONDS)) != null) {
+                callback.run();
+            }
+
+            assertTrue(hints.isEmpty());
+        } finally {
+            service.shutdown();
+        }
+    }
+}
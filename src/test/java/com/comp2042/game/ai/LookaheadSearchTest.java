@@ -0,0 +1,91 @@
+package com.comp2042.game.ai;
+
+import com.comp2042.game.bricks.BrickType;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LookaheadSearchTest {
+
+    private static final ForkJoinPool POOL = new ForkJoinPool(2);
+    private static final long NO_LIMIT = 60_000_000_000L;
+
+    @AfterAll
+    static void shutdownPool() {
+        POOL.shutdown();
+    }
+
+    private static BoardFeatures featuresOf(int[][] board) {
+        BoardFeatures features = new BoardFeatures(board.length, board[0].length);
+        features.load(board);
+        return features;
+    }
+
+    @Test
+    void withoutPreviewsMatchesSinglePieceBot() {
+        int[][] board = new int[20][10];
+        board[19][0] = 1;
+        board[19][1] = 1;
+        board[18][0] = 1;
+        BoardFeatures features = featuresOf(board);
+        LookaheadSearch search = new LookaheadSearch(HeuristicWeights.DEFAULT, POOL, 4, NO_LIMIT);
+
+        PlacementDecision deep = search.search(features, board, BrickType.T.create(), 0, 4, 0, null, List.of());
+        PlacementDecision greedy = new HeuristicBot(HeuristicWeights.DEFAULT)
+                .choose(features, board, BrickType.T.create(), 0, 4, 0);
+
+        assertEquals(greedy.getX(), deep.getX());
+        assertEquals(greedy.getY(), deep.getY());
+        assertEquals(greedy.getRotation(), deep.getRotation());
+        assertEquals(1, search.getCompletedDepth());
+    }
+
+    @Test
+    void swapsInHeldBrickThatClearsLines() {
+        int[][] board = new int[20][10];
+        for (int r = 16; r < 20; r++) {
+            for (int c = 0; c < 9; c++) {
+                board[r][c] = 1;
+            }
+        }
+        LookaheadSearch search = new LookaheadSearch(HeuristicWeights.DEFAULT, POOL, 4, NO_LIMIT);
+
+        PlacementDecision decision = search.search(featuresOf(board), board, BrickType.O.create(), 0, 4, 0,
+                BrickType.I.create(), List.of(BrickType.O.create()));
+
+        assertTrue(decision.usesHold());
+        assertEquals(BrickType.I.create().getClass(), decision.getBrick().getClass());
+        assertEquals(PlacementEnumerator.Move.HARD_DROP, decision.getPath().get(decision.getPath().size() - 1));
+        assertEquals(2, search.getCompletedDepth());
+    }
+
+    @Test
+    void expiredBudgetStillReturnsBestSoFar() {
+        int[][] board = new int[20][10];
+        LookaheadSearch search = new LookaheadSearch(HeuristicWeights.DEFAULT, POOL, 4, 0);
+
+        PlacementDecision decision = search.search(featuresOf(board), board, BrickType.S.create(), 0, 4, 0,
+                null, List.of(BrickType.Z.create(), BrickType.L.create()));
+
+        assertNotNull(decision);
+        assertEquals(1, search.getCompletedDepth());
+    }
+
+    @Test
+    void headlessGameWithLookaheadIsReproducible() {
+        LookaheadSearch search = new LookaheadSearch(HeuristicWeights.DEFAULT, POOL, 4, NO_LIMIT);
+
+        HeadlessBotRunner.Result first = HeadlessBotRunner.run(search, 3L, 200);
+        HeadlessBotRunner.Result second = HeadlessBotRunner.run(search, 3L, 200);
+
+        assertEquals(200, first.getPieces());
+        assertFalse(first.isToppedOut());
+        assertTrue(first.getLines() > 60);
+        assertEquals(first.getScore(), second.getScore());
+        assertEquals(2, search.getCompletedDepth());
+    }
+}
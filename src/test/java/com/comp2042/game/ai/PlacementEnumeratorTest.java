@@ -0,0 +1,152 @@
+package com.comp2042.game.ai;
+
+import com.comp2042.game.bricks.Brick;
+import com.comp2042.game.bricks.BrickType;
+import com.comp2042.game.operations.MatrixOperations;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlacementEnumeratorTest {
+
+    private static final int ROWS = 20;
+    private static final int COLS = 10;
+
+    private final PlacementEnumerator enumerator = new PlacementEnumerator();
+
+    @Test
+    void emptyBoardHasOnePlacementPerColumnAndRotation() {
+        int[][] board = new int[ROWS][COLS];
+        for (BrickType type : BrickType.values()) {
+            Brick brick = type.create();
+            int expected = 0;
+            List<int[][]> shapes = brick.getShapeMatrix();
+            for (int[][] shape : shapes) {
+                for (int x = -3; x < COLS; x++) {
+                    if (!MatrixOperations.intersect(board, shape, x, 0)) {
+                        expected++;
+                    }
+                }
+            }
+            assertEquals(expected, enumerator.enumerate(board, brick, 0, 4, 0), type.name());
+        }
+    }
+
+    @Test
+    void shortcutMatchesFullSearchOnBoardsWithoutHoles() {
+        Random random = new Random(7);
+        PlacementEnumerator full = new PlacementEnumerator();
+        full.setShortcutEnabled(false);
+        for (int trial = 0; trial < 50; trial++) {
+            int[][] board = new int[ROWS][COLS];
+            for (int c = 0; c < COLS; c++) {
+                int height = random.nextInt(10);
+                for (int r = ROWS - height; r < ROWS; r++) {
+                    board[r][c] = 1;
+                }
+            }
+            for (BrickType type : BrickType.values()) {
+                Brick brick = type.create();
+                enumerator.enumerate(board, brick, 0, 4, 0);
+                full.enumerate(board, brick, 0, 4, 0);
+                assertEquals(placements(full), placements(enumerator));
+            }
+        }
+    }
+
+    @Test
+    void findsTuckUnderOverhang() {
+        int[][] board = new int[ROWS][COLS];
+        for (int c = 0; c < 6; c++) {
+            board[ROWS - 3][c] = 1; // Roof over the bottom two rows of the left side
+        }
+        Brick brick = BrickType.O.create();
+
+        int count = enumerator.enumerate(board, brick, 0, 4, 0);
+
+        boolean tuckFound = false;
+        for (int i = 0; i < count; i++) {
+            // O cells sit at rows y+1 and y+2, so y = ROWS - 3 fills the two rows under the roof
+            if (enumerator.getY(i) == ROWS - 3 && enumerator.getX(i) < 4) {
+                assertTrue(enumerator.isTuck(i));
+                tuckFound = true;
+            }
+        }
+        assertTrue(tuckFound);
+    }
+
+    @Test
+    void pathsReachTheirPlacements() {
+        Random random = new Random(11);
+        for (int trial = 0; trial < 30; trial++) {
+            int[][] board = new int[ROWS][COLS];
+            for (int r = ROWS / 2; r < ROWS; r++) {
+                for (int c = 0; c < COLS; c++) {
+                    board[r][c] = random.nextInt(3) == 0 ? 1 : 0;
+                }
+            }
+            for (BrickType type : BrickType.values()) {
+                Brick brick = type.create();
+                int count = enumerator.enumerate(board, brick, 0, 4, 0);
+                for (int i = 0; i < count; i++) {
+                    int[] end = replay(board, brick.getShapeMatrix(), enumerator.getPath(i));
+                    assertArrayEquals(new int[]{enumerator.getX(i), enumerator.getY(i), enumerator.getRotation(i)}, end);
+                }
+            }
+        }
+    }
+
+    @Test
+    void collidingStartHasNoPlacements() {
+        int[][] board = new int[ROWS][COLS];
+        for (int c = 0; c < COLS; c++) {
+            board[1][c] = 1;
+            board[2][c] = 1;
+        }
+
+        assertEquals(0, enumerator.enumerate(board, BrickType.T.create(), 0, 4, 0));
+    }
+
+    private static Set<String> placements(PlacementEnumerator enumerator) {
+        Set<String> result = new HashSet<>();
+        for (int i = 0; i < enumerator.size(); i++) {
+            result.add(enumerator.getX(i) + "," + enumerator.getY(i) + "," + enumerator.getRotation(i));
+        }
+        return result;
+    }
+
+    /**
+     * Applies a path with the game's collision rules and returns the final x, y and rotation.
+     */
+    private static int[] replay(int[][] board, List<int[][]> shapes, List<PlacementEnumerator.Move> path) {
+        int x = 4;
+        int y = 0;
+        int rotation = 0;
+        for (PlacementEnumerator.Move move : path) {
+            int nx = x;
+            int ny = y;
+            int nr = rotation;
+            switch (move) {
+                case LEFT -> nx--;
+                case RIGHT -> nx++;
+                case SOFT_DROP -> ny++;
+                case ROTATE -> nr = (rotation + 1) % shapes.size();
+                case HARD_DROP -> {
+                    while (!MatrixOperations.intersect(board, shapes.get(rotation), x, ny + 1)) {
+                        ny++;
+                    }
+                }
+            }
+            assertFalse(MatrixOperations.intersect(board, shapes.get(nr), nx, ny), "Path move collides: " + move);
+            x = nx;
+            y = ny;
+            rotation = nr;
+        }
+        return new int[]{x, y, rotation};
+    }
+}
@@ -0,0 +1,82 @@
+package com.comp2042.game.ai;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TranspositionTableTest {
+
+    @Test
+    void storedEntryIsFoundByItsKey() {
+        TranspositionTable table = new TranspositionTable(64, 4);
+        TranspositionTable.Entry entry = new TranspositionTable.Entry();
+        long key = TranspositionTable.key(12345L, 1, TranspositionTable.NO_PIECE);
+
+        assertFalse(table.probe(key, entry));
+        table.store(key, 3, -42.5, -2, 17, 3);
+
+        assertTrue(table.probe(key, entry));
+        assertEquals(-42.5, entry.getValue());
+        assertEquals(3, entry.getDepth());
+        assertEquals(-2, entry.getX());
+        assertEquals(17, entry.getY());
+        assertEquals(3, entry.getRotation());
+        assertFalse(table.probe(TranspositionTable.key(12345L, 2, TranspositionTable.NO_PIECE), entry));
+        assertFalse(table.probe(TranspositionTable.key(12345L, 1, 4), entry));
+    }
+
+    @Test
+    void deepEntriesSurviveShallowStoresUntilTheyAge() {
+        // Two entries: a single bucket, so every key competes for the same slots
+        TranspositionTable table = new TranspositionTable(2, 1);
+        TranspositionTable.Entry entry = new TranspositionTable.Entry();
+        table.store(1L, 5, 1.0, 0, 0, 0);
+        table.store(2L, 1, 2.0, 0, 0, 0);
+        table.store(3L, 1, 3.0, 0, 0, 0);
+
+        assertTrue(table.probe(1L, entry), "Deep entry keeps the first slot");
+        assertFalse(table.probe(2L, entry), "Always-replace slot took the newer entry");
+        assertTrue(table.probe(3L, entry));
+
+        table.newSearch();
+        table.store(4L, 1, 4.0, 0, 0, 0);
+        assertFalse(table.probe(1L, entry), "Entries from an earlier search are replaced first");
+        assertTrue(table.probe(4L, entry));
+    }
+
+    @Test
+    void concurrentStoresNeverTearEntries() throws Exception {
+        TranspositionTable table = new TranspositionTable(1024, 8);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<?>[] futures = new Future<?>[4];
+            for (int t = 0; t < futures.length; t++) {
+                futures[t] = executor.submit(() -> {
+                    TranspositionTable.Entry entry = new TranspositionTable.Entry();
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < 200_000; i++) {
+                        long key = random.nextLong(4096);
+                        if (random.nextBoolean()) {
+                            table.store(key, (int) (key % 100), key * 0.5, (int) (key % 10), (int) (key % 25), 0);
+                        } else if (table.probe(key, entry)) {
+                            assertEquals(key * 0.5, entry.getValue());
+                            assertEquals(key % 100, entry.getDepth());
+                            assertEquals(key % 25, entry.getY());
+                        }
+                    }
+                });
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertTrue(table.getHitRatio() > 0);
+    }
+}
@@ -0,0 +1,64 @@
+package com.comp2042.game.ai;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeightTunerTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void resumedRunMatchesUninterruptedRun() throws IOException {
+        WeightTuner uninterrupted = new WeightTuner(4, 2, 60, 7L, null);
+        uninterrupted.run(2);
+
+        Path checkpoint = tempDir.resolve("tuner.properties");
+        WeightTuner first = new WeightTuner(4, 2, 60, 7L, checkpoint);
+        first.step();
+        assertTrue(Files.exists(checkpoint));
+        WeightTuner resumed = new WeightTuner(4, 2, 60, 7L, checkpoint);
+        assertEquals(1, resumed.getGeneration());
+        resumed.run(2);
+
+        assertEquals(uninterrupted.getPopulation(), resumed.getPopulation());
+        assertEquals(uninterrupted.getBest(), resumed.getBest());
+    }
+
+    @Test
+    void generationKeepsTheFittestCandidate() throws IOException {
+        WeightTuner tuner = new WeightTuner(5, 2, 60, 3L, null);
+
+        WeightTuner.GenerationResult result = tuner.step();
+
+        assertTrue(result.getBestFitness() >= result.getMeanFitness());
+        assertEquals(result.getBest(), tuner.getPopulation().get(0), "Elite is carried over unchanged");
+    }
+
+    @Test
+    void runReportsEachRemainingGeneration() throws IOException {
+        Path checkpoint = tempDir.resolve("report.properties");
+        new WeightTuner(4, 1, 30, 5L, checkpoint).step();
+        List<Integer> reported = new ArrayList<>();
+
+        new WeightTuner(4, 1, 30, 5L, checkpoint).run(3, result -> reported.add(result.getGeneration()));
+
+        assertEquals(List.of(1, 2), reported);
+    }
+
+    @Test
+    void rejectsCheckpointWrittenWithOtherSettings() throws IOException {
+        Path checkpoint = tempDir.resolve("other.properties");
+        new WeightTuner(4, 1, 30, 1L, checkpoint).step();
+
+        assertThrows(IOException.class, () -> new WeightTuner(6, 1, 30, 1L, checkpoint));
+    }
+}
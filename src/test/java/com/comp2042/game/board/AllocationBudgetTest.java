@@ -0,0 +1,260 @@
+package com.comp2042.game.board;
+
+import com.comp2042.game.bricks.BrickGeneratorFactory;
+import com.comp2042.game.controller.GameController;
+import com.comp2042.game.controller.HeadlessGameView;
+import com.comp2042.game.data.DownData;
+import com.comp2042.game.events.EventSource;
+import com.comp2042.game.events.EventType;
+import com.comp2042.game.events.MoveEvent;
+import com.comp2042.game.operations.RotationDirection;
+import com.comp2042.game.operations.SrsRotationSystem;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Guards the engine's hot paths against allocation regressions. Each test plays a
+ * scripted game from a fixed seed, measures the bytes the thread allocates around
+ * every call of one operation, and checks the average against that operation's budget.
+ * The script runs once to warm up and once measured, so the figures are those of
+ * compiled code. Those figures lean on the JIT's escape analysis, so budgets sit
+ * about half again above what the engine allocates today, and the tests are skipped
+ * on a VM run without C2 or escape analysis. After an intended change, read the new
+ * figures off the report and adjust them. Games are built without a high score
+ * manager, so no leaderboard or high score file is read or written.
+ */
+class AllocationBudgetTest {
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private static final Map<String, String> REPORT = new TreeMap<>();
+    private static final long SEED = 2042;
+    private static final int STEPS = 20_000;
+    private static final MoveEvent DROP = new MoveEvent(EventType.HARD_DROP, EventSource.THREAD);
+    private static final RotationDirection[] TURNS = RotationDirection.values();
+    /** VM flags that turn off the compiler or the escape analysis the budgets assume. */
+    private static final List<String> NO_ESCAPE_ANALYSIS = List.of("-Xint", "-XX:-UseCompiler",
+            "-XX:-DoEscapeAnalysis", "-XX:-EliminateAllocations", "-XX:TieredStopAtLevel=0",
+            "-XX:TieredStopAtLevel=1", "-XX:TieredStopAtLevel=2", "-XX:TieredStopAtLevel=3");
+
+    /** Bytes per call, averaged, with the cost of measuring taken off. */
+    private static final class Meter {
+        private final long overhead;
+        private long bytes;
+        private long calls;
+        private long startedAt;
+
+        private Meter(long overhead) {
+            this.overhead = overhead;
+        }
+
+        void start() {
+            startedAt = THREADS.getThreadAllocatedBytes(Thread.currentThread().threadId());
+        }
+
+        void stop() {
+            bytes += THREADS.getThreadAllocatedBytes(Thread.currentThread().threadId()) - startedAt - overhead;
+            calls++;
+        }
+
+        void reset() {
+            bytes = 0;
+            calls = 0;
+        }
+
+        double perCall() {
+            return calls == 0 ? 0 : Math.max(0, (double) bytes / calls);
+        }
+    }
+
+    /** One scripted game, replayed from its seed for warm-up and measurement. */
+    private static final class Game {
+        final SimpleBoard board = new SimpleBoard(BoardGeometry.STANDARD,
+                BrickGeneratorFactory.create(BrickGeneratorFactory.GeneratorType.RANDOM, SEED), new SrsRotationSystem());
+        final HeadlessGameView view = new HeadlessGameView();
+        final GameController controller = new GameController(view, board);
+        final Random script = new Random(SEED);
+
+        /** Starts over once the stack tops out. */
+        void keepPlaying() {
+            if (view.isGameOver()) {
+                controller.createNewGame();
+                view.reset();
+            }
+        }
+    }
+
+    /** Something done to a game, once per step, with the meter around the part measured. */
+    private interface Step {
+        void run(Game game, Meter meter);
+    }
+
+    private static Meter measure(Step step) {
+        Meter meter = new Meter(measuringOverhead());
+        for (int pass = 0; pass < 2; pass++) {
+            meter.reset();
+            Game game = new Game();
+            for (int i = 0; i < STEPS; i++) {
+                game.keepPlaying();
+                step.run(game, meter);
+            }
+        }
+        return meter;
+    }
+
+    private static long measuringOverhead() {
+        Meter meter = new Meter(0);
+        long least = Long.MAX_VALUE;
+        for (int i = 0; i < 10_000; i++) {
+            meter.reset();
+            meter.start();
+            meter.stop();
+            least = Math.min(least, meter.bytes);
+        }
+        return least;
+    }
+
+    private static void assertWithinBudget(String operation, Meter meter, long budget) {
+        double perCall = meter.perCall();
+        REPORT.put(operation, String.format("%10.1f B/op  budget %6d B/op  over %,d calls",
+                perCall, budget, meter.calls));
+        assertTrue(meter.calls > 0, operation + " was never measured");
+        assertTrue(perCall <= budget, String.format("%s allocated %.1f bytes per call, budget %d",
+                operation, perCall, budget));
+    }
+
+    @BeforeAll
+    static void requireCompiledCode() {
+        assumeTrue(THREADS.isThreadAllocatedMemorySupported() && THREADS.isThreadAllocatedMemoryEnabled(),
+                "thread allocation counting is unavailable");
+        assumeFalse(System.getProperty("java.vm.info", "").contains("interpreted"), "running interpreted");
+        for (String argument : ManagementFactory.getRuntimeMXBean().getInputArguments()) {
+            assumeFalse(NO_ESCAPE_ANALYSIS.stream().anyMatch(argument::startsWith),
+                    () -> "budgets assume C2 escape analysis, but the VM runs with " + argument);
+        }
+    }
+
+    @AfterAll
+    static void printReport() {
+        StringBuilder report = new StringBuilder("Allocation per operation:\n");
+        REPORT.forEach((operation, line) -> report.append(String.format("  %-12s%s%n", operation, line)));
+        System.out.print(report);
+    }
+
+    /** Drops the piece now and then so moves are made all over the stack. */
+    private static void dropSometimes(Game game) {
+        if (game.script.nextInt(8) == 0) {
+            game.controller.onHardDropEvent(DROP);
+        }
+    }
+
+    @Test
+    void move() {
+        Meter meter = measure((game, m) -> {
+            boolean left = game.script.nextBoolean();
+            m.start();
+            if (left) {
+                game.board.moveBrickLeft();
+            } else {
+                game.board.moveBrickRight();
+            }
+            m.stop();
+            dropSometimes(game);
+        });
+        assertWithinBudget("move", meter, 1_200);
+    }
+
+    @Test
+    void rotate() {
+        Meter meter = measure((game, m) -> {
+            RotationDirection direction = TURNS[game.script.nextInt(TURNS.length)];
+            m.start();
+            game.board.rotateBrick(direction);
+            m.stop();
+            dropSometimes(game);
+        });
+        assertWithinBudget("rotate", meter, 1_200);
+    }
+
+    @Test
+    void gravityTick() {
+        Meter meter = measure((game, m) -> {
+            if (game.script.nextInt(4) == 0) {
+                game.board.moveBrickLeft(); // Keep the stack from building in one column
+            }
+            m.start();
+            DownData result = game.controller.onGravityTick();
+            if (result == null || result.getClearRow() == null) {
+                m.stop(); // Ticks that lock are left out; locks are measured on their own
+            }
+        });
+        assertWithinBudget("gravity tick", meter, 5_000);
+    }
+
+    @Test
+    void lock() {
+        Meter meter = measure((game, m) -> {
+            int shift = game.script.nextInt(9) - 4;
+            for (int i = 0; i < Math.abs(shift); i++) {
+                if (shift < 0) {
+                    game.board.moveBrickLeft();
+                } else {
+                    game.board.moveBrickRight();
+                }
+            }
+            m.start();
+            game.controller.onHardDropEvent(DROP);
+            m.stop();
+        });
+        assertWithinBudget("lock", meter, 22_000);
+    }
+
+    @Test
+    void lineClear() {
+        Meter meter = measure((game, m) -> {
+            int[][] matrix = game.board.getBoardMatrix();
+            int lines = 1 + game.script.nextInt(4);
+            for (int row = matrix.length - lines; row < matrix.length; row++) {
+                Arrays.fill(matrix[row], 1);
+            }
+            m.start();
+            game.board.clearRows();
+            m.stop();
+        });
+        assertWithinBudget("line clear", meter, 7_500);
+    }
+
+    @Test
+    void viewData() {
+        Meter meter = measure((game, m) -> {
+            m.start();
+            game.board.getViewData();
+            m.stop();
+            dropSometimes(game);
+        });
+        assertWithinBudget("getViewData", meter, 3_600);
+    }
+
+    @Test
+    void snapshot() {
+        Meter meter = measure((game, m) -> {
+            m.start();
+            game.board.createSnapshot();
+            m.stop();
+            dropSometimes(game);
+        });
+        assertWithinBudget("snapshot", meter, 2_600);
+    }
+}
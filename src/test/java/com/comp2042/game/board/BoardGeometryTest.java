@@ -0,0 +1,66 @@
+package com.comp2042.game.board;
+
+import com.comp2042.game.bricks.RandomBrickGenerator;
+import com.comp2042.game.operations.SrsRotationSystem;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Point;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoardGeometryTest {
+
+    @Test
+    void standardGeometryMatchesTheOriginalBoard() {
+        BoardGeometry standard = BoardGeometry.STANDARD;
+        assertEquals(25, standard.getRows());
+        assertEquals(10, standard.getColumns());
+        assertEquals(2, standard.getBufferRows());
+        assertEquals(standard, BoardGeometry.centered(10, 23, 2));
+    }
+
+    @Test
+    void rejectsBoardsOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> new BoardGeometry(3, 20, 2, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> new BoardGeometry(65, 20, 2, 4, 0));
+        assertThrows(IllegalArgumentException.class, () -> new BoardGeometry(10, 0, 2, 4, 0));
+        assertThrows(IllegalArgumentException.class, () -> new BoardGeometry(10, 20, 2, 7, 0));
+        assertThrows(IllegalArgumentException.class, () -> new BoardGeometry(10, 20, 2, 8, 0));
+        assertThrows(IllegalArgumentException.class, () -> new BoardGeometry(10, 20, 2, 4, 22));
+    }
+
+    @Test
+    void spawnLeavesRoomForTheWidestBrick() {
+        assertEquals(6, new BoardGeometry(10, 20, 2, 6, 0).getSpawnX());
+        assertEquals(0, BoardGeometry.centered(4, 20, 2).getSpawnX());
+        assertEquals(1, BoardGeometry.centered(5, 20, 2).getSpawnX());
+
+        // Every brick, including the flat I, spawns inside the narrowest board
+        SimpleBoard board = new SimpleBoard(BoardGeometry.centered(4, 20, 2),
+                new RandomBrickGenerator(4), new SrsRotationSystem());
+        for (int i = 0; i < 50; i++) {
+            assertFalse(board.trySpawnNewBrick());
+        }
+    }
+
+    @Test
+    void wideBoardSpawnsAtItsConfiguredPoint() {
+        BoardGeometry geometry = new BoardGeometry(64, 30, 4, 40, 1);
+        SimpleBoard board = new SimpleBoard(geometry);
+        board.newGame();
+
+        assertEquals(34, board.getBoardMatrix().length);
+        assertEquals(64, board.getBoardMatrix()[0].length);
+        assertEquals(new Point(40, 1), board.getCurrentOffset());
+
+        board.holdBrick();
+        board.holdBrick();
+        assertEquals(new Point(40, 1), board.getCurrentOffset());
+
+        int steps = 0;
+        while (board.moveBrickRight()) {
+            steps++;
+        }
+        assertTrue(steps >= 20, "brick should reach the far right of a 64-column board");
+    }
+}
@@ -1,13 +1,18 @@
 package com.comp2042.game.board;
 
+import com.comp2042.game.data.BoardStateSnapshot;
 import com.comp2042.game.data.ClearRow;
 import com.comp2042.game.data.ViewData;
 import com.comp2042.game.level.LevelManager;
 import com.comp2042.game.level.LinesClearedTracker;
+import com.comp2042.game.operations.RotationDirection;
+import com.comp2042.game.score.LockAction;
 import com.comp2042.game.score.Score;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class SimpleBoardTest {
@@ -275,7 +280,7 @@ class SimpleBoardTest {
     void getScoreReturnsScoreObject() {
         Score score = board.getScore();
         assertNotNull(score);
-        assertEquals(0, score.scoreProperty().get());
+        assertEquals(0, score.get());
     }
 
     @Test
@@ -310,7 +315,7 @@ class SimpleBoardTest {
                 assertEquals(0, cell, "Board should be cleared");
             }
         }
-        assertEquals(0, board.getScore().scoreProperty().get());
+        assertEquals(0, board.getScore().get());
         assertEquals(0, board.getLinesTracker().getTotalLines());
         assertEquals(1, board.getLevelManager().getCurrentLevel());
     }
@@ -322,5 +327,39 @@ class SimpleBoardTest {
         ViewData viewData = board.getViewData();
         assertNotNull(viewData.getBrickData());
     }
-}
 
+    @Test
+    void undoneClearScoresTheSameWhenReplayed() {
+        board.newGame();
+        fillBottomRow();
+        board.clearRows(); // Starts a combo
+        BoardStateSnapshot beforeSecondClear = board.createSnapshot();
+
+        fillBottomRow();
+        int firstTry = board.clearRows().getScoreBonus();
+        board.restoreSnapshot(beforeSecondClear);
+        fillBottomRow();
+
+        assertEquals(firstTry, board.clearRows().getScoreBonus());
+    }
+
+    @Test
+    void restoreSnapshotRestoresScoringChain() {
+        board.newGame();
+        BoardStateSnapshot snapshot = new BoardStateSnapshot(board.getBoardMatrix(), board.getCurrentOffset(),
+                board.getCurrentBrick(), 0, null, null, 0, 0, 1, 3, true, LockAction.MOVE);
+        board.rotateBrick(RotationDirection.CLOCKWISE);
+
+        board.restoreSnapshot(snapshot);
+        BoardStateSnapshot restored = board.createSnapshot();
+
+        assertEquals(3, restored.getCombo());
+        assertTrue(restored.isBackToBack());
+        assertEquals(LockAction.MOVE, restored.getLastAction(), "A rotation before the undo is not a spin");
+    }
+
+    private void fillBottomRow() {
+        int[][] matrix = board.getBoardMatrix();
+        Arrays.fill(matrix[matrix.length - 1], 1);
+    }
+}
@@ -0,0 +1,115 @@
+package com.comp2042.game.board.fuzz;
+
+import com.comp2042.game.board.BoardGeometry;
+import com.comp2042.game.board.SimpleBoard;
+import com.comp2042.game.bricks.BrickGenerator;
+import com.comp2042.game.level.DefaultLevelStrategy;
+import com.comp2042.game.level.LevelManager;
+import com.comp2042.game.operations.RotationDirection;
+import com.comp2042.game.operations.SrsRotationSystem;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoardFuzzerTest {
+
+    private static final BoardFactory SIMPLE =
+            generator -> new SimpleBoard(BoardGeometry.STANDARD, generator, new SrsRotationSystem());
+
+    /** Refuses the last shift onto the left wall. */
+    private static final class WallShyBoard extends SimpleBoard {
+        WallShyBoard(BrickGenerator generator) {
+            super(BoardGeometry.STANDARD, generator, new SrsRotationSystem());
+        }
+
+        @Override
+        public boolean moveBrickLeft() {
+            return getCurrentX() > 1 && super.moveBrickLeft();
+        }
+    }
+
+    /** Refuses half turns against the left wall. */
+    private static final class TurnShyBoard extends SimpleBoard {
+        TurnShyBoard(BrickGenerator generator) {
+            super(BoardGeometry.STANDARD, generator, new SrsRotationSystem());
+        }
+
+        @Override
+        public boolean rotateBrick(RotationDirection direction) {
+            return (direction != RotationDirection.HALF_TURN || getCurrentX() > 0) && super.rotateBrick(direction);
+        }
+    }
+
+    /** Reports a level ahead of the lines cleared, though the score still matches. */
+    private static final class LevelAheadBoard extends SimpleBoard {
+        private final LevelManager ahead = new LevelManager(getLinesTracker(), new DefaultLevelStrategy());
+
+        LevelAheadBoard(BrickGenerator generator) {
+            super(BoardGeometry.STANDARD, generator, new SrsRotationSystem());
+            ahead.setLevel(3);
+        }
+
+        @Override
+        public LevelManager getLevelManager() {
+            return ahead;
+        }
+    }
+
+    @Test
+    void identicalEnginesAgree() {
+        BoardFuzzer.Result result = new BoardFuzzer(SIMPLE, SIMPLE, 300).fuzz(1, 60, 60_000, 2);
+        assertNull(result.getMismatch(), () -> String.valueOf(result.getMismatch()));
+        assertEquals(60, result.getGames());
+        assertEquals(60 * 300, result.getSteps());
+        assertTrue(result.getStepsPerMinute() > 0);
+    }
+
+    @Test
+    void gamesReplayFromTheirSeed() {
+        BoardFuzzer fuzzer = new BoardFuzzer(SIMPLE, WallShyBoard::new, 200);
+        assertArrayEquals(fuzzer.generate(7), fuzzer.generate(7));
+        Mismatch first = fuzzer.play(7, fuzzer.generate(7));
+        Mismatch again = fuzzer.play(7, fuzzer.generate(7));
+        assertNotNull(first);
+        assertEquals(first.getStep(), again.getStep());
+        assertEquals(first.getActions(), again.getActions());
+    }
+
+    @Test
+    void mismatchShrinksToMinimalReproduction() {
+        BoardFuzzer fuzzer = new BoardFuzzer(SIMPLE, WallShyBoard::new, 500);
+        BoardFuzzer.Result result = fuzzer.fuzz(1, 1000, 60_000, 1);
+        Mismatch mismatch = result.getMismatch();
+        assertNotNull(mismatch);
+        // Three shifts reach column 1 from the spawn column; the fourth is refused
+        assertEquals(List.of(FuzzAction.LEFT, FuzzAction.LEFT, FuzzAction.LEFT, FuzzAction.LEFT),
+                mismatch.getActions());
+        assertEquals(3, mismatch.getStep());
+        assertTrue(mismatch.getDifference().startsWith("returned false"), mismatch.getDifference());
+    }
+
+    @Test
+    void shrunkMismatchIsOneMinimal() {
+        BoardFuzzer fuzzer = new BoardFuzzer(SIMPLE, TurnShyBoard::new, 500);
+        Mismatch mismatch = fuzzer.fuzz(1, 1000, 60_000, 1).getMismatch();
+        assertNotNull(mismatch);
+        assertEquals(FuzzAction.ROTATE_180, mismatch.getActions().get(mismatch.getStep()));
+        FuzzAction[] actions = mismatch.getActions().toArray(new FuzzAction[0]);
+        assertNotNull(fuzzer.play(mismatch.getSeed(), actions));
+        for (int i = 0; i < actions.length; i++) {
+            List<FuzzAction> fewer = new ArrayList<>(mismatch.getActions());
+            fewer.remove(i);
+            assertNull(fuzzer.play(mismatch.getSeed(), fewer.toArray(new FuzzAction[0])), "action " + i);
+        }
+    }
+
+    @Test
+    void levelIsComparedAlongWithTheScore() {
+        Mismatch mismatch = new BoardFuzzer(SIMPLE, LevelAheadBoard::new, 100).fuzz(1, 1, 60_000, 1).getMismatch();
+        assertNotNull(mismatch);
+        assertTrue(mismatch.getDifference().endsWith("level 3, expected 1"), mismatch.getDifference());
+    }
+}
@@ -0,0 +1,80 @@
+package com.comp2042.game.bricks;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BrickTypeTest {
+
+    @Test
+    void ofIdentifiesEveryCreatedBrick() {
+        for (BrickType type : BrickType.values()) {
+            assertEquals(type, BrickType.of(type.create()));
+        }
+    }
+
+    @Test
+    void fromCodeRoundTrips() {
+        for (BrickType type : BrickType.values()) {
+            assertEquals(type, BrickType.fromCode(type.getCode()));
+        }
+    }
+
+    @Test
+    void fromCodeRejectsUnknownCode() {
+        assertThrows(IllegalArgumentException.class, () -> BrickType.fromCode(0));
+        assertThrows(IllegalArgumentException.class, () -> BrickType.fromCode(9));
+    }
+
+    @Test
+    void rotationAfterQuarterTurnMatchesShapeGeometry() {
+        for (BrickType type : BrickType.values()) {
+            List<int[][]> shapes = type.create().getShapeMatrix();
+            for (int rotation = 0; rotation < shapes.size(); rotation++) {
+                int next = type.rotationAfter(rotation, 1);
+                assertEquals(cells(rotateClockwise(shapes.get(rotation))), cells(shapes.get(next)),
+                        type + " rotation " + rotation + " clockwise");
+                assertEquals(rotation, type.rotationAfter(next, 3), type + " counter-clockwise undoes clockwise");
+            }
+        }
+    }
+
+    /** Rotates a square shape matrix a quarter turn clockwise on screen. */
+    private static int[][] rotateClockwise(int[][] shape) {
+        int n = shape.length;
+        int[][] rotated = new int[n][n];
+        for (int row = 0; row < n; row++) {
+            for (int col = 0; col < n; col++) {
+                rotated[col][n - 1 - row] = shape[row][col];
+            }
+        }
+        return rotated;
+    }
+
+    /** Gets the filled cells as "row,col" strings, translated to the top-left corner. */
+    private static Set<String> cells(int[][] shape) {
+        int minRow = Integer.MAX_VALUE;
+        int minCol = Integer.MAX_VALUE;
+        for (int row = 0; row < shape.length; row++) {
+            for (int col = 0; col < shape[row].length; col++) {
+                if (shape[row][col] != 0) {
+                    minRow = Math.min(minRow, row);
+                    minCol = Math.min(minCol, col);
+                }
+            }
+        }
+        Set<String> cells = new TreeSet<>();
+        for (int row = 0; row < shape.length; row++) {
+            for (int col = 0; col < shape[row].length; col++) {
+                if (shape[row][col] != 0) {
+                    cells.add((row - minRow) + "," + (col - minCol));
+                }
+            }
+        }
+        return cells;
+    }
+}
@@ -16,5 +16,14 @@ class RandomBrickGeneratorTest {
         assertSame(peeked, drawn, "getBrick should return the same instance that was previewed");
         assertNotNull(generator.getNextBrick(), "Preview queue should be refilled after drawing");
     }
-}
 
+    @Test
+    void seededGeneratorsProduceTheSameSequence() {
+        RandomBrickGenerator first = new RandomBrickGenerator(42L);
+        RandomBrickGenerator second = new RandomBrickGenerator(42L);
+
+        for (int i = 0; i < 50; i++) {
+            assertEquals(BrickType.of(first.getBrick()), BrickType.of(second.getBrick()));
+        }
+    }
+}
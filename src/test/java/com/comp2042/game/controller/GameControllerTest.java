@@ -30,7 +30,7 @@ class GameControllerTest {
     void constructorInitializesGame() {
         verify(mockGuiController).setEventListener(gameController);
         verify(mockGuiController).initGameView(any(), any());
-        verify(mockGuiController).bindScore(any());
+        verify(mockGuiController).bindGameStats(any(), any(), any(), any());
     }
 
     @Test
@@ -118,7 +118,7 @@ class GameControllerTest {
         
         gameController.createNewGame();
         
-        assertEquals(0, board.getScore().scoreProperty().get());
+        assertEquals(0, board.getScore().get());
         verify(mockGuiController).refreshGameBackground(any());
     }
 
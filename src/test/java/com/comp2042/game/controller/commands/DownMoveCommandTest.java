@@ -47,14 +47,14 @@ class DownMoveCommandTest {
     void executeAwardsScoreForUserMove() {
         command = new DownMoveCommand(board, mockGuiController, EventSource.USER);
         Score score = board.getScore();
-        int initialScore = score.scoreProperty().get();
+        int initialScore = score.get();
         ViewData initial = board.getViewData();
         
         // Only test if brick can move (not at bottom where it would land immediately)
         if (initial.getyPosition() < 15) {
             command.execute();
             // Score should increase if brick moved, or stay same if it landed
-            assertTrue(score.scoreProperty().get() >= initialScore);
+            assertTrue(score.get() >= initialScore);
         }
     }
 
@@ -62,11 +62,11 @@ class DownMoveCommandTest {
     void executeDoesNotAwardScoreForThreadMove() {
         command = new DownMoveCommand(board, mockGuiController, EventSource.THREAD);
         Score score = board.getScore();
-        int initialScore = score.scoreProperty().get();
+        int initialScore = score.get();
         
         command.execute();
         
-        assertEquals(initialScore, score.scoreProperty().get(), "Should not award points for automatic move");
+        assertEquals(initialScore, score.get(), "Should not award points for automatic move");
     }
 
     @Test
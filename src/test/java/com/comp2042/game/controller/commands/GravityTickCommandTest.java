@@ -0,0 +1,89 @@
+package com.comp2042.game.controller.commands;
+
+import com.comp2042.game.board.SimpleBoard;
+import com.comp2042.game.controller.FallState;
+import com.comp2042.game.controller.HeadlessGameView;
+import com.comp2042.game.data.DownData;
+import com.comp2042.game.level.Level;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GravityTickCommandTest {
+
+    private SimpleBoard board;
+    private HeadlessGameView view;
+    private FallState fallState;
+
+    @BeforeEach
+    void setUp() {
+        board = new SimpleBoard(20, 10);
+        board.newGame();
+        view = new HeadlessGameView();
+        fallState = new FallState();
+    }
+
+    @Test
+    void twentyGravityLandsInOneTick() {
+        int landingY = board.getViewData().getGhostY();
+
+        tick(new Level(1, Level.TICK_MS / 20, 1.0, 20 * Level.GRAVITY_ONE, 30, 15), 20 * Level.GRAVITY_ONE);
+
+        assertEquals(landingY, board.getCurrentOffset().y);
+    }
+
+    @Test
+    void fractionalGravityFallsOneRowEveryFewTicks() {
+        Level level = new Level(1, 4 * Level.TICK_MS, 1.0, Level.GRAVITY_ONE / 4, 30, 15);
+        int startY = board.getCurrentOffset().y;
+
+        for (int tick = 0; tick < 3; tick++) {
+            assertNull(tick(level, level.getGravity()), "Nothing visible happens between rows");
+        }
+        assertNotNull(tick(level, level.getGravity()));
+
+        assertEquals(startY + 1, board.getCurrentOffset().y);
+    }
+
+    @Test
+    void groundedBrickLocksAfterLockDelay() {
+        Level level = new Level(1, Level.TICK_MS / 20, 1.0, 20 * Level.GRAVITY_ONE, 3, 15);
+        long brick = board.getBrickSerial();
+        tick(level, level.getGravity()); // Lands
+
+        for (int tick = 0; tick < 3; tick++) {
+            tick(level, level.getGravity());
+            assertEquals(brick, board.getBrickSerial(), "Still within the lock delay");
+        }
+        assertNotNull(tick(level, level.getGravity()).getClearRow(), "Locks when the delay runs out");
+
+        assertNotEquals(brick, board.getBrickSerial());
+    }
+
+    @Test
+    void movesRestartLockDelayUpToTheLimit() {
+        Level level = new Level(1, Level.TICK_MS / 20, 1.0, 20 * Level.GRAVITY_ONE, 2, 1);
+        long brick = board.getBrickSerial();
+        tick(level, level.getGravity());
+        tick(level, level.getGravity());
+        tick(level, level.getGravity());
+
+        assertTrue(board.moveBrickLeft() || board.moveBrickRight());
+        fallState.onPlayerMove(board, level.getMaxLockResets());
+        tick(level, level.getGravity());
+        tick(level, level.getGravity());
+        assertEquals(brick, board.getBrickSerial(), "The move restarted the delay");
+
+        assertTrue(board.moveBrickLeft() || board.moveBrickRight());
+        fallState.onPlayerMove(board, level.getMaxLockResets());
+        tick(level, level.getGravity());
+        assertNotEquals(brick, board.getBrickSerial(), "No resets left");
+    }
+
+    private DownData tick(Level level, int gravity) {
+        GravityTickCommand command = new GravityTickCommand(board, view, fallState, level, gravity);
+        command.execute();
+        return command.getDownData();
+    }
+}
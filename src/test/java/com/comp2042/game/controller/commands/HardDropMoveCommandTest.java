@@ -54,7 +54,7 @@ class HardDropMoveCommandTest {
         // Arrange
         command = new HardDropMoveCommand(board, mockGuiController);
         Score score = board.getScore();
-        int initialScore = score.scoreProperty().get();
+        int initialScore = score.get();
         ViewData initial = board.getViewData();
         int initialY = initial.getyPosition();
         int ghostY = initial.getGhostY();
@@ -64,7 +64,7 @@ class HardDropMoveCommandTest {
         command.execute();
 
         // Assert
-        int finalScore = score.scoreProperty().get();
+        int finalScore = score.get();
         int scoreGained = finalScore - initialScore;
         
         // Score should be at least 2 * cells dropped (could be more if lines cleared)
@@ -144,13 +144,13 @@ class HardDropMoveCommandTest {
         
         command = new HardDropMoveCommand(board, mockGuiController);
         Score score = board.getScore();
-        int initialScore = score.scoreProperty().get();
+        int initialScore = score.get();
 
         // Act
         command.execute();
 
         // Assert
-        int finalScore = score.scoreProperty().get();
+        int finalScore = score.get();
         assertTrue(finalScore > initialScore, 
                    "Score should increase from hard drop and potential line clear");
     }
@@ -267,13 +267,13 @@ class HardDropMoveCommandTest {
         simpleBoard.trySpawnNewBrick();
         command = new HardDropMoveCommand(simpleBoard, mockGuiController);
         Score score = simpleBoard.getScore();
-        int initialScore = score.scoreProperty().get();
+        int initialScore = score.get();
 
         // Act
         command.execute();
 
         // Assert
-        int finalScore = score.scoreProperty().get();
+        int finalScore = score.get();
         int scoreGained = finalScore - initialScore;
         
         // At higher level, score bonus should be multiplied
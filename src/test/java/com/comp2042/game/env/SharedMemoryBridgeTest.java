@@ -0,0 +1,72 @@
+package com.comp2042.game.env;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SharedMemoryBridgeTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void clientStepsMatchLocalEnvironment() throws Exception {
+        Path file = tempDir.resolve("env.shm");
+        SharedMemoryBridge bridge = new SharedMemoryBridge(file, new VectorTetrisEnv(8, 20, 10, 7L));
+        Thread server = new Thread(bridge::serve, "bridge-server");
+        server.start();
+
+        VectorTetrisEnv local = new VectorTetrisEnv(8, 20, 10, 7L);
+        ByteBuffer expected = ByteBuffer.allocate(8 * local.getObservationSize());
+        float[] rewards = new float[8];
+        boolean[] dones = new boolean[8];
+        int[] actions = new int[8];
+        SplittableRandom random = new SplittableRandom(1L);
+        local.reset(expected);
+
+        try (SharedMemoryClient client = new SharedMemoryClient(file, 5_000)) {
+            assertEquals(8, client.getNumEnvs());
+            assertEquals(local.getObservationSize(), client.getObservationSize());
+            assertEquals(expected, client.getObservations(), "Initial observations are published");
+
+            for (int step = 0; step < 300; step++) {
+                for (int i = 0; i < actions.length; i++) {
+                    actions[i] = random.nextInt(VectorTetrisEnv.ACTION_COUNT);
+                }
+                client.step(actions);
+                local.step(actions, expected, rewards, dones);
+                for (int i = 0; i < actions.length; i++) {
+                    assertEquals(rewards[i], client.getReward(i));
+                    assertEquals(dones[i], client.isDone(i));
+                }
+                assertEquals(expected, client.getObservations(), "Observations at step " + step);
+            }
+        }
+
+        server.join(5_000);
+        assertFalse(server.isAlive(), "Closing the client stops the server");
+        bridge.close();
+    }
+
+    @Test
+    void clientTimesOutWithoutServer() {
+        assertThrows(TimeoutException.class,
+                () -> new SharedMemoryClient(tempDir.resolve("missing.shm"), 50));
+    }
+
+    @Test
+    void stepTimesOutWhenServerStopsAnswering() throws Exception {
+        Path file = tempDir.resolve("idle.shm");
+        SharedMemoryBridge bridge = new SharedMemoryBridge(file, new VectorTetrisEnv(2, 20, 10, 7L));
+        try (SharedMemoryClient client = new SharedMemoryClient(file, 50)) {
+            assertThrows(TimeoutException.class, () -> client.step(new int[2]));
+        }
+        bridge.close();
+    }
+}
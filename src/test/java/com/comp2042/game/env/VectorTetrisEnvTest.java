@@ -0,0 +1,151 @@
+package com.comp2042.game.env;
+
+import com.comp2042.game.board.BoardGeometry;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VectorTetrisEnvTest {
+
+    private static final int ROWS = 20;
+    private static final int COLS = 10;
+
+    @Test
+    void resetWritesEmptyBoardAndOneHotPieces() {
+        VectorTetrisEnv env = new VectorTetrisEnv(3, ROWS, COLS, 1L);
+        float[] obs = new float[env.getNumEnvs() * env.getObservationSize()];
+        env.reset(obs);
+
+        int cells = ROWS * COLS;
+        for (int i = 0; i < env.getNumEnvs(); i++) {
+            int offset = i * env.getObservationSize();
+            assertEquals(0f, sum(obs, offset, cells), "Board starts empty");
+            assertEquals(4f, sum(obs, offset + cells, cells), "Falling brick has four cells");
+            assertEquals(1f, sum(obs, offset + 2 * cells, 7), "Current brick is one-hot");
+            assertEquals(0f, sum(obs, offset + 2 * cells + 7, 7), "Hold starts empty");
+            assertEquals(1f, sum(obs, offset + 2 * cells + 14, 7), "Next brick is one-hot");
+        }
+    }
+
+    @Test
+    void hardDropsEndAndAutoResetTheGame() {
+        VectorTetrisEnv env = new VectorTetrisEnv(1, ROWS, COLS, 2L);
+        float[] obs = new float[env.getObservationSize()];
+        float[] rewards = new float[1];
+        boolean[] dones = new boolean[1];
+        int[] actions = {VectorTetrisEnv.HARD_DROP};
+        env.reset(obs);
+
+        int steps = 0;
+        while (!dones[0]) {
+            env.step(actions, obs, rewards, dones);
+            assertTrue(++steps < 200, "Stacking at the spawn column must top out");
+        }
+
+        assertEquals(0f, sum(obs, 0, ROWS * COLS), "Observation after done is the new episode's");
+        assertEquals(0f, sum(obs, 2 * ROWS * COLS + 7, 7), "Reset empties the hold");
+    }
+
+    @Test
+    void narrowBoardsSpawnWhereTheBrickFits() {
+        int cols = 5;
+        VectorTetrisEnv env = new VectorTetrisEnv(2, ROWS, cols, 6L);
+        float[] obs = new float[2 * env.getObservationSize()];
+        float[] rewards = new float[2];
+        boolean[] dones = new boolean[2];
+        int[] actions = {VectorTetrisEnv.NONE, VectorTetrisEnv.NONE};
+        env.reset(obs);
+
+        int cells = ROWS * cols;
+        for (int step = 0; step < ROWS - 4; step++) {
+            env.step(actions, obs, rewards, dones);
+            for (int i = 0; i < 2; i++) {
+                int offset = i * env.getObservationSize();
+                assertFalse(dones[i], "Game " + i + " ended at step " + step);
+                assertEquals(4f, sum(obs, offset + cells, cells), "Falling brick stays on the board");
+            }
+        }
+    }
+
+    @Test
+    void boardsTooNarrowForABrickAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new VectorTetrisEnv(1, ROWS, 3, 1L));
+        assertThrows(IllegalArgumentException.class,
+                () -> new VectorTetrisEnv(1, new BoardGeometry(10, 20, 2, 4, 21), 1L));
+    }
+
+    @Test
+    void parallelSteppingMatchesSequential() {
+        VectorTetrisEnv sequential = new VectorTetrisEnv(64, ROWS, COLS, 3L);
+        VectorTetrisEnv parallel = new VectorTetrisEnv(64, ROWS, COLS, 3L);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            parallel.setParallelism(pool, 8);
+            int size = 64 * sequential.getObservationSize();
+            float[] obsA = new float[size];
+            ByteBuffer obsB = ByteBuffer.allocateDirect(size);
+            float[] rewardsA = new float[64];
+            float[] rewardsB = new float[64];
+            boolean[] donesA = new boolean[64];
+            boolean[] donesB = new boolean[64];
+            int[] actions = new int[64];
+            SplittableRandom random = new SplittableRandom(4L);
+            sequential.reset(obsA);
+            parallel.reset(obsB);
+
+            for (int step = 0; step < 500; step++) {
+                for (int i = 0; i < actions.length; i++) {
+                    actions[i] = random.nextInt(VectorTetrisEnv.ACTION_COUNT);
+                }
+                sequential.step(actions, obsA, rewardsA, donesA);
+                parallel.step(actions, obsB, rewardsB, donesB);
+                assertArrayEquals(rewardsA, rewardsB);
+                assertArrayEquals(donesA, donesB);
+                for (int k = 0; k < size; k++) {
+                    assertEquals((int) obsA[k], obsB.get(k), "Observation value " + k + " at step " + step);
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void steppingDoesNotAllocate() {
+        VectorTetrisEnv env = new VectorTetrisEnv(16, ROWS, COLS, 5L);
+        float[] obs = new float[16 * env.getObservationSize()];
+        float[] rewards = new float[16];
+        boolean[] dones = new boolean[16];
+        int[] actions = new int[16];
+        Arrays.fill(actions, VectorTetrisEnv.HARD_DROP);
+        env.reset(obs);
+        for (int step = 0; step < 1_000; step++) {
+            env.step(actions, obs, rewards, dones); // Warm up
+        }
+
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().threadId();
+        long before = threads.getThreadAllocatedBytes(thread);
+        for (int step = 0; step < 10_000; step++) {
+            env.step(actions, obs, rewards, dones);
+        }
+        long allocated = threads.getThreadAllocatedBytes(thread) - before;
+
+        assertTrue(allocated < 1024, "Stepping allocated " + allocated + " bytes");
+    }
+
+    private static float sum(float[] values, int from, int length) {
+        float total = 0;
+        for (int i = from; i < from + length; i++) {
+            total += values[i];
+        }
+        return total;
+    }
+}
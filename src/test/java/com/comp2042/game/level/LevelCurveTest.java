@@ -0,0 +1,86 @@
+package com.comp2042.game.level;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LevelCurveTest {
+
+    private static LevelCurve parse(String text) throws IOException {
+        return LevelCurve.load(new ByteArrayInputStream(text.getBytes(StandardCharsets.ISO_8859_1)));
+    }
+
+    @Test
+    void lookupsReturnTheSameMaterializedLevel() {
+        LevelCurve curve = LevelCurve.standard();
+        assertSame(curve.getLevel(3), curve.getLevel(3));
+        assertSame(curve.getLevel(LevelCurve.MATERIALIZED_LEVELS), curve.getLevel(LevelCurve.MATERIALIZED_LEVELS));
+        assertEquals(10, curve.getTunedLevels());
+        assertEquals(5, curve.getLinesPerLevel());
+    }
+
+    @Test
+    void levelsPastTheTableFollowTheFormula() throws IOException {
+        LevelCurve curve = parse("""
+                linesPerLevel=8
+                level.1=100, 1.0
+                level.2=50, 2.0, 20, 4
+                beyond.speedFactor=0.5
+                beyond.minDropSpeedMs=10
+                beyond.multiplierStep=0.5
+                beyond.maxMultiplier=3
+                beyond.lockDelayStep=5
+                beyond.minLockDelayTicks=8
+                """);
+        assertEquals(8, curve.getLinesPerLevel());
+        Level second = curve.getLevel(2);
+        assertEquals(20, second.getLockDelayTicks());
+        assertEquals(4, second.getMaxLockResets());
+        assertEquals(Level.gravityFor(50), second.getGravity());
+
+        Level third = curve.getLevel(3);
+        assertEquals(25.0, third.getDropSpeedMs());
+        assertEquals(2.5, third.getScoreMultiplier());
+        assertEquals(15, third.getLockDelayTicks());
+        assertEquals(4, third.getMaxLockResets());
+
+        Level far = curve.getLevel(5000);
+        assertEquals(5000, far.getLevelNumber());
+        assertEquals(10.0, far.getDropSpeedMs());
+        assertEquals(3.0, far.getScoreMultiplier());
+        assertEquals(8, far.getLockDelayTicks());
+    }
+
+    @Test
+    void masterCurveReachesTwentyG() {
+        LevelCurve master = LevelCurve.bundled("master");
+        assertEquals(10, master.getLinesPerLevel());
+        assertTrue(master.getLevel(10).getGravity() >= 20 * Level.GRAVITY_ONE);
+        assertTrue(master.getLevel(30).getLockDelayTicks() < master.getLevel(10).getLockDelayTicks());
+    }
+
+    @Test
+    void malformedCurvesAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> parse("linesPerLevel=5\n"));
+        assertThrows(IllegalArgumentException.class, () -> parse("level.1=fast, 1.0\n"));
+        assertThrows(IllegalArgumentException.class, () -> parse("level.1=0, 1.0\n"));
+        assertThrows(IllegalArgumentException.class, () -> LevelCurve.bundled("no-such-curve"));
+        assertThrows(IllegalArgumentException.class, () -> LevelCurve.standard().getLevel(0));
+    }
+
+    @Test
+    void levelManagerUsesTheCurvesLinesPerLevel() {
+        LinesClearedTracker tracker = new LinesClearedTracker();
+        LevelManager manager = new LevelManager(tracker, new DefaultLevelStrategy());
+        manager.setLevelStrategy(LevelCurve.bundled("master"));
+        tracker.addLines(9);
+        assertFalse(manager.updateLevel());
+        tracker.addLines(1);
+        assertTrue(manager.updateLevel());
+        assertEquals(100.0, manager.getCurrentLevelConfig().getDropSpeedMs());
+    }
+}
@@ -1,6 +1,5 @@
 package com.comp2042.game.level;
 
-import javafx.beans.property.IntegerProperty;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -22,7 +21,6 @@ class LevelManagerTest {
     @Test
     void constructorInitializesToLevel1() {
         assertEquals(1, levelManager.getCurrentLevel());
-        assertEquals(1, levelManager.levelProperty().get());
     }
 
     @Test
@@ -92,17 +90,6 @@ class LevelManagerTest {
         assertEquals(1, levelManager.getCurrentLevel());
     }
 
-    @Test
-    void updateLevelUpdatesProperty() {
-        IntegerProperty property = levelManager.levelProperty();
-        assertEquals(1, property.get());
-        
-        tracker.addLines(5);
-        levelManager.updateLevel();
-        
-        assertEquals(2, property.get());
-    }
-
     @Test
     void updateLevelOnlyAdvancesOncePerCall() {
         tracker.addLines(10);
@@ -123,17 +110,14 @@ class LevelManagerTest {
         levelManager.reset();
         
         assertEquals(1, levelManager.getCurrentLevel());
-        assertEquals(1, levelManager.levelProperty().get());
     }
 
     @Test
-    void levelPropertyIsReactive() {
-        IntegerProperty property = levelManager.levelProperty();
-        
-        tracker.addLines(5);
-        levelManager.updateLevel();
+    void setLevelOverridesCurrentLevel() {
+        levelManager.setLevel(7);
         
-        assertEquals(2, property.get());
+        assertEquals(7, levelManager.getCurrentLevel());
+        assertEquals(7, levelManager.getCurrentLevelConfig().getLevelNumber());
     }
 
     @Test
@@ -43,5 +43,18 @@ class LevelTest {
         assertEquals(level1.getDropSpeedMs(), level2.getDropSpeedMs());
         assertEquals(level1.getScoreMultiplier(), level2.getScoreMultiplier());
     }
-}
 
+    @Test
+    void dropSpeedConstructorDerivesGravityAndDefaultLockDelay() {
+        Level level = new Level(1, 4 * Level.TICK_MS, 1.0);
+
+        assertEquals(Level.GRAVITY_ONE / 4, level.getGravity());
+        assertEquals(Level.DEFAULT_LOCK_DELAY_TICKS, level.getLockDelayTicks());
+        assertEquals(Level.DEFAULT_MAX_LOCK_RESETS, level.getMaxLockResets());
+    }
+
+    @Test
+    void negativeLockDelayIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new Level(1, 100.0, 1.0, Level.GRAVITY_ONE, -1, 0));
+    }
+}
@@ -1,6 +1,5 @@
 package com.comp2042.game.level;
 
-import javafx.beans.property.IntegerProperty;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -18,7 +17,6 @@ class LinesClearedTrackerTest {
     @Test
     void constructorInitializesToZero() {
         assertEquals(0, tracker.getTotalLines());
-        assertEquals(0, tracker.linesProperty().get());
     }
 
     @Test
@@ -26,7 +24,6 @@ class LinesClearedTrackerTest {
         tracker.addLines(3);
         
         assertEquals(3, tracker.getTotalLines());
-        assertEquals(3, tracker.linesProperty().get());
     }
 
     @Test
@@ -38,16 +35,6 @@ class LinesClearedTrackerTest {
         assertEquals(6, tracker.getTotalLines());
     }
 
-    @Test
-    void addLinesUpdatesProperty() {
-        IntegerProperty property = tracker.linesProperty();
-        assertEquals(0, property.get());
-        
-        tracker.addLines(5);
-        
-        assertEquals(5, property.get());
-    }
-
     @Test
     void resetClearsTotal() {
         tracker.addLines(10);
@@ -56,7 +43,6 @@ class LinesClearedTrackerTest {
         tracker.reset();
         
         assertEquals(0, tracker.getTotalLines());
-        assertEquals(0, tracker.linesProperty().get());
     }
 
     @Test
@@ -71,12 +57,12 @@ class LinesClearedTrackerTest {
     }
 
     @Test
-    void linesPropertyIsReactive() {
-        IntegerProperty property = tracker.linesProperty();
-        
+    void setTotalLinesReplacesTotal() {
         tracker.addLines(7);
         
-        assertEquals(7, property.get());
+        tracker.setTotalLines(2);
+        
+        assertEquals(2, tracker.getTotalLines());
     }
 }
 
@@ -0,0 +1,120 @@
+package com.comp2042.game.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HistogramTest {
+
+    @Test
+    void bucketsCoverEveryValueInOrder() {
+        for (long value : new long[] {0, 1, 7, 8, 9, 15, 16, 17, 1000, 123_456_789L, Long.MAX_VALUE}) {
+            int bucket = Histogram.bucketOf(value);
+            assertTrue(Histogram.lowerBound(bucket) <= value, "lower bound of " + value);
+            assertTrue(Histogram.upperBound(bucket) >= value, "upper bound of " + value);
+            assertTrue(Histogram.upperBound(bucket) - Histogram.lowerBound(bucket) <= Math.max(0, value / 8),
+                    "bucket width at " + value);
+        }
+    }
+
+    @Test
+    void percentilesStayWithinABucketOfTheTruth() {
+        Histogram histogram = new Histogram();
+        for (int i = 1; i <= 10_000; i++) {
+            histogram.record(i * 1000L);
+        }
+        assertEquals(10_000, histogram.getCount());
+        assertEquals(5_000_500, histogram.getMean(), 1);
+        assertEquals(10_000_000, histogram.getMax());
+        assertEquals(5_000_000, histogram.getValueAtPercentile(50), 5_000_000 / 8.0);
+        assertEquals(9_900_000, histogram.getValueAtPercentile(99), 9_900_000 / 8.0);
+        assertEquals(10_000_000, histogram.getValueAtPercentile(100));
+        assertEquals(0, new Histogram().getValueAtPercentile(50));
+    }
+
+    @Test
+    void recordingFromManyThreadsLosesNothing() throws InterruptedException {
+        Histogram histogram = new Histogram();
+        Counter counter = new Counter();
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            long seed = t;
+            threads[t] = new Thread(() -> {
+                Random random = new Random(seed);
+                for (int i = 0; i < 50_000; i++) {
+                    histogram.record(random.nextInt(1_000_000));
+                    counter.increment();
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(200_000, histogram.getCount());
+        assertEquals(200_000, counter.get());
+    }
+
+    @Test
+    void recordingDoesNotAllocate() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        GameMetrics metrics = GameMetrics.get();
+        for (int i = 0; i < 20_000; i++) {
+            metrics.recordTick(i);
+            metrics.recordLock(i & 3, i * 1_000_000L);
+        }
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < 100_000; i++) {
+            metrics.recordTick(i);
+            metrics.recordInput(i);
+            metrics.recordRender(i);
+            metrics.recordLock(i & 3, i * 1_000_000L);
+        }
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+        assertTrue(allocated < 1024, "Recording allocated " + allocated + " bytes");
+    }
+
+    @Test
+    void rateMeterAveragesWholeSeconds() {
+        RateMeter meter = new RateMeter();
+        long second = 1_000_000_000L;
+        for (int s = 0; s < 10; s++) {
+            meter.mark(3, s * second + 5);
+        }
+        meter.mark(100, 10 * second); // The second in progress is left out
+        assertEquals(3.0, meter.perSecond(10, 10 * second + 1), 1e-9);
+        assertEquals(0.0, meter.perSecond(5, 100 * second), 1e-9);
+    }
+
+    @Test
+    void registryIsVisibleOverJmx() throws Exception {
+        GameMetrics.registerMBean();
+        GameMetrics.registerMBean();
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(GameMetrics.OBJECT_NAME);
+        assertTrue(server.isRegistered(name));
+        GameMetrics.get().gameFinished();
+        assertTrue((Long) server.getAttribute(name, "GamesFinished") >= 1);
+    }
+
+    @Test
+    void endpointServesPlainText() throws IOException {
+        GameMetrics.get().gameStarted();
+        try (MetricsEndpoint endpoint = new MetricsEndpoint(0);
+             InputStream in = URI.create("http://127.0.0.1:" + endpoint.getPort() + MetricsEndpoint.PATH)
+                     .toURL().openStream()) {
+            String text = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            assertTrue(text.contains("tetris_games_started "), text);
+            assertTrue(text.contains("tetris_tick_micros_p99 "), text);
+        }
+    }
+}
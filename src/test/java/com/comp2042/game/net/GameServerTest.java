@@ -0,0 +1,128 @@
+package com.comp2042.game.net;
+
+import com.comp2042.game.board.BoardGeometry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameServerTest {
+
+    private GameServer server;
+    private InetSocketAddress address;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = new GameServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), BoardGeometry.STANDARD);
+        address = new InetSocketAddress(InetAddress.getLoopbackAddress(), server.getPort());
+        Thread thread = new Thread(server, "test-game-server");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.close();
+    }
+
+    /** Reads one frame body, positioned at the type byte. */
+    private static ByteBuffer readFrame(SocketChannel channel) throws IOException {
+        ByteBuffer length = ByteBuffer.allocate(GameProtocol.LENGTH_BYTES);
+        readFully(channel, length);
+        ByteBuffer body = ByteBuffer.allocate(length.getShort(0) & 0xFFFF);
+        readFully(channel, body);
+        return body.flip();
+    }
+
+    private static void readFully(SocketChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new IOException("closed");
+            }
+        }
+    }
+
+    private static void send(SocketChannel channel, ByteBuffer frame) throws IOException {
+        frame.flip();
+        while (frame.hasRemaining()) {
+            channel.write(frame);
+        }
+    }
+
+    @Test
+    void joinedClientReceivesItsGameAndInputsMoveTheBrick() throws IOException {
+        try (SocketChannel channel = SocketChannel.open(address)) {
+            ByteBuffer welcome = readFrame(channel);
+            assertEquals(GameProtocol.WELCOME, welcome.get());
+            welcome.getInt();
+            assertEquals(25, welcome.get());
+            assertEquals(10, welcome.get());
+
+            ByteBuffer out = ByteBuffer.allocate(GameProtocol.MAX_CLIENT_FRAME);
+            GameProtocol.writeJoin(out, 42);
+            send(channel, out);
+            ByteBuffer state = readFrame(channel);
+            assertEquals(GameProtocol.STATE, state.get(0));
+            assertEquals(GameProtocol.stateFrameSize(25, 10) - GameProtocol.LENGTH_BYTES, state.remaining());
+            assertEquals(4, state.get(19)); // Spawn column
+            int[][] cells = new int[25][10];
+            GameProtocol.readCells(state, cells);
+            assertEquals(0, cells[24][0]);
+
+            out.clear();
+            GameProtocol.writeInput(out, GameProtocol.ACTION_LEFT, 1);
+            send(channel, out);
+            do {
+                state = readFrame(channel);
+            } while (state.getInt(5) != 1);
+            assertEquals(3, state.get(19));
+        }
+    }
+
+    @Test
+    void clientBreakingTheProtocolIsDisconnected() throws IOException {
+        try (SocketChannel channel = SocketChannel.open(address)) {
+            readFrame(channel);
+            ByteBuffer out = ByteBuffer.allocate(4);
+            out.putShort((short) 0xFFFF);
+            send(channel, out);
+            ByteBuffer rest = ByteBuffer.allocate(1);
+            assertEquals(-1, channel.read(rest));
+        }
+    }
+
+    @Test
+    void truncatedFrameDropsOnlyItsClient() throws IOException {
+        try (SocketChannel bystander = SocketChannel.open(address);
+             SocketChannel offender = SocketChannel.open(address)) {
+            readFrame(bystander);
+            readFrame(offender);
+            ByteBuffer out = ByteBuffer.allocate(GameProtocol.MAX_CLIENT_FRAME);
+            out.putShort((short) 2).put((byte) GameProtocol.JOIN).put((byte) 0); // Seed cut short
+            GameProtocol.writeJoin(out, 7); // Must not be read as the rest of the seed
+            send(offender, out);
+            assertEquals(-1, offender.read(ByteBuffer.allocate(1)));
+
+            out.clear();
+            GameProtocol.writeJoin(out, 42);
+            send(bystander, out);
+            assertEquals(GameProtocol.STATE, readFrame(bystander).get(0));
+        }
+    }
+
+    @Test
+    void loadTestClientPlaysManySessionsOverLoopback() throws IOException {
+        LoadTestClient.Result result = LoadTestClient.run(address, 50, 1.0, 20, 7);
+        assertEquals(50, result.getConnected());
+        assertEquals(0, result.getDisconnected());
+        assertTrue(result.getStates() >= 50);
+        assertTrue(result.getLatencySamples() > 0);
+    }
+}
@@ -3,6 +3,8 @@ package com.comp2042.game.operations;
 import com.comp2042.game.data.ClearRow;
 import org.junit.jupiter.api.Test;
 
+import java.util.Random;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class MatrixOperationsTest {
@@ -65,5 +67,49 @@ class MatrixOperationsTest {
         assertArrayEquals(new int[]{0, 1, 0}, newMatrix[1]);
         assertArrayEquals(new int[]{1, 1, 0}, newMatrix[2]);
     }
-}
 
+    @Test
+    void dropDistanceMatchesRowByRowFall() {
+        Random random = new Random(3);
+        int[][] brick = {
+                {0, 1, 0},
+                {1, 1, 1},
+                {0, 0, 0}
+        };
+        for (int trial = 0; trial < 200; trial++) {
+            int[][] board = new int[12][6];
+            for (int row = 4; row < board.length; row++) {
+                for (int col = 0; col < board[row].length; col++) {
+                    board[row][col] = random.nextInt(3) == 0 ? 1 : 0;
+                }
+            }
+            int x = random.nextInt(4);
+            int expected = 0;
+            while (!MatrixOperations.intersect(board, brick, x, expected + 1)) {
+                expected++;
+            }
+
+            assertEquals(expected, MatrixOperations.dropDistance(board, brick, x, 0), "Trial " + trial);
+        }
+    }
+
+    @Test
+    void insertGarbageShiftsRowsUpInPlace() {
+        int[][] matrix = {
+                {0, 0, 0},
+                {0, 0, 0},
+                {1, 0, 0},
+                {2, 2, 0}
+        };
+        int[] bottom = matrix[3];
+
+        boolean overflow = MatrixOperations.insertGarbage(matrix, 2, 1, 8);
+
+        assertFalse(overflow);
+        assertArrayEquals(new int[]{1, 0, 0}, matrix[0]);
+        assertSame(bottom, matrix[1]);
+        assertArrayEquals(new int[]{8, 0, 8}, matrix[2]);
+        assertArrayEquals(new int[]{8, 0, 8}, matrix[3]);
+        assertTrue(MatrixOperations.insertGarbage(matrix, 1, 0, 8), "the top row was not empty");
+    }
+}
@@ -0,0 +1,67 @@
+package com.comp2042.game.operations;
+
+import com.comp2042.game.board.SimpleBoard;
+import com.comp2042.game.bricks.Brick;
+import com.comp2042.game.bricks.BrickGenerator;
+import com.comp2042.game.bricks.BrickType;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Point;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SrsRotationSystemTest {
+
+    @Test
+    void everyKickListStartsInPlace() {
+        SrsRotationSystem srs = new SrsRotationSystem();
+        for (BrickType type : BrickType.values()) {
+            for (int orientation = 0; orientation < 4; orientation++) {
+                for (int turns = 0; turns < 4; turns++) {
+                    assertArrayEquals(new int[]{0, 0}, srs.getKicks(type, orientation, turns)[0]);
+                }
+            }
+        }
+    }
+
+    @Test
+    void verticalIBrickKicksOffTheRightWall() {
+        SimpleBoard board = verticalIAgainstRightWall(new SrsRotationSystem());
+
+        assertTrue(board.rotateBrick(RotationDirection.COUNTER_CLOCKWISE));
+
+        assertEquals(0, board.getCurrentRotation());
+        assertEquals(new Point(6, 0), board.getCurrentOffset());
+    }
+
+    @Test
+    void noKickSystemKeepsRotationInPlace() {
+        SimpleBoard board = verticalIAgainstRightWall(new NoKickRotationSystem());
+
+        assertFalse(board.rotateBrick(RotationDirection.COUNTER_CLOCKWISE));
+
+        assertEquals(1, board.getCurrentRotation());
+        assertEquals(new Point(8, 0), board.getCurrentOffset());
+    }
+
+    private static SimpleBoard verticalIAgainstRightWall(RotationSystem rotationSystem) {
+        BrickGenerator onlyI = new BrickGenerator() {
+            @Override
+            public Brick getBrick() {
+                return BrickType.I.create();
+            }
+
+            @Override
+            public Brick getNextBrick() {
+                return BrickType.I.create();
+            }
+        };
+        SimpleBoard board = new SimpleBoard(20, 10, onlyI, rotationSystem);
+        board.trySpawnNewBrick();
+        assertTrue(board.rotateLeftBrick());
+        while (board.moveBrickRight()) {
+            // Push against the wall
+        }
+        return board;
+    }
+}
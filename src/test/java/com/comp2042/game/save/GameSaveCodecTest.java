@@ -0,0 +1,107 @@
+package com.comp2042.game.save;
+
+import com.comp2042.game.board.SimpleBoard;
+import com.comp2042.game.bricks.BrickType;
+import com.comp2042.game.data.BoardStateSnapshot;
+import com.comp2042.game.data.SavedGame;
+import com.comp2042.game.score.LockAction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameSaveCodecTest {
+
+    private SimpleBoard board;
+
+    @BeforeEach
+    void setUp() {
+        board = new SimpleBoard(25, 10);
+        board.newGame();
+    }
+
+    @Test
+    void roundTripPreservesFullState() {
+        int[][] matrix = board.getBoardMatrix();
+        matrix[24][0] = 7;
+        matrix[24][9] = 3;
+        matrix[23][4] = 1;
+        board.moveBrickDown();
+        board.moveBrickLeft();
+        board.holdBrick();
+        board.getScore().add(1234);
+        board.getLinesTracker().setTotalLines(12);
+        board.getLevelManager().setLevel(3);
+
+        BoardStateSnapshot original = board.createSnapshot();
+        SavedGame decoded = GameSaveCodec.decode(GameSaveCodec.encode(new SavedGame(original, 1, 2)));
+        BoardStateSnapshot restored = decoded.getSnapshot();
+
+        assertArrayEquals(original.getBoardMatrix(), restored.getBoardMatrix());
+        assertEquals(original.getOffset(), restored.getOffset());
+        assertEquals(BrickType.of(original.getCurrentBrick()), BrickType.of(restored.getCurrentBrick()));
+        assertEquals(original.getRotationIndex(), restored.getRotationIndex());
+        assertEquals(BrickType.of(original.getHeldBrick()), BrickType.of(restored.getHeldBrick()));
+        assertEquals(original.getQueueSnapshot().size(), restored.getQueueSnapshot().size());
+        assertEquals(1234, restored.getScore());
+        assertEquals(12, restored.getTotalLines());
+        assertEquals(3, restored.getLevel());
+        assertEquals(1, decoded.getUndoUses());
+        assertEquals(2, decoded.getTimeSlowUses());
+    }
+
+    @Test
+    void boardIsBitPacked() {
+        byte[] data = GameSaveCodec.encode(new SavedGame(board.createSnapshot(), 0, 0));
+
+        // 250 cells at 1 bit each would fit in 32 bytes; at 3 bits each in 94 bytes
+        assertTrue(data.length < 25 * 10, "Encoded save should be smaller than one byte per cell");
+    }
+
+    @Test
+    void decodeRejectsCorruptedData() {
+        byte[] data = GameSaveCodec.encode(new SavedGame(board.createSnapshot(), 0, 0));
+        data[12] ^= 0x5A;
+
+        assertThrows(IllegalArgumentException.class, () -> GameSaveCodec.decode(data));
+    }
+
+    @Test
+    void decodeRejectsTruncatedData() {
+        assertThrows(IllegalArgumentException.class, () -> GameSaveCodec.decode(new byte[3]));
+    }
+
+    @Test
+    void roundTripPreservesScoringChain() {
+        BoardStateSnapshot original = new BoardStateSnapshot(board.getBoardMatrix(), board.getCurrentOffset(),
+                board.getCurrentBrick(), 0, null, null, 0, 0, 1, 5, true, LockAction.FAR_KICK);
+
+        BoardStateSnapshot restored = GameSaveCodec.decode(GameSaveCodec.encode(new SavedGame(original, 0, 0)))
+                .getSnapshot();
+
+        assertEquals(5, restored.getCombo());
+        assertTrue(restored.isBackToBack());
+        assertEquals(LockAction.FAR_KICK, restored.getLastAction());
+    }
+
+    @Test
+    void versionOneSavesStillLoad() {
+        byte[] current = GameSaveCodec.encode(new SavedGame(board.createSnapshot(), 1, 0));
+        // Version 1 had no scoring chain between the counters and the checksum
+        byte[] old = Arrays.copyOf(current, current.length - 4);
+        old[4] = 1;
+        CRC32 crc = new CRC32();
+        crc.update(old, 0, old.length - 4);
+        ByteBuffer.wrap(old).putInt(old.length - 4, (int) crc.getValue());
+
+        SavedGame decoded = GameSaveCodec.decode(old);
+
+        assertEquals(1, decoded.getUndoUses());
+        assertEquals(0, decoded.getSnapshot().getCombo());
+        assertEquals(LockAction.MOVE, decoded.getSnapshot().getLastAction());
+    }
+}
@@ -0,0 +1,66 @@
+package com.comp2042.game.save;
+
+import com.comp2042.game.board.SimpleBoard;
+import com.comp2042.game.data.SavedGame;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameSaveManagerTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void saveThenLoadReturnsSavedGame() throws Exception {
+        Path file = tempDir.resolve("save.dat");
+        GameSaveManager manager = new GameSaveManager(file);
+        SimpleBoard board = new SimpleBoard(25, 10);
+        board.newGame();
+        board.getScore().add(500);
+
+        manager.saveAsync(new SavedGame(board.createSnapshot(), 0, 1)).get();
+        Optional<SavedGame> loaded = manager.loadAsync().get();
+
+        assertTrue(loaded.isPresent());
+        assertEquals(500, loaded.get().getSnapshot().getScore());
+        assertEquals(1, loaded.get().getTimeSlowUses());
+        assertFalse(Files.exists(tempDir.resolve("save.dat.tmp")), "Temp file should be renamed away");
+        manager.shutdown();
+    }
+
+    @Test
+    void loadReturnsEmptyWhenNoSave() {
+        GameSaveManager manager = new GameSaveManager(tempDir.resolve("missing.dat"));
+
+        assertTrue(manager.load().isEmpty());
+        manager.shutdown();
+    }
+
+    @Test
+    void loadReturnsEmptyForCorruptFile() throws Exception {
+        Path file = tempDir.resolve("save.dat");
+        Files.write(file, new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15});
+
+        assertTrue(new GameSaveManager(file).load().isEmpty());
+    }
+
+    @Test
+    void deleteRemovesSave() throws Exception {
+        Path file = tempDir.resolve("save.dat");
+        GameSaveManager manager = new GameSaveManager(file);
+        SimpleBoard board = new SimpleBoard(25, 10);
+        board.newGame();
+        manager.saveAsync(new SavedGame(board.createSnapshot(), 0, 0)).get();
+
+        manager.deleteAsync().get();
+
+        assertFalse(Files.exists(file));
+        manager.shutdown();
+    }
+}
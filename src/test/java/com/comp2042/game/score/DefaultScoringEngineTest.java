@@ -0,0 +1,103 @@
+package com.comp2042.game.score;
+
+import com.comp2042.game.board.BoardGeometry;
+import com.comp2042.game.board.SimpleBoard;
+import com.comp2042.game.bricks.Brick;
+import com.comp2042.game.bricks.BrickGenerator;
+import com.comp2042.game.bricks.BrickType;
+import com.comp2042.game.data.ClearRow;
+import com.comp2042.game.operations.RotationDirection;
+import com.comp2042.game.operations.SrsRotationSystem;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DefaultScoringEngineTest {
+
+    private final DefaultScoringEngine engine = new DefaultScoringEngine();
+
+    private static LockEvent tLock(int lines, LockAction action, int corners) {
+        return new LockEvent(lines, BrickType.T, action, corners, 0, false);
+    }
+
+    @Test
+    void plainClearsKeepTheOriginalPoints() {
+        int[] expected = {0, 50, 200, 450, 800};
+        for (int lines = 0; lines < expected.length; lines++) {
+            LockScore score = engine.score(LockEvent.plainClear(lines));
+            assertEquals(expected[lines], score.getPoints());
+            assertEquals(SpinType.NONE, score.getSpin());
+        }
+        assertTrue(engine.score(LockEvent.plainClear(4)).isDifficult());
+        assertFalse(engine.score(LockEvent.plainClear(3)).isDifficult());
+    }
+
+    @Test
+    void threeCornerRuleDecidesTheSpin() {
+        assertEquals(SpinType.FULL, engine.score(tLock(2, LockAction.ROTATE, 0b0111)).getSpin());
+        assertEquals(SpinType.MINI, engine.score(tLock(1, LockAction.ROTATE, 0b1101)).getSpin());
+        assertEquals(SpinType.FULL, engine.score(tLock(1, LockAction.FAR_KICK, 0b1101)).getSpin());
+        assertEquals(SpinType.NONE, engine.score(tLock(1, LockAction.ROTATE, 0b0011)).getSpin());
+        assertEquals(SpinType.NONE, engine.score(tLock(2, LockAction.MOVE, 0b1111)).getSpin());
+        LockEvent notT = new LockEvent(2, BrickType.S, LockAction.ROTATE, 0b1111, 0, false);
+        assertEquals(SpinType.NONE, engine.score(notT).getSpin());
+        assertEquals(400, engine.score(tLock(0, LockAction.ROTATE, 0b0111)).getPoints());
+        assertEquals(1200, engine.score(tLock(2, LockAction.ROTATE, 0b0111)).getPoints());
+    }
+
+    @Test
+    void cornersTurnWithTheBrick() {
+        // Pointing right, the top right and bottom right corners are in front
+        assertEquals(LockEvent.FRONT_CORNERS, LockEvent.relativeCorners(0b0110, 1));
+        // Pointing down, the bottom corners are in front
+        assertEquals(LockEvent.FRONT_CORNERS, LockEvent.relativeCorners(0b1100, 2));
+        assertEquals(LockEvent.BACK_CORNERS, LockEvent.relativeCorners(0b0011, 2));
+    }
+
+    @Test
+    void backToBackAndComboAddOn() {
+        LockScore tetris = engine.score(new LockEvent(4, BrickType.I, LockAction.MOVE, 0, 0, true));
+        assertEquals(1200, tetris.getPoints());
+        LockScore triple = engine.score(new LockEvent(3, BrickType.I, LockAction.MOVE, 0, 0, true));
+        assertEquals(450, triple.getPoints());
+        LockScore comboSingle = engine.score(new LockEvent(1, BrickType.L, LockAction.MOVE, 0, 3, false));
+        assertEquals(50 + 3 * 50, comboSingle.getPoints());
+        LockScore noClear = engine.score(new LockEvent(0, BrickType.L, LockAction.MOVE, 0, 3, false));
+        assertEquals(0, noClear.getPoints());
+    }
+
+    @Test
+    void boardScoresATSpinDoubleAndTracksTheChain() {
+        SimpleBoard board = new SimpleBoard(BoardGeometry.STANDARD, new BrickGenerator() {
+            @Override
+            public Brick getBrick() {
+                return BrickType.T.create();
+            }
+
+            @Override
+            public Brick getNextBrick() {
+                return BrickType.T.create();
+            }
+        }, new SrsRotationSystem());
+        board.newGame();
+        int[][] matrix = board.getBoardMatrix();
+        int bottom = matrix.length - 1;
+        for (int col = 0; col < 10; col++) {
+            matrix[bottom][col] = col == 4 ? 0 : 1;
+            matrix[bottom - 1][col] = col >= 3 && col <= 5 ? 0 : 1;
+            matrix[bottom - 2][col] = col <= 3 ? 1 : 0; // Overhang over the slot's left side
+        }
+
+        // Turn, shift over the slot, drop beside it and twist in under the overhang
+        board.rotateBrick(RotationDirection.COUNTER_CLOCKWISE);
+        board.moveBrickLeft();
+        board.dropBrick(Integer.MAX_VALUE);
+        assertTrue(board.rotateBrick(RotationDirection.CLOCKWISE));
+        board.mergeBrickToBackground();
+        ClearRow clearRow = board.clearRows();
+
+        assertEquals(2, clearRow.getLinesRemoved());
+        assertEquals(SpinType.FULL, clearRow.getSpin());
+        assertEquals(1200, clearRow.getScoreBonus());
+    }
+}
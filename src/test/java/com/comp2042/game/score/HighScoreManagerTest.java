@@ -1,27 +1,83 @@
 package com.comp2042.game.score;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 class HighScoreManagerTest {
 
+    @TempDir
+    Path tempDir;
+
     private Score score;
     private HighScoreManager highScoreManager;
 
     @BeforeEach
     void setUp() {
         score = new Score();
-        highScoreManager = new HighScoreManager(score);
+        highScoreManager = new HighScoreManager(score, null, null,
+                new LeaderboardStore(tempDir.resolve("leaderboard.dat"), 10), tempDir.resolve("highscore.dat"));
+        highScoreManager.whenLoaded().join();
+    }
+
+    @AfterEach
+    void drainWriter() {
+        // Saves run on the store's writer thread; let them finish before the temp dir goes
+        LeaderboardStore.supplyOnWriter(() -> null).join();
+    }
+
+    @Test
+    void savedValuesAreAppliedOnTheGivenExecutorWithoutBlocking() throws Exception {
+        LeaderboardStore store = new LeaderboardStore(tempDir.resolve("saved.dat"), 10);
+        store.submitAsync(new LeaderboardEntry("ann", 750, 0, 1, 0, 0)).get();
+        Queue<Runnable> queued = new ConcurrentLinkedQueue<>();
+        HighScoreManager manager = new HighScoreManager(new Score(), null, null, store,
+                tempDir.resolve("best.dat"), queued::add);
+
+        // Nothing is applied until the owning thread runs the queued update
+        assertEquals(0, manager.getHighScore());
+        assertTrue(manager.getLeaderboard().isEmpty());
+        while (queued.isEmpty()) {
+            Thread.onSpinWait();
+        }
+        queued.forEach(Runnable::run);
+
+        assertTrue(manager.whenLoaded().isDone());
+        assertEquals(750, manager.getHighScore());
+        assertEquals(1, manager.getLeaderboard().size());
+    }
+
+    @Test
+    void loadedHighScoreClearsFlagEarnedAgainstTheDefault() throws Exception {
+        LeaderboardStore store = new LeaderboardStore(tempDir.resolve("saved.dat"), 10);
+        store.submitAsync(new LeaderboardEntry("ann", 750, 0, 1, 0, 0)).get();
+        Queue<Runnable> queued = new ConcurrentLinkedQueue<>();
+        Score current = new Score();
+        HighScoreManager manager = new HighScoreManager(current, null, null, store,
+                tempDir.resolve("best.dat"), queued::add);
+        current.add(100);
+        assertTrue(manager.checkHighScore());
+
+        while (queued.isEmpty()) {
+            Thread.onSpinWait();
+        }
+        queued.forEach(Runnable::run);
+
+        assertFalse(manager.isNewHighScore());
+        assertEquals(750, manager.getHighScore());
     }
 
     @Test
     void constructorInitializesHighScore() {
-        assertNotNull(highScoreManager.highScoreProperty());
         assertTrue(highScoreManager.getHighScore() >= 0);
     }
 
@@ -32,9 +88,24 @@ class HighScoreManagerTest {
     }
 
     @Test
-    void highScorePropertyReturnsProperty() {
-        assertNotNull(highScoreManager.highScoreProperty());
-        assertEquals(highScoreManager.getHighScore(), highScoreManager.highScoreProperty().get());
+    void checkHighScoreDetectsBeatenScore() {
+        int currentHighScore = highScoreManager.getHighScore();
+        score.add(currentHighScore + 10);
+
+        assertTrue(highScoreManager.checkHighScore());
+        assertEquals(currentHighScore + 10, highScoreManager.getHighScore());
+    }
+
+    @Test
+    void gettersDoNotCheckTheScore() {
+        int currentHighScore = highScoreManager.getHighScore();
+        score.add(currentHighScore + 10);
+
+        assertEquals(currentHighScore, highScoreManager.getHighScore());
+        assertFalse(highScoreManager.isNewHighScore());
+        highScoreManager.checkHighScore();
+        assertEquals(currentHighScore + 10, highScoreManager.getHighScore());
+        assertTrue(highScoreManager.isNewHighScore());
     }
 
     @Test
@@ -50,6 +121,7 @@ class HighScoreManagerTest {
         // Add score higher than current high score
         int currentHighScore = highScoreManager.getHighScore();
         score.add(currentHighScore + 100);
+        highScoreManager.checkHighScore();
         
         assertTrue(highScoreManager.isNewHighScore());
     }
@@ -60,6 +132,7 @@ class HighScoreManagerTest {
         
         // Add score higher than high score
         score.add(initialHighScore + 50);
+        highScoreManager.checkHighScore();
         
         assertEquals(initialHighScore + 50, highScoreManager.getHighScore());
     }
@@ -68,6 +141,7 @@ class HighScoreManagerTest {
     void highScoreDoesNotUpdateWhenCurrentScoreIsLower() {
         // Set a known high score
         score.add(100);
+        highScoreManager.checkHighScore();
         int highScore = highScoreManager.getHighScore();
         
         // Reset score
@@ -76,6 +150,7 @@ class HighScoreManagerTest {
         
         // Add smaller score
         score.add(50);
+        highScoreManager.checkHighScore();
         
         // High score should remain unchanged
         assertEquals(highScore, highScoreManager.getHighScore());
@@ -86,7 +161,7 @@ class HighScoreManagerTest {
         // First achieve a new high score
         int currentHighScore = highScoreManager.getHighScore();
         score.add(currentHighScore + 100);
-        assertTrue(highScoreManager.isNewHighScore());
+        assertTrue(highScoreManager.checkHighScore());
         
         // Reset the flag
         highScoreManager.resetNewHighScoreFlag();
@@ -113,15 +188,6 @@ class HighScoreManagerTest {
         assertDoesNotThrow(() -> highScoreManager.saveHighScore());
     }
 
-    @Test
-    void highScorePropertyCanBeBound() {
-        var property = highScoreManager.highScoreProperty();
-        
-        // Property should be bindable (not null and has value)
-        assertNotNull(property);
-        assertDoesNotThrow(property::get);
-    }
-
     @Test
     void multipleScoreIncrementsUpdateHighScore() {
         int initial = highScoreManager.getHighScore();
@@ -131,6 +197,7 @@ class HighScoreManagerTest {
         score.add(30);
         
         // Total score: 60
+        highScoreManager.checkHighScore();
         if (60 > initial) {
             assertEquals(60, highScoreManager.getHighScore());
             assertTrue(highScoreManager.isNewHighScore());
@@ -143,14 +210,64 @@ class HighScoreManagerTest {
         
         // Add large score
         score.add(initial + 1000);
+        highScoreManager.checkHighScore();
         int afterFirst = highScoreManager.getHighScore();
         
         // Reset score and add smaller amount
         score.reset();
         score.add(100);
+        highScoreManager.checkHighScore();
         
         // High score should still be the max achieved
         assertEquals(afterFirst, highScoreManager.getHighScore());
     }
-}
 
+    @Test
+    void lowerScoreNeverOverwritesAHigherSavedOne() throws Exception {
+        Path file = tempDir.resolve("shared.dat");
+        LeaderboardStore store = new LeaderboardStore(tempDir.resolve("shared-board.dat"), 10);
+        Score high = new Score();
+        Score low = new Score();
+        // Two instances that both loaded before either saved
+        HighScoreManager first = new HighScoreManager(high, null, null, store, file);
+        HighScoreManager second = new HighScoreManager(low, null, null, store, file);
+        first.whenLoaded().join();
+        second.whenLoaded().join();
+
+        high.add(900);
+        first.checkHighScore();
+        first.saveHighScore();
+        low.add(300);
+        second.checkHighScore();
+        second.saveHighScore();
+        LeaderboardStore.supplyOnWriter(() -> null).join();
+
+        assertEquals(900, HighScoreManager.decodeHighScore(Files.readAllBytes(file)));
+    }
+
+    @Test
+    void corruptHighScoreFileIsIgnored() throws Exception {
+        Path file = tempDir.resolve("corrupt.dat");
+        byte[] data = HighScoreManager.encodeHighScore(5000);
+        data[6] ^= 0x40;
+        Files.write(file, data);
+
+        HighScoreManager manager = new HighScoreManager(new Score(), null, null,
+                new LeaderboardStore(tempDir.resolve("corrupt-board.dat"), 10), file);
+        manager.whenLoaded().join();
+
+        assertEquals(0, manager.getHighScore());
+    }
+
+    @Test
+    void highScoreFileWithoutChecksumStillLoads() throws Exception {
+        Path file = tempDir.resolve("legacy.dat");
+        Files.write(file, ByteBuffer.allocate(Integer.BYTES).putInt(1200).array());
+
+        HighScoreManager manager = new HighScoreManager(new Score(), null, null,
+                new LeaderboardStore(tempDir.resolve("legacy-board.dat"), 10), file);
+        manager.whenLoaded().join();
+
+        assertEquals(1200, manager.getHighScore());
+    }
+}
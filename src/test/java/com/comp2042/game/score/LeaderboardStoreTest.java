@@ -0,0 +1,98 @@
+package com.comp2042.game.score;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LeaderboardStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static LeaderboardEntry entry(String name, int score, long timestamp) {
+        return new LeaderboardEntry(name, score, score / 100, 1, 60_000L, timestamp);
+    }
+
+    @Test
+    void submitKeepsEntriesOrderedBestFirst() throws Exception {
+        LeaderboardStore store = new LeaderboardStore(tempDir.resolve("board.dat"), 10);
+
+        store.submitAsync(entry("a", 300, 1)).get();
+        store.submitAsync(entry("b", 900, 2)).get();
+        List<LeaderboardEntry> entries = store.submitAsync(entry("c", 500, 3)).get();
+
+        assertEquals(List.of("b", "c", "a"), entries.stream().map(LeaderboardEntry::getName).toList());
+    }
+
+    @Test
+    void submitTrimsToCapacity() throws Exception {
+        LeaderboardStore store = new LeaderboardStore(tempDir.resolve("board.dat"), 2);
+
+        store.submitAsync(entry("a", 100, 1)).get();
+        store.submitAsync(entry("b", 200, 2)).get();
+        List<LeaderboardEntry> entries = store.submitAsync(entry("c", 300, 3)).get();
+
+        assertEquals(2, entries.size());
+        assertEquals(300, entries.get(0).getScore());
+        assertEquals(200, entries.get(1).getScore());
+    }
+
+    @Test
+    void entriesSurviveReloadWithAllFields() throws Exception {
+        Path file = tempDir.resolve("board.dat");
+        new LeaderboardStore(file, 10).submitAsync(new LeaderboardEntry("Ada", 1234, 17, 4, 90_500L, 42L)).get();
+
+        LeaderboardEntry loaded = new LeaderboardStore(file, 10).loadAsync().get().get(0);
+
+        assertEquals("Ada", loaded.getName());
+        assertEquals(1234, loaded.getScore());
+        assertEquals(17, loaded.getLines());
+        assertEquals(4, loaded.getLevel());
+        assertEquals(90_500L, loaded.getDurationMs());
+        assertEquals(42L, loaded.getTimestamp());
+    }
+
+    @Test
+    void separateStoresOnSameFileMergeEntries() throws Exception {
+        Path file = tempDir.resolve("board.dat");
+        LeaderboardStore first = new LeaderboardStore(file, 10);
+        LeaderboardStore second = new LeaderboardStore(file, 10);
+
+        first.submitAsync(entry("first", 100, 1)).get();
+        List<LeaderboardEntry> entries = second.submitAsync(entry("second", 200, 2)).get();
+
+        assertEquals(2, entries.size());
+    }
+
+    @Test
+    void corruptFileLoadsAsEmpty() throws Exception {
+        Path file = tempDir.resolve("board.dat");
+        byte[] data = LeaderboardStore.encode(List.of(entry("a", 100, 1)));
+        data[10] ^= 0x7F;
+        Files.write(file, data);
+
+        assertTrue(new LeaderboardStore(file, 10).loadAsync().get().isEmpty());
+    }
+
+    @Test
+    void onGameEndRecordsEntryWithLinesAndLevel() throws Exception {
+        Score score = new Score();
+        LeaderboardStore store = new LeaderboardStore(tempDir.resolve("board.dat"), 10);
+        HighScoreManager manager = new HighScoreManager(score, null, null, store, tempDir.resolve("best.dat"));
+        score.add(750);
+
+        manager.onGameEnd();
+        List<LeaderboardEntry> entries = store.loadAsync().get();
+
+        assertEquals(1, entries.size());
+        assertEquals(750, entries.get(0).getScore());
+        HighScoreManager reopened = new HighScoreManager(new Score(), null, null, store, tempDir.resolve("best.dat"));
+        reopened.whenLoaded().get();
+        assertEquals(750, reopened.getHighScore());
+    }
+}
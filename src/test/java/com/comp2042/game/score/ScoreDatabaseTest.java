@@ -0,0 +1,195 @@
+package com.comp2042.game.score;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScoreDatabaseTest {
+
+    private static final long DAY = 86_400_000L;
+
+    @TempDir
+    Path tempDir;
+
+    private static GameResult result(int score, int ruleset, int generator, long timestamp) {
+        return new GameResult(score, score / 100, 1, ruleset, generator, 60_000L, timestamp);
+    }
+
+    @Test
+    void topKReturnsHighestScoresFirst() throws Exception {
+        try (ScoreDatabase db = new ScoreDatabase(tempDir)) {
+            db.append(result(300, 0, 0, 1));
+            db.append(result(900, 0, 0, 2));
+            db.append(result(500, 0, 0, 3));
+            db.append(result(-10, 0, 0, 4));
+
+            List<GameResult> top = db.topK(3);
+
+            assertEquals(List.of(900, 500, 300), top.stream().map(GameResult::getScore).toList());
+        }
+    }
+
+    @Test
+    void topKByRulesetAndGeneratorOnlyReturnMatchingResults() throws Exception {
+        try (ScoreDatabase db = new ScoreDatabase(tempDir)) {
+            db.append(result(100, 1, 0, 1));
+            db.append(result(700, 2, 0, 2));
+            db.append(result(400, 1, 3, 3));
+            db.append(result(200, 1, 3, 4));
+
+            assertEquals(List.of(400, 200, 100),
+                    db.topKByRuleset(1, 10).stream().map(GameResult::getScore).toList());
+            assertEquals(List.of(400, 200),
+                    db.topKByGenerator(3, 10).stream().map(GameResult::getScore).toList());
+            assertTrue(db.topKByRuleset(5, 10).isEmpty());
+        }
+    }
+
+    @Test
+    void topKByDayUsesUtcDays() throws Exception {
+        long dayStart = LocalDate.of(2024, 3, 1).atStartOfDay().toInstant(ZoneOffset.UTC).toEpochMilli();
+        try (ScoreDatabase db = new ScoreDatabase(tempDir)) {
+            db.append(result(100, 0, 0, dayStart - 1));
+            db.append(result(300, 0, 0, dayStart));
+            db.append(result(200, 0, 0, dayStart + DAY - 1));
+            db.append(result(900, 0, 0, dayStart + DAY));
+
+            assertEquals(List.of(300, 200),
+                    db.topKByDay(LocalDate.of(2024, 3, 1), 10).stream().map(GameResult::getScore).toList());
+        }
+    }
+
+    @Test
+    void rangeReturnsResultsInTimeOrder() throws Exception {
+        try (ScoreDatabase db = new ScoreDatabase(tempDir)) {
+            for (int i = 0; i < 10; i++) {
+                db.append(result(i, 0, 0, 1000L - i * 100L));
+            }
+
+            List<GameResult> results = db.range(300, 600, 10);
+
+            assertEquals(List.of(300L, 400L, 500L, 600L),
+                    results.stream().map(GameResult::getTimestamp).toList());
+            assertEquals(2, db.range(0, Long.MAX_VALUE, 2).size());
+        }
+    }
+
+    @Test
+    void resultsSurviveReopen() throws Exception {
+        try (ScoreDatabase db = new ScoreDatabase(tempDir)) {
+            db.append(new GameResult(1234, 12, 3, 2, 1, 90_000L, 5000L));
+        }
+        try (ScoreDatabase db = new ScoreDatabase(tempDir)) {
+            assertEquals(1, db.size());
+            GameResult stored = db.topK(1).get(0);
+            assertEquals(1234, stored.getScore());
+            assertEquals(12, stored.getLines());
+            assertEquals(3, stored.getLevel());
+            assertEquals(2, stored.getRuleset());
+            assertEquals(1, stored.getGenerator());
+            assertEquals(90_000L, stored.getDurationMs());
+            assertEquals(5000L, stored.getTimestamp());
+        }
+    }
+
+    @Test
+    void manyInsertsStayOrderedAcrossPageSplits() throws Exception {
+        Random random = new Random(42);
+        int count = 20_000;
+        int[] scores = new int[count];
+        // Small cache forces evictions, so pages are re-read from disk during the test
+        try (ScoreDatabase db = new ScoreDatabase(tempDir, 64)) {
+            for (int i = 0; i < count; i++) {
+                scores[i] = random.nextInt(1_000_000);
+                db.append(result(scores[i], i % 4, 0, i));
+            }
+        }
+        try (ScoreDatabase db = new ScoreDatabase(tempDir, 64)) {
+            assertEquals(count, db.size());
+            List<GameResult> top = db.topK(count);
+            assertEquals(count, top.size());
+            for (int i = 1; i < top.size(); i++) {
+                assertTrue(top.get(i - 1).getScore() >= top.get(i).getScore());
+            }
+            assertEquals(Arrays.stream(scores).max().getAsInt(), top.get(0).getScore());
+
+            List<GameResult> all = db.range(Long.MIN_VALUE, Long.MAX_VALUE, count);
+            for (int i = 0; i < all.size(); i++) {
+                assertEquals(i, all.get(i).getTimestamp());
+            }
+            assertEquals(count / 4, db.topKByRuleset(2, count).size());
+        }
+    }
+
+    @Test
+    void reopenWithoutFlushAfterEvictionsKeepsIndexesExact() throws Exception {
+        Random random = new Random(7);
+        int count = 5_000;
+        // Never flushed or closed, like a process that died; the small cache evicts pages meanwhile
+        ScoreDatabase crashed = new ScoreDatabase(tempDir, 64);
+        for (int i = 0; i < count; i++) {
+            crashed.append(result(random.nextInt(1_000_000), i % 4, 0, i));
+        }
+
+        try (ScoreDatabase db = new ScoreDatabase(tempDir, 64)) {
+            int size = (int) db.size();
+            assertTrue(size > 0 && size <= count);
+            List<GameResult> top = db.topK(Integer.MAX_VALUE);
+            assertEquals(size, top.size());
+            for (int i = 1; i < top.size(); i++) {
+                assertTrue(top.get(i - 1).getScore() >= top.get(i).getScore());
+            }
+            List<GameResult> all = db.range(Long.MIN_VALUE, Long.MAX_VALUE, Integer.MAX_VALUE);
+            assertEquals(size, all.size());
+            for (int i = 0; i < size; i++) {
+                assertEquals(i, all.get(i).getTimestamp());
+            }
+            int byRuleset = 0;
+            for (int ruleset = 0; ruleset < 4; ruleset++) {
+                byRuleset += db.topKByRuleset(ruleset, Integer.MAX_VALUE).size();
+            }
+            assertEquals(size, byRuleset);
+            assertEquals(size, db.topKByGenerator(0, Integer.MAX_VALUE).size());
+        }
+    }
+
+    @Test
+    void indexCutOffMidFlushIsRebuilt() throws Exception {
+        int count = 2_000;
+        try (ScoreDatabase db = new ScoreDatabase(tempDir, 64)) {
+            for (int i = 0; i < count; i++) {
+                db.append(result(i * 7 % 1000, 0, 0, i));
+            }
+        }
+        // Leave the score index marked as flushing, as if the process died while writing it
+        try (FileChannel channel = FileChannel.open(tempDir.resolve("score.idx"), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(Integer.BYTES).putInt(0, 1), 28);
+        }
+
+        try (ScoreDatabase db = new ScoreDatabase(tempDir, 64)) {
+            List<GameResult> top = db.topK(Integer.MAX_VALUE);
+            assertEquals(count, top.size());
+            assertEquals(999, top.get(0).getScore());
+            for (int i = 1; i < top.size(); i++) {
+                assertTrue(top.get(i - 1).getScore() >= top.get(i).getScore());
+            }
+        }
+    }
+
+    @Test
+    void rejectsOutOfRangeIds() {
+        assertThrows(IllegalArgumentException.class, () -> result(1, -1, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> result(1, 0, GameResult.MAX_ID + 1, 0));
+    }
+}
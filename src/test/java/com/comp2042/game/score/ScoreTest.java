@@ -7,13 +7,13 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 class ScoreTest {
 
     @Test
-    void addIncreasesScoreProperty() {
+    void addIncreasesScore() {
         Score score = new Score();
 
         score.add(5);
         score.add(10);
 
-        assertEquals(15, score.scoreProperty().get());
+        assertEquals(15, score.get());
     }
 
     @Test
@@ -23,7 +23,7 @@ class ScoreTest {
 
         score.reset();
 
-        assertEquals(0, score.scoreProperty().get());
+        assertEquals(0, score.get());
     }
 }
 
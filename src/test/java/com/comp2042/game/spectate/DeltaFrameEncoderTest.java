@@ -0,0 +1,149 @@
+package com.comp2042.game.spectate;
+
+import com.comp2042.game.board.BoardGeometry;
+import com.comp2042.game.board.SimpleBoard;
+import com.comp2042.game.bricks.BrickGeneratorFactory;
+import com.comp2042.game.controller.GameController;
+import com.comp2042.game.controller.HeadlessGameView;
+import com.comp2042.game.data.ViewData;
+import com.comp2042.game.events.EventSource;
+import com.comp2042.game.events.EventType;
+import com.comp2042.game.events.MoveEvent;
+import com.comp2042.game.operations.SrsRotationSystem;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeltaFrameEncoderTest {
+
+    private static SimpleBoard board() {
+        return new SimpleBoard(BoardGeometry.STANDARD,
+                BrickGeneratorFactory.create(BrickGeneratorFactory.GeneratorType.RANDOM, 3), new SrsRotationSystem());
+    }
+
+    private static void assertSameGame(SimpleBoard board, DeltaFrameDecoder decoder) {
+        assertArrayEquals(board.getBoardMatrix(), decoder.getBoardMatrix());
+        ViewData expected = board.getViewData();
+        ViewData actual = decoder.getViewData();
+        assertArrayEquals(expected.getBrickData(), actual.getBrickData());
+        assertEquals(expected.getxPosition(), actual.getxPosition());
+        assertEquals(expected.getyPosition(), actual.getyPosition());
+        assertEquals(expected.getGhostY(), actual.getGhostY());
+        assertArrayEquals(expected.getNextBrickData(), actual.getNextBrickData());
+        assertArrayEquals(expected.getHoldBrickData(), actual.getHoldBrickData());
+        assertEquals(board.getScore().get(), decoder.getScore());
+        assertEquals(board.getLinesTracker().getTotalLines(), decoder.getLines());
+    }
+
+    @Test
+    void decoderRebuildsEveryFrameOfAGame() throws IOException {
+        SimpleBoard board = board();
+        HeadlessGameView view = new HeadlessGameView();
+        GameController controller = new GameController(view, board);
+        DeltaFrameEncoder encoder = new DeltaFrameEncoder(50);
+        DeltaFrameDecoder decoder = new DeltaFrameDecoder();
+        ByteBuffer frame = ByteBuffer.allocate(FrameFormat.maxFrameSize(25, 10));
+        EventType[] moves = {EventType.LEFT, EventType.RIGHT, EventType.ROTATE_CLOCKWISE, EventType.HOLD,
+                EventType.DOWN, EventType.HARD_DROP};
+        Random random = new Random(5);
+        int frames = 0;
+        for (int step = 0; step < 2000; step++) {
+            if (view.isGameOver()) {
+                controller.createNewGame();
+                view.reset();
+            }
+            MoveEvent event = new MoveEvent(moves[random.nextInt(moves.length)], EventSource.USER);
+            switch (event.getEventType()) {
+                case LEFT -> controller.onLeftEvent(event);
+                case RIGHT -> controller.onRightEvent(event);
+                case HOLD -> controller.onHoldEvent(event);
+                case DOWN -> controller.onDownEvent(event);
+                case HARD_DROP -> controller.onHardDropEvent(event);
+                default -> controller.onRotateEvent(event);
+            }
+            frame.clear();
+            if (encoder.encode(board, false, step * 16L, frame) != 0) {
+                frames++;
+                FrameReader reader = new FrameReader(Channels.newChannel(
+                        new ByteArrayInputStream(frame.array(), 0, frame.position())));
+                assertTrue(decoder.apply(reader.next()));
+                assertNull(reader.next());
+            }
+            assertSameGame(board, decoder);
+        }
+        assertTrue(frames > 1000);
+    }
+
+    @Test
+    void movingThePieceSendsOnlyThePiece() {
+        SimpleBoard board = board();
+        new GameController(new HeadlessGameView(), board);
+        DeltaFrameEncoder encoder = new DeltaFrameEncoder();
+        ByteBuffer frame = ByteBuffer.allocate(FrameFormat.maxFrameSize(25, 10));
+        assertEquals(FrameFormat.KEYFRAME, encoder.encode(board, false, 0, frame));
+        assertTrue(frame.position() > 125);
+
+        frame.clear();
+        assertEquals(0, encoder.encode(board, false, 16, frame));
+        assertEquals(0, frame.position());
+
+        board.moveBrickLeft();
+        assertEquals(FrameFormat.DELTA, encoder.encode(board, false, 32, frame));
+        // Length, kind, elapsed, fields, five piece bytes and an empty row count
+        assertEquals(2 + 1 + 2 + 1 + 5 + 1, frame.position());
+    }
+
+    @Test
+    void deltasBeforeTheFirstKeyframeAreSkipped() {
+        SimpleBoard board = board();
+        new GameController(new HeadlessGameView(), board);
+        DeltaFrameEncoder encoder = new DeltaFrameEncoder();
+        ByteBuffer frame = ByteBuffer.allocate(FrameFormat.maxFrameSize(25, 10));
+        encoder.encode(board, false, 0, frame);
+        board.moveBrickRight();
+        frame.clear();
+        encoder.encode(board, false, 16, frame);
+        frame.flip().position(FrameFormat.LENGTH_BYTES);
+
+        DeltaFrameDecoder decoder = new DeltaFrameDecoder();
+        assertFalse(decoder.apply(frame));
+        assertFalse(decoder.hasKeyframe());
+    }
+
+    @Test
+    void viewerJoiningABroadcastStartsFromAKeyframe() throws IOException {
+        SimpleBoard board = board();
+        new GameController(new HeadlessGameView(), board);
+        SpectatorStream stream = new SpectatorStream(BoardGeometry.STANDARD, new DeltaFrameEncoder());
+        SpectatorServer server = new SpectatorServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        stream.addSink(server);
+        stream.capture(board, false, 0);
+        try (SocketChannel viewer = SocketChannel.open(
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), server.getPort()))) {
+            board.moveBrickLeft();
+            stream.capture(board, false, 16); // Accepts the viewer, which asks for a keyframe
+            board.moveBrickLeft();
+            stream.capture(board, false, 32);
+
+            FrameReader reader = new FrameReader(viewer);
+            DeltaFrameDecoder decoder = new DeltaFrameDecoder();
+            ByteBuffer frame = reader.next();
+            assertEquals(FrameFormat.KEYFRAME, frame.get(0));
+            assertTrue(decoder.apply(frame));
+            assertTrue(decoder.apply(reader.next()));
+            assertSameGame(board, decoder);
+            assertEquals(1, server.getViewerCount());
+        } finally {
+            stream.close();
+        }
+    }
+}
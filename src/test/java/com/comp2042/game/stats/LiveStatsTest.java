@@ -0,0 +1,148 @@
+package com.comp2042.game.stats;
+
+import com.comp2042.game.board.BoardGeometry;
+import com.comp2042.game.board.SimpleBoard;
+import com.comp2042.game.bricks.BrickGeneratorFactory;
+import com.comp2042.game.bricks.BrickType;
+import com.comp2042.game.controller.GameController;
+import com.comp2042.game.controller.HeadlessGameView;
+import com.comp2042.game.events.EventSource;
+import com.comp2042.game.events.EventType;
+import com.comp2042.game.events.MoveEvent;
+import com.comp2042.game.operations.SrsRotationSystem;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LiveStatsTest {
+
+    private static final long SECOND = 1_000_000_000L;
+    private static final FinesseTable TABLE = new FinesseTable(BoardGeometry.STANDARD, new SrsRotationSystem());
+    private static final int SPAWN_X = BoardGeometry.STANDARD.getSpawnX();
+
+    @Test
+    void finesseTableCountsShiftsAndTurnsFromSpawn() {
+        assertEquals(0, TABLE.minimalKeys(BrickType.T, 0, SPAWN_X));
+        assertEquals(2, TABLE.minimalKeys(BrickType.T, 0, SPAWN_X - 2));
+        assertEquals(3, TABLE.minimalKeys(BrickType.T, 0, SPAWN_X + 3));
+        for (int rotation = 1; rotation < 4; rotation++) {
+            assertEquals(1, TABLE.minimalKeys(BrickType.T, rotation, SPAWN_X), "rotation " + rotation);
+            assertEquals(2, TABLE.minimalKeys(BrickType.T, rotation, SPAWN_X + 1), "rotation " + rotation);
+        }
+        assertEquals(FinesseTable.UNREACHABLE, TABLE.minimalKeys(BrickType.O, 0, 50));
+        assertEquals(FinesseTable.UNREACHABLE, TABLE.minimalKeys(BrickType.O, 0, -10));
+    }
+
+    @Test
+    void ratesCoverOnlyTheWindow() {
+        LiveStats stats = new LiveStats(null, 10 * SECOND, 0);
+        for (int i = 1; i <= 20; i++) {
+            stats.onKey(EventType.HARD_DROP, i * SECOND);
+            stats.onPieceLocked(BrickType.T, 0, SPAWN_X, i * SECOND);
+        }
+        assertEquals(1.0, stats.getPiecesPerSecond(20 * SECOND), 0.11);
+        assertEquals(60.0, stats.getActionsPerMinute(20 * SECOND), 6.1);
+        assertEquals(1.0, stats.getKeysPerPiece(20 * SECOND), 1e-9);
+        // Ten idle seconds later only the last event is left in the window
+        assertEquals(0.1, stats.getPiecesPerSecond(30 * SECOND), 1e-9);
+        assertEquals(0.0, stats.getKeysPerPiece(41 * SECOND));
+        assertEquals(20, stats.getPieces());
+        assertEquals(20, stats.getKeys());
+    }
+
+    @Test
+    void ratesEarlyInAGameUseTheTimeSoFar() {
+        LiveStats stats = new LiveStats(null, 10 * SECOND, 100 * SECOND);
+        stats.onPieceLocked(BrickType.I, 0, SPAWN_X, 101 * SECOND);
+        stats.onPieceLocked(BrickType.I, 0, SPAWN_X, 102 * SECOND);
+        assertEquals(1.0, stats.getPiecesPerSecond(102 * SECOND), 1e-9);
+    }
+
+    @Test
+    void extraKeysAreFinesseFaults() {
+        LiveStats stats = new LiveStats(TABLE, 0);
+        stats.onKey(EventType.LEFT, 1);
+        stats.onKey(EventType.HARD_DROP, 2);
+        stats.onPieceLocked(BrickType.T, 0, SPAWN_X - 1, 3);
+        assertEquals(0, stats.getFinesseFaults());
+
+        stats.onKey(EventType.LEFT, 4);
+        stats.onKey(EventType.RIGHT, 5);
+        stats.onKey(EventType.LEFT, 6);
+        stats.onKey(EventType.DOWN, 7);
+        stats.onPieceLocked(BrickType.T, 0, SPAWN_X - 1, 8);
+        assertEquals(1, stats.getFinesseFaults());
+
+        stats.onKey(EventType.ROTATE_CLOCKWISE, 9);
+        stats.onKey(EventType.ROTATE_CLOCKWISE, 10);
+        stats.onKey(EventType.ROTATE_CLOCKWISE, 11);
+        stats.onPieceLocked(BrickType.T, BrickType.T.rotationAfter(0, 3), SPAWN_X, 12);
+        assertEquals(2, stats.getFinesseFaults());
+
+        StatsSummary summary = stats.summarize(SECOND);
+        assertEquals(3, summary.getPieces());
+        assertEquals(9, summary.getKeys());
+        assertEquals(2 + 2, summary.getWastedKeys());
+        assertEquals(3.0, summary.getKeysPerPiece(), 1e-9);
+        assertEquals(540.0, summary.getActionsPerMinute(), 1e-9);
+    }
+
+    @Test
+    void holdingStartsTheFinesseCountAgain() {
+        LiveStats stats = new LiveStats(TABLE, 0);
+        stats.onKey(EventType.RIGHT, 1);
+        stats.onKey(EventType.RIGHT, 2);
+        stats.onKey(EventType.HOLD, 3);
+        stats.onKey(EventType.HARD_DROP, 4);
+        stats.onPieceLocked(BrickType.O, 0, SPAWN_X, 5);
+        assertEquals(0, stats.getFinesseFaults());
+        assertEquals(4, stats.getKeys());
+    }
+
+    @Test
+    void recordingDoesNotAllocate() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        LiveStats stats = new LiveStats(TABLE, 0);
+        for (int i = 0; i < 20_000; i++) {
+            record(stats, i);
+        }
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < 100_000; i++) {
+            record(stats, i);
+        }
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+        assertTrue(allocated < 1024, "Recording allocated " + allocated + " bytes");
+    }
+
+    private static void record(LiveStats stats, long now) {
+        stats.onKey(EventType.LEFT, now);
+        stats.onKey(EventType.HARD_DROP, now);
+        stats.onPieceLocked(BrickType.S, 0, SPAWN_X - 1, now);
+        if (stats.getPiecesPerSecond(now) < 0 || stats.getKeysPerPiece(now) < 0) {
+            fail();
+        }
+    }
+
+    @Test
+    void controllerCountsPlayerKeysAndLockedPieces() {
+        SimpleBoard board = new SimpleBoard(BoardGeometry.STANDARD,
+                BrickGeneratorFactory.create(BrickGeneratorFactory.GeneratorType.RANDOM, 3), new SrsRotationSystem());
+        GameController controller = new GameController(new HeadlessGameView(), board);
+        controller.onHardDropEvent(new MoveEvent(EventType.HARD_DROP, EventSource.USER));
+        controller.onLeftEvent(new MoveEvent(EventType.LEFT, EventSource.USER));
+        controller.onRightEvent(new MoveEvent(EventType.RIGHT, EventSource.USER));
+        controller.onHardDropEvent(new MoveEvent(EventType.HARD_DROP, EventSource.USER));
+        controller.onDownEvent(new MoveEvent(EventType.DOWN, EventSource.THREAD));
+
+        LiveStats stats = controller.getLiveStats();
+        assertEquals(2, stats.getPieces());
+        assertEquals(4, stats.getKeys());
+        assertEquals(1, stats.getFinesseFaults());
+
+        controller.createNewGame();
+        assertEquals(0, stats.getPieces());
+        assertEquals(0, stats.getKeys());
+    }
+}
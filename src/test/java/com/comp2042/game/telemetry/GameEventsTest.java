@@ -0,0 +1,75 @@
+package com.comp2042.game.telemetry;
+
+import com.comp2042.game.board.BoardGeometry;
+import com.comp2042.game.board.SimpleBoard;
+import com.comp2042.game.controller.GameController;
+import com.comp2042.game.controller.HeadlessGameView;
+import com.comp2042.game.events.EventSource;
+import com.comp2042.game.events.EventType;
+import com.comp2042.game.events.MoveEvent;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameEventsTest {
+
+    @TempDir
+    Path dir;
+
+    private static long count(List<RecordedEvent> events, String name) {
+        return events.stream().filter(e -> e.getEventType().getName().equals(name)).count();
+    }
+
+    @Test
+    void engineEventsAreRecorded() throws IOException {
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            for (String name : List.of("PieceSpawn", "PieceLock", "LineClear", "Hold")) {
+                recording.enable("com.comp2042." + name);
+            }
+            recording.start();
+
+            SimpleBoard board = new SimpleBoard(BoardGeometry.STANDARD);
+            GameController controller = new GameController(new HeadlessGameView(), board);
+            int[][] matrix = board.getBoardMatrix();
+            Arrays.fill(matrix[matrix.length - 1], 1); // The next lock clears this row
+            controller.onHardDropEvent(new MoveEvent(EventType.HARD_DROP, EventSource.USER));
+            controller.onHoldEvent(new MoveEvent(EventType.HOLD, EventSource.USER));
+
+            recording.stop();
+            Path file = dir.resolve("game.jfr");
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+        }
+
+        assertEquals(3, count(events, "com.comp2042.PieceSpawn")); // First brick, after the lock, after the hold
+        assertEquals(1, count(events, "com.comp2042.Hold"));
+        RecordedEvent lock = events.stream()
+                .filter(e -> e.getEventType().getName().equals("com.comp2042.PieceLock")).findFirst().orElseThrow();
+        assertEquals(1, lock.getInt("lines"));
+        assertEquals("NONE", lock.getString("spin"));
+        assertTrue(lock.getInt("points") >= 50);
+        RecordedEvent clear = events.stream()
+                .filter(e -> e.getEventType().getName().equals("com.comp2042.LineClear")).findFirst().orElseThrow();
+        assertEquals(1, clear.getInt("lines"));
+        assertEquals(1, clear.getInt("totalLines"));
+        assertTrue(clear.getInt("boardHeight") >= 1);
+    }
+
+    @Test
+    void stackHeightCountsFromTheFloor() {
+        int[][] board = new int[6][4];
+        assertEquals(0, GameEvents.stackHeight(board));
+        board[4][2] = 3;
+        assertEquals(2, GameEvents.stackHeight(board));
+    }
+}
@@ -0,0 +1,104 @@
+package com.comp2042.game.versus;
+
+import com.comp2042.game.ai.HeuristicBot;
+import com.comp2042.game.ai.HeuristicWeights;
+import com.comp2042.game.board.SimpleBoard;
+import com.comp2042.game.bricks.BrickGeneratorFactory;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VersusMatchTest {
+
+    private static SimpleBoard board(long seed) {
+        return new SimpleBoard(25, 10, BrickGeneratorFactory.create(BrickGeneratorFactory.GeneratorType.RANDOM, seed));
+    }
+
+    private static void fillRows(SimpleBoard board, int count) {
+        int[][] matrix = board.getBoardMatrix();
+        for (int i = 0; i < count; i++) {
+            Arrays.fill(matrix[matrix.length - 1 - i], 1);
+        }
+    }
+
+    @Test
+    void doubleSendsGarbageThatLandsOnTheNextPlainLock() {
+        VersusMatch match = new VersusMatch(new DefaultAttackTable(), 1);
+        VersusPlayer a = match.addHuman("A", board(1));
+        VersusPlayer b = match.addHuman("B", board(1));
+
+        fillRows(a.getBoard(), 2);
+        a.getBoard().clearRows();
+        assertEquals(1, a.getLinesSent());
+        assertEquals(1, b.getPendingGarbage());
+
+        b.getBoard().clearRows(); // A lock that clears nothing
+        assertEquals(0, b.getPendingGarbage());
+        assertEquals(1, b.getGarbageReceived());
+        int[] bottom = b.getBoard().getBoardMatrix()[24];
+        assertEquals(9, Arrays.stream(bottom).filter(cell -> cell == SimpleBoard.GARBAGE_CELL).count());
+        assertEquals(1, Arrays.stream(bottom).filter(cell -> cell == 0).count());
+    }
+
+    @Test
+    void attackCancelsPendingGarbageFirst() {
+        VersusMatch match = new VersusMatch(new DefaultAttackTable(), 1);
+        VersusPlayer a = match.addHuman("A", board(1));
+        VersusPlayer b = match.addHuman("B", board(1));
+
+        fillRows(a.getBoard(), 4);
+        a.getBoard().clearRows();
+        assertEquals(4, b.getPendingGarbage());
+
+        fillRows(b.getBoard(), 3);
+        b.getBoard().clearRows();
+        assertEquals(2, b.getPendingGarbage());
+        assertEquals(0, a.getPendingGarbage());
+        assertEquals(0, b.getLinesSent());
+    }
+
+    @Test
+    void idlePlayerLosesToBotOnIndependentClocks() {
+        VersusMatch match = new VersusMatch(new DefaultAttackTable(), 7, Runnable::run);
+        VersusPlayer idle = match.addHuman("Idle", board(7));
+        VersusPlayer bot = match.addBot("Bot", board(7), new HeuristicBot(HeuristicWeights.DEFAULT), 20);
+
+        long now = 0;
+        match.start(now);
+        long frame = 16_666_667L;
+        for (int i = 0; i < 60 * 60 * 10 && !match.isOver(); i++) {
+            now += frame;
+            match.advanceTo(now);
+        }
+
+        assertTrue(match.isOver());
+        assertSame(bot, match.getWinner());
+        assertTrue(idle.isOut());
+        assertFalse(bot.isOut());
+    }
+
+    @Test
+    void botOnlyMovesOnceItsPlanHasFinished() {
+        List<Runnable> planning = new ArrayList<>();
+        VersusMatch match = new VersusMatch(new DefaultAttackTable(), 3, planning::add);
+        VersusPlayer bot = match.addBot("Bot", board(3), new HeuristicBot(HeuristicWeights.DEFAULT), 10);
+        match.addHuman("Idle", board(3));
+
+        match.start(0);
+        match.advanceTo(100_000_000L);
+        assertEquals(1, planning.size(), "the search runs on the planner, not in advanceTo");
+        long serial = bot.getBoard().getBrickSerial();
+
+        planning.remove(0).run();
+        long now = 100_000_000L;
+        while (bot.getBoard().getBrickSerial() == serial && now < 2_000_000_000L) {
+            now += 10_000_000L;
+            match.advanceTo(now);
+        }
+        assertNotEquals(serial, bot.getBoard().getBrickSerial(), "the finished plan was played");
+    }
+}
@@ -0,0 +1,65 @@
+package com.comp2042.ui;
+
+import com.comp2042.game.level.DefaultLevelStrategy;
+import com.comp2042.game.level.LevelManager;
+import com.comp2042.game.level.LinesClearedTracker;
+import com.comp2042.game.score.Score;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ObservableGameStatsTest {
+
+    private Score score;
+    private LinesClearedTracker tracker;
+    private LevelManager levelManager;
+    private ObservableGameStats stats;
+
+    @BeforeEach
+    void setUp() {
+        score = new Score();
+        tracker = new LinesClearedTracker();
+        levelManager = new LevelManager(tracker, new DefaultLevelStrategy());
+        stats = new ObservableGameStats(score, tracker, levelManager, null);
+    }
+
+    @Test
+    void constructorPublishesInitialValues() {
+        assertEquals(0, stats.scoreProperty().get());
+        assertEquals(0, stats.linesProperty().get());
+        assertEquals(1, stats.levelProperty().get());
+    }
+
+    @Test
+    void propertiesOnlyChangeWhenPublished() {
+        score.add(40);
+        tracker.addLines(5);
+        levelManager.updateLevel();
+
+        assertEquals(0, stats.scoreProperty().get());
+
+        stats.publish();
+
+        assertEquals(40, stats.scoreProperty().get());
+        assertEquals(5, stats.linesProperty().get());
+        assertEquals(2, stats.levelProperty().get());
+    }
+
+    @Test
+    void manyIncrementsNotifyListenersOncePerPublish() {
+        AtomicInteger notifications = new AtomicInteger();
+        stats.scoreProperty().addListener((obs, oldVal, newVal) -> notifications.incrementAndGet());
+
+        for (int i = 0; i < 100; i++) {
+            score.add(1);
+        }
+        stats.publish();
+        stats.publish();
+
+        assertEquals(1, notifications.get());
+        assertEquals(100, stats.scoreProperty().get());
+    }
+}